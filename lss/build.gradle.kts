@@ -2,6 +2,13 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.5.3"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("org.graalvm.buildtools.native") version "0.10.6" apply false
+}
+
+// 빠른 시작 빌드 (-PfastStart): AOT 처리된 애플리케이션 + CDS 아카이브, nativeCompile로 네이티브 이미지도 가능
+val fastStart = providers.gradleProperty("fastStart").isPresent
+if (fastStart) {
+	apply(plugin = "org.graalvm.buildtools.native")
 }
 
 group = "com.eos"
@@ -33,3 +40,46 @@ dependencies {
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
+
+val toolchainJava = javaToolchains.launcherFor {
+	languageVersion = JavaLanguageVersion.of(17)
+}.map { it.executablePath.asFile.absolutePath }
+val bootJarFile = tasks.named<org.springframework.boot.gradle.tasks.bundling.BootJar>("bootJar").flatMap { it.archiveFile }
+val fastStartDir = layout.buildDirectory.dir("fast-start")
+
+// 실행용 디렉터리로 풀어 둔 jar (CDS는 압축되지 않은 클래스 경로에서만 동작)
+val extractFastStart by tasks.registering(Exec::class) {
+	dependsOn("bootJar")
+	onlyIf { fastStart }
+	doFirst {
+		commandLine(toolchainJava.get(), "-Djarmode=tools", "-jar", bootJarFile.get().asFile.absolutePath,
+			"extract", "--force", "--destination", fastStartDir.get().asFile.absolutePath)
+	}
+}
+
+// 학습 실행: 컨텍스트 초기화까지 로드한 클래스를 lss.jsa로 덤프 (같은 JVM으로 실행해야 아카이브가 쓰임)
+val cdsArchive by tasks.registering(Exec::class) {
+	dependsOn(extractFastStart)
+	onlyIf { fastStart }
+	doFirst {
+		workingDir(fastStartDir)
+		commandLine(toolchainJava.get(), "-XX:ArchiveClassesAtExit=lss.jsa", "-Dspring.aot.enabled=true",
+			"-Dspring.context.exit=onRefresh", "-jar", bootJarFile.get().asFile.name, "--server.port=0")
+	}
+}
+
+// 시작 시간 비교 (기본 실행, -PfastStart면 AOT+CDS, nativeCompile로 만든 네이티브 이미지가 있으면 네이티브도)
+tasks.register<JavaExec>("startupBenchmark") {
+	dependsOn("testClasses", if (fastStart) cdsArchive else tasks.named("bootJar"))
+	classpath = sourceSets["test"].runtimeClasspath
+	mainClass = "com.eos.lss.StartupBenchmark"
+	doFirst {
+		systemProperty("lss.bench.startup.java", toolchainJava.get())
+		systemProperty("lss.bench.startup.jar", bootJarFile.get().asFile.absolutePath)
+		systemProperty("lss.bench.startup.runs", providers.gradleProperty("benchRuns").getOrElse("5"))
+		if (fastStart) {
+			systemProperty("lss.bench.startup.fast-start-jar", fastStartDir.get().file(bootJarFile.get().asFile.name).asFile.absolutePath)
+			systemProperty("lss.bench.startup.native", layout.buildDirectory.file("native/nativeCompile/lss").get().asFile.absolutePath)
+		}
+	}
+}
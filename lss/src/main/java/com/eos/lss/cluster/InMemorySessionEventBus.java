@@ -0,0 +1,69 @@
+package com.eos.lss.cluster;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 같은 JVM 안에서 동작하는 이벤트 버스
+ * 단일 노드 모드의 기본 구현이며, link()로 묶으면 테스트용 다중 노드처럼 동작한다.
+ */
+@Slf4j
+public class InMemorySessionEventBus implements SessionEventBus {
+
+    private final String nodeId;
+    private final List<Consumer<SessionEvent>> listeners = new CopyOnWriteArrayList<>();
+    // 이벤트를 전달받을 다른 노드들
+    private final List<InMemorySessionEventBus> peers = new CopyOnWriteArrayList<>();
+
+    public InMemorySessionEventBus(String nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    /**
+     * 두 버스를 서로 연결 (양방향)
+     */
+    public void link(InMemorySessionEventBus other) {
+        if (other == this || peers.contains(other)) {
+            return;
+        }
+        peers.add(other);
+        other.link(this);
+    }
+
+    @Override
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void publish(SessionEvent event) {
+        event.setOriginNodeId(nodeId);
+        for (InMemorySessionEventBus peer : peers) {
+            peer.deliver(event);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<SessionEvent> listener) {
+        listeners.add(listener);
+    }
+
+    private void deliver(SessionEvent event) {
+        for (Consumer<SessionEvent> listener : listeners) {
+            try {
+                listener.accept(event);
+            } catch (Exception e) {
+                log.error("이벤트 처리 중 오류 발생: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        peers.clear();
+        listeners.clear();
+    }
+}
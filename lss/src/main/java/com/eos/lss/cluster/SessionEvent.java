@@ -0,0 +1,65 @@
+package com.eos.lss.cluster;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionEvent {
+    private String type;            // 이벤트 타입 (BROADCAST, USER_MESSAGE, COMMAND, REPLY, BIND, SPECTATE, WATCH, UNWATCH)
+    private String originNodeId;    // 이벤트를 발행한 노드 ID
+    private String targetNodeId;    // 특정 노드만 처리해야 하는 이벤트의 대상 노드 ID (없으면 null)
+    private String gameSessionId;   // 대상 게임 세션 ID
+    private String userId;          // USER_MESSAGE/COMMAND 대상 사용자 ID, BIND면 연결에 묶을 사용자 ID (BROADCAST면 null)
+    private String connectionId;    // COMMAND를 보낸 WebSocket 연결 ID (REPLY/BIND 대상)
+    private String commandType;     // COMMAND의 메시지 타입 (join-session 등)
+    private String payload;         // 클라이언트에게 그대로 전달할 메시지 또는 명령 JSON
+
+    // 이벤트 타입 상수
+    public static final String TYPE_BROADCAST = "BROADCAST";
+    public static final String TYPE_USER_MESSAGE = "USER_MESSAGE";
+    public static final String TYPE_COMMAND = "COMMAND";   // 게이트웨이 노드 -> 소유 노드
+    public static final String TYPE_REPLY = "REPLY";       // 소유 노드 -> 게이트웨이 노드의 특정 연결
+    public static final String TYPE_BIND = "BIND";         // 소유 노드 -> 게이트웨이 노드 (연결과 사용자 또는 게임 세션 매핑)
+    public static final String TYPE_SPECTATE = "SPECTATE"; // 소유 노드 -> 관전자가 있는 노드 (플레이어별 값이 없는 상태 프레임)
+    public static final String TYPE_WATCH = "WATCH";       // 게이트웨이 노드 -> 소유 노드 (이 노드에 세션 관전자가 생김)
+    public static final String TYPE_UNWATCH = "UNWATCH";   // 게이트웨이 노드 -> 소유 노드 (이 노드의 세션 관전자가 모두 떠남)
+
+    // 클라이언트 메시지가 아닌 내부 명령 타입
+    public static final String COMMAND_PLAYER_DISCONNECTED = "player-disconnected";
+
+    public static SessionEvent broadcast(String gameSessionId, String payload) {
+        return new SessionEvent(TYPE_BROADCAST, null, null, gameSessionId, null, null, null, payload);
+    }
+
+    public static SessionEvent spectate(String gameSessionId, String payload) {
+        return new SessionEvent(TYPE_SPECTATE, null, null, gameSessionId, null, null, null, payload);
+    }
+
+    public static SessionEvent spectateInterest(String targetNodeId, String gameSessionId, boolean watching) {
+        return new SessionEvent(watching ? TYPE_WATCH : TYPE_UNWATCH, null, targetNodeId, gameSessionId, null, null, null, null);
+    }
+
+    public static SessionEvent userMessage(String gameSessionId, String userId, String payload) {
+        return new SessionEvent(TYPE_USER_MESSAGE, null, null, gameSessionId, userId, null, null, payload);
+    }
+
+    public static SessionEvent command(String targetNodeId, String commandType, String connectionId,
+                                       String gameSessionId, String userId, String payload) {
+        return new SessionEvent(TYPE_COMMAND, null, targetNodeId, gameSessionId, userId, connectionId, commandType, payload);
+    }
+
+    public static SessionEvent reply(String targetNodeId, String connectionId, String payload) {
+        return new SessionEvent(TYPE_REPLY, null, targetNodeId, null, null, connectionId, null, payload);
+    }
+
+    public static SessionEvent bind(String targetNodeId, String connectionId, String gameSessionId) {
+        return new SessionEvent(TYPE_BIND, null, targetNodeId, gameSessionId, null, connectionId, null, null);
+    }
+
+    public static SessionEvent bindUser(String targetNodeId, String connectionId, String userId) {
+        return new SessionEvent(TYPE_BIND, null, targetNodeId, null, userId, connectionId, null, null);
+    }
+}
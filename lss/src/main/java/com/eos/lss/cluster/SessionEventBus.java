@@ -0,0 +1,31 @@
+package com.eos.lss.cluster;
+
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 게임 세션 이벤트 전달 통로
+ * 게임 세션은 생성된 노드가 소유하고, 다른 노드에 연결된 플레이어에게는
+ * 이 버스를 통해 상태 메시지를 중계한다.
+ */
+public interface SessionEventBus extends AutoCloseable {
+
+    /**
+     * 현재 노드 ID
+     */
+    String getNodeId();
+
+    /**
+     * 다른 노드들로 이벤트 발행 (자기 자신에게는 전달되지 않음)
+     * @param event 발행할 이벤트
+     */
+    void publish(SessionEvent event);
+
+    /**
+     * 다른 노드에서 발행된 이벤트 수신 리스너 등록
+     * @param listener 이벤트 리스너
+     */
+    void subscribe(Consumer<SessionEvent> listener);
+
+    @Override
+    void close();
+}
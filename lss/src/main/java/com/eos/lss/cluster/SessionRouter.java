@@ -0,0 +1,179 @@
+package com.eos.lss.cluster;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 입장 코드와 세션 ID만으로 게임 세션 소유 노드를 결정하는 라우터
+ *
+ * 입장 코드 6자리 = 상위 3자리(임의) + 하위 3자리(샤드 번호)
+ * 세션 ID = "샤드 번호 3자리-" + UUID
+ * 샤드는 일관성 해시 링으로 노드에 배정되며, 각 노드는 자기 샤드 범위에서만 코드를 발급한다.
+ */
+@Component
+@Slf4j
+public class SessionRouter {
+
+    public static final int SHARD_COUNT = 1000;
+    private static final int CODES_PER_SHARD = 1000;
+
+    private final String localNodeId;
+    private volatile ShardRing ring;
+    private volatile int[] localShards;
+    private volatile boolean hasRemoteNodes;
+
+    /**
+     * @param nodes 클러스터 전체 노드 (node-id=host:port,...). ClusterConfig의 피어 연결도 같은 값을 사용한다.
+     */
+    public SessionRouter(@Value("${lss.cluster.node-id:node-1}") String localNodeId,
+                         @Value("${lss.cluster.nodes:}") String nodes) {
+        this.localNodeId = localNodeId;
+
+        Set<String> nodeIds = new LinkedHashSet<>();
+        nodeIds.add(localNodeId);
+        nodeIds.addAll(parseNodes(nodes).keySet());
+        updateMembership(nodeIds);
+    }
+
+    /**
+     * 노드 목록 해석
+     * @param nodes "node-1=host1:9090,node-2=host2:9090" 형식 (주소는 생략 가능)
+     * @return 노드 ID -> 이벤트 버스 주소 (생략했으면 null), 적힌 순서대로
+     */
+    public static Map<String, String> parseNodes(String nodes) {
+        Map<String, String> parsed = new LinkedHashMap<>();
+        if (nodes == null) {
+            return parsed;
+        }
+        for (String entry : nodes.split(",")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int separator = trimmed.indexOf('=');
+            String nodeId = (separator < 0 ? trimmed : trimmed.substring(0, separator)).trim();
+            String address = separator < 0 ? null : trimmed.substring(separator + 1).trim();
+            if (nodeId.isEmpty()) {
+                throw new IllegalArgumentException("노드 ID가 비어 있습니다: " + trimmed);
+            }
+            parsed.put(nodeId, address == null || address.isEmpty() ? null : address);
+        }
+        return parsed;
+    }
+
+    /**
+     * 클러스터 구성 변경 시 링 재계산
+     * 기존 방은 옮겨지지 않으므로 노드를 뺄 때는 먼저 방을 비워야 한다.
+     */
+    public void updateMembership(Collection<String> nodeIds) {
+        ShardRing newRing = new ShardRing(nodeIds, SHARD_COUNT);
+        int[] owned = newRing.shardsOwnedBy(localNodeId);
+        this.ring = newRing;
+        this.localShards = owned;
+        this.hasRemoteNodes = nodeIds.stream().anyMatch(nodeId -> !isLocalNode(nodeId));
+        log.info("샤드 링 구성 - nodes: {}, 로컬 샤드 수: {}", nodeIds, owned.length);
+    }
+
+    public String getLocalNodeId() {
+        return localNodeId;
+    }
+
+    public boolean isLocalNode(String nodeId) {
+        return localNodeId.equals(nodeId);
+    }
+
+    // 다른 노드가 있는지 (단일 노드면 클러스터 중계 생략)
+    public boolean hasRemoteNodes() {
+        return hasRemoteNodes;
+    }
+
+    /**
+     * 이 노드가 소유한 샤드 범위에서 임의의 입장 코드 생성 (중복 확인은 호출 측에서)
+     */
+    public String nextLocalEntryCode() {
+        int[] shards = localShards;
+        if (shards.length == 0) {
+            throw new IllegalStateException("이 노드가 소유한 샤드가 없습니다.");
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int shard = shards[random.nextInt(shards.length)];
+        int prefix = random.nextInt(CODES_PER_SHARD);
+        return String.format("%03d%03d", prefix, shard);
+    }
+
+    /**
+     * 입장 코드와 같은 샤드를 가리키는 세션 ID 생성
+     */
+    public String newSessionId(String entryCode) {
+        return String.format("%03d", shardOfEntryCode(entryCode)) + "-" + UUID.randomUUID();
+    }
+
+    public int shardOfEntryCode(String entryCode) {
+        if (entryCode == null || entryCode.length() != 6) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(entryCode) % SHARD_COUNT;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    public int shardOfSessionId(String sessionId) {
+        if (sessionId == null || sessionId.length() < 4 || sessionId.charAt(3) != '-') {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(sessionId.substring(0, 3));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    public String ownerOfEntryCode(String entryCode) {
+        return ownerOfShard(shardOfEntryCode(entryCode));
+    }
+
+    public String ownerOfSessionId(String sessionId) {
+        return ownerOfShard(shardOfSessionId(sessionId));
+    }
+
+    /**
+     * 샤드 정보가 없는 세션 ID(이전 형식)는 로컬로 간주
+     */
+    public boolean isLocalSessionId(String sessionId) {
+        String owner = ownerOfSessionId(sessionId);
+        return owner == null || isLocalNode(owner);
+    }
+
+    /**
+     * 메시지를 처리해야 할 노드 결정
+     * @return 소유 노드 ID, 판단할 수 없거나 어느 노드에서 처리해도 되면 null
+     */
+    public String resolveOwner(String type, JsonNode payload) {
+        if ("create-session".equals(type)) {
+            return null; // 방은 요청을 받은 노드가 만든다
+        }
+        if ("join-session".equals(type)) {
+            return payload.has("entryCode") ? ownerOfEntryCode(payload.get("entryCode").asText()) : null;
+        }
+        return payload.has("sessionId") ? ownerOfSessionId(payload.get("sessionId").asText()) : null;
+    }
+
+    private String ownerOfShard(int shard) {
+        if (shard < 0 || shard >= SHARD_COUNT) {
+            return null;
+        }
+        return ring.ownerOf(shard);
+    }
+}
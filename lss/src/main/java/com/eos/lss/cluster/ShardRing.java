@@ -0,0 +1,74 @@
+package com.eos.lss.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 고정된 개수의 샤드를 노드에 배정하는 일관성 해시 링
+ * 노드가 추가/제거되어도 약 1/N의 샤드만 소유자가 바뀐다.
+ * 모든 노드가 같은 노드 목록으로 링을 만들면 같은 결과를 얻으므로 중앙 조회가 필요 없다.
+ */
+public class ShardRing {
+
+    private static final int VIRTUAL_NODES = 128;
+
+    // 샤드 번호 -> 소유 노드 ID (생성 시 미리 계산)
+    private final String[] shardOwners;
+
+    public ShardRing(Collection<String> nodeIds, int shardCount) {
+        if (nodeIds.isEmpty()) {
+            throw new IllegalArgumentException("노드 목록이 비어 있습니다.");
+        }
+
+        TreeMap<Long, String> ring = new TreeMap<>();
+        for (String nodeId : new TreeSet<>(nodeIds)) {
+            for (int i = 0; i < VIRTUAL_NODES; i++) {
+                ring.put(hash(nodeId + "#" + i), nodeId);
+            }
+        }
+
+        shardOwners = new String[shardCount];
+        for (int shard = 0; shard < shardCount; shard++) {
+            Map.Entry<Long, String> entry = ring.ceilingEntry(hash("shard-" + shard));
+            shardOwners[shard] = (entry != null ? entry : ring.firstEntry()).getValue();
+        }
+    }
+
+    public String ownerOf(int shard) {
+        return shardOwners[shard];
+    }
+
+    /**
+     * 특정 노드가 소유한 샤드 목록
+     */
+    public int[] shardsOwnedBy(String nodeId) {
+        int[] owned = new int[shardOwners.length];
+        int count = 0;
+        for (int shard = 0; shard < shardOwners.length; shard++) {
+            if (shardOwners[shard].equals(nodeId)) {
+                owned[count++] = shard;
+            }
+        }
+        return Arrays.copyOf(owned, count);
+    }
+
+    // JVM에 관계없이 같은 값을 내는 64비트 해시 (MD5 앞 8바이트)
+    private static long hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8));
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | (digest[i] & 0xFF);
+            }
+            return value;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
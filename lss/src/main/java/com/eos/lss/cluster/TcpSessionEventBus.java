@@ -0,0 +1,473 @@
+package com.eos.lss.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * TCP 피어 간 이벤트 버스
+ * 각 노드는 서버 소켓으로 이벤트를 수신하고, 피어마다 하나의 연결과 전송 큐를 유지한다.
+ *
+ * 연결마다 공유 비밀키로 HMAC 챌린지-응답을 주고받아 양쪽이 같은 클러스터인지 확인한 뒤에만 프레임을 주고받는다.
+ * 내용은 암호화하지 않으므로 서버 소켓은 내부망 주소에만 열어야 한다.
+ * 프레임 형식: [8바이트 순번][4바이트 길이][JSON 직렬화된 SessionEvent]
+ *
+ * 전송 실패 시 마지막 flush 이후 쓴 프레임은 재연결 후 같은 순번으로 다시 보내고, 수신 쪽은 이미 받은 순번을 버린다.
+ * flush까지 끝난 프레임은 상대가 응답 없이 죽으면 잃을 수 있고, 전송 큐가 가득 찬 동안 발행한 이벤트는 버린다 (droppedFrames).
+ */
+@Slf4j
+public class TcpSessionEventBus implements SessionEventBus {
+
+    private static final int MAX_FRAME_BYTES = 1024 * 1024; // 1MB
+    private static final int PEER_QUEUE_CAPACITY = 10000;
+    private static final int MAX_BATCH_FRAMES = 64;
+    private static final int CONNECT_TIMEOUT_MS = 3000;
+    private static final int HANDSHAKE_TIMEOUT_MS = 3000;
+    private static final long RECONNECT_DELAY_MS = 1000;
+    private static final int CHALLENGE_BYTES = 32;
+    private static final int PROOF_BYTES = 32; // HmacSHA256
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String ROLE_CONNECTOR = "connector";
+    private static final String ROLE_ACCEPTOR = "acceptor";
+
+    private final String nodeId;
+    private final String bindAddress;
+    private final int port;
+    private final SecretKeySpec secretKey;
+    private final SecureRandom random = new SecureRandom();
+    // 이 버스 인스턴스의 식별값 (재시작한 노드의 순번이 처음부터 다시 시작해도 구분하기 위함)
+    private final long epoch = random.nextLong();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Consumer<SessionEvent>> listeners = new CopyOnWriteArrayList<>();
+    // 피어 주소(host:port)별 연결
+    private final ConcurrentHashMap<String, PeerConnection> peers = new ConcurrentHashMap<>();
+    // 보낸 노드 ID별 마지막으로 받은 순번
+    private final ConcurrentHashMap<String, InboundLink> inboundLinks = new ConcurrentHashMap<>();
+    private final AtomicLong droppedFrames = new AtomicLong();
+    private final ExecutorService ioExecutor = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "session-event-bus-io");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile ServerSocket serverSocket;
+    private volatile boolean running;
+
+    /**
+     * @param bindAddress 서버 소켓을 열 주소 (내부망 인터페이스)
+     * @param secret 노드 간 연결 인증에 쓰는 공유 비밀키 (모든 노드가 같아야 함)
+     */
+    public TcpSessionEventBus(String nodeId, String bindAddress, int port, String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalArgumentException("클러스터 공유 비밀키가 설정되지 않았습니다.");
+        }
+        this.nodeId = nodeId;
+        this.bindAddress = bindAddress;
+        this.port = port;
+        this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+    }
+
+    /**
+     * 서버 소켓을 열고 수신 시작
+     */
+    public void start() throws IOException {
+        serverSocket = new ServerSocket();
+        serverSocket.setReuseAddress(true);
+        serverSocket.bind(new InetSocketAddress(bindAddress, port));
+        running = true;
+        ioExecutor.execute(this::acceptLoop);
+        log.info("이벤트 버스 시작 - nodeId: {}, address: {}:{}", nodeId, bindAddress, getLocalPort());
+    }
+
+    /**
+     * 실제로 바인딩된 포트 (port 0으로 시작한 경우 확인용)
+     */
+    public int getLocalPort() {
+        return serverSocket != null ? serverSocket.getLocalPort() : port;
+    }
+
+    /**
+     * 전송 큐가 가득 차 버린 이벤트 수 (피어별 합계)
+     */
+    public long getDroppedFrames() {
+        return droppedFrames.get();
+    }
+
+    /**
+     * 피어 노드 추가
+     * @param address host:port 형식의 주소
+     */
+    public void addPeer(String address) {
+        String trimmed = address.trim();
+        if (trimmed.isEmpty()) {
+            return;
+        }
+        peers.computeIfAbsent(trimmed, k -> {
+            PeerConnection peer = new PeerConnection(k);
+            ioExecutor.execute(peer::sendLoop);
+            return peer;
+        });
+    }
+
+    @Override
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void publish(SessionEvent event) {
+        if (peers.isEmpty()) {
+            return;
+        }
+        event.setOriginNodeId(nodeId);
+        byte[] frame;
+        try {
+            frame = objectMapper.writeValueAsBytes(event);
+        } catch (IOException e) {
+            log.error("이벤트 직렬화 실패: {}", e.getMessage());
+            return;
+        }
+        for (PeerConnection peer : peers.values()) {
+            if (!peer.queue.offer(frame)) {
+                droppedFrames.incrementAndGet();
+                log.warn("피어 전송 큐가 가득 차 이벤트를 버립니다 - peer: {}", peer.address);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<SessionEvent> listener) {
+        listeners.add(listener);
+    }
+
+    private void acceptLoop() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                ioExecutor.execute(() -> readLoop(socket));
+            } catch (IOException e) {
+                if (running) {
+                    log.error("피어 연결 수락 오류: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void readLoop(Socket socket) {
+        try (socket; DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()))) {
+            InboundLink link = acceptHandshake(socket, in);
+            if (link == null) {
+                return;
+            }
+            while (running) {
+                long sequence = in.readLong();
+                int length = in.readInt();
+                if (length <= 0 || length > MAX_FRAME_BYTES) {
+                    log.warn("잘못된 프레임 길이 수신 - length: {}, remote: {}", length, socket.getRemoteSocketAddress());
+                    return;
+                }
+                byte[] frame = new byte[length];
+                in.readFully(frame);
+                if (!link.advance(sequence)) {
+                    continue; // 재연결 후 다시 온 프레임
+                }
+                SessionEvent event = objectMapper.readValue(frame, SessionEvent.class);
+                if (nodeId.equals(event.getOriginNodeId())) {
+                    continue; // 자기 자신이 발행한 이벤트는 무시
+                }
+                dispatch(event);
+            }
+        } catch (EOFException e) {
+            log.debug("피어 연결 종료: {}", socket.getRemoteSocketAddress());
+        } catch (IOException e) {
+            if (running) {
+                log.warn("피어 수신 오류: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 수신 연결 인증: 챌린지를 보내고, 상대가 보낸 증명을 확인한 뒤 상대 챌린지에 대한 증명을 돌려줌
+     * @return 인증된 피어의 수신 상태, 인증 실패 시 null
+     */
+    private InboundLink acceptHandshake(Socket socket, DataInputStream in) throws IOException {
+        socket.setSoTimeout(HANDSHAKE_TIMEOUT_MS);
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        byte[] challenge = newChallenge();
+        out.write(challenge);
+        out.flush();
+
+        String peerNodeId = in.readUTF();
+        long peerEpoch = in.readLong();
+        byte[] peerChallenge = in.readNBytes(CHALLENGE_BYTES);
+        byte[] peerProof = in.readNBytes(PROOF_BYTES);
+        if (!MessageDigest.isEqual(peerProof, proof(ROLE_CONNECTOR, challenge, peerNodeId, peerEpoch))) {
+            log.warn("피어 인증 실패, 연결을 끊습니다 - remote: {}", socket.getRemoteSocketAddress());
+            return null;
+        }
+        out.write(proof(ROLE_ACCEPTOR, peerChallenge, peerNodeId, peerEpoch));
+        out.flush();
+        socket.setSoTimeout(0);
+
+        log.info("피어 인증 완료 - peer: {}, remote: {}", peerNodeId, socket.getRemoteSocketAddress());
+        return inboundLinks.compute(peerNodeId, (k, previous) ->
+                previous != null && previous.epoch == peerEpoch ? previous : new InboundLink(peerEpoch));
+    }
+
+    private byte[] newChallenge() {
+        byte[] challenge = new byte[CHALLENGE_BYTES];
+        random.nextBytes(challenge);
+        return challenge;
+    }
+
+    /**
+     * HMAC(secret, role | challenge | connectorNodeId | connectorEpoch)
+     * 역할을 넣어 한쪽의 증명을 반대 방향에 그대로 되돌려 쓰지 못하게 한다.
+     */
+    private byte[] proof(String role, byte[] challenge, String connectorNodeId, long connectorEpoch) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(secretKey);
+            mac.update(role.getBytes(StandardCharsets.UTF_8));
+            mac.update(challenge);
+            mac.update(connectorNodeId.getBytes(StandardCharsets.UTF_8));
+            mac.update(ByteBuffer.allocate(Long.BYTES).putLong(connectorEpoch).array());
+            return mac.doFinal();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC 계산 실패", e);
+        }
+    }
+
+    private void dispatch(SessionEvent event) {
+        for (Consumer<SessionEvent> listener : listeners) {
+            try {
+                listener.accept(event);
+            } catch (Exception e) {
+                log.error("이벤트 처리 중 오류 발생: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        try {
+            if (serverSocket != null) {
+                serverSocket.close();
+            }
+        } catch (IOException e) {
+            log.debug("서버 소켓 종료 오류: {}", e.getMessage());
+        }
+        peers.values().forEach(PeerConnection::close);
+        peers.clear();
+        ioExecutor.shutdownNow();
+        try {
+            ioExecutor.awaitTermination(3, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 보낸 노드 하나에 대한 수신 상태
+     * 재연결 직후 이전 연결의 수신 스레드가 잠시 남아 있을 수 있으므로 순번 갱신은 동기화한다.
+     */
+    private static class InboundLink {
+        private final long epoch;
+        private long lastSequence;
+
+        InboundLink(long epoch) {
+            this.epoch = epoch;
+        }
+
+        synchronized boolean advance(long sequence) {
+            if (sequence <= lastSequence) {
+                return false;
+            }
+            lastSequence = sequence;
+            return true;
+        }
+    }
+
+    private record OutboundFrame(long sequence, byte[] payload) {
+    }
+
+    /**
+     * 피어 하나에 대한 송신 연결
+     * 전송은 전용 스레드가 큐에서 꺼내 순서대로 처리하므로 호출 스레드를 막지 않는다.
+     * out, unflushed, written, nextSequence는 전송 스레드만 다룬다.
+     */
+    private class PeerConnection {
+        private final String address;
+        private final String host;
+        private final int port;
+        private final BlockingQueue<byte[]> queue = new LinkedBlockingQueue<>(PEER_QUEUE_CAPACITY);
+        // 마지막 flush 이후 쓴 프레임 (전송 실패 시 재연결 후 다시 보냄)
+        private final List<OutboundFrame> unflushed = new ArrayList<>();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile Socket socket;
+        private DataOutputStream out;
+        // unflushed 중 현재 연결로 이미 쓴 프레임 수
+        private int written;
+        private long nextSequence = 1;
+
+        PeerConnection(String address) {
+            this.address = address;
+            int separator = address.lastIndexOf(':');
+            this.host = address.substring(0, separator);
+            this.port = Integer.parseInt(address.substring(separator + 1));
+        }
+
+        void sendLoop() {
+            while (running && !closed.get()) {
+                try {
+                    if (unflushed.isEmpty()) {
+                        unflushed.add(new OutboundFrame(nextSequence++, queue.take()));
+                    }
+                    ensureConnected();
+                    while (written < unflushed.size()) {
+                        OutboundFrame frame = unflushed.get(written);
+                        out.writeLong(frame.sequence());
+                        out.writeInt(frame.payload().length);
+                        out.write(frame.payload());
+                        written++;
+                    }
+                    // 큐가 비었거나 묶음이 찼을 때만 flush해서 연속 이벤트를 묶어서 보냄
+                    byte[] next = unflushed.size() < MAX_BATCH_FRAMES ? queue.poll() : null;
+                    if (next != null) {
+                        unflushed.add(new OutboundFrame(nextSequence++, next));
+                        continue;
+                    }
+                    out.flush();
+                    unflushed.clear();
+                    written = 0;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (IOException e) {
+                    if (!running || closed.get()) {
+                        return;
+                    }
+                    log.warn("피어 전송 실패, 재연결 후 프레임 {}개를 다시 보냅니다 - peer: {}, error: {}",
+                            unflushed.size(), address, e.getMessage());
+                    disconnect();
+                    try {
+                        Thread.sleep(RECONNECT_DELAY_MS);
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }
+
+        private void ensureConnected() throws IOException {
+            if (socket != null) {
+                return;
+            }
+            Socket newSocket = new Socket();
+            try {
+                newSocket.setTcpNoDelay(true);
+                newSocket.connect(new InetSocketAddress(host, port), CONNECT_TIMEOUT_MS);
+                DataOutputStream newOut = new DataOutputStream(new BufferedOutputStream(newSocket.getOutputStream()));
+                connectHandshake(newSocket, newOut);
+                socket = newSocket;
+                out = newOut;
+                written = 0;
+            } catch (IOException e) {
+                closeQuietly(newSocket);
+                throw e;
+            }
+            // close()가 연결 중에 불렸으면 새 소켓도 바로 닫음
+            if (closed.get()) {
+                disconnect();
+                throw new IOException("피어 연결이 종료되었습니다.");
+            }
+            log.info("피어 연결 성공 - peer: {}", address);
+        }
+
+        /**
+         * 송신 연결 인증: 상대 챌린지에 대한 증명과 함께 자기 챌린지를 보내고, 상대 증명을 확인
+         */
+        private void connectHandshake(Socket newSocket, DataOutputStream newOut) throws IOException {
+            newSocket.setSoTimeout(HANDSHAKE_TIMEOUT_MS);
+            DataInputStream in = new DataInputStream(newSocket.getInputStream());
+            byte[] challenge = new byte[CHALLENGE_BYTES];
+            in.readFully(challenge);
+            byte[] ownChallenge = newChallenge();
+            newOut.writeUTF(nodeId);
+            newOut.writeLong(epoch);
+            newOut.write(ownChallenge);
+            newOut.write(proof(ROLE_CONNECTOR, challenge, nodeId, epoch));
+            newOut.flush();
+
+            byte[] peerProof = new byte[PROOF_BYTES];
+            in.readFully(peerProof);
+            if (!MessageDigest.isEqual(peerProof, proof(ROLE_ACCEPTOR, ownChallenge, nodeId, epoch))) {
+                throw new IOException("피어 인증 실패 (공유 비밀키 불일치)");
+            }
+            newSocket.setSoTimeout(0);
+        }
+
+        // 전송 스레드에서 재연결 전에 현재 소켓만 정리
+        private void disconnect() {
+            Socket current = socket;
+            socket = null;
+            out = null;
+            written = 0;
+            if (current != null) {
+                closeQuietly(current);
+            }
+        }
+
+        /**
+         * 버스 종료 시 한 번만 호출되어 현재 소켓을 닫음 (막혀 있는 전송 스레드도 깨어남)
+         */
+        void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            Socket current = socket;
+            if (current != null) {
+                closeQuietly(current);
+            }
+        }
+
+        private void closeQuietly(Socket target) {
+            try {
+                target.close();
+            } catch (IOException e) {
+                log.debug("피어 소켓 종료 오류: {}", e.getMessage());
+            }
+        }
+    }
+}
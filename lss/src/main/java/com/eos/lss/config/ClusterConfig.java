@@ -0,0 +1,68 @@
+package com.eos.lss.config;
+
+import com.eos.lss.cluster.InMemorySessionEventBus;
+import com.eos.lss.cluster.SessionEventBus;
+import com.eos.lss.cluster.SessionRouter;
+import com.eos.lss.cluster.TcpSessionEventBus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration
+@Slf4j
+public class ClusterConfig {
+
+    @Value("${lss.cluster.enabled:false}")
+    private boolean clusterEnabled;
+
+    @Value("${lss.cluster.node-id:node-1}")
+    private String nodeId;
+
+    @Value("${lss.cluster.port:9090}")
+    private int clusterPort;
+
+    // 이벤트 버스 서버 소켓을 열 주소 (내부망 인터페이스만)
+    @Value("${lss.cluster.bind-address:127.0.0.1}")
+    private String bindAddress;
+
+    // 노드 간 연결 인증용 공유 비밀키 (클러스터 모드에서 필수)
+    @Value("${lss.cluster.secret:}")
+    private String secret;
+
+    // 클러스터 전체 노드 (node-id=host:port,...). 샤드 링(SessionRouter)과 피어 연결 모두 이 목록 기준
+    @Value("${lss.cluster.nodes:}")
+    private String nodes;
+
+    /**
+     * 클러스터 모드가 꺼져 있으면 단일 노드용 메모리 버스를 사용
+     */
+    @Bean(destroyMethod = "close")
+    public SessionEventBus sessionEventBus() throws IOException {
+        Map<String, String> peers = new LinkedHashMap<>(SessionRouter.parseNodes(nodes));
+        peers.remove(nodeId);
+
+        if (!clusterEnabled) {
+            if (!peers.isEmpty()) {
+                // 링에는 다른 노드가 있는데 중계할 버스가 없으면 그 노드 소유 방의 명령이 사라짐
+                throw new IllegalStateException("클러스터 모드가 꺼져 있으면 다른 노드를 설정할 수 없습니다: " + peers.keySet());
+            }
+            return new InMemorySessionEventBus(nodeId);
+        }
+        peers.forEach((peerId, address) -> {
+            if (address == null) {
+                throw new IllegalStateException("클러스터 노드 주소가 없습니다: " + peerId);
+            }
+        });
+
+        TcpSessionEventBus bus = new TcpSessionEventBus(nodeId, bindAddress, clusterPort, secret);
+        bus.start();
+        peers.values().forEach(bus::addPeer);
+        log.info("클러스터 모드 활성화 - nodeId: {}, peers: {}", nodeId, peers);
+        return bus;
+    }
+}
@@ -1,5 +1,6 @@
 package com.eos.lss.config;
 
+import com.eos.lss.service.SessionLifecycleListener;
 import org.springframework.stereotype.Component;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -8,7 +9,7 @@ import java.time.Duration;
 import java.util.Map;
 
 @Component
-public class RateLimiter {
+public class RateLimiter implements SessionLifecycleListener {
     
     // 사용자별 요청 기록을 저장하는 맵
     private final ConcurrentHashMap<String, UserRequestRecord> userRequests = new ConcurrentHashMap<>();
@@ -21,6 +22,7 @@ public class RateLimiter {
     private static final Map<String, RateLimitConfig> ACTION_LIMITS = Map.of(
         "coin-action", new RateLimitConfig(5, 5),      // 5초당 최대 5개 동전 액션
         "next-turn", new RateLimitConfig(3, 10),       // 10초당 최대 3개 턴 진행
+        "batch", new RateLimitConfig(3, 10),           // 10초당 최대 3개 묶음 명령 (턴 단위)
         "register-order", new RateLimitConfig(2, 5),   // 5초당 최대 2개 순서 등록
         "start-playing", new RateLimitConfig(1, 10),   // 10초당 최대 1개 게임 시작
         "delete-session", new RateLimitConfig(1, 30)   // 30초당 최대 1개 세션 삭제
@@ -110,23 +112,47 @@ public class RateLimiter {
      * 사용자 기록 정리 (메모리 누수 방지)
      */
     public void cleanup() {
+        cleanup(LocalDateTime.now());
+    }
+    
+    /**
+     * now 기준으로 모든 윈도우가 끝난 사용자 기록 정리
+     */
+    public void cleanup(LocalDateTime now) {
+        userRequests.entrySet().removeIf(entry -> isExpired(entry.getValue(), now));
+    }
+    
+    /**
+     * 연결 종료 시 해당 사용자 기록 정리
+     * 아직 윈도우가 남아 있으면 재접속으로 제한을 우회할 수 있고, 같은 사용자가 다른 연결로
+     * 계속 요청 중일 수도 있으므로 남겨 두고 정기 정리에 맡긴다.
+     */
+    @Override
+    public void onConnectionClosed(String connectionId, String userId) {
+        if (userId == null) {
+            return;
+        }
         LocalDateTime now = LocalDateTime.now();
-        userRequests.entrySet().removeIf(entry -> {
-            UserRequestRecord record = entry.getValue();
-            
-            // 모든 액션의 윈도우가 만료되었는지 확인
-            boolean allWindowsExpired = record.windowStart.entrySet().stream()
-                .allMatch(windowEntry -> {
-                    String action = windowEntry.getKey();
-                    LocalDateTime start = windowEntry.getValue();
-                    RateLimitConfig config = ACTION_LIMITS.getOrDefault(action, new RateLimitConfig(DEFAULT_MAX_REQUESTS, DEFAULT_WINDOW_SECONDS));
-                    
-                    // 윈도우 시간이 지났는지 확인
-                    return Duration.between(start, now).getSeconds() >= config.windowSeconds;
-                });
-            
-            // 모든 윈도우가 만료되었거나 요청 기록이 비어있으면 제거
-            return record.requestCounts.isEmpty() || allWindowsExpired;
-        });
+        userRequests.computeIfPresent(userId, (k, record) -> isExpired(record, now) ? null : record);
+    }
+    
+    public int getTrackedUserCount() {
+        return userRequests.size();
+    }
+    
+    private boolean isExpired(UserRequestRecord record, LocalDateTime now) {
+        // 모든 액션의 윈도우가 만료되었는지 확인
+        boolean allWindowsExpired = record.windowStart.entrySet().stream()
+            .allMatch(windowEntry -> {
+                String action = windowEntry.getKey();
+                LocalDateTime start = windowEntry.getValue();
+                RateLimitConfig config = ACTION_LIMITS.getOrDefault(action, new RateLimitConfig(DEFAULT_MAX_REQUESTS, DEFAULT_WINDOW_SECONDS));
+                
+                // 윈도우 시간이 지났는지 확인
+                return Duration.between(start, now).getSeconds() >= config.windowSeconds;
+            });
+        
+        // 모든 윈도우가 만료되었거나 요청 기록이 비어있으면 제거
+        return record.requestCounts.isEmpty() || allWindowsExpired;
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,106 @@
+package com.eos.lss.controller;
+
+import com.eos.lss.exception.GameException;
+import com.eos.lss.service.SessionAdminService;
+import com.eos.lss.service.SessionMigrationService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/admin/sessions")
+public class AdminController {
+
+    public static final String ADMIN_TOKEN_HEADER = "X-Admin-Token";
+
+    private final SessionAdminService sessionAdminService;
+    private final SessionMigrationService sessionMigrationService;
+    // 비어 있으면 관리자 API 전체를 막음 (켜려면 반드시 설정)
+    private final String adminToken;
+
+    public AdminController(SessionAdminService sessionAdminService,
+                           SessionMigrationService sessionMigrationService,
+                           @Value("${lss.admin.token:}") String adminToken) {
+        this.sessionAdminService = sessionAdminService;
+        this.sessionMigrationService = sessionMigrationService;
+        this.adminToken = adminToken;
+    }
+
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> listSessions(
+            @RequestHeader(value = ADMIN_TOKEN_HEADER, required = false) String token,
+            @RequestParam(required = false) String state,
+            @RequestParam(required = false) Long minAgeSeconds,
+            @RequestParam(required = false) Long maxAgeSeconds,
+            @RequestParam(required = false) Integer players,
+            @RequestParam(defaultValue = "oldest") String order,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
+        authorize(token);
+        boolean newestFirst = "newest".equalsIgnoreCase(order);
+        return ResponseEntity.ok(sessionAdminService.listSessions(state, minAgeSeconds, maxAgeSeconds, players,
+                newestFirst, limit, cursor));
+    }
+
+    @GetMapping("/{sessionId}")
+    public ResponseEntity<Map<String, Object>> inspectSession(
+            @RequestHeader(value = ADMIN_TOKEN_HEADER, required = false) String token,
+            @PathVariable String sessionId) {
+        authorize(token);
+        return ResponseEntity.ok(sessionAdminService.inspectSession(sessionId));
+    }
+
+    @DeleteMapping("/{sessionId}")
+    public ResponseEntity<Map<String, Object>> forceClose(
+            @RequestHeader(value = ADMIN_TOKEN_HEADER, required = false) String token,
+            @PathVariable String sessionId) {
+        authorize(token);
+        return ResponseEntity.ok(sessionAdminService.forceClose(sessionId));
+    }
+
+    /**
+     * 노드 드레인 (새 방 생성 중지 후 모든 세션을 이전 데이터로 반환, 이 노드의 세션은 종료됨)
+     * @param redirect 플레이어에게 알릴 재접속 주소
+     */
+    @PostMapping(path = "/drain", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<byte[]> drain(
+            @RequestHeader(value = ADMIN_TOKEN_HEADER, required = false) String token,
+            @RequestParam(required = false) String redirect) {
+        authorize(token);
+        return ResponseEntity.ok(sessionMigrationService.drain(redirect));
+    }
+
+    /**
+     * 다른 노드에서 드레인한 세션 등록
+     */
+    @PostMapping(path = "/import", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<Map<String, Object>> importSessions(
+            @RequestHeader(value = ADMIN_TOKEN_HEADER, required = false) String token,
+            @RequestBody byte[] archive) {
+        authorize(token);
+        return ResponseEntity.ok(sessionMigrationService.importArchive(archive));
+    }
+
+    private void authorize(String token) {
+        if (adminToken.isEmpty()) {
+            // 토큰이 없으면 열어 두지 않고 존재하지 않는 경로처럼 응답
+            throw new GameException("관리자 API가 비활성화되어 있습니다.", 404);
+        }
+        if (token == null || !MessageDigest.isEqual(adminToken.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8))) {
+            throw new GameException("관리자 인증이 필요합니다.", 401);
+        }
+    }
+}
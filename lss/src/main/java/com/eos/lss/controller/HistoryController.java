@@ -0,0 +1,60 @@
+package com.eos.lss.controller;
+
+import com.eos.lss.exception.SessionNotFoundException;
+import com.eos.lss.service.TurnHistory;
+import com.eos.lss.service.TurnHistoryService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+@RestController
+public class HistoryController {
+
+    public static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    public static final int MAX_FINISHED_PAGE = 1000;
+
+    private final TurnHistoryService turnHistoryService;
+
+    public HistoryController(TurnHistoryService turnHistoryService) {
+        this.turnHistoryService = turnHistoryService;
+    }
+
+    // 세션 하나의 턴 기록 (진행 중이거나 보관 중인 종료된 게임)
+    @GetMapping("/sessions/{sessionId}/history")
+    public ResponseEntity<StreamingResponseBody> sessionHistory(@PathVariable String sessionId) {
+        TurnHistory history = turnHistoryService.find(sessionId);
+        if (history == null) {
+            throw new SessionNotFoundException("턴 기록을 찾을 수 없습니다.");
+        }
+        return stream(Collections.singletonList(history));
+    }
+
+    // 종료된 게임들의 턴 기록 (종료 순서, since 이후 종료된 게임만)
+    @GetMapping("/history/finished")
+    public ResponseEntity<StreamingResponseBody> finishedHistory(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "100") int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_FINISHED_PAGE);
+        return stream(turnHistoryService.findFinished(since, pageSize));
+    }
+
+    private ResponseEntity<StreamingResponseBody> stream(List<TurnHistory> histories) {
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            turnHistoryService.writeNdjson(histories, writer);
+            writer.flush();
+        };
+        return ResponseEntity.ok().contentType(APPLICATION_NDJSON).body(body);
+    }
+}
@@ -1,14 +1,26 @@
 package com.eos.lss.controller;
 
+import com.eos.lss.service.NodeHealthService;
+import com.eos.lss.service.WarmupService;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.http.ResponseEntity;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
 public class HomeController {
 
+    private final WarmupService warmupService;
+    private final NodeHealthService nodeHealthService;
+
+    public HomeController(WarmupService warmupService, NodeHealthService nodeHealthService) {
+        this.warmupService = warmupService;
+        this.nodeHealthService = nodeHealthService;
+    }
+
     @GetMapping("/")
     public ResponseEntity<Map<String, Object>> home() {
         Map<String, Object> response = new HashMap<>();
@@ -20,12 +32,35 @@ public class HomeController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 프로세스가 살아 있는지 (타이머 스레드가 멈추면 503)
+     */
     @GetMapping("/health")
     public ResponseEntity<Map<String, Object>> health() {
+        NodeHealthService.Report liveness = nodeHealthService.checkLiveness();
         Map<String, Object> response = new HashMap<>();
-        response.put("status", "UP");
+        response.put("status", liveness.isHealthy() ? "UP" : "DOWN");
         response.put("service", "LSS Game Server");
+        response.put("reasons", liveness.getReasons());
+        response.put("signals", liveness.getSignals());
         
-        return ResponseEntity.ok(response);
+        return ResponseEntity.status(liveness.isHealthy() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE).body(response);
+    }
+
+    /**
+     * 새 방을 받을 수 있는지 (예열 중, 드레인 중, 지연이나 용량 기준을 넘으면 503과 이유 목록)
+     */
+    @GetMapping("/ready")
+    public ResponseEntity<Map<String, Object>> ready() {
+        NodeHealthService.Report readiness = nodeHealthService.checkReadiness();
+        Map<String, Object> response = new HashMap<>();
+        String status = readiness.isHealthy() ? "READY"
+                : readiness.getReasons().equals(List.of("WARMING_UP")) ? "WARMING_UP" : "NOT_READY";
+        response.put("status", status);
+        response.put("reasons", readiness.getReasons());
+        response.put("signals", readiness.getSignals());
+        response.put("warmup", warmupService.getMetrics());
+        
+        return ResponseEntity.status(readiness.isHealthy() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE).body(response);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,89 @@
+package com.eos.lss.controller;
+
+import com.eos.lss.exception.SessionNotFoundException;
+import com.eos.lss.websocket.SimpleWebSocketHandler;
+import com.eos.lss.websocket.SseSession;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.net.InetSocketAddress;
+
+/**
+ * WebSocket을 쓸 수 없는 클라이언트용 SSE 스트림과 HTTP 명령
+ *
+ * 스트림의 첫 이벤트는 연결 ID(sessionId)가 담긴 connected 프레임이고, 이후 WebSocket과 같은 프레임이 전달된다.
+ * 명령은 POST /sse/{connectionId}/commands로 보내며 응답은 스트림으로 받는다.
+ */
+@RestController
+public class SseController {
+
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
+
+    private final SimpleWebSocketHandler webSocketHandler;
+    private final long timeoutMillis;
+
+    public SseController(SimpleWebSocketHandler webSocketHandler,
+                         @Value("${lss.sse.timeout-ms:0}") long timeoutMillis) {
+        this.webSocketHandler = webSocketHandler;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * 게임 세션 없이 스트림 시작 (세션 생성, 입장, 매칭 명령을 보낼 클라이언트용)
+     */
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(HttpServletRequest request) {
+        return open(request, null, 0);
+    }
+
+    /**
+     * 게임 세션 상태 스트림 (관전 프레임으로 시작, 입장하거나 재접속하면 플레이어 프레임으로 바뀜)
+     * 상태 프레임의 이벤트 ID는 세션 상태 버전이므로 재연결 시 Last-Event-ID보다 새 상태만 받는다.
+     */
+    @GetMapping(path = "/sessions/{sessionId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter sessionEvents(@PathVariable String sessionId,
+                                    @RequestHeader(value = LAST_EVENT_ID, required = false) String lastEventId,
+                                    HttpServletRequest request) {
+        return open(request, sessionId, parseLastEventId(lastEventId));
+    }
+
+    /**
+     * SSE 연결로 명령 전송 (WebSocket 명령과 같은 JSON, 응답은 스트림으로 전달)
+     */
+    @PostMapping(path = "/sse/{connectionId}/commands", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Void> command(@PathVariable String connectionId, @RequestBody String body) {
+        if (!webSocketHandler.handleSseCommand(connectionId, body)) {
+            throw new SessionNotFoundException("연결을 찾을 수 없습니다.");
+        }
+        return ResponseEntity.accepted().build();
+    }
+
+    private SseEmitter open(HttpServletRequest request, String sessionId, long afterVersion) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        SseSession session = new SseSession(emitter,
+                InetSocketAddress.createUnresolved(request.getRemoteAddr(), request.getRemotePort()));
+        webSocketHandler.openSseConnection(session, sessionId, afterVersion);
+        return emitter;
+    }
+
+    // Last-Event-ID는 마지막으로 받은 상태 버전. 없거나 형식이 다르면 0 (현재 상태부터 받음)
+    static long parseLastEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return 0;
+        }
+        try {
+            return Math.max(Long.parseLong(lastEventId.trim()), 0);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.eos.lss.controller;
+
+import com.eos.lss.exception.SessionNotFoundException;
+import com.eos.lss.service.SessionStateCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+@RestController
+public class StateController {
+
+    private final SessionStateCache sessionStateCache;
+    private final long maxWaitMillis;
+
+    public StateController(SessionStateCache sessionStateCache,
+                           @Value("${lss.state.max-wait-ms:30000}") long maxWaitMillis) {
+        this.sessionStateCache = sessionStateCache;
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    /**
+     * 게임 상태 조회 (폴링용, 특정 사용자 기준 값 없음)
+     * If-None-Match가 현재 버전이면 304, waitMs를 주면 다음 버전이 나올 때까지 최대 waitMs 동안 기다렸다가 응답한다.
+     */
+    @GetMapping("/sessions/{sessionId}/state")
+    public DeferredResult<ResponseEntity<byte[]>> sessionState(
+            @PathVariable String sessionId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestParam(defaultValue = "0") long waitMs) {
+        long currentVersion = sessionStateCache.currentVersion(sessionId);
+        long knownVersion = parseVersion(ifNoneMatch);
+
+        if (knownVersion != currentVersion) {
+            DeferredResult<ResponseEntity<byte[]>> result = new DeferredResult<>();
+            result.setResult(ok(sessionStateCache.get(sessionId)));
+            return result;
+        }
+
+        long timeout = Math.min(Math.max(waitMs, 0), maxWaitMillis);
+        if (timeout == 0) {
+            DeferredResult<ResponseEntity<byte[]>> result = new DeferredResult<>();
+            result.setResult(notModified(currentVersion));
+            return result;
+        }
+
+        // 롱 폴링: 시간 안에 새 버전이 없으면 304
+        DeferredResult<ResponseEntity<byte[]>> result = new DeferredResult<>(timeout, () -> notModified(knownVersion));
+        Runnable cancel = sessionStateCache.await(sessionId, knownVersion, encoded -> {
+            if (encoded != null) {
+                result.setResult(ok(encoded));
+            } else {
+                result.setErrorResult(new SessionNotFoundException("세션을 찾을 수 없습니다."));
+            }
+        });
+        result.onCompletion(cancel);
+        return result;
+    }
+
+    private ResponseEntity<byte[]> ok(SessionStateCache.Encoded encoded) {
+        return ResponseEntity.ok()
+                .eTag(encoded.getETag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(encoded.getBody());
+    }
+
+    private ResponseEntity<byte[]> notModified(long version) {
+        sessionStateCache.recordNotModified();
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(SessionStateCache.eTagOf(version))
+                .cacheControl(CacheControl.noCache())
+                .build();
+    }
+
+    // If-None-Match의 버전 ("12", W/"12", 여러 개면 가장 큰 값). 없거나 형식이 다르면 -1
+    static long parseVersion(String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return -1;
+        }
+        long version = -1;
+        for (String tag : ifNoneMatch.split(",")) {
+            String value = tag.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.length() < 3 || value.charAt(0) != '"' || value.charAt(value.length() - 1) != '"') {
+                continue;
+            }
+            try {
+                version = Math.max(version, Long.parseLong(value.substring(1, value.length() - 1)));
+            } catch (NumberFormatException e) {
+                // 다른 형식의 ETag는 무시
+            }
+        }
+        return version;
+    }
+}
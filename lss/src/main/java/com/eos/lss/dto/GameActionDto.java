@@ -0,0 +1,22 @@
+package com.eos.lss.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 묶음 명령(batch)에 담긴 동작 하나
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameActionDto {
+    private String type;     // coin-action, next-turn, continue-lee-soon-sin
+    private String coinType; // coin-action만 (first, second)
+    private String state;    // coin-action만 (head, tail)
+
+    // 묶음 명령에 쓸 수 있는 동작
+    public static final String TYPE_COIN_ACTION = "coin-action";
+    public static final String TYPE_NEXT_TURN = "next-turn";
+    public static final String TYPE_CONTINUE_LEE_SOON_SIN = "continue-lee-soon-sin";
+}
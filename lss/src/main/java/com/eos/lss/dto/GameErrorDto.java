@@ -13,6 +13,11 @@ public class GameErrorDto {
     // 세션 관련 에러
     public static final String ERROR_SESSION_NOT_FOUND = "SESSION_NOT_FOUND";
     public static final String ERROR_SESSION_CREATION_FAILED = "SESSION_CREATION_FAILED";
+    public static final String ERROR_SESSION_EXPIRED = "SESSION_EXPIRED";
+    public static final String ERROR_SESSION_CLOSED_BY_ADMIN = "SESSION_CLOSED_BY_ADMIN";
+    public static final String ERROR_NODE_DRAINING = "NODE_DRAINING";
+    public static final String ERROR_SERVER_AT_CAPACITY = "SERVER_AT_CAPACITY";
+    public static final String ERROR_INVALID_RESUME_TOKEN = "INVALID_RESUME_TOKEN";
     
     // 플레이어 관련 에러
     public static final String ERROR_PLAYER_NOT_FOUND = "PLAYER_NOT_FOUND";
@@ -50,6 +55,16 @@ public class GameErrorDto {
     // 입장 코드 관련 에러
     public static final String ERROR_INVALID_ENTRY_CODE = "INVALID_ENTRY_CODE";
     
+    // 빠른 매칭 관련 에러
+    public static final String ERROR_ALREADY_IN_MATCH_QUEUE = "ALREADY_IN_MATCH_QUEUE";
+    public static final String ERROR_MATCH_FAILED = "MATCH_FAILED";
+    
+    // 관전 관련 에러
+    public static final String ERROR_SPECTATOR_LIMIT_REACHED = "SPECTATOR_LIMIT_REACHED";
+    
+    // 묶음 명령 관련 에러
+    public static final String ERROR_INVALID_BATCH = "INVALID_BATCH";
+    
     // 네트워크 관련 에러
     public static final String ERROR_NETWORK_TIMEOUT = "NETWORK_TIMEOUT";
     public static final String ERROR_CONNECTION_LOST = "CONNECTION_LOST";
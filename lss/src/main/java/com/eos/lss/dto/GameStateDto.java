@@ -33,6 +33,9 @@ public class GameStateDto {
     private LocalDateTime gameEndTime; // 게임 마감 시간
     private Boolean leeSoonSinByTimeExpired; // 이순신 상태가 시간 초과로 인한 것인지 구분
     
+    // 세션 상태 버전 (상태가 바뀔 때마다 1씩 증가, 클라이언트는 더 낮은 버전의 상태를 무시)
+    private long version;
+    
     // 게임 상태 상수
     public static final String STATE_WAITING_ROOM = "WAITING_ROOM";
     public static final String STATE_ORDER_REGISTER = "ORDER_REGISTER";
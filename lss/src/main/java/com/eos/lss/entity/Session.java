@@ -2,74 +2,49 @@ package com.eos.lss.entity;
 
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import lombok.AllArgsConstructor;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.ArrayList;
 import com.eos.lss.dto.PlayerDto;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
+/**
+ * 세션 상태 변경용 작업 사본
+ * 저장소에는 SessionSnapshot만 들어가고, 상태를 바꿀 때는 현재 스냅샷에서 작업 사본을 만들어 고친 뒤
+ * 새 버전의 스냅샷으로 교체한다. (작업 사본은 만든 스레드에서만 사용)
+ */
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
 public class Session {
     private String id;
     private String entryCode;
     private String presidentId;
     private LocalDateTime createdAt;
     private String gameState; // WAITING_ROOM, ORDER_REGISTER, GAME_PLAYING, LEE_SOON_SIN
-    private String playersJson; // 참여한 플레이어 (순서 무관)
-    private String orderedPlayersJson; // 순서 등록된 플레이어 (순서 엄격히 관리)
+    private List<PlayerDto> players = new ArrayList<>(); // 참여한 플레이어 (순서 무관)
+    private List<PlayerDto> orderedPlayers = new ArrayList<>(); // 순서 등록된 플레이어 (순서 엄격히 관리)
     
-    // 편의 메서드: JSON <-> List 변환
+    // 목록은 복사해서 주고받음 (호출자가 받은 목록을 고쳐도 사본에 영향 없음)
     public List<PlayerDto> getPlayers() {
-        if (playersJson == null || playersJson.isEmpty()) {
-            return new ArrayList<>();
-        }
-        try {
-            ObjectMapper mapper = new ObjectMapper();
-            return mapper.readValue(playersJson, 
-                mapper.getTypeFactory().constructCollectionType(List.class, PlayerDto.class));
-        } catch (Exception e) {
-            return new ArrayList<>();
-        }
+        return new ArrayList<>(players);
     }
     
     public void setPlayers(List<PlayerDto> players) {
-        try {
-            ObjectMapper mapper = new ObjectMapper();
-            this.playersJson = mapper.writeValueAsString(players);
-        } catch (Exception e) {
-            this.playersJson = "[]";
-        }
+        this.players = new ArrayList<>(players);
     }
     
     public List<PlayerDto> getOrderedPlayers() {
-        if (orderedPlayersJson == null || orderedPlayersJson.isEmpty()) {
-            return new ArrayList<>();
-        }
-        try {
-            ObjectMapper mapper = new ObjectMapper();
-            return mapper.readValue(orderedPlayersJson, 
-                mapper.getTypeFactory().constructCollectionType(List.class, PlayerDto.class));
-        } catch (Exception e) {
-            return new ArrayList<>();
-        }
+        return new ArrayList<>(orderedPlayers);
     }
     
     public void setOrderedPlayers(List<PlayerDto> orderedPlayers) {
-        try {
-            ObjectMapper mapper = new ObjectMapper();
-            this.orderedPlayersJson = mapper.writeValueAsString(orderedPlayers);
-        } catch (Exception e) {
-            this.orderedPlayersJson = "[]";
-        }
+        this.orderedPlayers = new ArrayList<>(orderedPlayers);
     }
     
     private int currentPlayerIndex = 0;
     private boolean isClockWise = true;
     private CoinState firstCoinState;
     private CoinState secondCoinState;
-    private LocalDateTime gameEndTime; // 게임 마감 시간 (순서 등록 후 10분)
+    private LocalDateTime gameEndTime; // 게임 마감 시간 (순서 등록 후 10분, 화면 표시용)
+    private long gameEndDeadlineNanos; // 게임 마감 시각 (GameClock.nanoTime 기준, 마감 판정용)
     private Boolean isLeeSoonSinByTimeExpired; // 이순신 상태가 시간 초과로 인한 것인지 구분
-} 
\ No newline at end of file
+}
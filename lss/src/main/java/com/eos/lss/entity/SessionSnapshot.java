@@ -0,0 +1,81 @@
+package com.eos.lss.entity;
+
+import com.eos.lss.dto.PlayerDto;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게임 세션 상태 스냅샷 (불변)
+ *
+ * 상태가 바뀔 때마다 version이 1씩 올라간 새 스냅샷으로 통째로 교체되므로, 읽는 쪽은 잠금 없이
+ * 한 시점의 일관된 상태를 본다. (새 턴 인덱스와 이전 동전 상태가 섞여 보이는 일이 없음)
+ * 플레이어 목록은 수정할 수 없는 목록이며, 목록 안의 PlayerDto도 읽기 전용으로만 사용한다.
+ */
+@Getter
+public final class SessionSnapshot {
+
+    private final long version;
+    private final String id;
+    private final String entryCode;
+    private final String presidentId;
+    private final LocalDateTime createdAt;
+    private final String gameState;
+    private final List<PlayerDto> players;
+    private final List<PlayerDto> orderedPlayers;
+    private final int currentPlayerIndex;
+    private final boolean isClockWise;
+    private final CoinState firstCoinState;
+    private final CoinState secondCoinState;
+    private final LocalDateTime gameEndTime;
+    private final long gameEndDeadlineNanos;
+    private final Boolean isLeeSoonSinByTimeExpired;
+
+    public SessionSnapshot(Session draft, long version) {
+        this.version = version;
+        this.id = draft.getId();
+        this.entryCode = draft.getEntryCode();
+        this.presidentId = draft.getPresidentId();
+        this.createdAt = draft.getCreatedAt();
+        this.gameState = draft.getGameState();
+        this.players = List.copyOf(draft.getPlayers());
+        this.orderedPlayers = List.copyOf(draft.getOrderedPlayers());
+        this.currentPlayerIndex = draft.getCurrentPlayerIndex();
+        this.isClockWise = draft.isClockWise();
+        this.firstCoinState = draft.getFirstCoinState();
+        this.secondCoinState = draft.getSecondCoinState();
+        this.gameEndTime = draft.getGameEndTime();
+        this.gameEndDeadlineNanos = draft.getGameEndDeadlineNanos();
+        this.isLeeSoonSinByTimeExpired = draft.getIsLeeSoonSinByTimeExpired();
+    }
+
+    /**
+     * 상태 변경용 작업 사본
+     */
+    public Session toDraft() {
+        Session draft = new Session();
+        draft.setId(id);
+        draft.setEntryCode(entryCode);
+        draft.setPresidentId(presidentId);
+        draft.setCreatedAt(createdAt);
+        draft.setGameState(gameState);
+        draft.setPlayers(players);
+        draft.setOrderedPlayers(orderedPlayers);
+        draft.setCurrentPlayerIndex(currentPlayerIndex);
+        draft.setClockWise(isClockWise);
+        draft.setFirstCoinState(firstCoinState);
+        draft.setSecondCoinState(secondCoinState);
+        draft.setGameEndTime(gameEndTime);
+        draft.setGameEndDeadlineNanos(gameEndDeadlineNanos);
+        draft.setIsLeeSoonSinByTimeExpired(isLeeSoonSinByTimeExpired);
+        return draft;
+    }
+
+    /**
+     * 현재 턴 플레이어 ID (게임 시작 전이거나 인덱스가 범위를 벗어나면 null)
+     */
+    public String getCurrentPlayerId() {
+        return currentPlayerIndex < orderedPlayers.size() ? orderedPlayers.get(currentPlayerIndex).getUserId() : null;
+    }
+}
@@ -0,0 +1,10 @@
+package com.eos.lss.exception;
+
+/**
+ * 세션 메모리 예산을 넘어 새 방 생성이나 입장을 받을 수 없음 (다른 노드로 다시 요청해야 함)
+ */
+public class CapacityExceededException extends GameException {
+    public CapacityExceededException(String message) {
+        super(message, 503);
+    }
+}
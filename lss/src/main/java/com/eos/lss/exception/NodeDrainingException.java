@@ -0,0 +1,10 @@
+package com.eos.lss.exception;
+
+/**
+ * 드레인 중인 노드에 새 방 생성 요청 (다른 노드로 다시 요청해야 함)
+ */
+public class NodeDrainingException extends GameException {
+    public NodeDrainingException(String message) {
+        super(message, 503);
+    }
+}
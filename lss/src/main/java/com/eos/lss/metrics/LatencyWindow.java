@@ -0,0 +1,65 @@
+package com.eos.lss.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 최근 지연 시간 표본 (백분위수 계산용)
+ *
+ * 마지막 capacity개 표본을 기록 시각과 함께 링 버퍼에 보관한다. 백분위수는 지정한 기간 안의 표본만으로 계산하므로
+ * 요청이 끊긴 뒤에도 예전 지연 값이 남아 상태 판단을 붙잡아 두지 않는다. 기록은 잠금 없이 하고,
+ * 계산은 호출할 때마다 복사 후 정렬한다. (상태 확인, 지표 조회처럼 가끔 호출되는 용도)
+ */
+public class LatencyWindow {
+
+    private final int capacity;
+    private final AtomicLongArray values;
+    private final AtomicLongArray recordedAt;
+    private final AtomicLong count = new AtomicLong();
+
+    public LatencyWindow(int capacity) {
+        this.capacity = Math.max(capacity, 1);
+        this.values = new AtomicLongArray(this.capacity);
+        this.recordedAt = new AtomicLongArray(this.capacity);
+    }
+
+    public void record(long nanos) {
+        record(nanos, System.nanoTime());
+    }
+
+    void record(long nanos, long now) {
+        int slot = (int) (count.getAndIncrement() % capacity);
+        values.set(slot, nanos);
+        recordedAt.set(slot, now);
+    }
+
+    /**
+     * 최근 windowNanos 동안 기록된 표본의 백분위수 (표본이 없으면 0)
+     * @param percentile 0~1 (0.99면 p99)
+     */
+    public long percentile(double percentile, long windowNanos) {
+        return percentile(percentile, windowNanos, System.nanoTime());
+    }
+
+    long percentile(double percentile, long windowNanos, long now) {
+        int filled = (int) Math.min(count.get(), capacity);
+        long[] recent = new long[filled];
+        int size = 0;
+        for (int i = 0; i < filled; i++) {
+            if (now - recordedAt.get(i) <= windowNanos) {
+                recent[size++] = values.get(i);
+            }
+        }
+        if (size == 0) {
+            return 0;
+        }
+        Arrays.sort(recent, 0, size);
+        int index = (int) Math.ceil(percentile * size) - 1;
+        return recent[Math.min(Math.max(index, 0), size - 1)];
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+}
@@ -0,0 +1,19 @@
+package com.eos.lss.metrics;
+
+import java.util.Map;
+
+/**
+ * /metrics 엔드포인트에 노출할 지표 제공자
+ */
+public interface MetricsSource {
+
+    /**
+     * 지표 그룹 이름 (응답 JSON의 키)
+     */
+    String getMetricsName();
+
+    /**
+     * 현재 지표 값
+     */
+    Map<String, Object> getMetrics();
+}
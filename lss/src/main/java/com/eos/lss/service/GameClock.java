@@ -0,0 +1,48 @@
+package com.eos.lss.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게임 로직이 읽는 시각과 타이머
+ *
+ * 마감 시각 계산은 벽시계 조정(NTP, 서머타임)에 영향을 받지 않도록 단조 시각(nanoTime)으로 하고,
+ * 화면에 보여주거나 기록에 남기는 시각만 벽시계를 쓴다. 벽시계는 매번 읽지 않고 캐시된 값을 쓴다.
+ * 운영에서는 SystemGameClock을, 리플레이/테스트에서는 직접 시간을 옮기는 가상 시계를 쓴다.
+ */
+public interface GameClock {
+
+    /**
+     * 단조 시각 (나노초, 두 값의 차이만 의미 있음)
+     */
+    long nanoTime();
+
+    /**
+     * 벽시계 (epoch 밀리초, 캐시 갱신 간격만큼 늦을 수 있음)
+     */
+    long currentTimeMillis();
+
+    /**
+     * 벽시계 (시스템 시간대 기준, currentTimeMillis와 같은 값)
+     */
+    LocalDateTime now();
+
+    /**
+     * delayNanos 뒤에 작업 실행 (단조 시각 기준)
+     */
+    Timer schedule(Runnable task, long delayNanos);
+
+    interface Timer {
+
+        /**
+         * @return 아직 실행 전이었으면 true
+         */
+        boolean cancel();
+
+        boolean isDone();
+
+        /**
+         * 실행까지 남은 시간 (이미 지났으면 0 이하)
+         */
+        long getRemainingNanos();
+    }
+}
@@ -1,40 +1,43 @@
 package com.eos.lss.service;
 
+import com.eos.lss.metrics.LatencyWindow;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import jakarta.annotation.PreDestroy;
-import java.time.Duration;
-import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class GameTimerService {
+public class GameTimerService implements SessionLifecycleListener {
 
 
     private final SessionService sessionService;
-    private final ScheduledExecutorService executor = Executors.newScheduledThreadPool(10);
+    // 타이머 스레드와 시각은 시계가 가짐 (테스트에서는 가상 시계로 바로 발화)
+    private final GameClock clock;
     
-    // 세션별 타이머 Future를 저장하여 취소 가능하게 함
-    private final Map<String, ScheduledFuture<?>> activeTimers = new ConcurrentHashMap<>();
+    // 세션별 타이머를 저장하여 취소 가능하게 함
+    private final Map<String, GameClock.Timer> activeTimers = new ConcurrentHashMap<>();
+    
+    // 예정 시각보다 늦게 실행된 시간 (게임 마감 타이머와 점검용 타이머)
+    private final LatencyWindow firingLag = new LatencyWindow(256);
+    // 아직 실행되지 않은 점검용 타이머의 예정 시각
+    private static final long NO_PENDING_PROBE = Long.MIN_VALUE;
+    private volatile long pendingProbeDueNanos = NO_PENDING_PROBE;
 
     /**
      * 게임 마감 시간을 정확히 스케줄링
      * @param sessionId 세션 ID
-     * @param endTime 마감 시간
+     * @param deadlineNanos 마감 시각 (GameClock.nanoTime 기준 단조 시각)
      */
-    public void scheduleGameEnd(String sessionId, LocalDateTime endTime) {
+    public void scheduleGameEnd(String sessionId, long deadlineNanos) {
         // 기존 타이머가 있다면 취소
         cancelGameTimer(sessionId);
         
-        long delay = Duration.between(LocalDateTime.now(), endTime).toMillis();
+        long delay = deadlineNanos - clock.nanoTime();
         
         if (delay <= 0) {
             // 이미 시간이 지난 경우 즉시 실행
@@ -45,20 +48,28 @@ public class GameTimerService {
         
 
         
-        ScheduledFuture<?> future = executor.schedule(() -> {
+        GameClock.Timer[] holder = new GameClock.Timer[1];
+        GameClock.Timer timer = clock.schedule(() -> {
+            firingLag.record(clock.nanoTime() - deadlineNanos);
             try {
 
                 sessionService.checkGameEndTime(sessionId);
-                // 타이머 실행 완료 후 Map에서 제거
-                activeTimers.remove(sessionId);
             } catch (Exception e) {
-
-                activeTimers.remove(sessionId);
+                log.warn("게임 마감 처리 실패 - 세션: {}, 오류: {}", sessionId, e.getMessage());
+            } finally {
+                // 타이머 실행 완료 후 Map에서 제거 (그 사이 새로 예약된 타이머는 유지)
+                if (holder[0] != null) {
+                    activeTimers.remove(sessionId, holder[0]);
+                }
             }
-        }, delay, TimeUnit.MILLISECONDS);
+        }, delay);
+        holder[0] = timer;
         
-        // 새로운 타이머를 Map에 저장
-        activeTimers.put(sessionId, future);
+        // 새로운 타이머를 Map에 저장 (저장 전에 이미 실행된 경우는 다시 뺌)
+        activeTimers.put(sessionId, timer);
+        if (timer.isDone()) {
+            activeTimers.remove(sessionId, timer);
+        }
     }
 
     /**
@@ -66,45 +77,59 @@ public class GameTimerService {
      * @param sessionId 세션 ID
      */
     public void cancelGameTimer(String sessionId) {
-        ScheduledFuture<?> future = activeTimers.get(sessionId);
-        if (future != null && !future.isDone()) {
-            future.cancel(false);
+        GameClock.Timer timer = activeTimers.remove(sessionId);
+        if (timer != null && !timer.isDone()) {
+            timer.cancel();
 
         }
-        activeTimers.remove(sessionId);
+    }
+
+    @Override
+    public void onSessionEnded(SessionResources resources, String reason) {
+        cancelGameTimer(resources.getGameSessionId());
     }
 
     /**
-     * 서버 종료 시 모든 타이머 정리
+     * 타이머 스레드 지연 점검 (게임 마감 타이머는 드물게 실행되므로 짧은 타이머를 주기적으로 걸어 측정)
+     * 이전 점검 타이머가 아직 실행되지 않았으면 새로 걸지 않는다. (밀린 시간은 getFiringLagNanos에 반영)
      */
-    @PreDestroy
-    public void shutdown() {
-
-        
-        // 모든 활성 타이머 취소
-        for (Map.Entry<String, ScheduledFuture<?>> entry : activeTimers.entrySet()) {
-        
-            ScheduledFuture<?> future = entry.getValue();
-            
-            if (!future.isDone()) {
-                future.cancel(false);
-
-            }
+    @Scheduled(fixedDelayString = "${lss.health.timer-probe-interval-ms:1000}")
+    public void probeFiringLag() {
+        if (pendingProbeDueNanos != NO_PENDING_PROBE) {
+            return;
         }
-        
-        activeTimers.clear();
-        
-        // ExecutorService 종료
-        executor.shutdown();
-        try {
-            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
-                executor.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            executor.shutdownNow();
-            Thread.currentThread().interrupt();
+        long due = clock.nanoTime();
+        pendingProbeDueNanos = due;
+        clock.schedule(() -> {
+            firingLag.record(clock.nanoTime() - due);
+            pendingProbeDueNanos = NO_PENDING_PROBE;
+        }, 0);
+    }
+
+    /**
+     * 최근 windowNanos 동안의 타이머 실행 지연 백분위수 (밀려 있는 점검 타이머가 더 늦으면 그 값)
+     */
+    public long getFiringLagNanos(double percentile, long windowNanos) {
+        long lag = firingLag.percentile(percentile, windowNanos);
+        long pendingDue = pendingProbeDueNanos;
+        if (pendingDue != NO_PENDING_PROBE) {
+            lag = Math.max(lag, clock.nanoTime() - pendingDue);
         }
-        
+        return lag;
+    }
+
+    public int getActiveTimerCount() {
+        return activeTimers.size();
+    }
 
+    /**
+     * 게임 마감 타이머까지 남은 시간 (예약된 타이머가 없으면 null)
+     */
+    public Long getRemainingMillis(String sessionId) {
+        GameClock.Timer timer = activeTimers.get(sessionId);
+        if (timer == null || timer.isDone()) {
+            return null;
+        }
+        return Math.max(TimeUnit.NANOSECONDS.toMillis(timer.getRemainingNanos()), 0);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,184 @@
+package com.eos.lss.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 빠른 매칭 대기열
+ *
+ * 대기 등록은 여러 스레드에서 잠금 없이 ConcurrentLinkedQueue에 넣기만 하고,
+ * 방 구성은 매칭 스레드 하나가 모아서 처리한다. (drain은 한 스레드에서만 호출해야 함)
+ * 취소된 항목은 큐에서 바로 빼지 않고, 방에 넣기 직전에 사용자별 현재 티켓과 비교해 걸러낸다.
+ */
+public class MatchQueue {
+
+    private final int roomSize;
+    private final int minRoomSize;
+    private final long maxWaitMillis;
+
+    // 등록된 순서대로 들어오는 티켓 (잠금 없음)
+    private final ConcurrentLinkedQueue<Ticket> incoming = new ConcurrentLinkedQueue<>();
+    // 사용자 ID -> 현재 대기 중인 티켓 (중복 등록 방지와 취소 확인)
+    private final ConcurrentHashMap<String, Ticket> waiting = new ConcurrentHashMap<>();
+    // 아직 방을 채우지 못한 티켓 (매칭 스레드 전용)
+    private final ArrayDeque<Ticket> pending = new ArrayDeque<>();
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong matchedPlayers = new AtomicLong();
+    private final AtomicLong formedRooms = new AtomicLong();
+
+    public MatchQueue(int roomSize, int minRoomSize, long maxWaitMillis) {
+        if (minRoomSize < 2 || roomSize < minRoomSize) {
+            throw new IllegalArgumentException("방 인원은 2명 이상이고 최소 인원보다 작을 수 없습니다.");
+        }
+        this.roomSize = roomSize;
+        this.minRoomSize = minRoomSize;
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    /**
+     * 대기 등록
+     * @return 이미 대기 중이면 false
+     */
+    public boolean enqueue(String userId, String name, long nowMillis) {
+        Ticket ticket = new Ticket(userId, name, nowMillis);
+        if (waiting.putIfAbsent(userId, ticket) != null) {
+            return false;
+        }
+        incoming.offer(ticket);
+        enqueued.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * 대기 취소 (큐에 남은 티켓은 방 구성 시 무시됨)
+     * @return 대기 중이었으면 true
+     */
+    public boolean cancel(String userId) {
+        return waiting.remove(userId) != null;
+    }
+
+    public boolean isWaiting(String userId) {
+        return waiting.containsKey(userId);
+    }
+
+    /**
+     * 모인 티켓으로 방 구성 (매칭 스레드에서만 호출)
+     * 방 인원이 차면 바로 만들고, 가장 오래 기다린 플레이어가 최대 대기 시간을 넘겼으면
+     * 최소 인원 이상일 때 남은 플레이어로 방을 만든다.
+     * @param maxRooms 한 번에 만들 최대 방 수
+     */
+    public List<List<Ticket>> drain(long nowMillis, int maxRooms) {
+        Ticket ticket;
+        while ((ticket = incoming.poll()) != null) {
+            pending.addLast(ticket);
+        }
+
+        List<List<Ticket>> rooms = new ArrayList<>();
+        while (rooms.size() < maxRooms && pending.size() >= roomSize) {
+            List<Ticket> room = claim(roomSize);
+            if (room.size() == roomSize) {
+                rooms.add(room);
+            } else {
+                requeue(room);
+            }
+        }
+
+        // 오래 기다린 플레이어는 인원이 덜 차도 최소 인원이면 방 구성
+        if (rooms.size() < maxRooms && pending.size() >= minRoomSize
+                && nowMillis - oldestEnqueuedAt() >= maxWaitMillis) {
+            List<Ticket> room = claim(roomSize);
+            if (room.size() >= minRoomSize) {
+                rooms.add(room);
+            } else {
+                requeue(room);
+            }
+        }
+
+        for (List<Ticket> room : rooms) {
+            matchedPlayers.addAndGet(room.size());
+        }
+        formedRooms.addAndGet(rooms.size());
+        return rooms;
+    }
+
+    /**
+     * 방을 만들지 못한 플레이어를 다시 맨 앞에 넣음 (그 사이 재등록했거나 취소한 사용자는 제외)
+     */
+    public void requeue(List<Ticket> tickets) {
+        for (int i = tickets.size() - 1; i >= 0; i--) {
+            Ticket ticket = tickets.get(i);
+            if (waiting.putIfAbsent(ticket.userId, ticket) == null) {
+                pending.addFirst(ticket);
+            }
+        }
+    }
+
+    // 앞에서부터 아직 유효한 티켓을 최대 count개 가져옴 (가져온 티켓은 대기 목록에서 빠짐)
+    private List<Ticket> claim(int count) {
+        List<Ticket> room = new ArrayList<>(count);
+        while (room.size() < count && !pending.isEmpty()) {
+            Ticket ticket = pending.pollFirst();
+            if (waiting.remove(ticket.userId, ticket)) {
+                room.add(ticket);
+            }
+        }
+        return room;
+    }
+
+    // 취소된 티켓은 앞에서 버리고 가장 오래 기다린 유효 티켓의 등록 시각 반환
+    private long oldestEnqueuedAt() {
+        while (!pending.isEmpty()) {
+            Ticket first = pending.peekFirst();
+            if (waiting.get(first.userId) == first) {
+                return first.enqueuedAt;
+            }
+            pending.pollFirst();
+        }
+        return Long.MAX_VALUE;
+    }
+
+    public int getWaitingCount() {
+        return waiting.size();
+    }
+
+    public long getEnqueuedCount() {
+        return enqueued.get();
+    }
+
+    public long getMatchedPlayerCount() {
+        return matchedPlayers.get();
+    }
+
+    public long getFormedRoomCount() {
+        return formedRooms.get();
+    }
+
+    public static final class Ticket {
+        private final String userId;
+        private final String name;
+        private final long enqueuedAt;
+
+        Ticket(String userId, String name, long enqueuedAt) {
+            this.userId = userId;
+            this.name = name;
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        public String getUserId() {
+            return userId;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getEnqueuedAt() {
+            return enqueuedAt;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.eos.lss.service;
+
+import com.eos.lss.dto.PlayerDto;
+import com.eos.lss.metrics.MetricsSource;
+import com.eos.lss.websocket.SimpleWebSocketHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 빠른 매칭
+ *
+ * 입장 코드 없이 대기열에 등록하면 일정 간격마다 모인 플레이어로 대기실을 만든다.
+ * 방 생성은 기존 SessionService 경로를 그대로 쓰고, 방마다 상태 브로드캐스트는 한 번만 보낸다.
+ */
+@Service
+@Slf4j
+public class MatchmakingService implements SessionLifecycleListener, MetricsSource {
+
+    private final SessionService sessionService;
+    private final SimpleWebSocketHandler webSocketHandler;
+    private final MatchQueue queue;
+    private final int maxRoomsPerTick;
+
+    // 지표
+    private final AtomicLong roomsCreated = new AtomicLong();
+    private final AtomicLong roomFailures = new AtomicLong();
+    private final AtomicLong lastTickNanos = new AtomicLong();
+
+    public MatchmakingService(@Lazy SessionService sessionService,
+                              @Lazy SimpleWebSocketHandler webSocketHandler,
+                              @Value("${lss.matchmaking.room-size:4}") int roomSize,
+                              @Value("${lss.matchmaking.min-room-size:2}") int minRoomSize,
+                              @Value("${lss.matchmaking.max-wait-ms:10000}") long maxWaitMillis,
+                              @Value("${lss.matchmaking.max-rooms-per-tick:1000}") int maxRoomsPerTick) {
+        this.sessionService = sessionService;
+        this.webSocketHandler = webSocketHandler;
+        this.queue = new MatchQueue(roomSize, minRoomSize, maxWaitMillis);
+        this.maxRoomsPerTick = maxRoomsPerTick;
+    }
+
+    /**
+     * 빠른 매칭 대기 등록
+     * @return 이미 대기 중이면 false
+     */
+    public boolean enqueue(String userId, String name) {
+        boolean added = queue.enqueue(userId, name, System.currentTimeMillis());
+        if (added) {
+            log.info("빠른 매칭 대기 등록 - userId: {}, 대기 인원: {}", userId, queue.getWaitingCount());
+        }
+        return added;
+    }
+
+    public boolean cancel(String userId) {
+        return queue.cancel(userId);
+    }
+
+    public int getWaitingCount() {
+        return queue.getWaitingCount();
+    }
+
+    @Scheduled(fixedDelayString = "${lss.matchmaking.interval-ms:200}")
+    public void matchPlayers() {
+        if (sessionService.isDraining()) {
+            return; // 드레인 중에는 방을 만들지 않음 (대기 중인 플레이어는 재접속 후 다른 노드에서 다시 등록)
+        }
+        long started = System.nanoTime();
+        List<List<MatchQueue.Ticket>> rooms = queue.drain(System.currentTimeMillis(), maxRoomsPerTick);
+        for (List<MatchQueue.Ticket> room : rooms) {
+            createRoom(room);
+        }
+        lastTickNanos.set(System.nanoTime() - started);
+    }
+
+    private void createRoom(List<MatchQueue.Ticket> room) {
+        // 대기 중에 연결이 끊긴 플레이어는 제외하고, 인원이 모자라면 남은 플레이어는 다시 대기
+        List<MatchQueue.Ticket> connected = new ArrayList<>(room.size());
+        for (MatchQueue.Ticket ticket : room) {
+            if (webSocketHandler.isUserConnected(ticket.getUserId())) {
+                connected.add(ticket);
+            }
+        }
+        if (connected.size() < 2) {
+            queue.requeue(connected);
+            return;
+        }
+
+        List<PlayerDto> players = new ArrayList<>(connected.size());
+        List<String> userIds = new ArrayList<>(connected.size());
+        for (MatchQueue.Ticket ticket : connected) {
+            players.add(new PlayerDto(ticket.getUserId(), ticket.getName(), null));
+            userIds.add(ticket.getUserId());
+        }
+
+        String sessionId = null;
+        try {
+            sessionId = sessionService.createMatchedSession(players);
+            webSocketHandler.bindMatchedPlayers(sessionId, userIds);
+            sessionService.broadcastGameState(sessionId);
+            roomsCreated.incrementAndGet();
+        } catch (Exception e) {
+            roomFailures.incrementAndGet();
+            log.error("빠른 매칭 방 생성 중 오류 발생 - 플레이어: {}, error: {}", userIds, e.getMessage(), e);
+            abandonRoom(sessionId, userIds);
+        }
+    }
+
+    // 만들다 만 방은 지우고, 대기열에서 이미 빠진 플레이어에게 실패를 알려 다시 등록하게 함
+    private void abandonRoom(String sessionId, List<String> userIds) {
+        if (sessionId != null) {
+            try {
+                sessionService.deleteSession(sessionId, userIds.get(0));
+            } catch (Exception e) {
+                log.warn("빠른 매칭 실패 방 정리 중 오류 발생 - sessionId: {}, error: {}", sessionId, e.getMessage());
+            }
+        }
+        webSocketHandler.notifyMatchFailed(userIds);
+    }
+
+    @Override
+    public void onConnectionClosed(String connectionId, String userId) {
+        // 같은 사용자가 다른 연결로 다시 들어온 경우에는 대기 유지
+        if (userId != null && !webSocketHandler.isUserConnected(userId)) {
+            queue.cancel(userId);
+        }
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "matchmaking";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("waitingPlayers", queue.getWaitingCount());
+        metrics.put("enqueued", queue.getEnqueuedCount());
+        metrics.put("matchedPlayers", queue.getMatchedPlayerCount());
+        metrics.put("roomsCreated", roomsCreated.get());
+        metrics.put("roomFailures", roomFailures.get());
+        metrics.put("lastTickMicros", lastTickNanos.get() / 1000);
+        return metrics;
+    }
+}
@@ -0,0 +1,225 @@
+package com.eos.lss.service;
+
+import com.eos.lss.metrics.MetricsSource;
+import com.eos.lss.websocket.FanoutExecutor;
+import com.eos.lss.websocket.SimpleWebSocketHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 노드 상태 판단 (/health: 살아 있는지, /ready: 새 방을 받아도 되는지)
+ *
+ * liveness는 타이머 스레드가 멈춘 경우(실행 지연이 liveness-timer-lag-ms 초과)만 실패로 본다.
+ * readiness는 타이머 지연, 전송 대기 작업 수, 전송 버퍼, 명령 처리 시간 p99, 힙 여유를 최근 window-ms 동안의 값으로,
+ * 세션 수와 세션 메모리는 용량의 session-high-water 비율로 확인하고, 하나라도 기준을 넘으면 이유와 함께 실패로 본다.
+ * 기준은 실제로 느려지는 지점보다 낮게 잡아 로드 밸런서가 새 방을 다른 노드로 보내는 동안 이 노드는 진행 중인 게임을 계속 처리한다. 기준이 0이면 그 항목은 확인하지 않는다.
+ */
+@Service
+@Slf4j
+public class NodeHealthService implements MetricsSource {
+
+    private final GameTimerService gameTimerService;
+    private final SessionService sessionService;
+    private final SimpleWebSocketHandler webSocketHandler;
+    private final FanoutExecutor fanoutExecutor;
+    private final WarmupService warmupService;
+    private final SessionMemoryBudget sessionMemoryBudget;
+
+    private final long windowNanos;
+    private final long livenessTimerLagNanos;
+    private final long maxTimerLagNanos;
+    private final long maxCommandLatencyNanos;
+    private final int maxFanoutPending;
+    private final long maxBufferedBytes;
+    private final double minHeapFreeRatio;
+    private final int maxSessions;
+    private final double sessionHighWater;
+
+    // 마지막 판단 결과 (상태가 바뀔 때만 로그)
+    private volatile boolean lastReady = true;
+
+    public NodeHealthService(GameTimerService gameTimerService,
+                             @Lazy SessionService sessionService,
+                             @Lazy SimpleWebSocketHandler webSocketHandler,
+                             FanoutExecutor fanoutExecutor,
+                             WarmupService warmupService,
+                             SessionMemoryBudget sessionMemoryBudget,
+                             @Value("${lss.health.window-ms:30000}") long windowMillis,
+                             @Value("${lss.health.liveness-timer-lag-ms:30000}") long livenessTimerLagMillis,
+                             @Value("${lss.health.timer-lag-ms:500}") long maxTimerLagMillis,
+                             @Value("${lss.health.command-latency-p99-ms:200}") long maxCommandLatencyMillis,
+                             @Value("${lss.health.max-fanout-pending:10000}") int maxFanoutPending,
+                             @Value("${lss.health.max-buffered-bytes:268435456}") long maxBufferedBytes,
+                             @Value("${lss.health.min-heap-free-ratio:0.15}") double minHeapFreeRatio,
+                             @Value("${lss.health.max-sessions:0}") int maxSessions,
+                             @Value("${lss.health.session-high-water:0.9}") double sessionHighWater) {
+        this.gameTimerService = gameTimerService;
+        this.sessionService = sessionService;
+        this.webSocketHandler = webSocketHandler;
+        this.fanoutExecutor = fanoutExecutor;
+        this.warmupService = warmupService;
+        this.sessionMemoryBudget = sessionMemoryBudget;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        this.livenessTimerLagNanos = TimeUnit.MILLISECONDS.toNanos(livenessTimerLagMillis);
+        this.maxTimerLagNanos = TimeUnit.MILLISECONDS.toNanos(maxTimerLagMillis);
+        this.maxCommandLatencyNanos = TimeUnit.MILLISECONDS.toNanos(maxCommandLatencyMillis);
+        this.maxFanoutPending = maxFanoutPending;
+        this.maxBufferedBytes = maxBufferedBytes;
+        this.minHeapFreeRatio = minHeapFreeRatio;
+        this.maxSessions = maxSessions;
+        this.sessionHighWater = sessionHighWater;
+    }
+
+    /**
+     * 프로세스를 재시작해야 하는지 (타이머 스레드가 멈추면 게임 마감이 처리되지 않음)
+     */
+    public Report checkLiveness() {
+        long timerLagNanos = gameTimerService.getFiringLagNanos(1.0, windowNanos);
+        List<String> reasons = new ArrayList<>();
+        if (livenessTimerLagNanos > 0 && timerLagNanos > livenessTimerLagNanos) {
+            reasons.add("TIMER_STALLED");
+        }
+        Map<String, Object> signals = new LinkedHashMap<>();
+        signals.put("timerLagMaxMillis", TimeUnit.NANOSECONDS.toMillis(timerLagNanos));
+        return new Report(reasons, signals);
+    }
+
+    /**
+     * 새 방을 받아도 되는지 (실패하면 이유 목록과 함께 반환)
+     */
+    public Report checkReadiness() {
+        long timerLagNanos = gameTimerService.getFiringLagNanos(0.99, windowNanos);
+        long commandLatencyNanos = webSocketHandler.getCommandLatencyNanos(0.99, windowNanos);
+        int fanoutPending = fanoutExecutor.getPendingTasks();
+        long bufferedBytes = webSocketHandler.getBufferedBytes();
+        double heapFreeRatio = heapFreeRatio();
+        int sessions = sessionService.getSessionCount();
+        long sessionBytes = sessionMemoryBudget.getUsedBytes();
+        long sessionBudgetBytes = sessionMemoryBudget.getBudgetBytes();
+
+        List<String> reasons = new ArrayList<>();
+        if (!warmupService.isReady()) {
+            reasons.add("WARMING_UP");
+        }
+        if (sessionService.isDraining()) {
+            reasons.add("DRAINING");
+        }
+        if (maxTimerLagNanos > 0 && timerLagNanos > maxTimerLagNanos) {
+            reasons.add("TIMER_LAG");
+        }
+        if (maxCommandLatencyNanos > 0 && commandLatencyNanos > maxCommandLatencyNanos) {
+            reasons.add("COMMAND_LATENCY");
+        }
+        if (maxFanoutPending > 0 && fanoutPending > maxFanoutPending) {
+            reasons.add("FANOUT_BACKLOG");
+        }
+        if (maxBufferedBytes > 0 && bufferedBytes > maxBufferedBytes) {
+            reasons.add("SEND_BUFFER");
+        }
+        if (heapFreeRatio < minHeapFreeRatio) {
+            reasons.add("HEAP_HEADROOM");
+        }
+        if (maxSessions > 0 && sessions >= maxSessions * sessionHighWater) {
+            reasons.add("SESSION_CAPACITY");
+        }
+        if (sessionBudgetBytes > 0 && sessionBytes >= sessionBudgetBytes * sessionHighWater) {
+            reasons.add("SESSION_MEMORY");
+        }
+
+        Map<String, Object> signals = new LinkedHashMap<>();
+        signals.put("timerLagP99Millis", TimeUnit.NANOSECONDS.toMillis(timerLagNanos));
+        signals.put("commandLatencyP99Millis", TimeUnit.NANOSECONDS.toMillis(commandLatencyNanos));
+        signals.put("fanoutPending", fanoutPending);
+        signals.put("bufferedBytes", bufferedBytes);
+        signals.put("heapFreeRatio", Math.round(heapFreeRatio * 1000) / 1000.0);
+        signals.put("sessions", sessions);
+        signals.put("maxSessions", maxSessions);
+        signals.put("sessionBytes", sessionBytes);
+        signals.put("sessionBudgetBytes", sessionBudgetBytes);
+
+        Report report = new Report(reasons, signals);
+        if (report.isHealthy() != lastReady) {
+            lastReady = report.isHealthy();
+            if (lastReady) {
+                log.info("노드 준비 상태 복구 - {}", signals);
+            } else {
+                log.warn("노드 준비 상태 실패 (새 방 받지 않음) - 이유: {}, {}", reasons, signals);
+            }
+        }
+        return report;
+    }
+
+    // 최대 힙 대비 여유 비율 (마지막 GC 후 사용량 기준이라 아직 수거되지 않은 객체로 흔들리지 않음)
+    double heapFreeRatio() {
+        long maxBytes = Runtime.getRuntime().maxMemory();
+        if (maxBytes <= 0 || maxBytes == Long.MAX_VALUE) {
+            return 1.0;
+        }
+        long usedAfterGc = 0;
+        boolean collected = false;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            MemoryUsage usage = pool.getType() == MemoryType.HEAP ? pool.getCollectionUsage() : null;
+            if (usage != null && usage.getUsed() > 0) {
+                usedAfterGc += usage.getUsed();
+                collected = true;
+            }
+        }
+        if (!collected) {
+            // 아직 GC가 한 번도 돌지 않았으면 힙이 여유 있는 상태
+            return 1.0;
+        }
+        return Math.max(0.0, 1.0 - (double) usedAfterGc / maxBytes);
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "health";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Report readiness = checkReadiness();
+        Map<String, Object> metrics = new LinkedHashMap<>(readiness.getSignals());
+        metrics.put("ready", readiness.isHealthy());
+        metrics.put("reasons", readiness.getReasons());
+        return metrics;
+    }
+
+    /**
+     * 상태 판단 결과 (reasons가 비어 있으면 정상)
+     */
+    public static final class Report {
+
+        private final List<String> reasons;
+        private final Map<String, Object> signals;
+
+        public Report(List<String> reasons, Map<String, Object> signals) {
+            this.reasons = reasons;
+            this.signals = signals;
+        }
+
+        public boolean isHealthy() {
+            return reasons.isEmpty();
+        }
+
+        public List<String> getReasons() {
+            return reasons;
+        }
+
+        public Map<String, Object> getSignals() {
+            return signals;
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.eos.lss.service;
+
+import com.eos.lss.metrics.MetricsSource;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 재접속 토큰과 연결 끊김 유예 처리
+ *
+ * 플레이어가 방을 만들거나 들어오면 재접속 토큰을 발급한다. 연결이 끊기면 바로 방에서 빼지 않고
+ * 유예 시간 동안 자리 비움으로만 두며, 그 사이 토큰으로 재접속하면 본인에게 현재 상태만 보낸다.
+ * 유예 시간이 지나면 기존과 같이 연결 끊김 처리(턴 스킵, 플레이어 제거)를 한다.
+ */
+@Service
+@Slf4j
+public class ReconnectGraceService implements SessionLifecycleListener, MetricsSource {
+
+    private static final int TOKEN_BYTES = 24;
+
+    private final SessionService sessionService;
+    private final long graceMillis;
+    private final SecureRandom random = new SecureRandom();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "reconnect-grace");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 게임 세션 ID + 사용자 ID -> 재접속 토큰
+    private final ConcurrentHashMap<String, String> tokens = new ConcurrentHashMap<>();
+    // 게임 세션 ID -> 토큰이 발급된 사용자 ID 목록 (세션 종료 시 정리용)
+    private final ConcurrentHashMap<String, Set<String>> usersBySession = new ConcurrentHashMap<>();
+    // 자리 비움 상태인 플레이어 -> 유예 만료 시 실행할 연결 끊김 처리
+    private final ConcurrentHashMap<String, ScheduledFuture<?>> awayPlayers = new ConcurrentHashMap<>();
+
+    // 지표
+    private final AtomicLong markedAway = new AtomicLong();
+    private final AtomicLong resumed = new AtomicLong();
+    private final AtomicLong graceExpired = new AtomicLong();
+    private final AtomicLong rejectedTokens = new AtomicLong();
+
+    public ReconnectGraceService(@Lazy SessionService sessionService,
+                                 @Value("${lss.resume.grace-seconds:30}") long graceSeconds) {
+        this.sessionService = sessionService;
+        this.graceMillis = graceSeconds * 1000;
+    }
+
+    /**
+     * 재접속 토큰 발급 (같은 플레이어에게는 같은 토큰)
+     */
+    public String issueToken(String gameSessionId, String userId) {
+        String key = key(gameSessionId, userId);
+        String token = tokens.computeIfAbsent(key, k -> newToken());
+        usersBySession.computeIfAbsent(gameSessionId, k -> ConcurrentHashMap.newKeySet()).add(userId);
+        return token;
+    }
+
+    /**
+     * 게임 세션에 발급된 재접속 토큰 (사용자 ID -> 토큰, 세션 이전용)
+     */
+    public Map<String, String> tokensOf(String gameSessionId) {
+        Map<String, String> result = new LinkedHashMap<>();
+        Set<String> users = usersBySession.get(gameSessionId);
+        if (users != null) {
+            for (String userId : users) {
+                String token = tokens.get(key(gameSessionId, userId));
+                if (token != null) {
+                    result.put(userId, token);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 다른 노드에서 이전된 재접속 토큰 등록
+     * 플레이어는 아직 이 노드에 연결되지 않았으므로 유예 시간 동안 자리 비움으로 두고, 그 안에 같은 토큰으로 재접속해야 한다.
+     */
+    public void restoreToken(String gameSessionId, String userId, String token) {
+        tokens.put(key(gameSessionId, userId), token);
+        usersBySession.computeIfAbsent(gameSessionId, k -> ConcurrentHashMap.newKeySet()).add(userId);
+        if (graceMillis > 0) {
+            playerDisconnected(gameSessionId, userId);
+        }
+    }
+
+    /**
+     * 플레이어 연결 끊김. 토큰이 발급된 플레이어는 유예 시간 동안 자리 비움으로만 표시한다.
+     */
+    public void playerDisconnected(String gameSessionId, String userId) {
+        String key = key(gameSessionId, userId);
+        if (graceMillis <= 0 || !tokens.containsKey(key)) {
+            sessionService.handlePlayerDisconnection(gameSessionId, userId);
+            return;
+        }
+
+        ScheduledFuture<?> expiry = scheduler.schedule(() -> expireGrace(gameSessionId, userId), graceMillis, TimeUnit.MILLISECONDS);
+        ScheduledFuture<?> previous = awayPlayers.put(key, expiry);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+        markedAway.incrementAndGet();
+        log.info("플레이어 자리 비움 - sessionId: {}, userId: {}, 유예 시간: {}ms", gameSessionId, userId, graceMillis);
+    }
+
+    /**
+     * 토큰으로 재접속 (자리 비움 상태면 해제)
+     * @return 토큰이 유효하면 true
+     */
+    public boolean resume(String gameSessionId, String userId, String token) {
+        String key = key(gameSessionId, userId);
+        String expected = tokens.get(key);
+        if (expected == null || token == null
+                || !MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8))) {
+            rejectedTokens.incrementAndGet();
+            return false;
+        }
+
+        ScheduledFuture<?> expiry = awayPlayers.remove(key);
+        if (expiry != null) {
+            expiry.cancel(false);
+        }
+        resumed.incrementAndGet();
+        log.info("플레이어 재접속 - sessionId: {}, userId: {}, 자리 비움 해제: {}", gameSessionId, userId, expiry != null);
+        return true;
+    }
+
+    /**
+     * 자리 비움 상태인지 (유예 시간이 남아 있는 플레이어)
+     */
+    public boolean isAway(String gameSessionId, String userId) {
+        return awayPlayers.containsKey(key(gameSessionId, userId));
+    }
+
+    // 유예 시간 안에 돌아오지 않은 플레이어는 기존 연결 끊김 처리
+    private void expireGrace(String gameSessionId, String userId) {
+        String key = key(gameSessionId, userId);
+        ScheduledFuture<?> current = awayPlayers.get(key);
+        if (current == null || !awayPlayers.remove(key, current)) {
+            return; // 이미 재접속함
+        }
+        revoke(gameSessionId, userId);
+        graceExpired.incrementAndGet();
+        try {
+            sessionService.handlePlayerDisconnection(gameSessionId, userId);
+        } catch (Exception e) {
+            log.error("유예 만료 연결 끊김 처리 중 오류 발생 - sessionId: {}, userId: {}, error: {}", gameSessionId, userId, e.getMessage(), e);
+        }
+    }
+
+    private void revoke(String gameSessionId, String userId) {
+        tokens.remove(key(gameSessionId, userId));
+        usersBySession.computeIfPresent(gameSessionId, (id, users) -> {
+            users.remove(userId);
+            return users.isEmpty() ? null : users;
+        });
+    }
+
+    // 방에서 빠진 플레이어의 토큰은 더 이상 재접속에 쓸 수 없음
+    @Override
+    public void onPlayerRemoved(String gameSessionId, String userId) {
+        ScheduledFuture<?> expiry = awayPlayers.remove(key(gameSessionId, userId));
+        if (expiry != null) {
+            expiry.cancel(false);
+        }
+        revoke(gameSessionId, userId);
+    }
+
+    @Override
+    public void onSessionEnded(SessionResources resources, String reason) {
+        String gameSessionId = resources.getGameSessionId();
+        Set<String> users = usersBySession.remove(gameSessionId);
+        if (users == null) {
+            return;
+        }
+        for (String userId : users) {
+            String key = key(gameSessionId, userId);
+            tokens.remove(key);
+            ScheduledFuture<?> expiry = awayPlayers.remove(key);
+            if (expiry != null) {
+                expiry.cancel(false);
+            }
+        }
+    }
+
+    private String newToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static String key(String gameSessionId, String userId) {
+        return gameSessionId + ":" + userId;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "reconnect";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("activeTokens", tokens.size());
+        metrics.put("awayPlayers", awayPlayers.size());
+        metrics.put("markedAway", markedAway.get());
+        metrics.put("resumed", resumed.get());
+        metrics.put("graceExpired", graceExpired.get());
+        metrics.put("rejectedTokens", rejectedTokens.get());
+        return metrics;
+    }
+}
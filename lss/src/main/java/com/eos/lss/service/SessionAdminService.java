@@ -0,0 +1,213 @@
+package com.eos.lss.service;
+
+import com.eos.lss.dto.PlayerDto;
+import com.eos.lss.entity.SessionSnapshot;
+import com.eos.lss.exception.SessionNotFoundException;
+import com.eos.lss.websocket.ConnectionContext;
+import com.eos.lss.websocket.SimpleWebSocketHandler;
+import com.eos.lss.websocket.SpectatorHub;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * 운영자용 세션 조회/강제 종료
+ *
+ * 목록 조회는 SessionIndex의 생성 시각 정렬 집합을 커서로 이어서 읽으므로 세션 저장소 전체를
+ * 잠그거나 복사하지 않는다. 한 페이지에서 확인하는 항목 수도 max-scan으로 제한된다.
+ */
+@Service
+@Slf4j
+public class SessionAdminService {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private final SessionService sessionService;
+    private final SessionIndex sessionIndex;
+    private final SimpleWebSocketHandler webSocketHandler;
+    private final GameTimerService gameTimerService;
+    private final SessionExpiryService sessionExpiryService;
+    private final ReconnectGraceService reconnectGraceService;
+    private final SpectatorHub spectatorHub;
+    private final int maxScan;
+
+    public SessionAdminService(SessionService sessionService,
+                               SessionIndex sessionIndex,
+                               SimpleWebSocketHandler webSocketHandler,
+                               GameTimerService gameTimerService,
+                               SessionExpiryService sessionExpiryService,
+                               ReconnectGraceService reconnectGraceService,
+                               SpectatorHub spectatorHub,
+                               @Value("${lss.admin.max-scan:10000}") int maxScan) {
+        this.sessionService = sessionService;
+        this.sessionIndex = sessionIndex;
+        this.webSocketHandler = webSocketHandler;
+        this.gameTimerService = gameTimerService;
+        this.sessionExpiryService = sessionExpiryService;
+        this.reconnectGraceService = reconnectGraceService;
+        this.spectatorHub = spectatorHub;
+        this.maxScan = Math.max(maxScan, 1);
+    }
+
+    /**
+     * 세션 목록 (생성 시각 순 커서 페이지)
+     * @param gameState 화면 기준 게임 상태 (null이면 전체)
+     * @param minAgeSeconds 생성 후 최소 경과 시간 (null이면 제한 없음)
+     * @param maxAgeSeconds 생성 후 최대 경과 시간 (null이면 제한 없음)
+     * @param playerCount 플레이어 수 (null이면 전체)
+     * @param newestFirst 최근 생성된 세션부터
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     */
+    public Map<String, Object> listSessions(String gameState, Long minAgeSeconds, Long maxAgeSeconds, Integer playerCount,
+                                            boolean newestFirst, Integer limit, String cursor) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        long now = System.currentTimeMillis();
+        // 경과 시간 조건은 생성 시각 범위로 바꿔 정렬 집합에서 바로 잘라냄
+        long createdFrom = maxAgeSeconds != null ? now - maxAgeSeconds * 1000 : Long.MIN_VALUE;
+        long createdTo = minAgeSeconds != null ? now - minAgeSeconds * 1000 : Long.MAX_VALUE;
+
+        Predicate<SessionIndex.Entry> filter = entry -> true;
+        if (gameState != null) {
+            filter = filter.and(entry -> gameState.equals(entry.getGameState()));
+        }
+        if (playerCount != null) {
+            filter = filter.and(entry -> entry.getPlayerCount() == playerCount);
+        }
+
+        SessionIndex.Page page = sessionIndex.pageByCreatedAt(decodeCursor(cursor), createdFrom, createdTo, newestFirst,
+                pageSize, maxScan, filter);
+
+        List<Map<String, Object>> items = new ArrayList<>(page.getEntries().size());
+        for (SessionIndex.Entry entry : page.getEntries()) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("sessionId", entry.getSessionId());
+            item.put("gameState", entry.getGameState());
+            item.put("playerCount", entry.getPlayerCount());
+            item.put("createdAtMillis", entry.getCreatedAtMillis());
+            item.put("ageSeconds", (now - entry.getCreatedAtMillis()) / 1000);
+            item.put("gameEndTimeMillis", entry.getGameEndTimeMillis());
+            items.add(item);
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("sessions", items);
+        response.put("nextCursor", page.getNext() != null ? encodeCursor(page.getNext()) : null);
+        response.put("totalSessions", sessionIndex.size());
+        response.put("byState", sessionIndex.getStateCounts());
+        return response;
+    }
+
+    /**
+     * 세션 하나의 플레이어, 타이머, 연결 상태
+     */
+    public Map<String, Object> inspectSession(String sessionId) {
+        SessionSnapshot session = sessionService.findSession(sessionId);
+        if (session == null) {
+            throw new SessionNotFoundException("세션을 찾을 수 없습니다.");
+        }
+        long now = System.currentTimeMillis();
+
+        List<ConnectionContext> recipients = webSocketHandler.getRecipients(sessionId);
+        Set<String> connectedUsers = new HashSet<>();
+        List<Map<String, Object>> connections = new ArrayList<>(recipients.size());
+        for (ConnectionContext context : recipients) {
+            String userId = context.getUserId();
+            if (userId != null) {
+                connectedUsers.add(userId);
+            }
+            Map<String, Object> connection = new LinkedHashMap<>();
+            connection.put("connectionId", context.getId());
+            connection.put("userId", userId);
+            connection.put("open", context.isOpen());
+            connection.put("connectedSeconds", (now - context.getConnectedAt()) / 1000);
+            connection.put("silenceMillis", now - context.getLastSeenAt());
+            connection.put("awaitingPong", context.isAwaitingPong());
+            connection.put("bufferedBytes", context.getBufferedBytes());
+            connection.put("receivedMessages", context.getReceivedMessages());
+            connection.put("sentMessages", context.getSentMessages());
+            connection.put("sendFailures", context.getSendFailures());
+            connections.add(connection);
+        }
+
+        List<PlayerDto> orderedPlayers = session.getOrderedPlayers();
+        Set<String> orderedIds = new HashSet<>();
+        orderedPlayers.forEach(player -> orderedIds.add(player.getUserId()));
+        String currentPlayerId = session.getCurrentPlayerIndex() < orderedPlayers.size()
+                ? orderedPlayers.get(session.getCurrentPlayerIndex()).getUserId() : null;
+
+        List<Map<String, Object>> roster = new ArrayList<>();
+        for (PlayerDto player : session.getPlayers()) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("userId", player.getUserId());
+            entry.put("name", player.getName());
+            entry.put("president", player.getUserId().equals(session.getPresidentId()));
+            entry.put("ordered", orderedIds.contains(player.getUserId()));
+            entry.put("currentTurn", player.getUserId().equals(currentPlayerId));
+            entry.put("connected", connectedUsers.contains(player.getUserId()));
+            entry.put("away", reconnectGraceService.isAway(sessionId, player.getUserId()));
+            roster.add(entry);
+        }
+
+        Map<String, Object> timers = new LinkedHashMap<>();
+        timers.put("gameEndTime", session.getGameEndTime());
+        timers.put("gameEndTimerRemainingMillis", gameTimerService.getRemainingMillis(sessionId));
+        Long deadline = sessionExpiryService.getDeadline(sessionId);
+        timers.put("expiresInMillis", deadline != null ? deadline - now : null);
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("sessionId", session.getId());
+        response.put("version", session.getVersion());
+        response.put("entryCode", session.getEntryCode());
+        response.put("presidentId", session.getPresidentId());
+        response.put("createdAt", session.getCreatedAt());
+        response.put("gameState", sessionService.determineGameState(session));
+        response.put("currentPlayerIndex", session.getCurrentPlayerIndex());
+        response.put("isClockWise", session.isClockWise());
+        response.put("players", roster);
+        response.put("timers", timers);
+        response.put("connections", connections);
+        response.put("spectators", spectatorHub.getSpectatorCount(sessionId));
+        return response;
+    }
+
+    /**
+     * 세션 강제 종료 (플레이어에게 종료 알림 후 자원 해제)
+     */
+    public Map<String, Object> forceClose(String sessionId) {
+        SessionSnapshot session = sessionService.forceCloseSession(sessionId);
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("sessionId", session.getId());
+        response.put("closed", true);
+        return response;
+    }
+
+    // 커서는 (생성 시각, 세션 ID)를 URL에 그대로 쓸 수 있게 인코딩한 값
+    static String encodeCursor(SessionIndex.Key key) {
+        String raw = key.getMillis() + ":" + key.getSessionId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static SessionIndex.Key decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new SessionIndex.Key(Long.parseLong(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.eos.lss.service;
+
+import com.eos.lss.dto.PlayerDto;
+import com.eos.lss.entity.CoinState;
+import com.eos.lss.entity.Session;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 노드 간 세션 이전용 바이너리 형식 (드레인한 노드에서 만들고 다른 노드에서 읽음)
+ *
+ * 머리말(형식 표시, 형식 버전, 세션 수) 뒤에 세션마다 플레이어 목록, 턴 상태, 상태 버전, 재접속 토큰을 차례로 쓴다.
+ * 게임 마감은 노드마다 기준이 다른 단조 시각 대신 남은 시간(나노초)으로 기록한다.
+ */
+public final class SessionArchive {
+
+    private static final int MAGIC = 0x4C535353; // "LSSS"
+    private static final int FORMAT_VERSION = 1;
+
+    private SessionArchive() {
+    }
+
+    public static byte[] encode(List<Entry> entries) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.max(entries.size(), 1) * 256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeShort(FORMAT_VERSION);
+            out.writeInt(entries.size());
+            for (Entry entry : entries) {
+                writeEntry(out, entry);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 다르거나 잘린 데이터
+     */
+    public static List<Entry> decode(byte[] data) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            if (in.readInt() != MAGIC) {
+                throw new IllegalArgumentException("세션 이전 데이터 형식이 아닙니다.");
+            }
+            int formatVersion = in.readUnsignedShort();
+            if (formatVersion != FORMAT_VERSION) {
+                throw new IllegalArgumentException("지원하지 않는 세션 이전 형식 버전입니다: " + formatVersion);
+            }
+            int count = in.readInt();
+            List<Entry> entries = new ArrayList<>(Math.min(Math.max(count, 0), 100_000));
+            for (int i = 0; i < count; i++) {
+                entries.add(readEntry(in));
+            }
+            return entries;
+        } catch (IOException | DateTimeException e) {
+            throw new IllegalArgumentException("세션 이전 데이터가 손상되었습니다.", e);
+        }
+    }
+
+    private static void writeEntry(DataOutputStream out, Entry entry) throws IOException {
+        Session session = entry.session;
+        out.writeLong(entry.version);
+        writeString(out, session.getId());
+        writeString(out, session.getEntryCode());
+        writeString(out, session.getPresidentId());
+        writeString(out, session.getCreatedAt() != null ? session.getCreatedAt().toString() : null);
+        writeString(out, session.getGameState());
+        writePlayers(out, session.getPlayers());
+        writePlayers(out, session.getOrderedPlayers());
+        out.writeInt(session.getCurrentPlayerIndex());
+        out.writeBoolean(session.isClockWise());
+        writeString(out, session.getFirstCoinState() != null ? session.getFirstCoinState().name() : null);
+        writeString(out, session.getSecondCoinState() != null ? session.getSecondCoinState().name() : null);
+        writeString(out, session.getGameEndTime() != null ? session.getGameEndTime().toString() : null);
+        out.writeLong(entry.remainingNanos);
+        Boolean byTimeExpired = session.getIsLeeSoonSinByTimeExpired();
+        out.writeByte(byTimeExpired == null ? 0 : byTimeExpired ? 2 : 1);
+        out.writeInt(entry.resumeTokens.size());
+        for (Map.Entry<String, String> token : entry.resumeTokens.entrySet()) {
+            writeString(out, token.getKey());
+            writeString(out, token.getValue());
+        }
+    }
+
+    private static Entry readEntry(DataInputStream in) throws IOException {
+        long version = in.readLong();
+        Session session = new Session();
+        session.setId(readString(in));
+        session.setEntryCode(readString(in));
+        session.setPresidentId(readString(in));
+        String createdAt = readString(in);
+        session.setCreatedAt(createdAt != null ? LocalDateTime.parse(createdAt) : null);
+        session.setGameState(readString(in));
+        session.setPlayers(readPlayers(in));
+        session.setOrderedPlayers(readPlayers(in));
+        session.setCurrentPlayerIndex(in.readInt());
+        session.setClockWise(in.readBoolean());
+        String firstCoin = readString(in);
+        session.setFirstCoinState(firstCoin != null ? CoinState.valueOf(firstCoin) : null);
+        String secondCoin = readString(in);
+        session.setSecondCoinState(secondCoin != null ? CoinState.valueOf(secondCoin) : null);
+        String gameEndTime = readString(in);
+        session.setGameEndTime(gameEndTime != null ? LocalDateTime.parse(gameEndTime) : null);
+        long remainingNanos = in.readLong();
+        byte byTimeExpired = in.readByte();
+        session.setIsLeeSoonSinByTimeExpired(byTimeExpired == 0 ? null : byTimeExpired == 2);
+        int tokenCount = in.readInt();
+        Map<String, String> resumeTokens = new LinkedHashMap<>();
+        for (int i = 0; i < tokenCount; i++) {
+            resumeTokens.put(readString(in), readString(in));
+        }
+        return new Entry(session, version, remainingNanos, resumeTokens);
+    }
+
+    private static void writePlayers(DataOutputStream out, List<PlayerDto> players) throws IOException {
+        out.writeInt(players.size());
+        for (PlayerDto player : players) {
+            writeString(out, player.getUserId());
+            writeString(out, player.getName());
+            writeString(out, player.getProfileImageUrl());
+        }
+    }
+
+    private static List<PlayerDto> readPlayers(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        List<PlayerDto> players = new ArrayList<>(Math.min(Math.max(count, 0), 1024));
+        for (int i = 0; i < count; i++) {
+            players.add(new PlayerDto(readString(in), readString(in), readString(in)));
+        }
+        return players;
+    }
+
+    // null을 구분하기 위해 존재 여부를 먼저 기록
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    /**
+     * 이전할 세션 하나
+     */
+    public static final class Entry {
+
+        private final Session session;
+        private final long version;
+        private final long remainingNanos;
+        private final Map<String, String> resumeTokens;
+
+        /**
+         * @param remainingNanos 게임 마감까지 남은 시간 (마감 시간이 없으면 무시됨)
+         * @param resumeTokens 사용자 ID -> 재접속 토큰
+         */
+        public Entry(Session session, long version, long remainingNanos, Map<String, String> resumeTokens) {
+            this.session = session;
+            this.version = version;
+            this.remainingNanos = remainingNanos;
+            this.resumeTokens = resumeTokens;
+        }
+
+        public Session getSession() {
+            return session;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public long getRemainingNanos() {
+            return remainingNanos;
+        }
+
+        public Map<String, String> getResumeTokens() {
+            return resumeTokens;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.eos.lss.service;
+
+import com.eos.lss.dto.GameStateDto;
+import com.eos.lss.entity.SessionSnapshot;
+import com.eos.lss.metrics.MetricsSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 방치된 게임 세션 정리
+ *
+ * 세션마다 마지막 활동 시각과 게임 상태별 TTL로 만료 시각을 계산하고,
+ * 만료 시각을 일정 간격의 버킷에 넣어 둔다. 정리 작업은 전체 세션을 훑지 않고
+ * 이미 지난 버킷만 꺼내서 확인한다. (활동이 있었던 세션은 더 뒤의 버킷으로 다시 넣음)
+ */
+@Service
+@Slf4j
+public class SessionExpiryService implements MetricsSource, SessionLifecycleListener {
+
+    private final SessionService sessionService;
+    private final GameClock clock;
+
+    // 게임 상태별 TTL (밀리초)
+    private final Map<String, Long> ttlByState;
+    private final long bucketMillis;
+
+    // 세션 ID -> 만료 시각
+    private final ConcurrentHashMap<String, Long> deadlines = new ConcurrentHashMap<>();
+    // 버킷 번호(만료 시각 / bucketMillis) -> 세션 ID 목록
+    private final ConcurrentSkipListMap<Long, Set<String>> buckets = new ConcurrentSkipListMap<>();
+
+    // 지표
+    private final AtomicLong evictedSessions = new AtomicLong();
+    private final AtomicLong reclaimedBytes = new AtomicLong();
+    private final ConcurrentHashMap<String, LongAdder> evictedByState = new ConcurrentHashMap<>();
+
+    public SessionExpiryService(SessionService sessionService,
+                                GameClock clock,
+                                @Value("${lss.expiry.waiting-room-ttl-seconds:1800}") long waitingRoomTtlSeconds,
+                                @Value("${lss.expiry.ordering-ttl-seconds:900}") long orderingTtlSeconds,
+                                @Value("${lss.expiry.playing-ttl-seconds:1800}") long playingTtlSeconds,
+                                @Value("${lss.expiry.lee-soon-sin-ttl-seconds:900}") long leeSoonSinTtlSeconds,
+                                @Value("${lss.expiry.bucket-seconds:10}") long bucketSeconds) {
+        this.sessionService = sessionService;
+        this.clock = clock;
+        this.ttlByState = Map.of(
+            GameStateDto.STATE_WAITING_ROOM, waitingRoomTtlSeconds * 1000,
+            GameStateDto.STATE_ORDER_REGISTER, orderingTtlSeconds * 1000,
+            GameStateDto.STATE_GAME_PLAYING, playingTtlSeconds * 1000,
+            GameStateDto.STATE_LEE_SOON_SIN, leeSoonSinTtlSeconds * 1000
+        );
+        this.bucketMillis = bucketSeconds * 1000;
+    }
+
+    /**
+     * 세션 활동 기록 (생성, 입장, 상태 변경 시 호출)
+     * @param sessionId 세션 ID
+     * @param gameState 화면 기준 게임 상태 (WAITING_ROOM, ORDER_REGISTER, GAME_PLAYING, LEE_SOON_SIN)
+     */
+    public void touch(String sessionId, String gameState) {
+        long ttl = ttlByState.getOrDefault(gameState, ttlByState.get(GameStateDto.STATE_WAITING_ROOM));
+        long deadline = clock.currentTimeMillis() + ttl;
+        Long previous = deadlines.put(sessionId, deadline);
+
+        // 같은 버킷이면 다시 넣을 필요 없음
+        long bucket = deadline / bucketMillis;
+        if (previous == null || previous / bucketMillis != bucket) {
+            buckets.computeIfAbsent(bucket, k -> ConcurrentHashMap.newKeySet()).add(sessionId);
+        }
+    }
+
+    /**
+     * 세션 추적 중단 (세션이 정상 종료된 경우). 버킷에 남은 항목은 정리 시 무시된다.
+     */
+    public void untrack(String sessionId) {
+        deadlines.remove(sessionId);
+    }
+
+    /**
+     * 세션의 현재 만료 시각 (추적 중이 아니면 null)
+     */
+    public Long getDeadline(String sessionId) {
+        return deadlines.get(sessionId);
+    }
+
+    @Override
+    public void onSessionEnded(SessionResources resources, String reason) {
+        untrack(resources.getGameSessionId());
+    }
+
+    @Scheduled(fixedDelayString = "${lss.expiry.sweep-interval-ms:10000}")
+    public void sweep() {
+        long now = clock.currentTimeMillis();
+        long currentBucket = now / bucketMillis;
+        int evicted = 0;
+
+        Iterator<Map.Entry<Long, Set<String>>> iterator = buckets.headMap(currentBucket, true).entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, Set<String>> entry = iterator.next();
+            iterator.remove();
+
+            for (String sessionId : entry.getValue()) {
+                Long deadline = deadlines.get(sessionId);
+                if (deadline == null) {
+                    continue; // 이미 종료된 세션
+                }
+                if (deadline > now) {
+                    // 그 사이 활동이 있었던 세션은 새 버킷으로 (이미 들어가 있으면 중복 무시)
+                    buckets.computeIfAbsent(deadline / bucketMillis, k -> ConcurrentHashMap.newKeySet()).add(sessionId);
+                    continue;
+                }
+                if (deadlines.remove(sessionId, deadline)) {
+                    evict(sessionId);
+                    evicted++;
+                } else {
+                    // 확인 직후 활동이 기록된 경우
+                    Long renewed = deadlines.get(sessionId);
+                    if (renewed != null) {
+                        buckets.computeIfAbsent(renewed / bucketMillis, k -> ConcurrentHashMap.newKeySet()).add(sessionId);
+                    }
+                }
+            }
+        }
+
+        if (evicted > 0) {
+            log.info("방치된 세션 정리 완료 - 정리된 세션 수: {}, 남은 추적 세션 수: {}", evicted, deadlines.size());
+        }
+    }
+
+    private void evict(String sessionId) {
+        try {
+            SessionSnapshot session = sessionService.expireSession(sessionId);
+            if (session == null) {
+                return;
+            }
+            evictedSessions.incrementAndGet();
+            reclaimedBytes.addAndGet(SessionFootprint.of(session).getTotalBytes());
+            evictedByState.computeIfAbsent(sessionService.determineGameState(session), k -> new LongAdder()).increment();
+            log.info("방치된 세션 만료 - sessionId: {}, gameState: {}", sessionId, session.getGameState());
+        } catch (Exception e) {
+            log.error("세션 만료 처리 중 오류 발생 - sessionId: {}, error: {}", sessionId, e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "sessionExpiry";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("trackedSessions", deadlines.size());
+        metrics.put("pendingBuckets", buckets.size());
+        metrics.put("evictedSessions", evictedSessions.get());
+        metrics.put("reclaimedBytes", reclaimedBytes.get());
+        Map<String, Long> byState = new LinkedHashMap<>();
+        evictedByState.forEach((state, count) -> byState.put(state, count.sum()));
+        metrics.put("evictedByState", byState);
+        return metrics;
+    }
+}
@@ -0,0 +1,125 @@
+package com.eos.lss.service;
+
+import com.eos.lss.dto.PlayerDto;
+import com.eos.lss.entity.SessionSnapshot;
+
+import java.util.List;
+
+/**
+ * 세션 하나가 차지하는 힙 크기 추정 (64비트 JVM, 압축 참조 기준)
+ *
+ * 객체를 직접 재지 않고 구성 요소별 근사값을 더한다.
+ * - 기본: 스냅샷, 세션 ID와 입장 코드, 저장소와 보조 인덱스(입장 코드, 목록, 만료, 상태 캐시, 수명 관리) 항목
+ * - 플레이어 목록: 플레이어마다 PlayerDto와 문자열, 참여 목록과 순서 목록의 참조
+ * - 연결: 플레이어마다 연결 하나 (연결 상태, 전송 버퍼 래퍼, 사용자 매핑, 하트비트, 서버의 WebSocket 세션 버퍼)
+ * - 타이머: 게임 마감 시간이 있으면 마감 타이머 하나
+ * 값은 배치 크기를 정하기 위한 추정치이므로 실제 힙 사용량과는 차이가 있다.
+ */
+public final class SessionFootprint {
+
+    private static final int OBJECT_HEADER_BYTES = 12;
+    private static final int REFERENCE_BYTES = 4;
+    private static final int SNAPSHOT_BYTES = 80;
+    private static final int LOCAL_DATE_TIME_BYTES = 72; // LocalDateTime, LocalDate, LocalTime
+    private static final int MAP_ENTRY_BYTES = 48; // ConcurrentHashMap 노드와 테이블 칸
+    private static final int INDEX_ENTRIES = 6;
+    private static final int PLAYER_BYTES = 24;
+    private static final int ID_BYTES = 64; // 아직 만들지 않은 세션 ID나 입장 코드
+    // 연결 하나 (연결 상태와 카운터, 전송 버퍼 래퍼, 매핑 항목, 서버의 WebSocket 세션과 수신 버퍼)
+    static final int CONNECTION_BYTES = 12 * 1024;
+    // 게임 마감 타이머 (예약 작업, 람다, 타이머 맵 항목)
+    static final int TIMER_BYTES = 192;
+
+    private final long baseBytes;
+    private final long rosterBytes;
+    private final long connectionBytes;
+    private final long timerBytes;
+
+    private SessionFootprint(long baseBytes, long rosterBytes, long connectionBytes, long timerBytes) {
+        this.baseBytes = baseBytes;
+        this.rosterBytes = rosterBytes;
+        this.connectionBytes = connectionBytes;
+        this.timerBytes = timerBytes;
+    }
+
+    public static SessionFootprint of(SessionSnapshot session) {
+        long base = SNAPSHOT_BYTES + INDEX_ENTRIES * MAP_ENTRY_BYTES
+                + stringBytes(session.getId()) + stringBytes(session.getEntryCode())
+                + (session.getCreatedAt() != null ? LOCAL_DATE_TIME_BYTES : 0)
+                + (session.getGameEndTime() != null ? LOCAL_DATE_TIME_BYTES : 0);
+        long roster = listBytes(session.getPlayers()) + listBytes(session.getOrderedPlayers());
+        for (PlayerDto player : session.getPlayers()) {
+            roster += playerBytes(player.getUserId(), player.getName(), player.getProfileImageUrl());
+        }
+        long connections = (long) session.getPlayers().size() * CONNECTION_BYTES;
+        long timers = session.getGameEndTime() != null ? TIMER_BYTES : 0;
+        return new SessionFootprint(base, roster, connections, timers);
+    }
+
+    /**
+     * 새 방의 크기 (대기실, 플레이어 players명)
+     */
+    public static long ofNewSession(List<PlayerDto> players) {
+        long bytes = SNAPSHOT_BYTES + INDEX_ENTRIES * MAP_ENTRY_BYTES + 2 * ID_BYTES + LOCAL_DATE_TIME_BYTES
+                + 2 * listBytes(players);
+        for (PlayerDto player : players) {
+            bytes += ofJoin(player.getUserId(), player.getName());
+        }
+        return bytes;
+    }
+
+    /**
+     * 플레이어 한 명이 입장할 때 늘어나는 크기 (플레이어와 연결)
+     */
+    public static long ofJoin(String userId, String name) {
+        return playerBytes(userId, name, null) + REFERENCE_BYTES + CONNECTION_BYTES;
+    }
+
+    private static long playerBytes(String userId, String name, String profileImageUrl) {
+        return PLAYER_BYTES + stringBytes(userId) + stringBytes(name) + stringBytes(profileImageUrl);
+    }
+
+    private static long listBytes(List<?> list) {
+        return align(OBJECT_HEADER_BYTES + REFERENCE_BYTES) + align(16 + (long) list.size() * REFERENCE_BYTES);
+    }
+
+    // String 객체와 값 배열 (라틴 문자만 있으면 1바이트, 아니면 2바이트씩)
+    private static long stringBytes(String value) {
+        if (value == null) {
+            return 0;
+        }
+        int length = value.length();
+        int bytesPerChar = 1;
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) >= 256) {
+                bytesPerChar = 2;
+                break;
+            }
+        }
+        return 24 + align(16 + (long) length * bytesPerChar);
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    public long getBaseBytes() {
+        return baseBytes;
+    }
+
+    public long getRosterBytes() {
+        return rosterBytes;
+    }
+
+    public long getConnectionBytes() {
+        return connectionBytes;
+    }
+
+    public long getTimerBytes() {
+        return timerBytes;
+    }
+
+    public long getTotalBytes() {
+        return baseBytes + rosterBytes + connectionBytes + timerBytes;
+    }
+}
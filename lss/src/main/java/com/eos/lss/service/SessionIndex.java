@@ -0,0 +1,348 @@
+package com.eos.lss.service;
+
+import com.eos.lss.metrics.MetricsSource;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * 게임 세션 보조 인덱스
+ *
+ * 세션이 저장/제거될 때마다 SessionService가 바로 갱신하므로, 상태별 방 개수나 오래된 방 목록을
+ * 구할 때 전체 세션을 훑으며 게임 상태를 다시 계산할 필요가 없다.
+ * - 화면 기준 게임 상태별 개수
+ * - 생성 시각, 게임 마감 시각 순으로 정렬된 집합
+ * - 플레이어 수별 세션 ID 집합
+ */
+@Component
+public class SessionIndex implements MetricsSource {
+
+    // 같은 시각 범위의 끝을 나타내는 세션 ID (실제 세션 ID보다 항상 뒤에 정렬됨)
+    private static final String MAX_ID = "\uffff";
+
+    // 세션 ID -> 마지막으로 인덱스에 반영된 값
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    // 화면 기준 게임 상태 -> 세션 수
+    private final ConcurrentHashMap<String, AtomicInteger> stateCounts = new ConcurrentHashMap<>();
+    // 생성 시각 순 (같은 시각이면 세션 ID 순)
+    private final ConcurrentSkipListSet<Key> byCreatedAt = new ConcurrentSkipListSet<>();
+    // 게임 마감 시각 순 (마감 시각이 정해진 세션만)
+    private final ConcurrentSkipListSet<Key> byGameEndTime = new ConcurrentSkipListSet<>();
+    // 플레이어 수 -> 세션 ID 목록
+    private final ConcurrentHashMap<Integer, Set<String>> byPlayerCount = new ConcurrentHashMap<>();
+
+    /**
+     * 세션 저장 시 호출. 바뀐 값만 인덱스에서 옮긴다.
+     * @param gameState 화면 기준 게임 상태 (WAITING_ROOM, ORDER_REGISTER, GAME_PLAYING, LEE_SOON_SIN)
+     */
+    public void update(String sessionId, String gameState, LocalDateTime createdAt, LocalDateTime gameEndTime, int playerCount) {
+        Entry updated = new Entry(sessionId, gameState, toMillis(createdAt), gameEndTime != null ? toMillis(gameEndTime) : null, playerCount);
+        // 같은 세션의 갱신은 compute 안에서 순서대로 반영됨
+        entries.compute(sessionId, (id, previous) -> {
+            if (previous == null) {
+                index(updated);
+                return updated;
+            }
+            if (!previous.gameState.equals(updated.gameState)) {
+                decrement(previous.gameState);
+                increment(updated.gameState);
+            }
+            if (previous.createdAtMillis != updated.createdAtMillis) {
+                byCreatedAt.remove(new Key(previous.createdAtMillis, id));
+                byCreatedAt.add(new Key(updated.createdAtMillis, id));
+            }
+            if (!Objects.equals(previous.gameEndTimeMillis, updated.gameEndTimeMillis)) {
+                if (previous.gameEndTimeMillis != null) {
+                    byGameEndTime.remove(new Key(previous.gameEndTimeMillis, id));
+                }
+                if (updated.gameEndTimeMillis != null) {
+                    byGameEndTime.add(new Key(updated.gameEndTimeMillis, id));
+                }
+            }
+            if (previous.playerCount != updated.playerCount) {
+                removeFromPlayerCount(previous.playerCount, id);
+                byPlayerCount.computeIfAbsent(updated.playerCount, k -> ConcurrentHashMap.newKeySet()).add(id);
+            }
+            return updated;
+        });
+    }
+
+    /**
+     * 세션 제거 시 호출
+     */
+    public void remove(String sessionId) {
+        entries.computeIfPresent(sessionId, (id, previous) -> {
+            decrement(previous.gameState);
+            byCreatedAt.remove(new Key(previous.createdAtMillis, id));
+            if (previous.gameEndTimeMillis != null) {
+                byGameEndTime.remove(new Key(previous.gameEndTimeMillis, id));
+            }
+            removeFromPlayerCount(previous.playerCount, id);
+            return null;
+        });
+    }
+
+    private void index(Entry entry) {
+        increment(entry.gameState);
+        byCreatedAt.add(new Key(entry.createdAtMillis, entry.sessionId));
+        if (entry.gameEndTimeMillis != null) {
+            byGameEndTime.add(new Key(entry.gameEndTimeMillis, entry.sessionId));
+        }
+        byPlayerCount.computeIfAbsent(entry.playerCount, k -> ConcurrentHashMap.newKeySet()).add(entry.sessionId);
+    }
+
+    private void increment(String gameState) {
+        stateCounts.computeIfAbsent(gameState, k -> new AtomicInteger()).incrementAndGet();
+    }
+
+    private void decrement(String gameState) {
+        AtomicInteger count = stateCounts.get(gameState);
+        if (count != null) {
+            count.decrementAndGet();
+        }
+    }
+
+    private void removeFromPlayerCount(int playerCount, String sessionId) {
+        byPlayerCount.computeIfPresent(playerCount, (count, ids) -> {
+            ids.remove(sessionId);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    public Entry get(String sessionId) {
+        return entries.get(sessionId);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int countByState(String gameState) {
+        AtomicInteger count = stateCounts.get(gameState);
+        return count != null ? count.get() : 0;
+    }
+
+    public Map<String, Integer> getStateCounts() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        stateCounts.forEach((state, count) -> counts.put(state, count.get()));
+        return counts;
+    }
+
+    public Set<String> findByPlayerCount(int playerCount) {
+        Set<String> ids = byPlayerCount.get(playerCount);
+        return ids != null ? Collections.unmodifiableSet(ids) : Collections.emptySet();
+    }
+
+    /**
+     * 주어진 시각 이전에 생성된 세션 (오래된 순, 최대 limit개)
+     */
+    public List<Entry> findCreatedBefore(LocalDateTime before, int limit) {
+        return collect(byCreatedAt.headSet(new Key(toMillis(before), ""), false), limit, entry -> true);
+    }
+
+    /**
+     * 게임 마감 시각이 주어진 시각 이전인 세션 (마감이 빠른 순, 최대 limit개)
+     */
+    public List<Entry> findGameEndingBefore(LocalDateTime before, int limit) {
+        return collect(byGameEndTime.headSet(new Key(toMillis(before), ""), false), limit, entry -> true);
+    }
+
+    /**
+     * 생성 시각 순으로 커서 다음부터 조건에 맞는 세션 조회
+     * 생성 시각 범위는 정렬 집합의 부분 집합으로 잘라내고, 나머지 조건은 순회하며 확인한다.
+     * 한 번에 확인하는 항목 수를 maxScan으로 제한하므로 조건에 맞는 세션이 드물어도 비용이 일정하다.
+     * @param after 이전 페이지의 다음 커서 (첫 페이지면 null)
+     * @param createdFromMillis 생성 시각 하한 (포함)
+     * @param createdToMillis 생성 시각 상한 (포함)
+     * @param newestFirst 최근 생성된 세션부터 조회할지
+     */
+    public Page pageByCreatedAt(Key after, long createdFromMillis, long createdToMillis, boolean newestFirst,
+                                int limit, int maxScan, Predicate<Entry> filter) {
+        if (createdFromMillis > createdToMillis) {
+            return new Page(Collections.emptyList(), null);
+        }
+        NavigableSet<Key> range = byCreatedAt.subSet(new Key(createdFromMillis, ""), true, new Key(createdToMillis, MAX_ID), true);
+        NavigableSet<Key> view = newestFirst ? range.descendingSet() : range;
+        if (after != null) {
+            view = view.tailSet(after, false);
+        }
+
+        List<Entry> result = new ArrayList<>(Math.min(Math.max(limit, 0), 64));
+        Key last = null;
+        int scanned = 0;
+        for (Key key : view) {
+            if (result.size() >= limit || scanned >= maxScan) {
+                // 남은 항목이 있으므로 마지막으로 확인한 위치를 커서로 돌려줌
+                return new Page(result, last);
+            }
+            scanned++;
+            last = key;
+            Entry entry = entries.get(key.sessionId);
+            // 순회 중 갱신/제거된 항목은 건너뜀
+            if (entry != null && entry.createdAtMillis == key.millis && filter.test(entry)) {
+                result.add(entry);
+            }
+        }
+        return new Page(result, null);
+    }
+
+    private List<Entry> collect(NavigableSet<Key> keys, int limit, Predicate<Entry> filter) {
+        List<Entry> result = new ArrayList<>(Math.min(Math.max(limit, 0), 64));
+        for (Key key : keys) {
+            if (result.size() >= limit) {
+                break;
+            }
+            Entry entry = entries.get(key.sessionId);
+            // 순회 중 갱신/제거된 항목은 건너뜀
+            if (entry != null && filter.test(entry)) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time != null ? time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0L;
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "sessionIndex";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("indexedSessions", entries.size());
+        metrics.put("byState", getStateCounts());
+        Map<Integer, Integer> playerCounts = new TreeMap<>();
+        byPlayerCount.forEach((count, ids) -> playerCounts.put(count, ids.size()));
+        metrics.put("byPlayerCount", playerCounts);
+        Key oldest = byCreatedAt.isEmpty() ? null : byCreatedAt.first();
+        metrics.put("oldestSessionAgeSeconds", oldest != null ? (System.currentTimeMillis() - oldest.millis) / 1000 : 0);
+        return metrics;
+    }
+
+    /**
+     * 인덱스에 반영된 세션 요약 (불변)
+     */
+    public static final class Entry {
+        private final String sessionId;
+        private final String gameState;
+        private final long createdAtMillis;
+        private final Long gameEndTimeMillis;
+        private final int playerCount;
+
+        Entry(String sessionId, String gameState, long createdAtMillis, Long gameEndTimeMillis, int playerCount) {
+            this.sessionId = sessionId;
+            this.gameState = gameState;
+            this.createdAtMillis = createdAtMillis;
+            this.gameEndTimeMillis = gameEndTimeMillis;
+            this.playerCount = playerCount;
+        }
+
+        public String getSessionId() {
+            return sessionId;
+        }
+
+        public String getGameState() {
+            return gameState;
+        }
+
+        public long getCreatedAtMillis() {
+            return createdAtMillis;
+        }
+
+        public Long getGameEndTimeMillis() {
+            return gameEndTimeMillis;
+        }
+
+        public int getPlayerCount() {
+            return playerCount;
+        }
+
+        public Key createdAtKey() {
+            return new Key(createdAtMillis, sessionId);
+        }
+    }
+
+    /**
+     * 커서 조회 결과
+     */
+    public static final class Page {
+        private final List<Entry> entries;
+        private final Key next;
+
+        Page(List<Entry> entries, Key next) {
+            this.entries = entries;
+            this.next = next;
+        }
+
+        public List<Entry> getEntries() {
+            return entries;
+        }
+
+        // 다음 페이지 커서 (더 없으면 null)
+        public Key getNext() {
+            return next;
+        }
+    }
+
+    /**
+     * 정렬 집합의 키 (시각, 세션 ID)
+     */
+    public static final class Key implements Comparable<Key> {
+        private final long millis;
+        private final String sessionId;
+
+        public Key(long millis, String sessionId) {
+            this.millis = millis;
+            this.sessionId = sessionId;
+        }
+
+        public long getMillis() {
+            return millis;
+        }
+
+        public String getSessionId() {
+            return sessionId;
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            int byTime = Long.compare(millis, other.millis);
+            return byTime != 0 ? byTime : sessionId.compareTo(other.sessionId);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return millis == other.millis && sessionId.equals(other.sessionId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(millis) * 31 + sessionId.hashCode();
+        }
+    }
+}
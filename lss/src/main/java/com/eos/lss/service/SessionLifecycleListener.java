@@ -0,0 +1,31 @@
+package com.eos.lss.service;
+
+/**
+ * 게임 세션/연결 종료 시 자신이 가진 자원을 해제하는 컴포넌트
+ * SessionLifecycleRegistry가 종료 시점에 등록된 모든 리스너를 호출한다.
+ */
+public interface SessionLifecycleListener {
+
+    /**
+     * 게임 세션 종료 (세션당 한 번만 호출됨)
+     * @param resources 종료된 세션에 연결되어 있던 사용자/연결 목록
+     * @param reason 종료 사유 (SessionLifecycleRegistry.REASON_*)
+     */
+    default void onSessionEnded(SessionResources resources, String reason) {
+    }
+
+    /**
+     * 진행 중인 게임 세션에서 플레이어가 빠짐 (나가기, 턴 스킵, 연결 끊김, 순서 미등록으로 제거)
+     * 세션 자체가 종료되는 경우에는 onSessionEnded만 호출된다.
+     */
+    default void onPlayerRemoved(String gameSessionId, String userId) {
+    }
+
+    /**
+     * WebSocket 연결 종료
+     * @param connectionId 연결 ID
+     * @param userId 연결에 매핑되어 있던 사용자 ID (없으면 null)
+     */
+    default void onConnectionClosed(String connectionId, String userId) {
+    }
+}
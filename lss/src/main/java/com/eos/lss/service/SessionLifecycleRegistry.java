@@ -0,0 +1,160 @@
+package com.eos.lss.service;
+
+import com.eos.lss.metrics.MetricsSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 게임 세션과 연결의 수명 관리
+ *
+ * 세션이 어떤 경로로 끝나든(삭제, 방장 퇴장, 인원 부족, 만료) 이 레지스트리의 endSession을 거치며,
+ * 등록된 모든 SessionLifecycleListener가 세션에 딸린 자원(세션 맵, 타이머, 연결 매핑, Rate Limit 기록 등)을
+ * 한 번에 해제한다. 항목 제거가 원자적이므로 여러 경로에서 동시에 종료해도 해제는 한 번만 일어난다.
+ */
+@Component
+@Slf4j
+public class SessionLifecycleRegistry implements MetricsSource {
+
+    // 종료 사유
+    public static final String REASON_DELETED = "DELETED";
+    public static final String REASON_PRESIDENT_LEFT = "PRESIDENT_LEFT";
+    public static final String REASON_INSUFFICIENT_PLAYERS = "INSUFFICIENT_PLAYERS";
+    public static final String REASON_EXPIRED = "EXPIRED";
+    public static final String REASON_ADMIN_CLOSED = "ADMIN_CLOSED";
+    public static final String REASON_MIGRATED = "MIGRATED"; // 드레인으로 다른 노드에 이전됨
+
+    private final ConcurrentHashMap<String, SessionResources> resources = new ConcurrentHashMap<>();
+    private final ObjectProvider<SessionLifecycleListener> listenerProvider;
+    private volatile List<SessionLifecycleListener> listeners;
+
+    // 지표
+    private final AtomicLong openedSessions = new AtomicLong();
+    private final AtomicLong endedSessions = new AtomicLong();
+    private final AtomicLong closedConnections = new AtomicLong();
+    private final ConcurrentHashMap<String, LongAdder> endedByReason = new ConcurrentHashMap<>();
+
+    public SessionLifecycleRegistry(ObjectProvider<SessionLifecycleListener> listenerProvider) {
+        this.listenerProvider = listenerProvider;
+    }
+
+    /**
+     * 이 노드에서 게임 세션 생성
+     */
+    public void sessionOpened(String gameSessionId) {
+        resources.computeIfAbsent(gameSessionId, SessionResources::new).markOwned();
+        openedSessions.incrementAndGet();
+    }
+
+    /**
+     * 연결이 게임 세션에 묶임 (브로드캐스트 대상이 됨)
+     */
+    public void connectionBound(String gameSessionId, String connectionId, String userId) {
+        resources.computeIfAbsent(gameSessionId, SessionResources::new).addConnection(connectionId, userId);
+    }
+
+    /**
+     * 연결이 게임 세션에서 빠짐
+     * 다른 노드가 소유한 세션은 이 노드의 연결이 모두 빠지면 항목을 정리한다.
+     */
+    public void connectionReleased(String gameSessionId, String connectionId) {
+        resources.computeIfPresent(gameSessionId, (id, res) -> {
+            boolean empty = res.removeConnection(connectionId);
+            return (empty && !res.isOwned()) ? null : res;
+        });
+    }
+
+    /**
+     * 게임 세션 종료 및 모든 자원 해제
+     * @return 이번 호출로 종료되었으면 true, 이미 종료된 세션이면 false
+     */
+    public boolean endSession(String gameSessionId, String reason) {
+        SessionResources ended = resources.remove(gameSessionId);
+        if (ended == null) {
+            return false;
+        }
+
+        for (SessionLifecycleListener listener : getListeners()) {
+            try {
+                listener.onSessionEnded(ended, reason);
+            } catch (Exception e) {
+                log.error("세션 자원 해제 중 오류 발생 - sessionId: {}, listener: {}, error: {}",
+                        gameSessionId, listener.getClass().getSimpleName(), e.getMessage(), e);
+            }
+        }
+
+        endedSessions.incrementAndGet();
+        endedByReason.computeIfAbsent(reason, k -> new LongAdder()).increment();
+        log.info("게임 세션 종료 - sessionId: {}, 사유: {}, 연결 수: {}", gameSessionId, reason, ended.getConnectionIds().size());
+        return true;
+    }
+
+    /**
+     * 게임 세션에서 플레이어 제거 (세션은 계속 진행)
+     */
+    public void playerRemoved(String gameSessionId, String userId) {
+        for (SessionLifecycleListener listener : getListeners()) {
+            try {
+                listener.onPlayerRemoved(gameSessionId, userId);
+            } catch (Exception e) {
+                log.error("플레이어 자원 해제 중 오류 발생 - sessionId: {}, userId: {}, listener: {}, error: {}",
+                        gameSessionId, userId, listener.getClass().getSimpleName(), e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * WebSocket 연결 종료 및 연결 단위 자원 해제
+     */
+    public void connectionClosed(String connectionId, String userId) {
+        for (SessionLifecycleListener listener : getListeners()) {
+            try {
+                listener.onConnectionClosed(connectionId, userId);
+            } catch (Exception e) {
+                log.error("연결 자원 해제 중 오류 발생 - connectionId: {}, listener: {}, error: {}",
+                        connectionId, listener.getClass().getSimpleName(), e.getMessage(), e);
+            }
+        }
+        closedConnections.incrementAndGet();
+    }
+
+    public int getLiveSessionCount() {
+        return resources.size();
+    }
+
+    // 리스너끼리 서로 의존하므로 처음 사용할 때 조회
+    private List<SessionLifecycleListener> getListeners() {
+        List<SessionLifecycleListener> current = listeners;
+        if (current == null) {
+            current = listenerProvider.orderedStream().collect(Collectors.toList());
+            listeners = current;
+        }
+        return current;
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "sessionLifecycle";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("liveSessions", resources.size());
+        metrics.put("openedSessions", openedSessions.get());
+        metrics.put("endedSessions", endedSessions.get());
+        metrics.put("closedConnections", closedConnections.get());
+        Map<String, Long> byReason = new LinkedHashMap<>();
+        endedByReason.forEach((reason, count) -> byReason.put(reason, count.sum()));
+        metrics.put("endedByReason", byReason);
+        return metrics;
+    }
+}
@@ -0,0 +1,166 @@
+package com.eos.lss.service;
+
+import com.eos.lss.entity.SessionSnapshot;
+import com.eos.lss.exception.CapacityExceededException;
+import com.eos.lss.metrics.MetricsSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 세션 메모리 예산 (세션별 추정 크기 합계가 예산을 넘으면 새 방 생성과 입장 거절)
+ *
+ * 세션 상태가 바뀔 때마다 SessionFootprint로 크기를 다시 추정해 합계를 갱신하고, 세션이 빠지면 뺀다.
+ * 예산은 budget-bytes로 정하고, 0이면 최대 힙의 heap-ratio 비율을 쓴다. 둘 다 0이면 제한 없이 집계만 한다.
+ * 진행 중인 게임의 상태 변경은 예산과 관계없이 허용하므로 합계는 예산을 조금 넘을 수 있다.
+ */
+@Component
+@Slf4j
+public class SessionMemoryBudget implements MetricsSource {
+
+    // 지표의 세션 크기 분포 구간 (바이트, 마지막 구간은 그 이상)
+    private static final long[] FOOTPRINT_BUCKETS = {16 * 1024, 32 * 1024, 64 * 1024, 128 * 1024, 256 * 1024};
+
+    private final ConcurrentHashMap<String, SessionFootprint> footprints = new ConcurrentHashMap<>();
+    private final AtomicLong usedBytes = new AtomicLong();
+    private final long budgetBytes;
+
+    // 지표
+    private final AtomicLong rejectedSessions = new AtomicLong();
+    private final AtomicLong rejectedJoins = new AtomicLong();
+
+    public SessionMemoryBudget(@Value("${lss.memory.budget-bytes:0}") long budgetBytes,
+                               @Value("${lss.memory.heap-ratio:0.5}") double heapRatio) {
+        this.budgetBytes = budgetBytes > 0 ? budgetBytes : (long) (Runtime.getRuntime().maxMemory() * Math.max(heapRatio, 0));
+    }
+
+    /**
+     * 새 방을 만들 여유가 있는지 확인
+     * @throws CapacityExceededException 예산 초과
+     */
+    public void checkNewSession(long bytes) {
+        if (exceeds(bytes)) {
+            rejectedSessions.incrementAndGet();
+            log.warn("세션 메모리 예산 초과로 방 생성 거절 - 사용: {}바이트, 예산: {}바이트", usedBytes.get(), budgetBytes);
+            throw new CapacityExceededException("서버 수용 인원이 가득 차 새 방을 만들 수 없습니다.");
+        }
+    }
+
+    /**
+     * 플레이어가 입장할 여유가 있는지 확인
+     * @throws CapacityExceededException 예산 초과
+     */
+    public void checkJoin(long bytes) {
+        if (exceeds(bytes)) {
+            rejectedJoins.incrementAndGet();
+            log.warn("세션 메모리 예산 초과로 입장 거절 - 사용: {}바이트, 예산: {}바이트", usedBytes.get(), budgetBytes);
+            throw new CapacityExceededException("서버 수용 인원이 가득 차 입장할 수 없습니다.");
+        }
+    }
+
+    private boolean exceeds(long bytes) {
+        return budgetBytes > 0 && usedBytes.get() + bytes > budgetBytes;
+    }
+
+    /**
+     * 세션 상태 변경 후 크기 다시 추정
+     */
+    public void account(SessionSnapshot session) {
+        SessionFootprint footprint = SessionFootprint.of(session);
+        SessionFootprint previous = footprints.put(session.getId(), footprint);
+        usedBytes.addAndGet(footprint.getTotalBytes() - (previous != null ? previous.getTotalBytes() : 0));
+    }
+
+    /**
+     * 세션 제거 (종료, 다른 노드로 이전)
+     */
+    public void release(String sessionId) {
+        SessionFootprint previous = footprints.remove(sessionId);
+        if (previous != null) {
+            usedBytes.addAndGet(-previous.getTotalBytes());
+        }
+    }
+
+    public long getUsedBytes() {
+        return usedBytes.get();
+    }
+
+    // 0이면 제한 없음
+    public long getBudgetBytes() {
+        return budgetBytes;
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "memory";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        long[] totals = new long[footprints.size()];
+        long base = 0;
+        long roster = 0;
+        long connections = 0;
+        long timers = 0;
+        int count = 0;
+        for (SessionFootprint footprint : footprints.values()) {
+            if (count == totals.length) {
+                break; // 복사하는 사이 늘어난 세션은 다음 조회에 반영
+            }
+            totals[count++] = footprint.getTotalBytes();
+            base += footprint.getBaseBytes();
+            roster += footprint.getRosterBytes();
+            connections += footprint.getConnectionBytes();
+            timers += footprint.getTimerBytes();
+        }
+        Arrays.sort(totals, 0, count);
+
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("budgetBytes", budgetBytes);
+        metrics.put("usedBytes", usedBytes.get());
+        metrics.put("usedRatio", budgetBytes > 0 ? Math.round(usedBytes.get() * 1000.0 / budgetBytes) / 1000.0 : 0.0);
+        metrics.put("sessions", count);
+        metrics.put("baseBytes", base);
+        metrics.put("rosterBytes", roster);
+        metrics.put("connectionBytes", connections);
+        metrics.put("timerBytes", timers);
+        metrics.put("footprintP50Bytes", percentile(totals, count, 0.5));
+        metrics.put("footprintP90Bytes", percentile(totals, count, 0.9));
+        metrics.put("footprintP99Bytes", percentile(totals, count, 0.99));
+        metrics.put("footprintMaxBytes", count > 0 ? totals[count - 1] : 0);
+        metrics.put("footprintBuckets", buckets(totals, count));
+        metrics.put("rejectedSessions", rejectedSessions.get());
+        metrics.put("rejectedJoins", rejectedJoins.get());
+        return metrics;
+    }
+
+    private static long percentile(long[] sorted, int count, double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * count) - 1;
+        return sorted[Math.min(Math.max(index, 0), count - 1)];
+    }
+
+    // 구간별 세션 수 ("16384": 16KiB 이하, "+Inf": 마지막 구간 초과)
+    private static Map<String, Integer> buckets(long[] sorted, int count) {
+        Map<String, Integer> buckets = new LinkedHashMap<>();
+        int from = 0;
+        for (long bound : FOOTPRINT_BUCKETS) {
+            int to = from;
+            while (to < count && sorted[to] <= bound) {
+                to++;
+            }
+            buckets.put(String.valueOf(bound), to - from);
+            from = to;
+        }
+        buckets.put("+Inf", count - from);
+        return buckets;
+    }
+}
@@ -0,0 +1,176 @@
+package com.eos.lss.service;
+
+import com.eos.lss.cluster.SessionRouter;
+import com.eos.lss.dto.GameErrorDto;
+import com.eos.lss.entity.SessionSnapshot;
+import com.eos.lss.exception.NodeDrainingException;
+import com.eos.lss.metrics.MetricsSource;
+import com.eos.lss.websocket.SimpleWebSocketHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 노드 드레인과 세션 이전 (노드를 재시작하거나 뺄 때 진행 중인 게임 유지)
+ *
+ * 드레인하면 새 방 생성을 막고 모든 세션을 저장소에서 떼어 내 SessionArchive로 만든다. 떼어 낸 뒤에는 이 노드에서
+ * 상태가 바뀌지 않으므로 이전 데이터가 마지막 상태다. 방의 플레이어에게는 재접속할 주소를 알리고 이 노드의 세션은 종료한다.
+ * 이전 받은 노드는 세션과 재접속 토큰을 등록하고 게임 마감 타이머를 다시 건다. 플레이어는 유예 시간 안에
+ * 기존 토큰으로 resume-session을 보내면 이어서 진행한다.
+ */
+@Service
+@Slf4j
+public class SessionMigrationService implements MetricsSource {
+
+    private final SessionService sessionService;
+    private final ReconnectGraceService reconnectGraceService;
+    private final SessionLifecycleRegistry sessionLifecycleRegistry;
+    private final SimpleWebSocketHandler webSocketHandler;
+    private final SessionRouter sessionRouter;
+    private final GameClock clock;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 지표
+    private final AtomicLong drainedSessions = new AtomicLong();
+    private final AtomicLong importedSessions = new AtomicLong();
+    private final AtomicLong skippedSessions = new AtomicLong();
+    private final AtomicLong lastDrainMillis = new AtomicLong();
+    private final AtomicLong lastImportMillis = new AtomicLong();
+
+    public SessionMigrationService(SessionService sessionService,
+                                   ReconnectGraceService reconnectGraceService,
+                                   SessionLifecycleRegistry sessionLifecycleRegistry,
+                                   SimpleWebSocketHandler webSocketHandler,
+                                   SessionRouter sessionRouter,
+                                   GameClock clock) {
+        this.sessionService = sessionService;
+        this.reconnectGraceService = reconnectGraceService;
+        this.sessionLifecycleRegistry = sessionLifecycleRegistry;
+        this.webSocketHandler = webSocketHandler;
+        this.sessionRouter = sessionRouter;
+        this.clock = clock;
+    }
+
+    /**
+     * 드레인 후 모든 세션을 이전 데이터로 반환 (이 노드의 세션은 종료됨)
+     * @param redirectUrl 플레이어가 다시 연결할 주소 (없으면 같은 주소로 재연결)
+     */
+    public byte[] drain(String redirectUrl) {
+        long started = System.nanoTime();
+        sessionService.startDraining();
+
+        // 드레인 시작 직전에 만들어진 방까지 남지 않도록 빌 때까지 반복
+        List<SessionArchive.Entry> entries = new ArrayList<>();
+        List<String> detached = new ArrayList<>();
+        List<String> sessionIds = sessionService.getSessionIds();
+        while (!sessionIds.isEmpty()) {
+            for (String sessionId : sessionIds) {
+                SessionSnapshot snapshot = sessionService.detachSession(sessionId);
+                if (snapshot == null) {
+                    continue; // 그 사이 종료된 세션
+                }
+                long remainingNanos = snapshot.getGameEndTime() != null ? snapshot.getGameEndDeadlineNanos() - clock.nanoTime() : 0;
+                entries.add(new SessionArchive.Entry(snapshot.toDraft(), snapshot.getVersion(), remainingNanos,
+                        reconnectGraceService.tokensOf(sessionId)));
+                detached.add(sessionId);
+            }
+            sessionIds = sessionService.getSessionIds();
+        }
+        byte[] archive = SessionArchive.encode(entries);
+
+        // 이전 데이터를 만든 뒤에 알리고 종료 (연결 매핑, 타이머, 토큰 등 해제)
+        for (String sessionId : detached) {
+            webSocketHandler.broadcastToGameSession(sessionId, redirectFrame(sessionId, redirectUrl));
+            sessionLifecycleRegistry.endSession(sessionId, SessionLifecycleRegistry.REASON_MIGRATED);
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        drainedSessions.addAndGet(detached.size());
+        lastDrainMillis.set(elapsedMillis);
+        log.info("노드 드레인 완료 - 이전 세션 수: {}, 데이터 크기: {}바이트, 소요 시간: {}ms", detached.size(), archive.length, elapsedMillis);
+        return archive;
+    }
+
+    /**
+     * 다른 노드에서 드레인한 이전 데이터 등록
+     * @return imported(등록), skipped(같은 세션 ID나 입장 코드가 이미 있음), notOwned(이 노드 샤드가 아닌 세션 수)
+     */
+    public Map<String, Object> importArchive(byte[] archive) {
+        if (sessionService.isDraining()) {
+            throw new NodeDrainingException("드레인 중인 노드로는 세션을 이전할 수 없습니다.");
+        }
+        long started = System.nanoTime();
+        List<SessionArchive.Entry> entries = SessionArchive.decode(archive);
+
+        int imported = 0;
+        int skipped = 0;
+        int notOwned = 0;
+        for (SessionArchive.Entry entry : entries) {
+            String sessionId = entry.getSession().getId();
+            if (!sessionService.importSession(entry.getSession(), entry.getVersion(), entry.getRemainingNanos())) {
+                skipped++;
+                log.warn("세션 이전 건너뜀 (같은 세션 ID나 입장 코드가 이미 있음) - sessionId: {}", sessionId);
+                continue;
+            }
+            for (Map.Entry<String, String> token : entry.getResumeTokens().entrySet()) {
+                reconnectGraceService.restoreToken(sessionId, token.getKey(), token.getValue());
+            }
+            // 샤드 링에서 다른 노드 소유인 세션은 그 노드로 명령이 전달되므로 링 구성도 함께 바꿔야 함
+            if (!sessionRouter.isLocalSessionId(sessionId)) {
+                notOwned++;
+            }
+            imported++;
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        importedSessions.addAndGet(imported);
+        skippedSessions.addAndGet(skipped);
+        lastImportMillis.set(elapsedMillis);
+        log.info("세션 이전 받기 완료 - 등록: {}, 건너뜀: {}, 다른 노드 샤드: {}, 소요 시간: {}ms", imported, skipped, notOwned, elapsedMillis);
+        if (notOwned > 0) {
+            log.warn("이 노드 샤드가 아닌 세션 {}개를 등록함 - 샤드 링 구성을 확인하세요.", notOwned);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("imported", imported);
+        result.put("skipped", skipped);
+        result.put("notOwned", notOwned);
+        result.put("elapsedMillis", elapsedMillis);
+        return result;
+    }
+
+    // 재접속 안내 (url이 null이면 같은 주소로 다시 연결)
+    private String redirectFrame(String sessionId, String redirectUrl) {
+        ObjectNode frame = objectMapper.createObjectNode();
+        frame.put("type", SimpleWebSocketHandler.MSG_TYPE_REDIRECT);
+        frame.put("errorCode", GameErrorDto.ERROR_NODE_DRAINING);
+        frame.put("sessionId", sessionId);
+        frame.put("url", redirectUrl);
+        return frame.toString();
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "migration";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("draining", sessionService.isDraining());
+        metrics.put("drainedSessions", drainedSessions.get());
+        metrics.put("importedSessions", importedSessions.get());
+        metrics.put("skippedSessions", skippedSessions.get());
+        metrics.put("lastDrainMillis", lastDrainMillis.get());
+        metrics.put("lastImportMillis", lastImportMillis.get());
+        return metrics;
+    }
+}
@@ -0,0 +1,53 @@
+package com.eos.lss.service;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게임 세션 하나에 연결된 자원 목록
+ */
+public class SessionResources {
+
+    private final String gameSessionId;
+    private final Set<String> userIds = ConcurrentHashMap.newKeySet();
+    private final Set<String> connectionIds = ConcurrentHashMap.newKeySet();
+    // 이 노드에서 생성된 세션인지 (다른 노드 소유 세션은 연결이 모두 끊기면 바로 정리)
+    private volatile boolean owned;
+
+    public SessionResources(String gameSessionId) {
+        this.gameSessionId = gameSessionId;
+    }
+
+    public String getGameSessionId() {
+        return gameSessionId;
+    }
+
+    public Set<String> getUserIds() {
+        return Collections.unmodifiableSet(userIds);
+    }
+
+    public Set<String> getConnectionIds() {
+        return Collections.unmodifiableSet(connectionIds);
+    }
+
+    public boolean isOwned() {
+        return owned;
+    }
+
+    void markOwned() {
+        this.owned = true;
+    }
+
+    void addConnection(String connectionId, String userId) {
+        connectionIds.add(connectionId);
+        if (userId != null) {
+            userIds.add(userId);
+        }
+    }
+
+    boolean removeConnection(String connectionId) {
+        connectionIds.remove(connectionId);
+        return connectionIds.isEmpty();
+    }
+}
@@ -1,109 +1,195 @@
 package com.eos.lss.service;
 
+import com.eos.lss.dto.GameActionDto;
 import com.eos.lss.dto.GameStateDto;
 import com.eos.lss.dto.PlayerDto;
 import com.eos.lss.entity.Session;
+import com.eos.lss.entity.SessionSnapshot;
 import com.eos.lss.entity.CoinState;
+import com.eos.lss.cluster.SessionRouter;
 import com.eos.lss.websocket.SimpleWebSocketHandler;
 import com.eos.lss.exception.SessionNotFoundException;
 import com.eos.lss.exception.InvalidGameStateException;
+import com.eos.lss.exception.NodeDrainingException;
 import com.eos.lss.exception.PlayerAlreadyJoinedException;
 import org.springframework.stereotype.Service;
 import org.springframework.context.annotation.Lazy;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 
-import java.time.LocalDateTime;
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import com.eos.lss.dto.GameErrorDto;
 
 @Service
 @Slf4j
-public class SessionService {
+public class SessionService implements SessionLifecycleListener {
 
-    // 메모리 기반 세션 저장소
-    private final ConcurrentHashMap<String, Session> sessions = new ConcurrentHashMap<>();
+    // 순서 등록(또는 시간 초과 이순신 후 재개)부터 게임 마감까지
+    static final Duration GAME_DURATION = Duration.ofMinutes(10);
+    // 묶음 명령 하나에 담을 수 있는 최대 동작 수
+    public static final int MAX_BATCH_ACTIONS = 8;
+
+    // 메모리 기반 세션 저장소 (불변 스냅샷을 버전 비교 후 통째로 교체)
+    private final ConcurrentHashMap<String, SessionSnapshot> sessions = new ConcurrentHashMap<>();
+    // 입장 코드 -> 세션 ID (입장 시 전체 세션 탐색 없이 조회)
+    private final ConcurrentHashMap<String, String> entryCodeToSessionId = new ConcurrentHashMap<>();
     private final SimpleWebSocketHandler webSocketHandler;
     private final GameTimerService gameTimerService;
+    private final SessionRouter sessionRouter;
+    private final SessionExpiryService sessionExpiryService;
+    private final SessionLifecycleRegistry sessionLifecycleRegistry;
+    private final SessionIndex sessionIndex;
+    private final TurnHistoryService turnHistoryService;
+    private final SessionStateCache sessionStateCache;
+    private final SessionMemoryBudget sessionMemoryBudget;
+    private final GameClock clock;
     private final ObjectMapper objectMapper = new ObjectMapper();
+    // 드레인 중이면 새 방을 만들지 않음 (기존 방은 다른 노드로 이전)
+    private volatile boolean draining;
 
     public SessionService(SimpleWebSocketHandler webSocketHandler, 
-                         @Lazy GameTimerService gameTimerService) {
+                         @Lazy GameTimerService gameTimerService,
+                         SessionRouter sessionRouter,
+                         @Lazy SessionExpiryService sessionExpiryService,
+                         SessionLifecycleRegistry sessionLifecycleRegistry,
+                         SessionIndex sessionIndex,
+                         TurnHistoryService turnHistoryService,
+                         @Lazy SessionStateCache sessionStateCache,
+                         SessionMemoryBudget sessionMemoryBudget,
+                         GameClock clock) {
         this.webSocketHandler = webSocketHandler;
         this.gameTimerService = gameTimerService;
+        this.sessionRouter = sessionRouter;
+        this.sessionExpiryService = sessionExpiryService;
+        this.sessionLifecycleRegistry = sessionLifecycleRegistry;
+        this.sessionIndex = sessionIndex;
+        this.turnHistoryService = turnHistoryService;
+        this.sessionStateCache = sessionStateCache;
+        this.sessionMemoryBudget = sessionMemoryBudget;
+        this.clock = clock;
     }
 
     public String createSession(String userId, String name) {
-        // 세션 생성
-        String sessionId = UUID.randomUUID().toString();
-        String entryCode = generateEntryCode();
-        
         // 플레이어 DTO 생성
         PlayerDto player = new PlayerDto(userId, name, null);
         
+        SessionSnapshot session = openSession(Arrays.asList(player));
+        String sessionId = session.getId();
+        
+        // WebSocket으로 게임 상태 브로드캐스트 (특정 게임 세션에만)
+        GameStateDto gameState = convertToGameStateDto(session, userId);
+        try {
+            String broadcastMessage = "{\"type\":\"ok\",\"sessionId\":\"" + sessionId + "\",\"entryCode\":\"" + gameState.getEntryCode() + "\",\"presidentId\":\"" + gameState.getPresidentId() + "\",\"createdAt\":\"" + gameState.getCreatedAt() + "\",\"players\":" + objectMapper.writeValueAsString(gameState.getPlayers()) + ",\"currentPlayerIndex\":" + gameState.getCurrentPlayerIndex() + ",\"isClockWise\":" + gameState.isClockWise() + ",\"firstCoinState\":\"" + gameState.getFirstCoinState() + "\",\"secondCoinState\":\"" + gameState.getSecondCoinState() + "\",\"currentPlayer\":" + objectMapper.writeValueAsString(gameState.getCurrentPlayer()) + ",\"isMyTurn\":" + gameState.isMyTurn() + ",\"isPresident\":" + gameState.isPresident() + ",\"gameState\":\"" + gameState.getGameState() + "\",\"gameEndTime\":\"" + gameState.getGameEndTime() + "\",\"isLeeSoonSinByTimeExpired\":" + gameState.getLeeSoonSinByTimeExpired() + ",\"version\":" + gameState.getVersion() + "}";
+            webSocketHandler.broadcastToGameSession(sessionId, broadcastMessage);
+        } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
+            String errorMsg = "{\"type\":\"error\",\"errorCode\":\"" + GameErrorDto.ERROR_INTERNAL_SERVER_ERROR + "\"}";
+            webSocketHandler.broadcastToGameSession(sessionId, errorMsg);
+        }
+        
+        return sessionId;
+    }
+
+    /**
+     * 빠른 매칭으로 모인 플레이어들의 대기실 생성 (첫 번째 플레이어가 방장)
+     * 플레이어 연결을 게임 세션에 묶은 뒤 broadcastGameState로 한 번만 알린다.
+     */
+    public String createMatchedSession(List<PlayerDto> players) {
+        if (players.size() < 2) {
+            throw new InvalidGameStateException("게임을 시작하려면 최소 2명 이상의 플레이어가 필요합니다.");
+        }
+        SessionSnapshot session = openSession(players);
+        log.info("빠른 매칭 세션 생성 - sessionId: {}, 플레이어 수: {}", session.getId(), players.size());
+        return session.getId();
+    }
+    
+    // 대기실 세션 생성 및 저장 (입장 코드와 세션 ID 모두 이 노드의 샤드를 가리킴)
+    private SessionSnapshot openSession(List<PlayerDto> players) {
+        if (draining) {
+            throw new NodeDrainingException("드레인 중인 노드에서는 새 방을 만들 수 없습니다.");
+        }
+        sessionMemoryBudget.checkNewSession(SessionFootprint.ofNewSession(players));
+        String entryCode;
+        String sessionId;
+        do {
+            entryCode = sessionRouter.nextLocalEntryCode();
+            sessionId = sessionRouter.newSessionId(entryCode);
+        } while (entryCodeToSessionId.putIfAbsent(entryCode, sessionId) != null); // 중복 확인
+        
         Session session = new Session();
         session.setId(sessionId);
         session.setEntryCode(entryCode);
-        session.setPresidentId(userId);
-        session.setCreatedAt(LocalDateTime.now());
+        session.setPresidentId(players.get(0).getUserId());
+        session.setCreatedAt(clock.now());
         session.setGameState(GameStateDto.STATE_WAITING_ROOM);
-        session.setPlayers(Arrays.asList(player));
+        session.setPlayers(players);
         session.setOrderedPlayers(new ArrayList<>());
         session.setCurrentPlayerIndex(0);
         session.setClockWise(true);
         session.setFirstCoinState(null);
         session.setSecondCoinState(null);
         
-        // 메모리에 저장
-        sessions.put(sessionId, session);
-        
-        // WebSocket으로 게임 상태 브로드캐스트 (특정 게임 세션에만)
-        GameStateDto gameState = convertToGameStateDto(session, userId);
+        // 메모리에 저장 (첫 버전)
+        SessionSnapshot snapshot = new SessionSnapshot(session, 1);
+        sessionLifecycleRegistry.sessionOpened(sessionId);
+        turnHistoryService.sessionOpened(sessionId);
+        sessions.put(sessionId, snapshot);
+        published(snapshot);
+        return snapshot;
+    }
+    
+    // 현재 게임 상태를 방 전체에 한 번 브로드캐스트 (특정 사용자 기준 값 없음)
+    public void broadcastGameState(String sessionId) {
+        SessionSnapshot session = sessions.get(sessionId);
+        if (session == null) {
+            return;
+        }
+        GameStateDto gameState = convertToGameStateDto(session, null);
         try {
-            String broadcastMessage = "{\"type\":\"ok\",\"sessionId\":\"" + sessionId + "\",\"entryCode\":\"" + gameState.getEntryCode() + "\",\"presidentId\":\"" + gameState.getPresidentId() + "\",\"createdAt\":\"" + gameState.getCreatedAt() + "\",\"players\":" + objectMapper.writeValueAsString(gameState.getPlayers()) + ",\"currentPlayerIndex\":" + gameState.getCurrentPlayerIndex() + ",\"isClockWise\":" + gameState.isClockWise() + ",\"firstCoinState\":\"" + gameState.getFirstCoinState() + "\",\"secondCoinState\":\"" + gameState.getSecondCoinState() + "\",\"currentPlayer\":" + objectMapper.writeValueAsString(gameState.getCurrentPlayer()) + ",\"isMyTurn\":" + gameState.isMyTurn() + ",\"isPresident\":" + gameState.isPresident() + ",\"gameState\":\"" + gameState.getGameState() + "\",\"gameEndTime\":\"" + gameState.getGameEndTime() + "\",\"isLeeSoonSinByTimeExpired\":" + gameState.getLeeSoonSinByTimeExpired() + "}";
+            String broadcastMessage = "{\"type\":\"ok\",\"sessionId\":\"" + sessionId + "\",\"entryCode\":\"" + gameState.getEntryCode() + "\",\"presidentId\":\"" + gameState.getPresidentId() + "\",\"createdAt\":\"" + gameState.getCreatedAt() + "\",\"players\":" + objectMapper.writeValueAsString(gameState.getPlayers()) + ",\"currentPlayerIndex\":" + gameState.getCurrentPlayerIndex() + ",\"isClockWise\":" + gameState.isClockWise() + ",\"firstCoinState\":\"" + gameState.getFirstCoinState() + "\",\"secondCoinState\":\"" + gameState.getSecondCoinState() + "\",\"currentPlayer\":" + objectMapper.writeValueAsString(gameState.getCurrentPlayer()) + ",\"isMyTurn\":" + gameState.isMyTurn() + ",\"isPresident\":" + gameState.isPresident() + ",\"gameState\":\"" + gameState.getGameState() + "\",\"gameEndTime\":\"" + gameState.getGameEndTime() + "\",\"isLeeSoonSinByTimeExpired\":" + gameState.getLeeSoonSinByTimeExpired() + ",\"version\":" + gameState.getVersion() + "}";
             webSocketHandler.broadcastToGameSession(sessionId, broadcastMessage);
         } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
             String errorMsg = "{\"type\":\"error\",\"errorCode\":\"" + GameErrorDto.ERROR_INTERNAL_SERVER_ERROR + "\"}";
             webSocketHandler.broadcastToGameSession(sessionId, errorMsg);
         }
-        
-        return sessionId;
     }
 
     public String joinSession(String entryCode, String userId, String name) {
-        Session session = sessions.values().stream()
-                .filter(s -> s.getEntryCode().equals(entryCode))
-                .findFirst()
-                .orElseThrow(() -> new SessionNotFoundException("세션을 찾을 수 없습니다."));
-        
-        if (!GameStateDto.STATE_WAITING_ROOM.equals(session.getGameState())) {
-            throw new InvalidGameStateException("이미 진행중인 세션입니다.");
+        String sessionId = entryCodeToSessionId.get(entryCode);
+        if (sessionId == null) {
+            throw new SessionNotFoundException("세션을 찾을 수 없습니다.");
         }
+        sessionMemoryBudget.checkJoin(SessionFootprint.ofJoin(userId, name));
         
         // 플레이어 DTO 생성
         PlayerDto player = new PlayerDto(userId, name, null);
         
-        // 이미 참여한 플레이어인지 확인
-        boolean alreadyJoined = session.getPlayers().stream()
-                .anyMatch(p -> p.getUserId().equals(userId));
-        if (alreadyJoined) {
-            throw new PlayerAlreadyJoinedException("이미 참여한 플레이어입니다.");
-        }
-        
-        // 플레이어 추가
-        List<PlayerDto> updatedPlayers = new ArrayList<>(session.getPlayers());
-        updatedPlayers.add(player);
-        session.setPlayers(updatedPlayers);
-        
-        // 메모리에 저장
-        sessions.put(session.getId(), session);
+        SessionSnapshot session = update(sessionId, draft -> {
+            if (!GameStateDto.STATE_WAITING_ROOM.equals(draft.getGameState())) {
+                throw new InvalidGameStateException("이미 진행중인 세션입니다.");
+            }
+            
+            // 이미 참여한 플레이어인지 확인
+            boolean alreadyJoined = draft.getPlayers().stream()
+                    .anyMatch(p -> p.getUserId().equals(userId));
+            if (alreadyJoined) {
+                throw new PlayerAlreadyJoinedException("이미 참여한 플레이어입니다.");
+            }
+            
+            // 플레이어 추가
+            List<PlayerDto> updatedPlayers = draft.getPlayers();
+            updatedPlayers.add(player);
+            draft.setPlayers(updatedPlayers);
+        }).after;
         
         // WebSocket으로 게임 상태 브로드캐스트 (특정 게임 세션에만)
         GameStateDto gameState = convertToGameStateDto(session, userId);
         try {
-            String broadcastMessage = "{\"type\":\"ok\",\"sessionId\":\"" + session.getId() + "\",\"entryCode\":\"" + gameState.getEntryCode() + "\",\"presidentId\":\"" + gameState.getPresidentId() + "\",\"createdAt\":\"" + gameState.getCreatedAt() + "\",\"players\":" + objectMapper.writeValueAsString(gameState.getPlayers()) + ",\"currentPlayerIndex\":" + gameState.getCurrentPlayerIndex() + ",\"isClockWise\":" + gameState.isClockWise() + ",\"firstCoinState\":\"" + gameState.getFirstCoinState() + "\",\"secondCoinState\":\"" + gameState.getSecondCoinState() + "\",\"currentPlayer\":" + objectMapper.writeValueAsString(gameState.getCurrentPlayer()) + ",\"isMyTurn\":" + gameState.isMyTurn() + ",\"isPresident\":" + gameState.isPresident() + ",\"gameState\":\"" + gameState.getGameState() + "\",\"gameEndTime\":\"" + gameState.getGameEndTime() + "\",\"isLeeSoonSinByTimeExpired\":" + gameState.getLeeSoonSinByTimeExpired() + "}";
+            String broadcastMessage = "{\"type\":\"ok\",\"sessionId\":\"" + session.getId() + "\",\"entryCode\":\"" + gameState.getEntryCode() + "\",\"presidentId\":\"" + gameState.getPresidentId() + "\",\"createdAt\":\"" + gameState.getCreatedAt() + "\",\"players\":" + objectMapper.writeValueAsString(gameState.getPlayers()) + ",\"currentPlayerIndex\":" + gameState.getCurrentPlayerIndex() + ",\"isClockWise\":" + gameState.isClockWise() + ",\"firstCoinState\":\"" + gameState.getFirstCoinState() + "\",\"secondCoinState\":\"" + gameState.getSecondCoinState() + "\",\"currentPlayer\":" + objectMapper.writeValueAsString(gameState.getCurrentPlayer()) + ",\"isMyTurn\":" + gameState.isMyTurn() + ",\"isPresident\":" + gameState.isPresident() + ",\"gameState\":\"" + gameState.getGameState() + "\",\"gameEndTime\":\"" + gameState.getGameEndTime() + "\",\"isLeeSoonSinByTimeExpired\":" + gameState.getLeeSoonSinByTimeExpired() + ",\"version\":" + gameState.getVersion() + "}";
             webSocketHandler.broadcastToGameSession(session.getId(), broadcastMessage);
         } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
             String errorMsg = "{\"type\":\"error\",\"errorCode\":\"" + GameErrorDto.ERROR_INTERNAL_SERVER_ERROR + "\"}";
@@ -114,135 +200,91 @@ public class SessionService {
     }
 
     public void leaveSession(String sessionId, String userId) {
-        Session session = sessions.get(sessionId);
-        if (session == null) {
-            throw new SessionNotFoundException("세션을 찾을 수 없습니다.");
-        }
-        
-        boolean isPresident = session.getPresidentId().equals(userId);
-        boolean isMyTurn = false;
-        int removedPlayerIndex = -1;
-        
-        // 현재 턴인지 확인
-        if (!session.getOrderedPlayers().isEmpty() && 
-            session.getCurrentPlayerIndex() < session.getOrderedPlayers().size()) {
-            String currentPlayerId = session.getOrderedPlayers().get(session.getCurrentPlayerIndex()).getUserId();
-            isMyTurn = userId.equals(currentPlayerId);
-        }
-        
-        // 플레이어 제거
-        List<PlayerDto> updatedPlayers = session.getPlayers().stream()
-                .filter(player -> !player.getUserId().equals(userId))
-                .collect(Collectors.toList());
-        
-        // orderedPlayers에서도 제거하고 제거된 인덱스 확인
-        List<PlayerDto> updatedOrderedPlayers = session.getOrderedPlayers().stream()
-                .filter(player -> !player.getUserId().equals(userId))
-                .collect(Collectors.toList());
-        
-        // 1명 이하 남으면 세션 종료
-        if (updatedPlayers.size() <= 1) {
-            sessions.remove(sessionId);
-            return;
-        }
-        
-        // 방장이 나가는 경우 세션 종료
-        if (isPresident) {
-            sessions.remove(sessionId);
-            return;
-        }
-        
-        // currentPlayerIndex 조정
-        int newCurrentPlayerIndex = session.getCurrentPlayerIndex();
-        
-        if (isMyTurn) {
-            // 자기 차례일 때는 다음 턴으로 넘김
-            if (session.isClockWise()) {
-                newCurrentPlayerIndex = (session.getCurrentPlayerIndex() + 1) % updatedOrderedPlayers.size();
-            } else {
-                newCurrentPlayerIndex = (session.getCurrentPlayerIndex() - 1 + updatedOrderedPlayers.size()) % updatedOrderedPlayers.size();
+        String[] endReason = new String[1];
+        Transition transition = updateIf(sessionId, session -> {
+            endReason[0] = null;
+            boolean isPresident = session.getPresidentId().equals(userId);
+            
+            // 플레이어 제거 (자기 차례였으면 다음 턴으로 넘김)
+            removePlayer(session, userId);
+            
+            // 1명 이하 남으면 세션 종료
+            if (session.getPlayers().size() <= 1) {
+                endReason[0] = SessionLifecycleRegistry.REASON_INSUFFICIENT_PLAYERS;
+                return false;
             }
-        }
-        
-        // 제거된 플레이어의 인덱스보다 뒤에 있으면 -1 조정
-        if (removedPlayerIndex != -1 && newCurrentPlayerIndex > removedPlayerIndex) {
-            newCurrentPlayerIndex--;
-        }
+            
+            // 방장이 나가는 경우 세션 종료
+            if (isPresident) {
+                endReason[0] = SessionLifecycleRegistry.REASON_PRESIDENT_LEFT;
+                return false;
+            }
+            return true;
+        });
         
-        // 인덱스 범위 체크
-        if (newCurrentPlayerIndex >= updatedOrderedPlayers.size()) {
-            newCurrentPlayerIndex = 0;
+        if (endReason[0] != null) {
+            endSession(sessionId, endReason[0]);
+        } else if (transition != null) {
+            sessionLifecycleRegistry.playerRemoved(sessionId, userId);
         }
-        
-        session.setPlayers(updatedPlayers);
-        session.setOrderedPlayers(updatedOrderedPlayers);
-        session.setCurrentPlayerIndex(newCurrentPlayerIndex);
-        
-        sessions.put(sessionId, session);
     }
 
     // 턴 스킵 처리 (응답 없는 플레이어 자동 제거)
     public void skipTurn(String sessionId, String userId) {
-        Session session = sessions.get(sessionId);
-        if (session == null) {
-            throw new SessionNotFoundException("세션을 찾을 수 없습니다.");
-        }
-        
-        // 현재 턴인 플레이어인지 확인
-        if (session.getOrderedPlayers().isEmpty() || 
-            session.getCurrentPlayerIndex() >= session.getOrderedPlayers().size()) {
-            return; // 게임이 진행중이 아님
-        }
-        
-        String currentPlayerId = session.getOrderedPlayers().get(session.getCurrentPlayerIndex()).getUserId();
-        if (!userId.equals(currentPlayerId)) {
-            return; // 현재 턴 플레이어가 아님
-        }
-        
-        // 스킵된 플레이어 정보 저장
-        String skippedUserName = session.getOrderedPlayers().get(session.getCurrentPlayerIndex()).getName();
-        
-        // 플레이어 제거 (leaveSession 로직과 동일)
-        List<PlayerDto> updatedPlayers = session.getPlayers().stream()
-                .filter(player -> !player.getUserId().equals(userId))
-                .collect(Collectors.toList());
-        
-        List<PlayerDto> updatedOrderedPlayers = session.getOrderedPlayers().stream()
-                .filter(player -> !player.getUserId().equals(userId))
-                .collect(Collectors.toList());
+        String[] endReason = new String[1];
+        Transition transition = updateIf(sessionId, session -> {
+            endReason[0] = null;
+            
+            // 현재 턴인 플레이어인지 확인
+            if (session.getOrderedPlayers().isEmpty() || 
+                session.getCurrentPlayerIndex() >= session.getOrderedPlayers().size()) {
+                return false; // 게임이 진행중이 아님
+            }
+            
+            String currentPlayerId = session.getOrderedPlayers().get(session.getCurrentPlayerIndex()).getUserId();
+            if (!userId.equals(currentPlayerId)) {
+                return false; // 현재 턴 플레이어가 아님
+            }
+            
+            boolean isPresident = session.getPresidentId().equals(userId);
+            
+            // 플레이어 제거 후 다음 턴으로 이동 (leaveSession 로직과 동일)
+            removePlayer(session, userId);
+            
+            // 1명 이하 남으면 세션 종료
+            if (session.getPlayers().size() <= 1) {
+                endReason[0] = SessionLifecycleRegistry.REASON_INSUFFICIENT_PLAYERS;
+                return false;
+            }
+            
+            // 방장이 스킵된 경우 세션 종료
+            if (isPresident) {
+                endReason[0] = SessionLifecycleRegistry.REASON_PRESIDENT_LEFT;
+                return false;
+            }
+            
+            session.setFirstCoinState(null);
+            session.setSecondCoinState(null);
+            return true;
+        });
         
-        // 1명 이하 남으면 세션 종료
-        if (updatedPlayers.size() <= 1) {
-            sessions.remove(sessionId);
+        if (endReason[0] != null) {
+            endSession(sessionId, endReason[0]);
             return;
         }
-        
-        // 방장이 스킵된 경우 세션 종료
-        if (session.getPresidentId().equals(userId)) {
-            sessions.remove(sessionId);
+        if (transition == null) {
             return;
         }
+        sessionLifecycleRegistry.playerRemoved(sessionId, userId);
         
-        // 다음 턴으로 이동
-        int nextIndex;
-        if (session.isClockWise()) {
-            nextIndex = (session.getCurrentPlayerIndex() + 1) % updatedOrderedPlayers.size();
-        } else {
-            nextIndex = (session.getCurrentPlayerIndex() - 1 + updatedOrderedPlayers.size()) % updatedOrderedPlayers.size();
-        }
-        
-        session.setPlayers(updatedPlayers);
-        session.setOrderedPlayers(updatedOrderedPlayers);
-        session.setCurrentPlayerIndex(nextIndex);
-        session.setFirstCoinState(null);
-        session.setSecondCoinState(null);
-        
-        sessions.put(sessionId, session);
+        SessionSnapshot skipped = transition.before;
+        turnHistoryService.record(sessionId, TurnHistory.KIND_SKIP, skipped.getCurrentPlayerIndex(),
+                skipped.getFirstCoinState(), skipped.getSecondCoinState(), false, skipped.isClockWise());
         
         // 업데이트된 게임 상태만 전송 (수동 턴 스킵은 에러 메시지 없음)
-        GameStateDto updatedState = convertToGameStateDto(session, null);
+        GameStateDto updatedState = convertToGameStateDto(transition.after, null);
         try {
-            String broadcastMessage = "{\"type\":\"ok\",\"sessionId\":\"" + sessionId + "\",\"entryCode\":\"" + updatedState.getEntryCode() + "\",\"presidentId\":\"" + updatedState.getPresidentId() + "\",\"createdAt\":\"" + updatedState.getCreatedAt() + "\",\"players\":" + objectMapper.writeValueAsString(updatedState.getPlayers()) + ",\"currentPlayerIndex\":" + updatedState.getCurrentPlayerIndex() + ",\"isClockWise\":" + updatedState.isClockWise() + ",\"firstCoinState\":\"" + updatedState.getFirstCoinState() + "\",\"secondCoinState\":\"" + updatedState.getSecondCoinState() + "\",\"currentPlayer\":" + objectMapper.writeValueAsString(updatedState.getCurrentPlayer()) + ",\"isMyTurn\":" + updatedState.isMyTurn() + ",\"isPresident\":" + updatedState.isPresident() + ",\"gameState\":\"" + updatedState.getGameState() + "\",\"gameEndTime\":\"" + updatedState.getGameEndTime() + "\",\"isLeeSoonSinByTimeExpired\":" + updatedState.getLeeSoonSinByTimeExpired() + "}";
+            String broadcastMessage = "{\"type\":\"ok\",\"sessionId\":\"" + sessionId + "\",\"entryCode\":\"" + updatedState.getEntryCode() + "\",\"presidentId\":\"" + updatedState.getPresidentId() + "\",\"createdAt\":\"" + updatedState.getCreatedAt() + "\",\"players\":" + objectMapper.writeValueAsString(updatedState.getPlayers()) + ",\"currentPlayerIndex\":" + updatedState.getCurrentPlayerIndex() + ",\"isClockWise\":" + updatedState.isClockWise() + ",\"firstCoinState\":\"" + updatedState.getFirstCoinState() + "\",\"secondCoinState\":\"" + updatedState.getSecondCoinState() + "\",\"currentPlayer\":" + objectMapper.writeValueAsString(updatedState.getCurrentPlayer()) + ",\"isMyTurn\":" + updatedState.isMyTurn() + ",\"isPresident\":" + updatedState.isPresident() + ",\"gameState\":\"" + updatedState.getGameState() + "\",\"gameEndTime\":\"" + updatedState.getGameEndTime() + "\",\"isLeeSoonSinByTimeExpired\":" + updatedState.getLeeSoonSinByTimeExpired() + ",\"version\":" + updatedState.getVersion() + "}";
             webSocketHandler.broadcastToGameSession(sessionId, broadcastMessage);
         } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
             String errorMsg = "{\"type\":\"error\",\"errorCode\":\"" + GameErrorDto.ERROR_INTERNAL_SERVER_ERROR + "\"}";
@@ -251,7 +293,7 @@ public class SessionService {
     }
 
     public void deleteSession(String sessionId, String userId) {
-        Session session = sessions.get(sessionId);
+        SessionSnapshot session = sessions.get(sessionId);
         if (session == null) {
             throw new SessionNotFoundException("세션을 찾을 수 없습니다.");
         }
@@ -261,25 +303,17 @@ public class SessionService {
             throw new IllegalArgumentException("방장만 세션을 삭제할 수 있습니다.");
         }
         
-        // 게임 타이머 취소
-        gameTimerService.cancelGameTimer(sessionId);
-        
-        sessions.remove(sessionId);
+        // 타이머, 연결 매핑 등 세션 자원 모두 해제
+        endSession(sessionId, SessionLifecycleRegistry.REASON_DELETED);
     }
 
     public void startGame(String sessionId) {
-        Session session = sessions.get(sessionId);
-        if (session == null) {
-            throw new SessionNotFoundException("세션을 찾을 수 없습니다.");
-        }
-        
-        session.setGameState(GameStateDto.STATE_ORDERING);
-        sessions.put(sessionId, session);
+        SessionSnapshot session = update(sessionId, draft -> draft.setGameState(GameStateDto.STATE_ORDERING)).after;
         
         // 모든 플레이어에게 게임 상태 변경 브로드캐스트
         GameStateDto gameState = convertToGameStateDto(session, null);
         try {
-            String broadcastMessage = "{\"type\":\"ok\",\"sessionId\":\"" + sessionId + "\",\"entryCode\":\"" + gameState.getEntryCode() + "\",\"presidentId\":\"" + gameState.getPresidentId() + "\",\"createdAt\":\"" + gameState.getCreatedAt() + "\",\"players\":" + objectMapper.writeValueAsString(gameState.getPlayers()) + ",\"currentPlayerIndex\":" + gameState.getCurrentPlayerIndex() + ",\"isClockWise\":" + gameState.isClockWise() + ",\"firstCoinState\":\"" + gameState.getFirstCoinState() + "\",\"secondCoinState\":\"" + gameState.getSecondCoinState() + "\",\"currentPlayer\":" + objectMapper.writeValueAsString(gameState.getCurrentPlayer()) + ",\"isMyTurn\":" + gameState.isMyTurn() + ",\"isPresident\":" + gameState.isPresident() + ",\"gameState\":\"" + gameState.getGameState() + "\",\"gameEndTime\":\"" + gameState.getGameEndTime() + "\",\"isLeeSoonSinByTimeExpired\":" + gameState.getLeeSoonSinByTimeExpired() + "}";
+            String broadcastMessage = "{\"type\":\"ok\",\"sessionId\":\"" + sessionId + "\",\"entryCode\":\"" + gameState.getEntryCode() + "\",\"presidentId\":\"" + gameState.getPresidentId() + "\",\"createdAt\":\"" + gameState.getCreatedAt() + "\",\"players\":" + objectMapper.writeValueAsString(gameState.getPlayers()) + ",\"currentPlayerIndex\":" + gameState.getCurrentPlayerIndex() + ",\"isClockWise\":" + gameState.isClockWise() + ",\"firstCoinState\":\"" + gameState.getFirstCoinState() + "\",\"secondCoinState\":\"" + gameState.getSecondCoinState() + "\",\"currentPlayer\":" + objectMapper.writeValueAsString(gameState.getCurrentPlayer()) + ",\"isMyTurn\":" + gameState.isMyTurn() + ",\"isPresident\":" + gameState.isPresident() + ",\"gameState\":\"" + gameState.getGameState() + "\",\"gameEndTime\":\"" + gameState.getGameEndTime() + "\",\"isLeeSoonSinByTimeExpired\":" + gameState.getLeeSoonSinByTimeExpired() + ",\"version\":" + gameState.getVersion() + "}";
             webSocketHandler.broadcastToGameSession(sessionId, broadcastMessage);
         } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
             String errorMsg = "{\"type\":\"error\",\"errorCode\":\"" + GameErrorDto.ERROR_INTERNAL_SERVER_ERROR + "\"}";
@@ -288,66 +322,86 @@ public class SessionService {
     }
 
     public void registerOrder(String sessionId, String userId) {
-        Session session = sessions.get(sessionId);
-        if (session == null) {
-            throw new SessionNotFoundException("세션을 찾을 수 없습니다.");
-        }
-        
-        // 게임이 이미 시작된 경우 순서 등록 불가
-        if (GameStateDto.STATE_ON_GOING.equals(session.getGameState()) || 
-            GameStateDto.STATE_LEE_SOON_SIN.equals(session.getGameState())) {
-            throw new InvalidGameStateException("게임이 이미 시작되어 순서 등록이 불가능합니다.");
-        }
-        
-        // 이미 순서에 등록된 플레이어인지 확인
-        boolean alreadyOrdered = session.getOrderedPlayers().stream()
-                .anyMatch(player -> player.getUserId().equals(userId));
-        
-        if (!alreadyOrdered) {
+        PlayerDto[] registered = new PlayerDto[1];
+        Transition transition = updateIf(sessionId, session -> {
+            // 게임이 이미 시작된 경우 순서 등록 불가
+            if (GameStateDto.STATE_ON_GOING.equals(session.getGameState()) || 
+                GameStateDto.STATE_LEE_SOON_SIN.equals(session.getGameState())) {
+                throw new InvalidGameStateException("게임이 이미 시작되어 순서 등록이 불가능합니다.");
+            }
+            
+            // 이미 순서에 등록된 플레이어인지 확인
+            boolean alreadyOrdered = session.getOrderedPlayers().stream()
+                    .anyMatch(player -> player.getUserId().equals(userId));
+            if (alreadyOrdered) {
+                return false;
+            }
+            
             // 플레이어를 찾아서 순서에 추가
             PlayerDto player = session.getPlayers().stream()
                 .filter(p -> p.getUserId().equals(userId))
                 .findFirst()
                 .orElseThrow(() -> new IllegalArgumentException("플레이어를 찾을 수 없습니다."));
             
-            List<PlayerDto> updatedOrderedPlayers = new ArrayList<>(session.getOrderedPlayers());
+            List<PlayerDto> updatedOrderedPlayers = session.getOrderedPlayers();
             updatedOrderedPlayers.add(player);
             session.setOrderedPlayers(updatedOrderedPlayers);
-            sessions.put(sessionId, session);
-            
-            log.info("순서 등록 완료: {} ({})", player.getName(), player.getUserId());
-            
-            // 모든 플레이어에게 순서 등록 상태 브로드캐스트
-            GameStateDto gameState = convertToGameStateDto(session, null);
-            try {
-                String broadcastMessage = "{\"type\":\"ok\",\"sessionId\":\"" + sessionId + "\",\"entryCode\":\"" + gameState.getEntryCode() + "\",\"presidentId\":\"" + gameState.getPresidentId() + "\",\"createdAt\":\"" + gameState.getCreatedAt() + "\",\"players\":" + objectMapper.writeValueAsString(gameState.getPlayers()) + ",\"currentPlayerIndex\":" + gameState.getCurrentPlayerIndex() + ",\"isClockWise\":" + gameState.isClockWise() + ",\"firstCoinState\":\"" + gameState.getFirstCoinState() + "\",\"secondCoinState\":\"" + gameState.getSecondCoinState() + "\",\"currentPlayer\":" + objectMapper.writeValueAsString(gameState.getCurrentPlayer()) + ",\"isMyTurn\":" + gameState.isMyTurn() + ",\"isPresident\":" + gameState.isPresident() + ",\"gameState\":\"" + gameState.getGameState() + "\",\"gameEndTime\":\"" + gameState.getGameEndTime() + "\",\"isLeeSoonSinByTimeExpired\":" + gameState.getLeeSoonSinByTimeExpired() + "}";
-                webSocketHandler.broadcastToGameSession(sessionId, broadcastMessage);
-            } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
-                String errorMsg = "{\"type\":\"error\",\"errorCode\":\"" + GameErrorDto.ERROR_INTERNAL_SERVER_ERROR + "\"}";
-                webSocketHandler.broadcastToGameSession(sessionId, errorMsg);
-            }
-        }
-    }
-
-    public void startPlaying(String sessionId) {
-        Session session = sessions.get(sessionId);
-        if (session == null) {
-            throw new SessionNotFoundException("세션을 찾을 수 없습니다.");
-        }
+            registered[0] = player;
+            return true;
+        });
         
-        // 순서가 등록된 플레이어가 있는지 확인
-        if (session.getOrderedPlayers().isEmpty()) {
-            throw new InvalidGameStateException("순서가 등록된 플레이어가 없습니다.");
+        if (transition == null) {
+            return;
         }
         
-        // 최소 2명 이상의 플레이어가 순서에 등록되어 있는지 확인
-        if (session.getOrderedPlayers().size() < 2) {
-            throw new InvalidGameStateException("게임을 시작하려면 최소 2명 이상의 플레이어가 필요합니다.");
-        }
+        log.info("순서 등록 완료: {} ({})", registered[0].getName(), registered[0].getUserId());
         
-        // 순서 등록을 안 한 플레이어들을 찾아서 에러 메시지 전송
-        List<PlayerDto> unregisteredPlayers = session.getPlayers().stream()
-                .filter(player -> session.getOrderedPlayers().stream()
+        // 모든 플레이어에게 순서 등록 상태 브로드캐스트
+        GameStateDto gameState = convertToGameStateDto(transition.after, null);
+        try {
+            String broadcastMessage = "{\"type\":\"ok\",\"sessionId\":\"" + sessionId + "\",\"entryCode\":\"" + gameState.getEntryCode() + "\",\"presidentId\":\"" + gameState.getPresidentId() + "\",\"createdAt\":\"" + gameState.getCreatedAt() + "\",\"players\":" + objectMapper.writeValueAsString(gameState.getPlayers()) + ",\"currentPlayerIndex\":" + gameState.getCurrentPlayerIndex() + ",\"isClockWise\":" + gameState.isClockWise() + ",\"firstCoinState\":\"" + gameState.getFirstCoinState() + "\",\"secondCoinState\":\"" + gameState.getSecondCoinState() + "\",\"currentPlayer\":" + objectMapper.writeValueAsString(gameState.getCurrentPlayer()) + ",\"isMyTurn\":" + gameState.isMyTurn() + ",\"isPresident\":" + gameState.isPresident() + ",\"gameState\":\"" + gameState.getGameState() + "\",\"gameEndTime\":\"" + gameState.getGameEndTime() + "\",\"isLeeSoonSinByTimeExpired\":" + gameState.getLeeSoonSinByTimeExpired() + ",\"version\":" + gameState.getVersion() + "}";
+            webSocketHandler.broadcastToGameSession(sessionId, broadcastMessage);
+        } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
+            String errorMsg = "{\"type\":\"error\",\"errorCode\":\"" + GameErrorDto.ERROR_INTERNAL_SERVER_ERROR + "\"}";
+            webSocketHandler.broadcastToGameSession(sessionId, errorMsg);
+        }
+    }
+
+    public void startPlaying(String sessionId) {
+        Transition transition = update(sessionId, session -> {
+            // 순서가 등록된 플레이어가 있는지 확인
+            if (session.getOrderedPlayers().isEmpty()) {
+                throw new InvalidGameStateException("순서가 등록된 플레이어가 없습니다.");
+            }
+            
+            // 최소 2명 이상의 플레이어가 순서에 등록되어 있는지 확인
+            if (session.getOrderedPlayers().size() < 2) {
+                throw new InvalidGameStateException("게임을 시작하려면 최소 2명 이상의 플레이어가 필요합니다.");
+            }
+            
+            // 순서 등록 안 한 플레이어들을 세션에서 제거 (게임에 참여하지 않도록)
+            List<PlayerDto> orderedPlayers = session.getOrderedPlayers();
+            List<PlayerDto> updatedPlayers = session.getPlayers().stream()
+                    .filter(player -> orderedPlayers.stream()
+                            .anyMatch(orderedPlayer -> orderedPlayer.getUserId().equals(player.getUserId())))
+                    .collect(Collectors.toList());
+            session.setPlayers(updatedPlayers);
+            
+            session.setGameState(GameStateDto.STATE_ON_GOING);
+            session.setCurrentPlayerIndex(0);
+            session.setClockWise(true);
+            session.setFirstCoinState(null);
+            session.setSecondCoinState(null);
+            
+            // 게임 마감 시간 설정 (순서 등록 후 10분)
+            resetGameEndTime(session);
+        });
+        SessionSnapshot before = transition.before;
+        SessionSnapshot session = transition.after;
+        
+        // 순서 등록을 안 한 플레이어들 (제거되기 전 상태 기준)
+        List<PlayerDto> unregisteredPlayers = before.getPlayers().stream()
+                .filter(player -> before.getOrderedPlayers().stream()
                         .noneMatch(orderedPlayer -> orderedPlayer.getUserId().equals(player.getUserId())))
                 .collect(Collectors.toList());
         
@@ -364,16 +418,10 @@ public class SessionService {
             log.info("순서 등록 안 한 플레이어에게 에러 전송: {} ({}) - {}", player.getName(), player.getUserId(), GameErrorDto.ERROR_NOT_REGISTERED_PLAYER);
         }
         
-        // 순서 등록 안 한 플레이어들을 세션에서 제거 (게임에 참여하지 않도록)
-        List<PlayerDto> updatedPlayers = session.getPlayers().stream()
-                .filter(player -> session.getOrderedPlayers().stream()
-                        .anyMatch(orderedPlayer -> orderedPlayer.getUserId().equals(player.getUserId())))
-                .collect(Collectors.toList());
-        
-        session.setPlayers(updatedPlayers);
-        sessions.put(sessionId, session);
-        
-        log.info("순서 등록 안 한 플레이어 제거 완료 - 남은 플레이어 수: {}", updatedPlayers.size());
+        for (PlayerDto player : unregisteredPlayers) {
+            sessionLifecycleRegistry.playerRemoved(sessionId, player.getUserId());
+        }
+        log.info("순서 등록 안 한 플레이어 제거 완료 - 남은 플레이어 수: {}", session.getPlayers().size());
         
         log.info("=== 게임 플레이 시작 ===");
         log.info("세션 ID: {}", sessionId);
@@ -382,18 +430,6 @@ public class SessionService {
                 .map(p -> p.getName() + "(" + p.getUserId() + ")")
                 .collect(Collectors.joining(", ")));
         
-        session.setGameState(GameStateDto.STATE_ON_GOING);
-        session.setCurrentPlayerIndex(0);
-        session.setClockWise(true);
-        session.setFirstCoinState(null);
-        session.setSecondCoinState(null);
-        
-        // 게임 마감 시간 설정 (순서 등록 후 10분)
-        LocalDateTime endTime = LocalDateTime.now().plusMinutes(10);
-        session.setGameEndTime(endTime);
-        
-        sessions.put(sessionId, session);
-        
         // 현재 턴 플레이어 정보 로깅
         if (!session.getOrderedPlayers().isEmpty()) {
             PlayerDto firstPlayer = session.getOrderedPlayers().get(0);
@@ -402,7 +438,7 @@ public class SessionService {
         
         // 정확한 타이머 설정
         try {
-            gameTimerService.scheduleGameEnd(sessionId, endTime);
+            gameTimerService.scheduleGameEnd(sessionId, session.getGameEndDeadlineNanos());
         } catch (Exception e) {
             log.error("게임 타이머 설정 중 오류 발생: {}", e.getMessage(), e);
             // 타이머 설정 실패해도 게임은 계속 진행
@@ -412,7 +448,7 @@ public class SessionService {
         for (PlayerDto player : session.getOrderedPlayers()) {
             GameStateDto gameState = convertToGameStateDto(session, player.getUserId());
             try {
-                String playerMessage = "{\"type\":\"ok\",\"sessionId\":\"" + sessionId + "\",\"entryCode\":\"" + gameState.getEntryCode() + "\",\"presidentId\":\"" + gameState.getPresidentId() + "\",\"createdAt\":\"" + gameState.getCreatedAt() + "\",\"players\":" + objectMapper.writeValueAsString(gameState.getPlayers()) + ",\"currentPlayerIndex\":" + gameState.getCurrentPlayerIndex() + ",\"isClockWise\":" + gameState.isClockWise() + ",\"firstCoinState\":\"" + gameState.getFirstCoinState() + "\",\"secondCoinState\":\"" + gameState.getSecondCoinState() + "\",\"currentPlayer\":" + objectMapper.writeValueAsString(gameState.getCurrentPlayer()) + ",\"isMyTurn\":" + gameState.isMyTurn() + ",\"isPresident\":" + gameState.isPresident() + ",\"gameState\":\"" + gameState.getGameState() + "\",\"gameEndTime\":\"" + gameState.getGameEndTime() + "\",\"isLeeSoonSinByTimeExpired\":" + gameState.getLeeSoonSinByTimeExpired() + "}";
+                String playerMessage = "{\"type\":\"ok\",\"sessionId\":\"" + sessionId + "\",\"entryCode\":\"" + gameState.getEntryCode() + "\",\"presidentId\":\"" + gameState.getPresidentId() + "\",\"createdAt\":\"" + gameState.getCreatedAt() + "\",\"players\":" + objectMapper.writeValueAsString(gameState.getPlayers()) + ",\"currentPlayerIndex\":" + gameState.getCurrentPlayerIndex() + ",\"isClockWise\":" + gameState.isClockWise() + ",\"firstCoinState\":\"" + gameState.getFirstCoinState() + "\",\"secondCoinState\":\"" + gameState.getSecondCoinState() + "\",\"currentPlayer\":" + objectMapper.writeValueAsString(gameState.getCurrentPlayer()) + ",\"isMyTurn\":" + gameState.isMyTurn() + ",\"isPresident\":" + gameState.isPresident() + ",\"gameState\":\"" + gameState.getGameState() + "\",\"gameEndTime\":\"" + gameState.getGameEndTime() + "\",\"isLeeSoonSinByTimeExpired\":" + gameState.getLeeSoonSinByTimeExpired() + ",\"version\":" + gameState.getVersion() + "}";
                 webSocketHandler.sendToUserInGameSession(sessionId, player.getUserId(), playerMessage);
             } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
                 String errorMsg = "{\"type\":\"error\",\"errorCode\":\"" + GameErrorDto.ERROR_INTERNAL_SERVER_ERROR + "\"}";
@@ -422,116 +458,230 @@ public class SessionService {
     }
 
     public void setCoinState(String sessionId, String coinType, String state) {
-        Session session = sessions.get(sessionId);
-        if (session == null) {
-            throw new SessionNotFoundException("세션을 찾을 수 없습니다.");
-        }
+        CoinState coinState = CoinState.valueOf(state);
+        
+        Transition transition = update(sessionId, session -> applyCoinState(session, coinType, coinState));
+        SessionSnapshot before = transition.before;
+        SessionSnapshot session = transition.after;
         
-        log.info("=== 동전 상태 변경 시작 ===");
+        log.info("=== 동전 상태 변경 ===");
         log.info("세션 ID: {}", sessionId);
         log.info("동전 타입: {}", coinType);
         log.info("동전 상태: {}", state);
-        log.info("현재 첫 번째 동전 상태: {}", session.getFirstCoinState());
-        log.info("현재 두 번째 동전 상태: {}", session.getSecondCoinState());
+        log.info("첫 번째 동전 상태: {} -> {}", before.getFirstCoinState(), session.getFirstCoinState());
+        log.info("두 번째 동전 상태: {} -> {}", before.getSecondCoinState(), session.getSecondCoinState());
         
-        CoinState coinState = CoinState.valueOf(state);
+        boolean leeSoonSin = session.getFirstCoinState() == CoinState.head && 
+                             session.getSecondCoinState() == CoinState.head;
+        log.info("이순신 조건 만족 여부: {}", leeSoonSin);
         
-        if ("first".equals(coinType)) {
-            session.setFirstCoinState(coinState);
-            log.info("첫 번째 동전 상태 변경: {} -> {}", session.getFirstCoinState(), coinState);
-        } else if ("second".equals(coinType)) {
-            session.setSecondCoinState(coinState);
-            log.info("두 번째 동전 상태 변경: {} -> {}", session.getSecondCoinState(), coinState);
+        if (leeSoonSin) {
+            log.info("=== 동전 결과로 인한 이순신 상태 전환 ===");
+            log.info("현재 게임 마감 시간: {}", session.getGameEndTime());
+            turnHistoryService.record(sessionId, TurnHistory.KIND_LEE_SOON_SIN, session.getCurrentPlayerIndex(),
+                    CoinState.head, CoinState.head, false, session.isClockWise());
         }
         
-        sessions.put(sessionId, session);
-        
-        log.info("=== 동전 상태 변경 후 ===");
-        log.info("변경된 첫 번째 동전 상태: {}", session.getFirstCoinState());
-        log.info("변경된 두 번째 동전 상태: {}", session.getSecondCoinState());
-        log.info("이순신 조건 확인: {} && {}", session.getFirstCoinState() == CoinState.head, session.getSecondCoinState() == CoinState.head);
-        
-        // 각 동전 상태 변경 시마다 모든 플레이어에게 개별 메시지 전송
+        // 각 동전 상태 변경 시마다 모든 플레이어에게 개별 메시지 전송 (이순신 전환도 같은 메시지에 포함)
         for (PlayerDto player : session.getOrderedPlayers()) {
             GameStateDto updatedState = convertToGameStateDto(session, player.getUserId());
             try {
-                String playerMessage = "{\"type\":\"ok\",\"sessionId\":\"" + sessionId + "\",\"entryCode\":\"" + updatedState.getEntryCode() + "\",\"presidentId\":\"" + updatedState.getPresidentId() + "\",\"createdAt\":\"" + updatedState.getCreatedAt() + "\",\"players\":" + objectMapper.writeValueAsString(updatedState.getPlayers()) + ",\"currentPlayerIndex\":" + updatedState.getCurrentPlayerIndex() + ",\"isClockWise\":" + updatedState.isClockWise() + ",\"firstCoinState\":\"" + updatedState.getFirstCoinState() + "\",\"secondCoinState\":\"" + updatedState.getSecondCoinState() + "\",\"currentPlayer\":" + objectMapper.writeValueAsString(updatedState.getCurrentPlayer()) + ",\"isMyTurn\":" + updatedState.isMyTurn() + ",\"isPresident\":" + updatedState.isPresident() + ",\"gameState\":\"" + updatedState.getGameState() + "\",\"gameEndTime\":\"" + updatedState.getGameEndTime() + "\",\"isLeeSoonSinByTimeExpired\":" + updatedState.getLeeSoonSinByTimeExpired() + "}";
+                String playerMessage = "{\"type\":\"ok\",\"sessionId\":\"" + sessionId + "\",\"entryCode\":\"" + updatedState.getEntryCode() + "\",\"presidentId\":\"" + updatedState.getPresidentId() + "\",\"createdAt\":\"" + updatedState.getCreatedAt() + "\",\"players\":" + objectMapper.writeValueAsString(updatedState.getPlayers()) + ",\"currentPlayerIndex\":" + updatedState.getCurrentPlayerIndex() + ",\"isClockWise\":" + updatedState.isClockWise() + ",\"firstCoinState\":\"" + updatedState.getFirstCoinState() + "\",\"secondCoinState\":\"" + updatedState.getSecondCoinState() + "\",\"currentPlayer\":" + objectMapper.writeValueAsString(updatedState.getCurrentPlayer()) + ",\"isMyTurn\":" + updatedState.isMyTurn() + ",\"isPresident\":" + updatedState.isPresident() + ",\"gameState\":\"" + updatedState.getGameState() + "\",\"gameEndTime\":\"" + updatedState.getGameEndTime() + "\",\"isLeeSoonSinByTimeExpired\":" + updatedState.getLeeSoonSinByTimeExpired() + ",\"version\":" + updatedState.getVersion() + "}";
                 webSocketHandler.sendToUserInGameSession(sessionId, player.getUserId(), playerMessage);
             } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
                 String errorMsg = "{\"type\":\"error\",\"errorCode\":\"" + GameErrorDto.ERROR_INTERNAL_SERVER_ERROR + "\"}";
                 webSocketHandler.sendToUserInGameSession(sessionId, player.getUserId(), errorMsg);
             }
         }
+    }
+
+    public void nextTurn(String sessionId) {
+        Transition transition = update(sessionId, session -> applyNextTurn(session));
+        SessionSnapshot before = transition.before;
+        SessionSnapshot session = transition.after;
         
-        // 두 동전이 모두 앞면이 되면 즉시 이순신 상태로 전환
-        log.info("=== 이순신 조건 확인 ===");
-        log.info("첫 번째 동전이 head인가: {}", session.getFirstCoinState() == CoinState.head);
-        log.info("두 번째 동전이 head인가: {}", session.getSecondCoinState() == CoinState.head);
-        log.info("이순신 조건 만족 여부: {}", (session.getFirstCoinState() == CoinState.head && session.getSecondCoinState() == CoinState.head));
+        boolean wasLeeSoonSinState = before.getFirstCoinState() == CoinState.head && 
+                                     before.getSecondCoinState() == CoinState.head;
+        boolean wasTimeExpiredLeeSoonSin = Boolean.TRUE.equals(before.getIsLeeSoonSinByTimeExpired());
+        boolean directionFlipped = before.getFirstCoinState() == CoinState.tail &&
+                                   before.getSecondCoinState() == CoinState.tail;
         
-        if (session.getFirstCoinState() == CoinState.head && 
-            session.getSecondCoinState() == CoinState.head) {
-            
-            log.info("=== 동전 결과로 인한 이순신 상태 전환 ===");
-            log.info("세션 ID: {}", sessionId);
-            log.info("현재 게임 마감 시간: {}", session.getGameEndTime());
-            
-            // 동전으로 인한 이순신 상태임을 명시 (시간 초과가 아님)
-            session.setIsLeeSoonSinByTimeExpired(false);
-            sessions.put(sessionId, session);
-            
-            log.info("동전 결과로 인한 이순신 상태 설정 완료 - 시간 초과 플래그: {}", session.getIsLeeSoonSinByTimeExpired());
-            
-            // 이순신 상태 전환을 위한 추가 브로드캐스트
-            for (PlayerDto player : session.getOrderedPlayers()) {
-                GameStateDto leeSoonSinState = convertToGameStateDto(session, player.getUserId());
-                try {
-                    String leeSoonSinMessage = "{\"type\":\"ok\",\"sessionId\":\"" + sessionId + "\",\"entryCode\":\"" + leeSoonSinState.getEntryCode() + "\",\"presidentId\":\"" + leeSoonSinState.getPresidentId() + "\",\"createdAt\":\"" + leeSoonSinState.getCreatedAt() + "\",\"players\":" + objectMapper.writeValueAsString(leeSoonSinState.getPlayers()) + ",\"currentPlayerIndex\":" + leeSoonSinState.getCurrentPlayerIndex() + ",\"isClockWise\":" + leeSoonSinState.isClockWise() + ",\"firstCoinState\":\"" + leeSoonSinState.getFirstCoinState() + "\",\"secondCoinState\":\"" + leeSoonSinState.getSecondCoinState() + "\",\"currentPlayer\":" + objectMapper.writeValueAsString(leeSoonSinState.getCurrentPlayer()) + ",\"isMyTurn\":" + leeSoonSinState.isMyTurn() + ",\"isPresident\":" + leeSoonSinState.isPresident() + ",\"gameState\":\"" + leeSoonSinState.getGameState() + "\",\"gameEndTime\":\"" + leeSoonSinState.getGameEndTime() + "\",\"isLeeSoonSinByTimeExpired\":" + leeSoonSinState.getLeeSoonSinByTimeExpired() + "}";
-                    webSocketHandler.sendToUserInGameSession(sessionId, player.getUserId(), leeSoonSinMessage);
-                } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
-                    String errorMsg = "{\"type\":\"error\",\"errorCode\":\"" + GameErrorDto.ERROR_INTERNAL_SERVER_ERROR + "\"}";
-                    webSocketHandler.sendToUserInGameSession(sessionId, player.getUserId(), errorMsg);
-                }
+        log.info("=== 다음 턴 처리 ===");
+        log.info("세션 ID: {}", sessionId);
+        log.info("순서 등록된 플레이어 수: {}", session.getOrderedPlayers().size());
+        log.info("동전 상태 - 첫 번째: {}, 두 번째: {}", before.getFirstCoinState(), before.getSecondCoinState());
+        log.info("이순신 상태였는가: {}, 시간 초과로 인한 이순신이었는가: {}", wasLeeSoonSinState, wasTimeExpiredLeeSoonSin);
+        log.info("{} 방향으로 다음 턴: {} -> {} (방향 전환: {})", session.isClockWise() ? "시계" : "반시계",
+                before.getCurrentPlayerIndex(), session.getCurrentPlayerIndex(), directionFlipped);
+        if (session.getCurrentPlayerId() != null) {
+            PlayerDto nextPlayer = session.getOrderedPlayers().get(session.getCurrentPlayerIndex());
+            log.info("다음 턴 플레이어: {} ({})", nextPlayer.getName(), nextPlayer.getUserId());
+        }
+        
+        // 턴 기록 (진행한 플레이어, 동전 결과, 방향 전환 여부)
+        turnHistoryService.record(sessionId, TurnHistory.KIND_TURN, before.getCurrentPlayerIndex(),
+                before.getFirstCoinState(), before.getSecondCoinState(), directionFlipped, session.isClockWise());
+        
+        if (wasLeeSoonSinState && wasTimeExpiredLeeSoonSin) {
+            log.info("시간 초과로 인한 이순신 상태에서 턴 진행 - 새로운 타이머 설정");
+            gameTimerService.scheduleGameEnd(sessionId, session.getGameEndDeadlineNanos());
+            log.info("새로운 게임 마감 시간 설정: {}", session.getGameEndTime());
+        } else {
+            log.info("타이머 리셋 조건 불충족 - wasLeeSoonSinState: {}, wasTimeExpiredLeeSoonSin: {}", wasLeeSoonSinState, wasTimeExpiredLeeSoonSin);
+        }
+        
+        // 각 플레이어에게 개별 게임 상태 전송 (isMyTurn이 올바르게 계산되도록)
+        for (PlayerDto player : session.getOrderedPlayers()) {
+            GameStateDto updatedState = convertToGameStateDto(session, player.getUserId());
+            try {
+                String playerMessage = "{\"type\":\"ok\",\"sessionId\":\"" + sessionId + "\",\"entryCode\":\"" + updatedState.getEntryCode() + "\",\"presidentId\":\"" + updatedState.getPresidentId() + "\",\"createdAt\":\"" + updatedState.getCreatedAt() + "\",\"players\":" + objectMapper.writeValueAsString(updatedState.getPlayers()) + ",\"currentPlayerIndex\":" + updatedState.getCurrentPlayerIndex() + ",\"isClockWise\":" + updatedState.isClockWise() + ",\"firstCoinState\":\"" + updatedState.getFirstCoinState() + "\",\"secondCoinState\":\"" + updatedState.getSecondCoinState() + "\",\"currentPlayer\":" + objectMapper.writeValueAsString(updatedState.getCurrentPlayer()) + ",\"isMyTurn\":" + updatedState.isMyTurn() + ",\"isPresident\":" + updatedState.isPresident() + ",\"gameState\":\"" + updatedState.getGameState() + "\",\"gameEndTime\":\"" + updatedState.getGameEndTime() + "\",\"isLeeSoonSinByTimeExpired\":" + updatedState.getLeeSoonSinByTimeExpired() + ",\"version\":" + updatedState.getVersion() + "}";
+                webSocketHandler.sendToUserInGameSession(sessionId, player.getUserId(), playerMessage);
+            } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
+                String errorMsg = "{\"type\":\"error\",\"errorCode\":\"" + GameErrorDto.ERROR_INTERNAL_SERVER_ERROR + "\"}";
+                webSocketHandler.sendToUserInGameSession(sessionId, player.getUserId(), errorMsg);
             }
         }
     }
 
-    public void nextTurn(String sessionId) {
-        Session session = sessions.get(sessionId);
-        if (session == null) {
-            throw new SessionNotFoundException("세션을 찾을 수 없습니다.");
-        }
+    public void continueFromLeeSoonSin(String sessionId) {
+        Transition transition = update(sessionId, session -> applyContinueFromLeeSoonSin(session));
+        SessionSnapshot before = transition.before;
+        SessionSnapshot session = transition.after;
+        boolean wasTimeExpiredLeeSoonSin = Boolean.TRUE.equals(before.getIsLeeSoonSinByTimeExpired());
         
-        log.info("=== 다음 턴 처리 ===");
+        log.info("=== 이순신 계속하기 처리 ===");
         log.info("세션 ID: {}", sessionId);
-        log.info("현재 플레이어 인덱스: {}", session.getCurrentPlayerIndex());
-        log.info("순서 등록된 플레이어 수: {}", session.getOrderedPlayers().size());
-        log.info("현재 시계 방향: {}", session.isClockWise());
+        log.info("동전 상태 - 첫 번째: {}, 두 번째: {}", before.getFirstCoinState(), before.getSecondCoinState());
+        log.info("시간 초과로 인한 이순신 상태였는가: {}", wasTimeExpiredLeeSoonSin);
         
-        if (!session.getOrderedPlayers().isEmpty() && 
-            session.getCurrentPlayerIndex() < session.getOrderedPlayers().size()) {
-            PlayerDto currentPlayer = session.getOrderedPlayers().get(session.getCurrentPlayerIndex());
-            log.info("현재 턴 플레이어: {} ({})", currentPlayer.getName(), currentPlayer.getUserId());
+        turnHistoryService.record(sessionId, TurnHistory.KIND_CONTINUE, before.getCurrentPlayerIndex(),
+                before.getFirstCoinState(), before.getSecondCoinState(), false, before.isClockWise());
+        
+        if (wasTimeExpiredLeeSoonSin) {
+            log.info("시간 초과로 인한 이순신 상태에서 계속하기 - 새로운 타이머 설정");
+            gameTimerService.scheduleGameEnd(sessionId, session.getGameEndDeadlineNanos());
+            log.info("새로운 게임 마감 시간 설정: {}", session.getGameEndTime());
+        } else {
+            log.info("동전 결과로 인한 이순신 상태에서 계속하기 - 기존 타이머 유지");
+            log.info("기존 게임 마감 시간 유지: {}", session.getGameEndTime());
+        }
+        
+        // 각 플레이어에게 개별 게임 상태 전송 (isMyTurn, isPresident가 올바르게 계산되도록)
+        for (PlayerDto player : session.getOrderedPlayers()) {
+            GameStateDto updatedState = convertToGameStateDto(session, player.getUserId());
+            try {
+                String playerMessage = "{\"type\":\"ok\",\"sessionId\":\"" + sessionId + "\",\"entryCode\":\"" + updatedState.getEntryCode() + "\",\"presidentId\":\"" + updatedState.getPresidentId() + "\",\"createdAt\":\"" + updatedState.getCreatedAt() + "\",\"players\":" + objectMapper.writeValueAsString(updatedState.getPlayers()) + ",\"currentPlayerIndex\":" + updatedState.getCurrentPlayerIndex() + ",\"isClockWise\":" + updatedState.isClockWise() + ",\"firstCoinState\":\"" + updatedState.getFirstCoinState() + "\",\"secondCoinState\":\"" + updatedState.getSecondCoinState() + "\",\"currentPlayer\":" + objectMapper.writeValueAsString(updatedState.getCurrentPlayer()) + ",\"isMyTurn\":" + updatedState.isMyTurn() + ",\"isPresident\":" + updatedState.isPresident() + ",\"gameState\":\"" + updatedState.getGameState() + "\",\"gameEndTime\":\"" + updatedState.getGameEndTime() + "\",\"isLeeSoonSinByTimeExpired\":" + updatedState.getLeeSoonSinByTimeExpired() + ",\"version\":" + updatedState.getVersion() + "}";
+                webSocketHandler.sendToUserInGameSession(sessionId, player.getUserId(), playerMessage);
+            } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
+                String errorMsg = "{\"type\":\"error\",\"errorCode\":\"" + GameErrorDto.ERROR_INTERNAL_SERVER_ERROR + "\"}";
+                webSocketHandler.sendToUserInGameSession(sessionId, player.getUserId(), errorMsg);
+            }
         }
+    }
+
+    /**
+     * 여러 동작(동전 두 개와 다음 턴 등)을 한 번의 상태 변경으로 적용하고 결과 상태를 플레이어마다 한 번만 전송
+     * 동작은 순서대로 적용되며, 하나라도 적용할 수 없으면 아무것도 반영하지 않는다.
+     */
+    public void applyBatch(String sessionId, List<GameActionDto> actions) {
+        validateBatch(actions);
+        
+        List<TurnRecord> records = new ArrayList<>();
+        boolean[] timerReset = new boolean[1];
+        Transition transition = update(sessionId, session -> {
+            // 다른 스레드와 충돌해 다시 적용할 때는 기록도 처음부터
+            records.clear();
+            timerReset[0] = false;
+            if (!GameStateDto.STATE_ON_GOING.equals(session.getGameState()) || session.getOrderedPlayers().isEmpty()) {
+                throw new InvalidGameStateException("게임 진행 중에만 묶음 명령을 보낼 수 있습니다.");
+            }
+            for (GameActionDto action : actions) {
+                int playerIndex = session.getCurrentPlayerIndex();
+                CoinState firstCoin = session.getFirstCoinState();
+                CoinState secondCoin = session.getSecondCoinState();
+                boolean clockWise = session.isClockWise();
+                
+                if (GameActionDto.TYPE_COIN_ACTION.equals(action.getType())) {
+                    applyCoinState(session, action.getCoinType(), CoinState.valueOf(action.getState()));
+                    if (session.getFirstCoinState() == CoinState.head && session.getSecondCoinState() == CoinState.head) {
+                        records.add(new TurnRecord(TurnHistory.KIND_LEE_SOON_SIN, playerIndex, CoinState.head, CoinState.head, false, clockWise));
+                    }
+                } else if (GameActionDto.TYPE_NEXT_TURN.equals(action.getType())) {
+                    timerReset[0] |= applyNextTurn(session);
+                    records.add(new TurnRecord(TurnHistory.KIND_TURN, playerIndex, firstCoin, secondCoin,
+                            clockWise != session.isClockWise(), session.isClockWise()));
+                } else {
+                    timerReset[0] |= applyContinueFromLeeSoonSin(session);
+                    records.add(new TurnRecord(TurnHistory.KIND_CONTINUE, playerIndex, firstCoin, secondCoin, false, clockWise));
+                }
+            }
+        });
+        SessionSnapshot session = transition.after;
         
-        // 이순신 상태에서 nextTurn이 호출된 경우 새로운 타이머 설정
-        boolean wasLeeSoonSinState = (session.getFirstCoinState() == CoinState.head && 
-                                     session.getSecondCoinState() == CoinState.head);
+        log.info("묶음 명령 적용 - sessionId: {}, 동작 수: {}, 버전: {} -> {}", sessionId, actions.size(),
+                transition.before.getVersion(), session.getVersion());
         
-        log.info("이순신 상태였는가: {}", wasLeeSoonSinState);
-        log.info("현재 동전 상태 - 첫 번째: {}, 두 번째: {}", session.getFirstCoinState(), session.getSecondCoinState());
-        log.info("이순신 시간 초과 플래그: {}", session.getIsLeeSoonSinByTimeExpired());
-        log.info("현재 게임 마감 시간: {}", session.getGameEndTime());
+        for (TurnRecord record : records) {
+            turnHistoryService.record(sessionId, record.kind, record.playerIndex, record.firstCoin, record.secondCoin,
+                    record.directionFlipped, record.clockWise);
+        }
+        if (timerReset[0]) {
+            gameTimerService.scheduleGameEnd(sessionId, session.getGameEndDeadlineNanos());
+            log.info("묶음 명령으로 게임 마감 시간 재설정: {}", session.getGameEndTime());
+        }
         
-        // 동전 상태 확인하여 게임 로직 처리
+        // 중간 상태는 보내지 않고 결과 상태만 전송
+        sendStateToPlayers(sessionId, session);
+    }
+
+    // 묶음 명령 형식 검증 (세션 상태와 관계없는 검사는 상태 변경 전에)
+    private void validateBatch(List<GameActionDto> actions) {
+        if (actions == null || actions.isEmpty()) {
+            throw new IllegalArgumentException("묶음 명령에 동작이 없습니다.");
+        }
+        if (actions.size() > MAX_BATCH_ACTIONS) {
+            throw new IllegalArgumentException("묶음 명령의 동작은 최대 " + MAX_BATCH_ACTIONS + "개입니다.");
+        }
+        for (GameActionDto action : actions) {
+            String type = action.getType();
+            if (GameActionDto.TYPE_COIN_ACTION.equals(type)) {
+                if (!"first".equals(action.getCoinType()) && !"second".equals(action.getCoinType())) {
+                    throw new IllegalArgumentException("잘못된 동전 타입입니다: " + action.getCoinType());
+                }
+                try {
+                    CoinState.valueOf(String.valueOf(action.getState()));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("잘못된 동전 상태입니다: " + action.getState());
+                }
+            } else if (!GameActionDto.TYPE_NEXT_TURN.equals(type) && !GameActionDto.TYPE_CONTINUE_LEE_SOON_SIN.equals(type)) {
+                throw new IllegalArgumentException("묶음 명령에 쓸 수 없는 동작입니다: " + type);
+            }
+        }
+    }
+
+    // 동전 하나의 상태 변경 (작업 사본에 적용)
+    private void applyCoinState(Session session, String coinType, CoinState coinState) {
+        if ("first".equals(coinType)) {
+            session.setFirstCoinState(coinState);
+        } else if ("second".equals(coinType)) {
+            session.setSecondCoinState(coinState);
+        }
+        
+        // 두 동전이 모두 앞면이 되면 즉시 이순신 상태로 전환 (동전으로 인한 것임을 명시, 시간 초과가 아님)
         if (session.getFirstCoinState() == CoinState.head && 
             session.getSecondCoinState() == CoinState.head) {
-            log.info("이순신 상태 - 동전 상태 유지");
-            // 이순신 화면으로 이동 - 상태는 그대로 유지
-            // 실제 이순신 히스토리는 클라이언트에서 Firebase로 처리
-        } else if (session.getFirstCoinState() == CoinState.tail && 
-                   session.getSecondCoinState() == CoinState.tail) {
-            log.info("순서 바꾸기 - 시계 방향 변경: {} -> {}", session.isClockWise(), !session.isClockWise());
+            session.setIsLeeSoonSinByTimeExpired(false);
+        }
+    }
+
+    // 다음 턴으로 이동 (작업 사본에 적용, 게임 마감 시간을 재설정했으면 true)
+    private boolean applyNextTurn(Session session) {
+        boolean wasLeeSoonSinState = session.getFirstCoinState() == CoinState.head && 
+                                     session.getSecondCoinState() == CoinState.head;
+        
+        // 동전 상태 확인하여 게임 로직 처리 (이순신은 상태 그대로 유지, 이순신 기록은 턴 기록에 포함)
+        if (session.getFirstCoinState() == CoinState.tail && 
+            session.getSecondCoinState() == CoinState.tail) {
             // 순서 바꾸기
             session.setClockWise(!session.isClockWise());
         }
@@ -540,71 +690,30 @@ public class SessionService {
         int nextIndex;
         if (session.isClockWise()) {
             nextIndex = (session.getCurrentPlayerIndex() + 1) % session.getOrderedPlayers().size();
-            log.info("시계 방향으로 다음 턴: {} -> {}", session.getCurrentPlayerIndex(), nextIndex);
         } else {
             nextIndex = (session.getCurrentPlayerIndex() - 1 + session.getOrderedPlayers().size()) % session.getOrderedPlayers().size();
-            log.info("반시계 방향으로 다음 턴: {} -> {}", session.getCurrentPlayerIndex(), nextIndex);
         }
         
         session.setCurrentPlayerIndex(nextIndex);
         session.setFirstCoinState(null);
         session.setSecondCoinState(null);
         
-        if (!session.getOrderedPlayers().isEmpty() && 
-            nextIndex < session.getOrderedPlayers().size()) {
-            PlayerDto nextPlayer = session.getOrderedPlayers().get(nextIndex);
-            log.info("다음 턴 플레이어: {} ({})", nextPlayer.getName(), nextPlayer.getUserId());
+        // 시간 초과로 인한 이순신 상태에서 nextTurn이 호출된 경우에만 게임 마감 시간 재설정
+        boolean timerReset = wasLeeSoonSinState && Boolean.TRUE.equals(session.getIsLeeSoonSinByTimeExpired());
+        if (timerReset) {
+            resetGameEndTime(session);
         }
         
-        // 시간 초과로 인한 이순신 상태에서 nextTurn이 호출된 경우에만 새로운 타이머 설정
-        boolean wasTimeExpiredLeeSoonSin = Boolean.TRUE.equals(session.getIsLeeSoonSinByTimeExpired());
-        log.info("시간 초과로 인한 이순신 상태였는가: {}", wasTimeExpiredLeeSoonSin);
-        
-        if (wasLeeSoonSinState && wasTimeExpiredLeeSoonSin) {
-            log.info("시간 초과로 인한 이순신 상태에서 턴 진행 - 새로운 타이머 설정");
-            LocalDateTime newEndTime = LocalDateTime.now().plusMinutes(10);
-            session.setGameEndTime(newEndTime);
-            gameTimerService.scheduleGameEnd(sessionId, newEndTime);
-            log.info("새로운 게임 마감 시간 설정: {}", newEndTime);
-        } else {
-            log.info("타이머 리셋 조건 불충족 - wasLeeSoonSinState: {}, wasTimeExpiredLeeSoonSin: {}", wasLeeSoonSinState, wasTimeExpiredLeeSoonSin);
-        }
-        
-        // 이순신 상태 플래그 초기화 (타이머 재설정 후)
+        // 이순신 상태 플래그 초기화
         session.setIsLeeSoonSinByTimeExpired(null);
-        
-        sessions.put(sessionId, session);
-        
-        // 각 플레이어에게 개별 게임 상태 전송 (isMyTurn이 올바르게 계산되도록)
-        for (PlayerDto player : session.getOrderedPlayers()) {
-            GameStateDto updatedState = convertToGameStateDto(session, player.getUserId());
-            try {
-                String playerMessage = "{\"type\":\"ok\",\"sessionId\":\"" + sessionId + "\",\"entryCode\":\"" + updatedState.getEntryCode() + "\",\"presidentId\":\"" + updatedState.getPresidentId() + "\",\"createdAt\":\"" + updatedState.getCreatedAt() + "\",\"players\":" + objectMapper.writeValueAsString(updatedState.getPlayers()) + ",\"currentPlayerIndex\":" + updatedState.getCurrentPlayerIndex() + ",\"isClockWise\":" + updatedState.isClockWise() + ",\"firstCoinState\":\"" + updatedState.getFirstCoinState() + "\",\"secondCoinState\":\"" + updatedState.getSecondCoinState() + "\",\"currentPlayer\":" + objectMapper.writeValueAsString(updatedState.getCurrentPlayer()) + ",\"isMyTurn\":" + updatedState.isMyTurn() + ",\"isPresident\":" + updatedState.isPresident() + ",\"gameState\":\"" + updatedState.getGameState() + "\",\"gameEndTime\":\"" + updatedState.getGameEndTime() + "\",\"isLeeSoonSinByTimeExpired\":" + updatedState.getLeeSoonSinByTimeExpired() + "}";
-                webSocketHandler.sendToUserInGameSession(sessionId, player.getUserId(), playerMessage);
-            } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
-                String errorMsg = "{\"type\":\"error\",\"errorCode\":\"" + GameErrorDto.ERROR_INTERNAL_SERVER_ERROR + "\"}";
-                webSocketHandler.sendToUserInGameSession(sessionId, player.getUserId(), errorMsg);
-            }
-        }
+        return timerReset;
     }
 
-    public void continueFromLeeSoonSin(String sessionId) {
-        Session session = sessions.get(sessionId);
-        if (session == null) {
-            throw new SessionNotFoundException("세션을 찾을 수 없습니다.");
-        }
-        
-        log.info("=== 이순신 계속하기 처리 ===");
-        log.info("세션 ID: {}", sessionId);
-        log.info("현재 동전 상태 - 첫 번째: {}, 두 번째: {}", session.getFirstCoinState(), session.getSecondCoinState());
-        log.info("이순신 시간 초과 플래그: {}", session.getIsLeeSoonSinByTimeExpired());
-        log.info("현재 게임 마감 시간: {}", session.getGameEndTime());
-        
-        // 시간 초과로 인한 이순신 상태였는지 먼저 확인 (동전 상태 초기화 전에)
+    // 이순신 화면에서 계속하기 (작업 사본에 적용, 게임 마감 시간을 재설정했으면 true)
+    private boolean applyContinueFromLeeSoonSin(Session session) {
+        // 시간 초과로 인한 이순신 상태였을 때만 게임 마감 시간 재설정 (동전 상태 초기화 전에 확인)
         boolean wasTimeExpiredLeeSoonSin = Boolean.TRUE.equals(session.getIsLeeSoonSinByTimeExpired());
         
-        log.info("시간 초과로 인한 이순신 상태였는가: {}", wasTimeExpiredLeeSoonSin);
-        
         // 이순신 화면에서 계속하기 - 동전 상태 초기화하고 다음 턴으로
         session.setFirstCoinState(null);
         session.setSecondCoinState(null);
@@ -616,31 +725,23 @@ public class SessionService {
         } else {
             nextIndex = (session.getCurrentPlayerIndex() - 1 + session.getOrderedPlayers().size()) % session.getOrderedPlayers().size();
         }
-        
         session.setCurrentPlayerIndex(nextIndex);
         
-        // 시간 초과로 인한 이순신 상태였을 때만 타이머 리셋
         if (wasTimeExpiredLeeSoonSin) {
-            log.info("시간 초과로 인한 이순신 상태에서 계속하기 - 새로운 타이머 설정");
-            LocalDateTime newEndTime = LocalDateTime.now().plusMinutes(10);
-            session.setGameEndTime(newEndTime);
-            gameTimerService.scheduleGameEnd(sessionId, newEndTime);
-            log.info("새로운 게임 마감 시간 설정: {}", newEndTime);
-        } else {
-            log.info("동전 결과로 인한 이순신 상태에서 계속하기 - 기존 타이머 유지");
-            log.info("기존 게임 마감 시간 유지: {}", session.getGameEndTime());
+            resetGameEndTime(session);
         }
         
-        // 이순신 상태 플래그 초기화 (타이머 재설정 후)
+        // 이순신 상태 플래그 초기화
         session.setIsLeeSoonSinByTimeExpired(null);
-        
-        sessions.put(sessionId, session);
-        
-        // 각 플레이어에게 개별 게임 상태 전송 (isMyTurn, isPresident가 올바르게 계산되도록)
+        return wasTimeExpiredLeeSoonSin;
+    }
+
+    // 각 플레이어에게 개별 게임 상태 전송 (isMyTurn, isPresident가 올바르게 계산되도록)
+    private void sendStateToPlayers(String sessionId, SessionSnapshot session) {
         for (PlayerDto player : session.getOrderedPlayers()) {
             GameStateDto updatedState = convertToGameStateDto(session, player.getUserId());
             try {
-                String playerMessage = "{\"type\":\"ok\",\"sessionId\":\"" + sessionId + "\",\"entryCode\":\"" + updatedState.getEntryCode() + "\",\"presidentId\":\"" + updatedState.getPresidentId() + "\",\"createdAt\":\"" + updatedState.getCreatedAt() + "\",\"players\":" + objectMapper.writeValueAsString(updatedState.getPlayers()) + ",\"currentPlayerIndex\":" + updatedState.getCurrentPlayerIndex() + ",\"isClockWise\":" + updatedState.isClockWise() + ",\"firstCoinState\":\"" + updatedState.getFirstCoinState() + "\",\"secondCoinState\":\"" + updatedState.getSecondCoinState() + "\",\"currentPlayer\":" + objectMapper.writeValueAsString(updatedState.getCurrentPlayer()) + ",\"isMyTurn\":" + updatedState.isMyTurn() + ",\"isPresident\":" + updatedState.isPresident() + ",\"gameState\":\"" + updatedState.getGameState() + "\",\"gameEndTime\":\"" + updatedState.getGameEndTime() + "\",\"isLeeSoonSinByTimeExpired\":" + updatedState.getLeeSoonSinByTimeExpired() + "}";
+                String playerMessage = "{\"type\":\"ok\",\"sessionId\":\"" + sessionId + "\",\"entryCode\":\"" + updatedState.getEntryCode() + "\",\"presidentId\":\"" + updatedState.getPresidentId() + "\",\"createdAt\":\"" + updatedState.getCreatedAt() + "\",\"players\":" + objectMapper.writeValueAsString(updatedState.getPlayers()) + ",\"currentPlayerIndex\":" + updatedState.getCurrentPlayerIndex() + ",\"isClockWise\":" + updatedState.isClockWise() + ",\"firstCoinState\":\"" + updatedState.getFirstCoinState() + "\",\"secondCoinState\":\"" + updatedState.getSecondCoinState() + "\",\"currentPlayer\":" + objectMapper.writeValueAsString(updatedState.getCurrentPlayer()) + ",\"isMyTurn\":" + updatedState.isMyTurn() + ",\"isPresident\":" + updatedState.isPresident() + ",\"gameState\":\"" + updatedState.getGameState() + "\",\"gameEndTime\":\"" + updatedState.getGameEndTime() + "\",\"isLeeSoonSinByTimeExpired\":" + updatedState.getLeeSoonSinByTimeExpired() + ",\"version\":" + updatedState.getVersion() + "}";
                 webSocketHandler.sendToUserInGameSession(sessionId, player.getUserId(), playerMessage);
             } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
                 String errorMsg = "{\"type\":\"error\",\"errorCode\":\"" + GameErrorDto.ERROR_INTERNAL_SERVER_ERROR + "\"}";
@@ -649,8 +750,19 @@ public class SessionService {
         }
     }
 
+    /**
+     * 방 참가자 목록에 있는 플레이어인지 (나가기, 턴 스킵, 연결 끊김, 순서 미등록으로 빠진 플레이어는 false)
+     */
+    public boolean isPlayer(String sessionId, String userId) {
+        SessionSnapshot session = sessions.get(sessionId);
+        if (session == null) {
+            throw new SessionNotFoundException("세션을 찾을 수 없습니다.");
+        }
+        return session.getPlayers().stream().anyMatch(player -> player.getUserId().equals(userId));
+    }
+
     public GameStateDto getGameState(String sessionId, String userId) {
-        Session session = sessions.get(sessionId);
+        SessionSnapshot session = sessions.get(sessionId);
         if (session == null) {
             throw new SessionNotFoundException("세션을 찾을 수 없습니다.");
         }
@@ -671,7 +783,7 @@ public class SessionService {
         return convertToGameStateDto(session, userId);
     }
 
-    private GameStateDto convertToGameStateDto(Session session, String userId) {
+    private GameStateDto convertToGameStateDto(SessionSnapshot session, String userId) {
         // 현재 턴 플레이어 ID
         String currentPlayerId = null;
         if (!session.getOrderedPlayers().isEmpty() && 
@@ -764,6 +876,7 @@ public class SessionService {
         // 게임 마감 시간 정보 설정
         dto.setGameEndTime(session.getGameEndTime());
         dto.setLeeSoonSinByTimeExpired(session.getIsLeeSoonSinByTimeExpired());
+        dto.setVersion(session.getVersion());
         
         // 게임 상태별로 적절한 플레이어 리스트만 포함 (MUX 방식)
         switch (gameState) {
@@ -789,7 +902,7 @@ public class SessionService {
         return dto;
     }
 
-    private String determineGameState(Session session) {
+    String determineGameState(SessionSnapshot session) {
         // 이순신 조건 확인 (두 동전 모두 앞면)
         if (session.getFirstCoinState() == CoinState.head && 
             session.getSecondCoinState() == CoinState.head) {
@@ -810,84 +923,353 @@ public class SessionService {
         }
     }
 
-    private String generateEntryCode() {
+    // 상태 변경 한 번의 전후 스냅샷 (전송, 타이머, 턴 기록은 이 값으로 처리)
+    private static final class Transition {
+        private final SessionSnapshot before;
+        private final SessionSnapshot after;
+
+        private Transition(SessionSnapshot before, SessionSnapshot after) {
+            this.before = before;
+            this.after = after;
+        }
+    }
+
+    // 상태 변경 후 남길 턴 기록 하나 (묶음 명령은 동작마다 기록)
+    private static final class TurnRecord {
+        private final int kind;
+        private final int playerIndex;
+        private final CoinState firstCoin;
+        private final CoinState secondCoin;
+        private final boolean directionFlipped;
+        private final boolean clockWise;
+
+        private TurnRecord(int kind, int playerIndex, CoinState firstCoin, CoinState secondCoin,
+                           boolean directionFlipped, boolean clockWise) {
+            this.kind = kind;
+            this.playerIndex = playerIndex;
+            this.firstCoin = firstCoin;
+            this.secondCoin = secondCoin;
+            this.directionFlipped = directionFlipped;
+            this.clockWise = clockWise;
+        }
+    }
+
+    /**
+     * 현재 스냅샷의 작업 사본에 mutation을 적용하고 다음 버전으로 교체
+     * 그 사이 다른 스레드가 먼저 교체했으면 최신 스냅샷에서 다시 적용한다. (mutation은 여러 번 실행될 수 있으므로
+     * 작업 사본만 고치고, 메시지 전송/타이머/턴 기록 같은 부수 효과는 반환된 Transition으로 교체 후에 처리)
+     * @return mutation이 false를 반환하면 (바꿀 것이 없으면) 교체하지 않고 null
+     */
+    private Transition updateIf(String sessionId, Predicate<Session> mutation) {
         while (true) {
-            // 6자리 숫자 생성 (000000 ~ 999999)
-            String entryCode = String.format("%06d", new Random().nextInt(1000000));
-            
-            // 중복 확인
-            boolean isDuplicate = false;
-            for (Session session : sessions.values()) {
-                if (session.getEntryCode().equals(entryCode)) {
-                    isDuplicate = true;
-                    break;
-                }
+            SessionSnapshot current = sessions.get(sessionId);
+            if (current == null) {
+                throw new SessionNotFoundException("세션을 찾을 수 없습니다.");
             }
-            
-            if (!isDuplicate) {
-        return entryCode;
+            Session draft = current.toDraft();
+            if (!mutation.test(draft)) {
+                return null;
+            }
+            SessionSnapshot next = new SessionSnapshot(draft, current.getVersion() + 1);
+            // 스냅샷은 equals를 재정의하지 않으므로 읽은 스냅샷 그대로일 때만 교체됨 (제거된 세션은 되살리지 않음)
+            if (sessions.replace(sessionId, current, next)) {
+                published(next);
+                return new Transition(current, next);
             }
         }
     }
 
+    private Transition update(String sessionId, Consumer<Session> mutation) {
+        return updateIf(sessionId, draft -> {
+            mutation.accept(draft);
+            return true;
+        });
+    }
+
+    /**
+     * 새 스냅샷 반영 후 보조 인덱스, 활동 시각, 상태 캐시, 메모리 집계, 관전 프레임 갱신
+     * 교체(CAS)한 뒤 반영하기 전까지 다른 스레드가 더 새 버전을 교체하고 먼저 반영할 수 있으므로, 반영을 마친 뒤
+     * 저장소의 최신 스냅샷이 반영한 것과 다르면 최신 스냅샷으로 다시 반영한다. 반영을 마지막으로 끝내는 스레드가
+     * 항상 최신 버전을 확인하고 끝나므로 각 소비자에는 최신 버전이 남는다. (관전 프레임은 SpectatorHub가 버전으로 중복 제거)
+     */
+    private void published(SessionSnapshot session) {
+        SessionSnapshot applied = session;
+        while (true) {
+            applyToConsumers(applied);
+            SessionSnapshot latest = sessions.get(applied.getId());
+            if (latest == null) {
+                // 갱신하는 사이 세션이 종료됐으면 보조 인덱스와 메모리 집계에 남기지 않음
+                sessionIndex.remove(applied.getId());
+                sessionMemoryBudget.release(applied.getId());
+                return;
+            }
+            if (latest == applied || latest.getVersion() <= applied.getVersion()) {
+                return;
+            }
+            applied = latest;
+        }
+    }
+
+    private void applyToConsumers(SessionSnapshot session) {
+        String gameState = determineGameState(session);
+        sessionIndex.update(session.getId(), gameState, session.getCreatedAt(), session.getGameEndTime(), session.getPlayers().size());
+        sessionExpiryService.touch(session.getId(), gameState);
+        sessionStateCache.onPublished(session.getId(), session.getVersion());
+        sessionMemoryBudget.account(session);
+        // 관전자에게는 버전마다 플레이어별 값이 없는 상태 프레임 하나 (플레이어 전송 경로와 관계없이)
+        if (webSocketHandler.hasSpectatorAudience(session.getId())) {
+            webSocketHandler.publishToSpectators(convertToGameStateDto(session, null));
+        }
+    }
+
+    // 세션 종료 (세션에 딸린 자원 해제는 SessionLifecycleRegistry에 등록된 리스너가 담당)
+    private void endSession(String sessionId, String reason) {
+        if (!sessionLifecycleRegistry.endSession(sessionId, reason)) {
+            // 레지스트리에 없는 세션이라도 저장소에는 남기지 않음
+            removeSession(sessionId);
+        }
+    }
+
+    @Override
+    public void onSessionEnded(SessionResources resources, String reason) {
+        removeSession(resources.getGameSessionId());
+    }
+
+    // 세션과 입장 코드 인덱스, 보조 인덱스를 함께 제거
+    private void removeSession(String sessionId) {
+        SessionSnapshot removed = sessions.remove(sessionId);
+        if (removed != null) {
+            entryCodeToSessionId.remove(removed.getEntryCode(), sessionId);
+        }
+        sessionIndex.remove(sessionId);
+        sessionMemoryBudget.release(sessionId);
+    }
+
+    // 참여 목록과 순서 목록에서 플레이어를 빼고 현재 턴 인덱스 조정 (자기 차례였으면 다음 턴으로 넘김)
+    private void removePlayer(Session session, String userId) {
+        List<PlayerDto> updatedPlayers = session.getPlayers().stream()
+                .filter(player -> !player.getUserId().equals(userId))
+                .collect(Collectors.toList());
+        List<PlayerDto> updatedOrderedPlayers = session.getOrderedPlayers().stream()
+                .filter(player -> !player.getUserId().equals(userId))
+                .collect(Collectors.toList());
+        
+        int newCurrentPlayerIndex = indexAfterRemoval(session, userId, updatedOrderedPlayers.size());
+        session.setPlayers(updatedPlayers);
+        session.setOrderedPlayers(updatedOrderedPlayers);
+        session.setCurrentPlayerIndex(newCurrentPlayerIndex);
+    }
+
+    // 플레이어가 순서에서 빠진 뒤의 현재 턴 인덱스 (순서 목록을 바꾸기 전에 호출)
+    // 빠진 플레이어가 현재 턴보다 앞이면 한 칸 당기고, 현재 턴 플레이어였으면 진행 방향의 다음 플레이어
+    private int indexAfterRemoval(Session session, String userId, int remainingCount) {
+        if (remainingCount <= 0) {
+            return 0;
+        }
+        List<PlayerDto> orderedPlayers = session.getOrderedPlayers();
+        int current = session.getCurrentPlayerIndex();
+        int removed = -1;
+        for (int i = 0; i < orderedPlayers.size(); i++) {
+            if (orderedPlayers.get(i).getUserId().equals(userId)) {
+                removed = i;
+                break;
+            }
+        }
+        
+        if (removed < 0 || removed > current) {
+            return current < remainingCount ? current : 0;
+        }
+        if (removed < current) {
+            return current - 1;
+        }
+        // 현재 턴 플레이어가 빠지면 뒤 플레이어가 그 자리로 당겨지므로 시계 방향은 같은 인덱스
+        return session.isClockWise() ? removed % remainingCount : (removed - 1 + remainingCount) % remainingCount;
+    }
+
+    // 방치된 세션 만료 처리 (SessionExpiryService에서 호출)
+    public SessionSnapshot expireSession(String sessionId) {
+        SessionSnapshot session = sessions.get(sessionId);
+        if (session == null) {
+            return null;
+        }
+        
+        log.info("방치된 세션 만료 - sessionId: {}, gameState: {}", sessionId, session.getGameState());
+        
+        // 아직 연결된 플레이어가 있으면 만료 알림 전송
+        String errorMsg = "{\"type\":\"error\",\"errorCode\":\"" + GameErrorDto.ERROR_SESSION_EXPIRED + "\"}";
+        webSocketHandler.broadcastToGameSession(sessionId, errorMsg);
+        
+        endSession(sessionId, SessionLifecycleRegistry.REASON_EXPIRED);
+        return session;
+    }
+
+    // 운영자 요청으로 세션 강제 종료
+    public SessionSnapshot forceCloseSession(String sessionId) {
+        SessionSnapshot session = sessions.get(sessionId);
+        if (session == null) {
+            throw new SessionNotFoundException("세션을 찾을 수 없습니다.");
+        }
+        
+        log.info("운영자 요청으로 세션 강제 종료 - sessionId: {}, gameState: {}", sessionId, session.getGameState());
+        
+        String errorMsg = "{\"type\":\"error\",\"errorCode\":\"" + GameErrorDto.ERROR_SESSION_CLOSED_BY_ADMIN + "\"}";
+        webSocketHandler.broadcastToGameSession(sessionId, errorMsg);
+        
+        endSession(sessionId, SessionLifecycleRegistry.REASON_ADMIN_CLOSED);
+        return session;
+    }
+
+    /**
+     * 게임 마감 시각을 지금부터 GAME_DURATION 뒤로 설정
+     * 마감 판정은 단조 시각으로 하고, 벽시계 시각은 화면 표시에만 쓴다.
+     * @return 타이머에 넘길 마감 시각 (GameClock.nanoTime 기준)
+     */
+    private long resetGameEndTime(Session session) {
+        long deadlineNanos = clock.nanoTime() + GAME_DURATION.toNanos();
+        session.setGameEndDeadlineNanos(deadlineNanos);
+        session.setGameEndTime(clock.now().plus(GAME_DURATION));
+        return deadlineNanos;
+    }
+
     // 게임 마감 시간 체크 및 자동 이순신 상태 전환
     public void checkGameEndTime(String sessionId) {
-        Session session = sessions.get(sessionId);
-        
-        if (session == null || session.getGameEndTime() == null) {
+        Transition transition;
+        try {
+            transition = updateIf(sessionId, session -> {
+                // 게임 마감 시간이 지났고, 현재 게임 진행 중인 경우만
+                if (session.getGameEndTime() == null ||
+                    clock.nanoTime() - session.getGameEndDeadlineNanos() < 0 ||
+                    !GameStateDto.STATE_ON_GOING.equals(session.getGameState())) {
+                    return false;
+                }
+                
+                // 이미 이순신 상태인 경우 처리하지 않음
+                if (session.getFirstCoinState() == CoinState.head && 
+                    session.getSecondCoinState() == CoinState.head) {
+                    return false;
+                }
+                
+                // 이순신 상태로 강제 전환 (시간 초과로 인한 것임을 표시)
+                session.setFirstCoinState(CoinState.head);
+                session.setSecondCoinState(CoinState.head);
+                session.setIsLeeSoonSinByTimeExpired(true);
+                return true;
+            });
+        } catch (SessionNotFoundException e) {
+            return; // 이미 종료된 세션
+        }
+        if (transition == null) {
             return;
         }
+        SessionSnapshot session = transition.after;
         
-        // 게임 마감 시간이 지났고, 현재 게임 진행 중인 경우
-        if (LocalDateTime.now().isAfter(session.getGameEndTime()) && 
-            GameStateDto.STATE_ON_GOING.equals(session.getGameState())) {
-            
-            // 이미 이순신 상태인 경우 처리하지 않음
-            if (session.getFirstCoinState() == CoinState.head && 
-                session.getSecondCoinState() == CoinState.head) {
-                return;
-            }
-            
-            log.info("=== 시간 초과로 인한 이순신 상태 전환 ===");
-            log.info("세션 ID: {}", sessionId);
-            log.info("현재 게임 마감 시간: {}", session.getGameEndTime());
-            log.info("현재 시간: {}", LocalDateTime.now());
-            
-            // 이순신 상태로 강제 전환 (시간 초과로 인한 것임을 표시)
-            session.setFirstCoinState(CoinState.head);
-            session.setSecondCoinState(CoinState.head);
-            session.setIsLeeSoonSinByTimeExpired(true);
-            
-            sessions.put(sessionId, session);
-            
-            log.info("시간 초과로 인한 이순신 상태 설정 완료 - 시간 초과 플래그: {}", session.getIsLeeSoonSinByTimeExpired());
-            
-            // 이순신 상태 전환 알림 전송
-            String errorMsg = "{\"type\":\"error\",\"errorCode\":\"" + GameErrorDto.ERROR_GAME_TIME_EXPIRED + "\"}";
-            webSocketHandler.broadcastToGameSession(sessionId, errorMsg);
-            
-            // 각 플레이어에게 개별 게임 상태 전송 (isMyTurn, isPresident가 올바르게 계산되도록)
-            for (PlayerDto player : session.getOrderedPlayers()) {
-                GameStateDto updatedState = convertToGameStateDto(session, player.getUserId());
-                try {
-                    String playerMessage = "{\"type\":\"ok\",\"sessionId\":\"" + sessionId + "\",\"entryCode\":\"" + updatedState.getEntryCode() + "\",\"presidentId\":\"" + updatedState.getPresidentId() + "\",\"createdAt\":\"" + updatedState.getCreatedAt() + "\",\"players\":" + objectMapper.writeValueAsString(updatedState.getPlayers()) + ",\"currentPlayerIndex\":" + updatedState.getCurrentPlayerIndex() + ",\"isClockWise\":" + updatedState.isClockWise() + ",\"firstCoinState\":\"" + updatedState.getFirstCoinState() + "\",\"secondCoinState\":\"" + updatedState.getSecondCoinState() + "\",\"currentPlayer\":" + objectMapper.writeValueAsString(updatedState.getCurrentPlayer()) + ",\"isMyTurn\":" + updatedState.isMyTurn() + ",\"isPresident\":" + updatedState.isPresident() + ",\"gameState\":\"" + updatedState.getGameState() + "\",\"gameEndTime\":\"" + updatedState.getGameEndTime() + "\",\"isLeeSoonSinByTimeExpired\":" + updatedState.getLeeSoonSinByTimeExpired() + "}";
-                    webSocketHandler.sendToUserInGameSession(sessionId, player.getUserId(), playerMessage);
-                } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
-                    String jsonErrorMsg = "{\"type\":\"error\",\"errorCode\":\"" + GameErrorDto.ERROR_INTERNAL_SERVER_ERROR + "\"}";
-                    webSocketHandler.sendToUserInGameSession(sessionId, player.getUserId(), jsonErrorMsg);
-                }
+        log.info("=== 시간 초과로 인한 이순신 상태 전환 ===");
+        log.info("세션 ID: {}", sessionId);
+        log.info("현재 게임 마감 시간: {}", session.getGameEndTime());
+        log.info("현재 시간: {}", clock.now());
+        
+        turnHistoryService.record(sessionId, TurnHistory.KIND_TIME_EXPIRED, session.getCurrentPlayerIndex(),
+                CoinState.head, CoinState.head, false, session.isClockWise());
+        
+        // 이순신 상태 전환 알림 전송
+        String errorMsg = "{\"type\":\"error\",\"errorCode\":\"" + GameErrorDto.ERROR_GAME_TIME_EXPIRED + "\"}";
+        webSocketHandler.broadcastToGameSession(sessionId, errorMsg);
+        
+        // 각 플레이어에게 개별 게임 상태 전송 (isMyTurn, isPresident가 올바르게 계산되도록)
+        for (PlayerDto player : session.getOrderedPlayers()) {
+            GameStateDto updatedState = convertToGameStateDto(session, player.getUserId());
+            try {
+                String playerMessage = "{\"type\":\"ok\",\"sessionId\":\"" + sessionId + "\",\"entryCode\":\"" + updatedState.getEntryCode() + "\",\"presidentId\":\"" + updatedState.getPresidentId() + "\",\"createdAt\":\"" + updatedState.getCreatedAt() + "\",\"players\":" + objectMapper.writeValueAsString(updatedState.getPlayers()) + ",\"currentPlayerIndex\":" + updatedState.getCurrentPlayerIndex() + ",\"isClockWise\":" + updatedState.isClockWise() + ",\"firstCoinState\":\"" + updatedState.getFirstCoinState() + "\",\"secondCoinState\":\"" + updatedState.getSecondCoinState() + "\",\"currentPlayer\":" + objectMapper.writeValueAsString(updatedState.getCurrentPlayer()) + ",\"isMyTurn\":" + updatedState.isMyTurn() + ",\"isPresident\":" + updatedState.isPresident() + ",\"gameState\":\"" + updatedState.getGameState() + "\",\"gameEndTime\":\"" + updatedState.getGameEndTime() + "\",\"isLeeSoonSinByTimeExpired\":" + updatedState.getLeeSoonSinByTimeExpired() + ",\"version\":" + updatedState.getVersion() + "}";
+                webSocketHandler.sendToUserInGameSession(sessionId, player.getUserId(), playerMessage);
+            } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
+                String jsonErrorMsg = "{\"type\":\"error\",\"errorCode\":\"" + GameErrorDto.ERROR_INTERNAL_SERVER_ERROR + "\"}";
+                webSocketHandler.sendToUserInGameSession(sessionId, player.getUserId(), jsonErrorMsg);
             }
         }
     }
     
+    /**
+     * 드레인 시작 (이후 새 방 생성은 NodeDrainingException)
+     */
+    public void startDraining() {
+        draining = true;
+    }
+
+    public boolean isDraining() {
+        return draining;
+    }
+
+    // 이 노드에 있는 세션 수
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    // 이 노드에 있는 세션 ID 목록 (드레인용 복사본)
+    public List<String> getSessionIds() {
+        return new ArrayList<>(sessions.keySet());
+    }
+
+    /**
+     * 다른 노드로 옮길 세션을 저장소에서 떼어 냄 (이후 이 노드의 상태 변경은 세션 없음으로 실패하므로 반환된 스냅샷이 마지막 상태)
+     * 세션에 딸린 자원은 호출 측에서 종료 처리로 해제한다.
+     * @return 마지막 스냅샷, 이미 없으면 null
+     */
+    public SessionSnapshot detachSession(String sessionId) {
+        SessionSnapshot removed = sessions.remove(sessionId);
+        if (removed != null) {
+            entryCodeToSessionId.remove(removed.getEntryCode(), sessionId);
+        }
+        sessionMemoryBudget.release(sessionId);
+        return removed;
+    }
+
+    /**
+     * 다른 노드에서 이전된 세션 등록 (상태 버전은 그대로 유지)
+     * 게임 마감은 남은 시간으로 이 노드의 시계에 다시 맞추고 진행 중인 게임이면 타이머를 다시 건다.
+     * @return 같은 세션 ID나 입장 코드가 이미 있으면 등록하지 않고 false
+     */
+    public boolean importSession(Session draft, long version, long remainingNanos) {
+        String sessionId = draft.getId();
+        if (sessions.containsKey(sessionId) || entryCodeToSessionId.putIfAbsent(draft.getEntryCode(), sessionId) != null) {
+            return false;
+        }
+        if (draft.getGameEndTime() != null) {
+            draft.setGameEndDeadlineNanos(clock.nanoTime() + remainingNanos);
+            draft.setGameEndTime(clock.now().plusNanos(remainingNanos));
+        }
+        
+        SessionSnapshot snapshot = new SessionSnapshot(draft, version);
+        if (sessions.putIfAbsent(sessionId, snapshot) != null) {
+            entryCodeToSessionId.remove(draft.getEntryCode(), sessionId);
+            return false;
+        }
+        sessionLifecycleRegistry.sessionOpened(sessionId);
+        turnHistoryService.sessionOpened(sessionId);
+        published(snapshot);
+        
+        if (GameStateDto.STATE_ON_GOING.equals(snapshot.getGameState()) && snapshot.getGameEndTime() != null) {
+            gameTimerService.scheduleGameEnd(sessionId, snapshot.getGameEndDeadlineNanos());
+        }
+        return true;
+    }
+    
+    // 세션 조회 (없으면 null)
+    public SessionSnapshot findSession(String sessionId) {
+        return sessions.get(sessionId);
+    }
+    
+    // 입장 코드로 세션 ID 조회 (없으면 null)
+    public String findSessionIdByEntryCode(String entryCode) {
+        return entryCodeToSessionId.get(entryCode);
+    }
+    
     // 사용자 ID로 플레이어 연결 끊김 처리 (모든 세션에서 검색)
     public void handlePlayerDisconnectionByUserId(String userId) {
         // 해당 사용자가 있는 세션을 찾아서 처리
-        for (String sessionId : sessions.keySet()) {
-            Session session = sessions.get(sessionId);
-            if (session != null && session.getPlayers().stream()
+        for (SessionSnapshot session : sessions.values()) {
+            if (session.getPlayers().stream()
                     .anyMatch(player -> player.getUserId().equals(userId))) {
-                handlePlayerDisconnection(sessionId, userId);
+                handlePlayerDisconnection(session.getId(), userId);
                 break; // 첫 번째로 찾은 세션에서만 처리
             }
         }
@@ -895,21 +1277,47 @@ public class SessionService {
     
     // 플레이어 연결 끊김 처리 (자동 턴 스킵 포함)
     public void handlePlayerDisconnection(String sessionId, String userId) {
-        Session session = sessions.get(sessionId);
-        
-        if (session == null) {
+        String[] endReason = new String[1];
+        Transition transition;
+        try {
+            transition = updateIf(sessionId, session -> {
+                endReason[0] = null;
+                
+                // 방장이 연결 끊긴 경우 세션 종료 (가장 먼저 체크)
+                if (session.getPresidentId().equals(userId)) {
+                    endReason[0] = SessionLifecycleRegistry.REASON_PRESIDENT_LEFT;
+                    return false;
+                }
+                
+                // 현재 턴 플레이어인지 확인
+                boolean isCurrentTurnPlayer = session.getCurrentPlayerIndex() < session.getOrderedPlayers().size() &&
+                        userId.equals(session.getOrderedPlayers().get(session.getCurrentPlayerIndex()).getUserId());
+                
+                // 플레이어 제거 및 게임 상태 업데이트 (인덱스는 제거 전 순서 기준으로 계산)
+                removePlayer(session, userId);
+                
+                // 1명 이하 남으면 세션 종료 (방장 체크 후에 실행)
+                if (session.getPlayers().size() <= 1) {
+                    endReason[0] = SessionLifecycleRegistry.REASON_INSUFFICIENT_PLAYERS;
+                    return false;
+                }
+                
+                // 현재 턴 플레이어가 연결 끊어진 경우 자동 턴 스킵
+                if (isCurrentTurnPlayer) {
+                    session.setFirstCoinState(null);
+                    session.setSecondCoinState(null);
+                }
+                return true;
+            });
+        } catch (SessionNotFoundException e) {
             return; // 이미 삭제된 세션
         }
         
         log.info("=== 플레이어 연결 끊김 처리 시작 ===");
         log.info("세션 ID: {}", sessionId);
         log.info("연결 끊긴 사용자 ID: {}", userId);
-        log.info("현재 방장 ID: {}", session.getPresidentId());
-        log.info("현재 플레이어 수: {}", session.getPlayers().size());
-        log.info("현재 순서 등록된 플레이어 수: {}", session.getOrderedPlayers().size());
         
-        // 방장이 연결 끊긴 경우 세션 종료 (가장 먼저 체크)
-        if (session.getPresidentId().equals(userId)) {
+        if (SessionLifecycleRegistry.REASON_PRESIDENT_LEFT.equals(endReason[0])) {
             log.info("방장이 연결 끊김 - 세션 종료");
             
             // 세션 삭제 전에 에러 메시지 전송
@@ -917,33 +1325,11 @@ public class SessionService {
             webSocketHandler.broadcastToGameSession(sessionId, errorMsg);
             
             // 세션 삭제
-            sessions.remove(sessionId);
+            endSession(sessionId, SessionLifecycleRegistry.REASON_PRESIDENT_LEFT);
             return;
         }
         
-        // 현재 턴 플레이어인지 확인
-        boolean isCurrentTurnPlayer = false;
-        if (!session.getOrderedPlayers().isEmpty() && 
-            session.getCurrentPlayerIndex() < session.getOrderedPlayers().size()) {
-            String currentPlayerId = session.getOrderedPlayers().get(session.getCurrentPlayerIndex()).getUserId();
-            isCurrentTurnPlayer = userId.equals(currentPlayerId);
-            log.info("현재 턴 플레이어인가: {}", isCurrentTurnPlayer);
-        }
-        
-        // 플레이어 제거
-        List<PlayerDto> updatedPlayers = session.getPlayers().stream()
-                .filter(player -> !player.getUserId().equals(userId))
-                .collect(Collectors.toList());
-        
-        List<PlayerDto> updatedOrderedPlayers = session.getOrderedPlayers().stream()
-                .filter(player -> !player.getUserId().equals(userId))
-                .collect(Collectors.toList());
-        
-        log.info("제거 후 플레이어 수: {}", updatedPlayers.size());
-        log.info("제거 후 순서 등록된 플레이어 수: {}", updatedOrderedPlayers.size());
-        
-        // 1명 이하 남으면 세션 종료 (방장 체크 후에 실행)
-        if (updatedPlayers.size() <= 1) {
+        if (SessionLifecycleRegistry.REASON_INSUFFICIENT_PLAYERS.equals(endReason[0])) {
             log.info("플레이어가 1명 이하로 남음 - 세션 종료");
             
             // 세션 삭제 전에 에러 메시지 전송
@@ -951,45 +1337,31 @@ public class SessionService {
             webSocketHandler.broadcastToGameSession(sessionId, errorMsg);
             
             // 세션 삭제
-            sessions.remove(sessionId);
+            endSession(sessionId, SessionLifecycleRegistry.REASON_INSUFFICIENT_PLAYERS);
             return;
         }
         
-        // 플레이어 제거 및 게임 상태 업데이트
-        session.setPlayers(updatedPlayers);
-        session.setOrderedPlayers(updatedOrderedPlayers);
+        if (transition == null) {
+            return;
+        }
+        sessionLifecycleRegistry.playerRemoved(sessionId, userId);
+        
+        SessionSnapshot before = transition.before;
+        SessionSnapshot session = transition.after;
+        boolean isCurrentTurnPlayer = userId.equals(before.getCurrentPlayerId());
+        log.info("현재 턴 플레이어인가: {}", isCurrentTurnPlayer);
         
-        // 현재 턴 플레이어가 연결 끊어진 경우 자동 턴 스킵
         if (isCurrentTurnPlayer) {
-            log.info("현재 턴 플레이어 연결 끊김 - 자동 턴 스킵");
+            turnHistoryService.record(sessionId, TurnHistory.KIND_DISCONNECT, before.getCurrentPlayerIndex(),
+                    before.getFirstCoinState(), before.getSecondCoinState(), false, before.isClockWise());
             
-            // 다음 턴으로 이동
-            int nextIndex;
-            if (session.isClockWise()) {
-                nextIndex = (session.getCurrentPlayerIndex() + 1) % updatedOrderedPlayers.size();
-            } else {
-                nextIndex = (session.getCurrentPlayerIndex() - 1 + updatedOrderedPlayers.size()) % updatedOrderedPlayers.size();
-            }
-            
-            session.setCurrentPlayerIndex(nextIndex);
-            session.setFirstCoinState(null);
-            session.setSecondCoinState(null);
-            
-            log.info("다음 턴 인덱스: {}", nextIndex);
+            log.info("현재 턴 플레이어 연결 끊김 - 자동 턴 스킵, 다음 턴 인덱스: {}", session.getCurrentPlayerIndex());
             
             // 자동 턴 스킵 에러 메시지 전송
             String errorMsg = "{\"type\":\"error\",\"errorCode\":\"" + GameErrorDto.ERROR_TURN_SKIPPED + "\"}";
             webSocketHandler.broadcastToGameSession(sessionId, errorMsg);
-        } else {
-            // 현재 턴 플레이어가 아닌 경우 인덱스 조정
-            if (session.getCurrentPlayerIndex() >= updatedOrderedPlayers.size()) {
-                session.setCurrentPlayerIndex(0);
-                log.info("인덱스 조정: 0으로 설정");
-            }
         }
         
-        sessions.put(sessionId, session);
-        
         // 플레이어 연결 끊김 에러 메시지 전송
         String errorMsg = "{\"type\":\"error\",\"errorCode\":\"" + GameErrorDto.ERROR_PLAYER_DISCONNECTED + "\"}";
         webSocketHandler.broadcastToGameSession(sessionId, errorMsg);
@@ -1003,7 +1375,7 @@ public class SessionService {
         for (PlayerDto player : session.getOrderedPlayers()) {
             GameStateDto updatedState = convertToGameStateDto(session, player.getUserId());
             try {
-                String playerMessage = "{\"type\":\"ok\",\"sessionId\":\"" + sessionId + "\",\"entryCode\":\"" + updatedState.getEntryCode() + "\",\"presidentId\":\"" + updatedState.getPresidentId() + "\",\"createdAt\":\"" + updatedState.getCreatedAt() + "\",\"players\":" + objectMapper.writeValueAsString(updatedState.getPlayers()) + ",\"currentPlayerIndex\":" + updatedState.getCurrentPlayerIndex() + ",\"isClockWise\":" + updatedState.isClockWise() + ",\"firstCoinState\":\"" + updatedState.getFirstCoinState() + "\",\"secondCoinState\":\"" + updatedState.getSecondCoinState() + "\",\"currentPlayer\":" + objectMapper.writeValueAsString(updatedState.getCurrentPlayer()) + ",\"isMyTurn\":" + updatedState.isMyTurn() + ",\"isPresident\":" + updatedState.isPresident() + ",\"gameState\":\"" + updatedState.getGameState() + "\",\"gameEndTime\":\"" + updatedState.getGameEndTime() + "\",\"isLeeSoonSinByTimeExpired\":" + updatedState.getLeeSoonSinByTimeExpired() + "}";
+                String playerMessage = "{\"type\":\"ok\",\"sessionId\":\"" + sessionId + "\",\"entryCode\":\"" + updatedState.getEntryCode() + "\",\"presidentId\":\"" + updatedState.getPresidentId() + "\",\"createdAt\":\"" + updatedState.getCreatedAt() + "\",\"players\":" + objectMapper.writeValueAsString(updatedState.getPlayers()) + ",\"currentPlayerIndex\":" + updatedState.getCurrentPlayerIndex() + ",\"isClockWise\":" + updatedState.isClockWise() + ",\"firstCoinState\":\"" + updatedState.getFirstCoinState() + "\",\"secondCoinState\":\"" + updatedState.getSecondCoinState() + "\",\"currentPlayer\":" + objectMapper.writeValueAsString(updatedState.getCurrentPlayer()) + ",\"isMyTurn\":" + updatedState.isMyTurn() + ",\"isPresident\":" + updatedState.isPresident() + ",\"gameState\":\"" + updatedState.getGameState() + "\",\"gameEndTime\":\"" + updatedState.getGameEndTime() + "\",\"isLeeSoonSinByTimeExpired\":" + updatedState.getLeeSoonSinByTimeExpired() + ",\"version\":" + updatedState.getVersion() + "}";
                 webSocketHandler.sendToUserInGameSession(sessionId, player.getUserId(), playerMessage);
             } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
                 String jsonErrorMsg = "{\"type\":\"error\",\"errorCode\":\"" + GameErrorDto.ERROR_INTERNAL_SERVER_ERROR + "\"}";
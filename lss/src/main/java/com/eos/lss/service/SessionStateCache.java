@@ -0,0 +1,233 @@
+package com.eos.lss.service;
+
+import com.eos.lss.dto.GameStateDto;
+import com.eos.lss.entity.SessionSnapshot;
+import com.eos.lss.exception.SessionNotFoundException;
+import com.eos.lss.metrics.MetricsSource;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 폴링 클라이언트용 게임 상태 본문 캐시 (GET /sessions/{id}/state)
+ *
+ * 세션마다 마지막으로 만든 상태 본문(특정 사용자 기준 값 없음)을 버전과 함께 보관한다. 세션 버전이 그대로면
+ * 게임 로직과 직렬화를 거치지 않고 보관한 본문을 그대로 돌려주며, 버전은 ETag로도 쓰인다.
+ * 다음 버전을 기다리는 요청(롱 폴링)은 SessionService가 새 버전을 반영할 때 깨운다.
+ */
+@Component
+@Slf4j
+public class SessionStateCache implements SessionLifecycleListener, MetricsSource {
+
+    private final SessionService sessionService;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 게임 세션 ID -> 마지막으로 만든 본문
+    private final ConcurrentHashMap<String, Encoded> encoded = new ConcurrentHashMap<>();
+    // 게임 세션 ID -> 다음 버전을 기다리는 요청
+    private final ConcurrentHashMap<String, Set<Waiter>> waiters = new ConcurrentHashMap<>();
+
+    // 지표
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong encodes = new AtomicLong();
+    private final AtomicLong notModified = new AtomicLong();
+    private final AtomicLong waitersWoken = new AtomicLong();
+
+    public SessionStateCache(SessionService sessionService) {
+        this.sessionService = sessionService;
+    }
+
+    /**
+     * 세션의 현재 상태 버전 (304 판단용, 본문을 만들지 않음)
+     */
+    public long currentVersion(String sessionId) {
+        SessionSnapshot session = sessionService.findSession(sessionId);
+        if (session == null) {
+            throw new SessionNotFoundException("세션을 찾을 수 없습니다.");
+        }
+        return session.getVersion();
+    }
+
+    /**
+     * 현재 상태 본문 (보관한 본문이 최신 버전이면 그대로 사용)
+     */
+    public Encoded get(String sessionId) {
+        long version = currentVersion(sessionId);
+        Encoded cached = encoded.get(sessionId);
+        if (cached != null && cached.version >= version) {
+            cacheHits.incrementAndGet();
+            return cached;
+        }
+
+        Encoded fresh = encode(sessionService.getGameState(sessionId, null));
+        encodes.incrementAndGet();
+        encoded.merge(sessionId, fresh, (current, next) -> next.version > current.version ? next : current);
+        // 본문을 만드는 사이 세션이 종료됐으면 보관하지 않음
+        if (sessionService.findSession(sessionId) == null) {
+            encoded.remove(sessionId);
+        }
+        return fresh;
+    }
+
+    public void recordNotModified() {
+        notModified.incrementAndGet();
+    }
+
+    /**
+     * afterVersion보다 새 버전이 반영되면 listener 호출 (이미 새 버전이면 바로 호출)
+     * 세션이 종료되면 null로 호출한다.
+     * @return 대기 취소 (시간 초과나 연결 종료 시 호출)
+     */
+    public Runnable await(String sessionId, long afterVersion, Consumer<Encoded> listener) {
+        Waiter waiter = new Waiter(afterVersion, listener);
+        waiters.computeIfAbsent(sessionId, id -> ConcurrentHashMap.newKeySet()).add(waiter);
+
+        // 등록하는 사이 새 버전이 반영됐거나 세션이 종료됐으면 직접 깨움
+        SessionSnapshot session = sessionService.findSession(sessionId);
+        if (session == null) {
+            wake(sessionId, waiter, null);
+        } else if (session.getVersion() > afterVersion) {
+            wake(sessionId, waiter, get(sessionId));
+        }
+        return () -> remove(sessionId, waiter);
+    }
+
+    /**
+     * 새 버전 반영 알림 (SessionService에서 호출, 기다리는 요청이 없으면 본문을 만들지 않음)
+     */
+    public void onPublished(String sessionId, long version) {
+        Set<Waiter> pending = waiters.get(sessionId);
+        if (pending == null || pending.isEmpty()) {
+            return;
+        }
+        Encoded body = null;
+        for (Waiter waiter : pending) {
+            if (waiter.afterVersion >= version) {
+                continue;
+            }
+            if (body == null) {
+                try {
+                    body = get(sessionId);
+                } catch (SessionNotFoundException e) {
+                    return; // 종료 처리에서 깨움
+                }
+            }
+            wake(sessionId, waiter, body);
+        }
+    }
+
+    @Override
+    public void onSessionEnded(SessionResources resources, String reason) {
+        String sessionId = resources.getGameSessionId();
+        encoded.remove(sessionId);
+        Set<Waiter> pending = waiters.remove(sessionId);
+        if (pending != null) {
+            for (Waiter waiter : pending) {
+                wake(sessionId, waiter, null);
+            }
+        }
+    }
+
+    private void wake(String sessionId, Waiter waiter, Encoded body) {
+        remove(sessionId, waiter);
+        if (waiter.woken.compareAndSet(false, true)) {
+            waitersWoken.incrementAndGet();
+            waiter.listener.accept(body);
+        }
+    }
+
+    private void remove(String sessionId, Waiter waiter) {
+        waiters.computeIfPresent(sessionId, (id, set) -> {
+            set.remove(waiter);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    // 게임 상태 프레임 (WebSocket get-state 응답과 같은 형식)
+    private Encoded encode(GameStateDto gameState) {
+        try {
+            String body = "{\"type\":\"ok\",\"sessionId\":\"" + gameState.getSessionId() + "\",\"entryCode\":\"" + gameState.getEntryCode() + "\",\"presidentId\":\"" + gameState.getPresidentId() + "\",\"createdAt\":\"" + gameState.getCreatedAt() + "\",\"players\":" + objectMapper.writeValueAsString(gameState.getPlayers()) + ",\"currentPlayerIndex\":" + gameState.getCurrentPlayerIndex() + ",\"isClockWise\":" + gameState.isClockWise() + ",\"firstCoinState\":\"" + gameState.getFirstCoinState() + "\",\"secondCoinState\":\"" + gameState.getSecondCoinState() + "\",\"currentPlayer\":" + objectMapper.writeValueAsString(gameState.getCurrentPlayer()) + ",\"isMyTurn\":" + gameState.isMyTurn() + ",\"isPresident\":" + gameState.isPresident() + ",\"gameState\":\"" + gameState.getGameState() + "\",\"gameEndTime\":\"" + gameState.getGameEndTime() + "\",\"isLeeSoonSinByTimeExpired\":" + gameState.getLeeSoonSinByTimeExpired() + ",\"version\":" + gameState.getVersion() + "}";
+            return new Encoded(gameState.getVersion(), body.getBytes(StandardCharsets.UTF_8));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("게임 상태 직렬화 실패", e);
+        }
+    }
+
+    public int getWaiterCount() {
+        int count = 0;
+        for (Set<Waiter> pending : waiters.values()) {
+            count += pending.size();
+        }
+        return count;
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "stateCache";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("cachedSessions", encoded.size());
+        metrics.put("cacheHits", cacheHits.get());
+        metrics.put("encodes", encodes.get());
+        metrics.put("notModified", notModified.get());
+        metrics.put("waiters", getWaiterCount());
+        metrics.put("waitersWoken", waitersWoken.get());
+        return metrics;
+    }
+
+    /**
+     * 인코딩된 상태 본문 (버전별로 한 번 만들어 여러 요청이 공유)
+     */
+    public static final class Encoded {
+
+        private final long version;
+        private final byte[] body;
+
+        Encoded(long version, byte[] body) {
+            this.version = version;
+            this.body = body;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+
+        public String getETag() {
+            return eTagOf(version);
+        }
+    }
+
+    public static String eTagOf(long version) {
+        return "\"" + version + "\"";
+    }
+
+    // 다음 버전을 기다리는 요청 하나
+    private static final class Waiter {
+
+        private final long afterVersion;
+        private final Consumer<Encoded> listener;
+        private final AtomicBoolean woken = new AtomicBoolean();
+
+        Waiter(long afterVersion, Consumer<Encoded> listener) {
+            this.afterVersion = afterVersion;
+            this.listener = listener;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.eos.lss.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 시스템 시계
+ *
+ * 벽시계는 wall-tick-ms 간격으로 한 번만 읽어 LocalDateTime까지 만들어 두므로, 명령 처리 중에는
+ * 시간대 계산이나 객체 생성 없이 volatile 필드 하나만 읽는다. 타이머는 ScheduledExecutorService로 실행한다.
+ */
+@Component
+@Slf4j
+public class SystemGameClock implements GameClock {
+
+    private final ZoneId zone = ZoneId.systemDefault();
+    private final ScheduledExecutorService scheduler;
+
+    // 캐시된 벽시계 (갱신 스레드에서만 씀)
+    private volatile long wallMillis;
+    private volatile LocalDateTime wallTime;
+
+    public SystemGameClock(@Value("${lss.clock.wall-tick-ms:10}") long wallTickMillis,
+                           @Value("${lss.clock.timer-threads:10}") int timerThreads) {
+        AtomicInteger threadIds = new AtomicInteger();
+        this.scheduler = Executors.newScheduledThreadPool(Math.max(timerThreads, 1), runnable -> {
+            Thread thread = new Thread(runnable, "game-timer-" + threadIds.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        refreshWallClock();
+        long tick = Math.max(wallTickMillis, 1);
+        scheduler.scheduleAtFixedRate(this::refreshWallClock, tick, tick, TimeUnit.MILLISECONDS);
+    }
+
+    private void refreshWallClock() {
+        long millis = System.currentTimeMillis();
+        wallTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), zone);
+        wallMillis = millis;
+    }
+
+    @Override
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return wallMillis;
+    }
+
+    @Override
+    public LocalDateTime now() {
+        return wallTime;
+    }
+
+    @Override
+    public Timer schedule(Runnable task, long delayNanos) {
+        ScheduledFuture<?> future = scheduler.schedule(task, Math.max(delayNanos, 0), TimeUnit.NANOSECONDS);
+        return new Timer() {
+            @Override
+            public boolean cancel() {
+                return future.cancel(false);
+            }
+
+            @Override
+            public boolean isDone() {
+                return future.isDone();
+            }
+
+            @Override
+            public long getRemainingNanos() {
+                return future.getDelay(TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+
+    /**
+     * 서버 종료 시 타이머 스레드 정리
+     */
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
+                scheduler.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            scheduler.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
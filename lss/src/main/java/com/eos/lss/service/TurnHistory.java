@@ -0,0 +1,183 @@
+package com.eos.lss.service;
+
+import com.eos.lss.entity.CoinState;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * 세션 하나의 턴 기록 (고정 크기 링 버퍼)
+ *
+ * 턴마다 객체를 만들지 않도록 시각/플레이어 인덱스/플래그를 기본형 배열에 나눠 담는다.
+ * 버퍼가 차면 가장 오래된 기록부터 덮어쓰며, 덮어쓴 개수는 내보낼 때 dropped로 알려준다.
+ * 기록은 세션 명령 처리 스레드에서, 내보내기는 HTTP 스레드에서 일어나므로 짧게 동기화한다.
+ */
+public class TurnHistory {
+
+    // 기록 종류
+    public static final int KIND_TURN = 0;          // 다음 턴 진행
+    public static final int KIND_LEE_SOON_SIN = 1;  // 동전 두 개 앞면으로 이순신 발동
+    public static final int KIND_TIME_EXPIRED = 2;  // 게임 시간 초과로 이순신 발동
+    public static final int KIND_CONTINUE = 3;      // 이순신 화면에서 계속하기
+    public static final int KIND_SKIP = 4;          // 턴 스킵 (응답 없는 플레이어 제거)
+    public static final int KIND_DISCONNECT = 5;    // 현재 턴 플레이어 연결 끊김으로 자동 스킵
+
+    private static final String[] KIND_NAMES = {"TURN", "LEE_SOON_SIN", "TIME_EXPIRED", "CONTINUE", "SKIP", "DISCONNECT"};
+
+    // 플래그 비트 구성
+    private static final int COIN_NONE = 0;
+    private static final int COIN_HEAD = 1;
+    private static final int COIN_TAIL = 2;
+    private static final int SECOND_COIN_SHIFT = 2;
+    private static final int FLAG_DIRECTION_FLIPPED = 1 << 4;
+    private static final int FLAG_CLOCK_WISE = 1 << 5;
+    private static final int KIND_SHIFT = 8;
+
+    private final String sessionId;
+    private final long[] timestamps;
+    private final int[] playerIndexes;
+    private final int[] flags;
+    // 지금까지 기록된 전체 개수 (다음 기록 위치 = recorded % capacity)
+    private long recorded;
+
+    // 세션 종료 정보 (종료 전에는 null)
+    private volatile String endReason;
+    private volatile long endedAt;
+
+    public TurnHistory(String sessionId, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("턴 기록 크기는 1 이상이어야 합니다.");
+        }
+        this.sessionId = sessionId;
+        this.timestamps = new long[capacity];
+        this.playerIndexes = new int[capacity];
+        this.flags = new int[capacity];
+    }
+
+    /**
+     * 턴 기록 추가
+     * @param playerIndex 턴을 진행한 플레이어의 순서 인덱스
+     * @param directionFlipped 동전 결과로 진행 방향이 바뀌었는지
+     * @param clockWise 기록 이후 진행 방향
+     */
+    public synchronized void record(long timestamp, int kind, int playerIndex, CoinState firstCoin, CoinState secondCoin,
+                                    boolean directionFlipped, boolean clockWise) {
+        int slot = (int) (recorded % timestamps.length);
+        timestamps[slot] = timestamp;
+        playerIndexes[slot] = playerIndex;
+        flags[slot] = (kind << KIND_SHIFT)
+                | encodeCoin(firstCoin)
+                | (encodeCoin(secondCoin) << SECOND_COIN_SHIFT)
+                | (directionFlipped ? FLAG_DIRECTION_FLIPPED : 0)
+                | (clockWise ? FLAG_CLOCK_WISE : 0);
+        recorded++;
+    }
+
+    void finish(String reason, long timestamp) {
+        this.endedAt = timestamp;
+        this.endReason = reason;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public int getCapacity() {
+        return timestamps.length;
+    }
+
+    public synchronized long getRecordedCount() {
+        return recorded;
+    }
+
+    public synchronized int size() {
+        return (int) Math.min(recorded, timestamps.length);
+    }
+
+    public boolean isFinished() {
+        return endReason != null;
+    }
+
+    public String getEndReason() {
+        return endReason;
+    }
+
+    public long getEndedAt() {
+        return endedAt;
+    }
+
+    /**
+     * NDJSON으로 내보내기
+     * 첫 줄은 세션 요약, 이후 한 줄에 턴 기록 하나씩 오래된 순서로 쓴다.
+     * 쓰는 동안 기록을 막지 않도록 현재 내용을 복사한 뒤 잠금 밖에서 출력한다.
+     */
+    public void writeNdjson(Writer writer) throws IOException {
+        long total;
+        int count;
+        long[] copiedTimestamps;
+        int[] copiedPlayers;
+        int[] copiedFlags;
+        synchronized (this) {
+            total = recorded;
+            count = (int) Math.min(recorded, timestamps.length);
+            copiedTimestamps = new long[count];
+            copiedPlayers = new int[count];
+            copiedFlags = new int[count];
+            int start = (int) ((recorded - count) % timestamps.length);
+            for (int i = 0; i < count; i++) {
+                int slot = (start + i) % timestamps.length;
+                copiedTimestamps[i] = timestamps[slot];
+                copiedPlayers[i] = playerIndexes[slot];
+                copiedFlags[i] = flags[slot];
+            }
+        }
+
+        String reason = endReason;
+        StringBuilder line = new StringBuilder(160);
+        line.append("{\"type\":\"session\",\"sessionId\":\"").append(sessionId)
+                .append("\",\"recorded\":").append(total)
+                .append(",\"dropped\":").append(total - count)
+                .append(",\"finished\":").append(reason != null);
+        if (reason != null) {
+            line.append(",\"endReason\":\"").append(reason).append("\",\"endedAt\":").append(endedAt);
+        }
+        line.append("}\n");
+        writer.write(line.toString());
+
+        long firstSeq = total - count;
+        for (int i = 0; i < count; i++) {
+            int flag = copiedFlags[i];
+            int kind = flag >>> KIND_SHIFT;
+            line.setLength(0);
+            line.append("{\"type\":\"turn\",\"seq\":").append(firstSeq + i)
+                    .append(",\"at\":").append(copiedTimestamps[i])
+                    .append(",\"kind\":\"").append(kind < KIND_NAMES.length ? KIND_NAMES[kind] : "UNKNOWN")
+                    .append("\",\"playerIndex\":").append(copiedPlayers[i])
+                    .append(",\"firstCoinState\":").append(coinJson(flag & 0x3))
+                    .append(",\"secondCoinState\":").append(coinJson((flag >>> SECOND_COIN_SHIFT) & 0x3))
+                    .append(",\"directionFlipped\":").append((flag & FLAG_DIRECTION_FLIPPED) != 0)
+                    .append(",\"isClockWise\":").append((flag & FLAG_CLOCK_WISE) != 0)
+                    .append(",\"leeSoonSin\":").append(kind == KIND_LEE_SOON_SIN || kind == KIND_TIME_EXPIRED)
+                    .append("}\n");
+            writer.write(line.toString());
+        }
+    }
+
+    private static int encodeCoin(CoinState coin) {
+        if (coin == null) {
+            return COIN_NONE;
+        }
+        return coin == CoinState.head ? COIN_HEAD : COIN_TAIL;
+    }
+
+    private static String coinJson(int coin) {
+        switch (coin) {
+            case COIN_HEAD:
+                return "\"head\"";
+            case COIN_TAIL:
+                return "\"tail\"";
+            default:
+                return "null";
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.eos.lss.service;
+
+import com.eos.lss.entity.CoinState;
+import com.eos.lss.metrics.MetricsSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게임 턴 기록 보관
+ *
+ * 진행 중인 세션은 세션별 TurnHistory 링 버퍼에 기록하고, 세션이 끝나면 종료된 게임 보관소로 옮긴다.
+ * 종료된 게임은 max-finished-games개까지만 종료 순서대로 보관하고 넘치면 오래된 것부터 버린다.
+ * (기존에 클라이언트가 Firebase에 따로 쓰던 이순신 기록을 서버에서 NDJSON으로 내려받을 수 있게 함)
+ */
+@Service
+@Slf4j
+public class TurnHistoryService implements SessionLifecycleListener, MetricsSource {
+
+    private final GameClock clock;
+    private final int capacity;
+    private final int maxFinishedGames;
+
+    // 게임 세션 ID -> 진행 중인 세션 턴 기록
+    private final ConcurrentHashMap<String, TurnHistory> active = new ConcurrentHashMap<>();
+    // 게임 세션 ID -> 종료된 게임 턴 기록 (종료 순서는 finishedOrder)
+    private final ConcurrentHashMap<String, TurnHistory> finished = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<String> finishedOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger finishedCount = new AtomicInteger();
+
+    // 지표
+    private final AtomicLong turnsRecorded = new AtomicLong();
+    private final AtomicLong turnsDropped = new AtomicLong();
+    private final AtomicLong finishedEvicted = new AtomicLong();
+
+    public TurnHistoryService(GameClock clock,
+                              @Value("${lss.history.capacity:256}") int capacity,
+                              @Value("${lss.history.max-finished-games:1000}") int maxFinishedGames) {
+        this.clock = clock;
+        this.capacity = capacity;
+        this.maxFinishedGames = maxFinishedGames;
+    }
+
+    /**
+     * 이 노드에 세션이 생기거나 이전되어 올 때 링 버퍼 생성
+     */
+    public void sessionOpened(String sessionId) {
+        active.putIfAbsent(sessionId, new TurnHistory(sessionId, capacity));
+    }
+
+    /**
+     * 턴 기록 추가
+     * 상태 변경(CAS) 뒤에 기록하므로 그 사이 세션이 종료되었을 수 있다.
+     * 이미 종료된 세션의 기록은 버린다 (종료된 세션의 링 버퍼를 다시 만들지 않음).
+     * @param kind TurnHistory.KIND_*
+     */
+    public void record(String sessionId, int kind, int playerIndex, CoinState firstCoin, CoinState secondCoin,
+                       boolean directionFlipped, boolean clockWise) {
+        TurnHistory history = active.get(sessionId);
+        if (history == null) {
+            turnsDropped.incrementAndGet();
+            return;
+        }
+        history.record(clock.currentTimeMillis(), kind, playerIndex, firstCoin, secondCoin, directionFlipped, clockWise);
+        turnsRecorded.incrementAndGet();
+    }
+
+    /**
+     * 진행 중이거나 보관 중인 종료된 게임의 턴 기록 (없으면 null)
+     */
+    public TurnHistory find(String sessionId) {
+        TurnHistory history = active.get(sessionId);
+        return history != null ? history : finished.get(sessionId);
+    }
+
+    /**
+     * 보관 중인 종료된 게임 (종료 순서, sinceMillis 이후 종료된 것만, 최대 limit개)
+     */
+    public List<TurnHistory> findFinished(long sinceMillis, int limit) {
+        List<TurnHistory> result = new ArrayList<>();
+        Iterator<String> iterator = finishedOrder.iterator();
+        while (iterator.hasNext() && result.size() < limit) {
+            TurnHistory history = finished.get(iterator.next());
+            if (history != null && history.getEndedAt() >= sinceMillis) {
+                result.add(history);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 여러 게임의 턴 기록을 이어서 NDJSON으로 출력
+     */
+    public void writeNdjson(List<TurnHistory> histories, Writer writer) throws IOException {
+        for (TurnHistory history : histories) {
+            history.writeNdjson(writer);
+        }
+    }
+
+    public int getActiveCount() {
+        return active.size();
+    }
+
+    public int getFinishedCount() {
+        return finishedCount.get();
+    }
+
+    @Override
+    public void onSessionEnded(SessionResources resources, String reason) {
+        TurnHistory history = active.remove(resources.getGameSessionId());
+        if (history == null || maxFinishedGames <= 0) {
+            return;
+        }
+        history.finish(reason, clock.currentTimeMillis());
+        if (finished.putIfAbsent(history.getSessionId(), history) != null) {
+            return;
+        }
+        finishedOrder.offer(history.getSessionId());
+        // 보관 한도를 넘으면 가장 먼저 종료된 게임부터 제거
+        if (finishedCount.incrementAndGet() > maxFinishedGames) {
+            String oldest = finishedOrder.poll();
+            if (oldest != null && finished.remove(oldest) != null) {
+                finishedCount.decrementAndGet();
+                finishedEvicted.incrementAndGet();
+            }
+        }
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "turnHistory";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("activeSessions", active.size());
+        metrics.put("finishedGames", finishedCount.get());
+        metrics.put("turnsRecorded", turnsRecorded.get());
+        metrics.put("turnsDropped", turnsDropped.get());
+        metrics.put("finishedEvicted", finishedEvicted.get());
+        metrics.put("capacity", capacity);
+        return metrics;
+    }
+}
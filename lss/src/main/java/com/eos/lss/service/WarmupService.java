@@ -0,0 +1,323 @@
+package com.eos.lss.service;
+
+import com.eos.lss.cluster.InMemorySessionEventBus;
+import com.eos.lss.cluster.SessionRouter;
+import com.eos.lss.config.RateLimiter;
+import com.eos.lss.dto.GameActionDto;
+import com.eos.lss.metrics.MetricsSource;
+import com.eos.lss.websocket.CommandDeduplicator;
+import com.eos.lss.websocket.FanoutExecutor;
+import com.eos.lss.websocket.HeartbeatMonitor;
+import com.eos.lss.websocket.LoopbackWebSocketSession;
+import com.eos.lss.websocket.SimpleWebSocketHandler;
+import com.eos.lss.websocket.SpectatorHub;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.NativeDetector;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 시작 직후 합성 게임으로 명령 처리 경로 예열 (배포 직후 첫 실제 게임의 지연 방지)
+ *
+ * 서버가 뜨면 별도 스레드에서 games개의 게임을 처음부터 끝까지 진행한다. 게임은 실제 빈과 같은 클래스로 따로
+ * 구성한 핸들러와 세션 서비스(별도 컨텍스트)에서 진행하고, 플레이어마다 루프백 연결을 열어 JSON 명령을 보내므로
+ * 수신 프레임 해석, 명령 분기, 브로드캐스트, 전송 워커까지 실제 게임과 같은 코드를 탄다. 실제 세션 저장소, 입장 코드,
+ * 턴 기록, 지표, 연결, 클러스터에는 아무것도 남기지 않는다. 받은 프레임은 세기만 하고 버린다.
+ * 예열이 끝나기 전에는 /ready가 503을 반환한다. (실패해도 끝나면 준비 완료로 바꾸고 경고만 남김)
+ */
+@Service
+@Slf4j
+public class WarmupService implements MetricsSource {
+
+    // 응답 대기 시간 (응답은 전송 워커를 거쳐 비동기로 도착)
+    private static final long REPLY_TIMEOUT_SECONDS = 10;
+    // 게임이 끝난 뒤 연결마다 보내는 표시 (연결별 전송 순서가 유지되므로 이 프레임이 오면 앞선 응답도 모두 도착한 것)
+    private static final String DRAINED_FRAME = "{\"type\":\"warmup-drained\"}";
+    private static final String ERROR_FRAME_PREFIX = "{\"type\":\"" + SimpleWebSocketHandler.MSG_TYPE_ERROR + "\"";
+
+    private final ConfigurableEnvironment environment;
+    private final int games;
+    private final int playersPerGame;
+    private final int turnsPerGame;
+    private final String userPrefix = "warmup-" + UUID.randomUUID() + "-";
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private volatile boolean ready;
+    private volatile boolean failed;
+
+    // 지표
+    private final AtomicLong completedGames = new AtomicLong();
+    private final AtomicLong commands = new AtomicLong();
+    private final AtomicLong frames = new AtomicLong();
+    private final AtomicLong errorFrames = new AtomicLong();
+    private final AtomicLong durationMillis = new AtomicLong();
+    // 마지막으로 받은 에러 프레임 (예열 실패 사유)
+    private final AtomicReference<String> lastError = new AtomicReference<>();
+
+    public WarmupService(ConfigurableEnvironment environment,
+                         @Value("${lss.warmup.games:100}") int games,
+                         @Value("${lss.warmup.players-per-game:4}") int playersPerGame,
+                         @Value("${lss.warmup.turns-per-game:30}") int turnsPerGame) {
+        this.environment = environment;
+        this.games = games;
+        this.playersPerGame = Math.max(playersPerGame, 2);
+        this.turnsPerGame = turnsPerGame;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startWarmup() {
+        if (games <= 0 || NativeDetector.inNativeImage()) {
+            // 네이티브 이미지는 JIT 예열이 필요 없음
+            ready = true;
+            return;
+        }
+        Thread thread = new Thread(this::warmUp, "warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    void warmUp() {
+        long started = System.nanoTime();
+        log.info("예열 시작 - 게임 수: {}, 게임당 플레이어: {}, 게임당 턴: {}", games, playersPerGame, turnsPerGame);
+        try (AnnotationConfigApplicationContext sandbox = createSandbox()) {
+            SimpleWebSocketHandler webSocketHandler = sandbox.getBean(SimpleWebSocketHandler.class);
+            for (int game = 0; game < games; game++) {
+                playGame(webSocketHandler, game);
+                completedGames.incrementAndGet();
+            }
+        } catch (Exception e) {
+            failed = true;
+            log.warn("예열 중 오류 발생 (예열 없이 준비 완료로 전환): {}", e.getMessage(), e);
+        } finally {
+            durationMillis.set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            ready = true;
+        }
+        log.info("예열 완료 - 게임: {}, 명령: {}, 소요 시간: {}ms", completedGames.get(), commands.get(), durationMillis.get());
+    }
+
+    // 실제 빈과 같은 클래스로 구성한 별도 컨텍스트 (시계, 라우터, 이벤트 버스, 요청 제한은 예열용으로 교체)
+    // 웹 서버, 스케줄러, 클러스터 연결이 없으므로 예열 게임은 밖에서 보이지 않는다.
+    private AnnotationConfigApplicationContext createSandbox() {
+        AnnotationConfigApplicationContext sandbox = new AnnotationConfigApplicationContext();
+        sandbox.setEnvironment(environment);
+        sandbox.getBeanFactory().registerSingleton("gameClock", new WarmupClock());
+        sandbox.getBeanFactory().registerSingleton("sessionRouter", new SessionRouter("warmup", ""));
+        sandbox.getBeanFactory().registerSingleton("sessionEventBus", new InMemorySessionEventBus("warmup"));
+        sandbox.register(SimpleWebSocketHandler.class, UnlimitedRateLimiter.class, FanoutExecutor.class, HeartbeatMonitor.class,
+                SpectatorHub.class, CommandDeduplicator.class, ReconnectGraceService.class, MatchmakingService.class,
+                SessionService.class, GameTimerService.class, SessionExpiryService.class, SessionLifecycleRegistry.class,
+                SessionIndex.class, TurnHistoryService.class, SessionStateCache.class, SessionMemoryBudget.class);
+        sandbox.refresh();
+        return sandbox;
+    }
+
+    // 방 생성, 입장, 순서 등록, 턴 진행(일부는 묶음 명령), 방 삭제 (플레이어마다 자기 연결로 명령 전송)
+    private void playGame(SimpleWebSocketHandler webSocketHandler, int game) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        CompletableFuture<String> createdReply = new CompletableFuture<>();
+        CountDownLatch drained = new CountDownLatch(playersPerGame);
+        List<String> userIds = new ArrayList<>(playersPerGame);
+        List<LoopbackWebSocketSession> connections = new ArrayList<>(playersPerGame);
+        try {
+            for (int i = 0; i < playersPerGame; i++) {
+                userIds.add(userPrefix + game + "-" + i);
+                CompletableFuture<String> replyTarget = i == 0 ? createdReply : null;
+                LoopbackWebSocketSession connection = new LoopbackWebSocketSession(frame -> receive(frame, replyTarget, drained));
+                webSocketHandler.afterConnectionEstablished(connection);
+                connections.add(connection);
+            }
+            String president = userIds.get(0);
+            LoopbackWebSocketSession presidentConnection = connections.get(0);
+
+            send(webSocketHandler, presidentConnection, command("create-session", null, president).put("name", president));
+            String reply = createdReply.get(REPLY_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            if (reply.startsWith(ERROR_FRAME_PREFIX)) {
+                throw new IllegalStateException("예열 방 생성 실패: " + reply);
+            }
+            JsonNode created = objectMapper.readTree(reply);
+            String sessionId = created.get("sessionId").asText();
+            String entryCode = created.get("entryCode").asText();
+            for (int i = 1; i < userIds.size(); i++) {
+                send(webSocketHandler, connections.get(i), command("join-session", null, userIds.get(i)).put("entryCode", entryCode).put("name", userIds.get(i)));
+            }
+            send(webSocketHandler, presidentConnection, command("start-ordering", sessionId, president));
+            for (int i = 0; i < userIds.size(); i++) {
+                send(webSocketHandler, connections.get(i), command("register-order", sessionId, userIds.get(i)));
+            }
+            send(webSocketHandler, presidentConnection, command("start-playing", sessionId, president));
+
+            for (int turn = 0; turn < turnsPerGame; turn++) {
+                int index = turn % userIds.size();
+                LoopbackWebSocketSession connection = connections.get(index);
+                String player = userIds.get(index);
+                String first = random.nextBoolean() ? "head" : "tail";
+                String second = random.nextBoolean() ? "head" : "tail";
+                String finish = "head".equals(first) && "head".equals(second)
+                        ? GameActionDto.TYPE_CONTINUE_LEE_SOON_SIN : GameActionDto.TYPE_NEXT_TURN;
+                if (turn % 4 == 3) {
+                    ObjectNode batch = command("batch", sessionId, player);
+                    ArrayNode actions = batch.putArray("actions");
+                    actions.addObject().put("type", GameActionDto.TYPE_COIN_ACTION).put("coinType", "first").put("state", first);
+                    actions.addObject().put("type", GameActionDto.TYPE_COIN_ACTION).put("coinType", "second").put("state", second);
+                    actions.addObject().put("type", finish);
+                    send(webSocketHandler, connection, batch);
+                } else {
+                    send(webSocketHandler, connection, command(GameActionDto.TYPE_COIN_ACTION, sessionId, player).put("coinType", "first").put("state", first));
+                    send(webSocketHandler, connection, command(GameActionDto.TYPE_COIN_ACTION, sessionId, player).put("coinType", "second").put("state", second));
+                    send(webSocketHandler, connection, command(finish, sessionId, player));
+                }
+            }
+            send(webSocketHandler, presidentConnection, command("delete-session", sessionId, president));
+
+            // 이 게임의 응답이 모두 도착한 뒤에 에러 응답 확인
+            for (LoopbackWebSocketSession connection : connections) {
+                webSocketHandler.sendToSession(connection.getId(), DRAINED_FRAME);
+            }
+            if (!drained.await(REPLY_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("예열 게임의 응답이 제한 시간 안에 도착하지 않음");
+            }
+        } finally {
+            for (LoopbackWebSocketSession connection : connections) {
+                connection.close();
+                webSocketHandler.afterConnectionClosed(connection, CloseStatus.NORMAL);
+            }
+        }
+
+        String error = lastError.getAndSet(null);
+        if (error != null) {
+            throw new IllegalStateException("예열 명령이 에러 응답을 받음: " + error);
+        }
+    }
+
+    private ObjectNode command(String type, String sessionId, String userId) {
+        ObjectNode command = objectMapper.createObjectNode();
+        command.put("type", type);
+        if (sessionId != null) {
+            command.put("sessionId", sessionId);
+        }
+        command.put("userId", userId);
+        return command;
+    }
+
+    // 실제 연결과 같은 입구 (수신 프레임 해석부터 명령 분기, 응답 전송까지 핸들러가 처리)
+    private void send(SimpleWebSocketHandler webSocketHandler, LoopbackWebSocketSession connection, ObjectNode command) throws Exception {
+        commands.incrementAndGet();
+        webSocketHandler.handleMessage(connection, new TextMessage(command.toString()));
+    }
+
+    // 루프백 연결이 받은 프레임 (방 생성 응답과 게임 끝 표시만 기다리고 나머지는 세기만 함)
+    private void receive(String frame, CompletableFuture<String> createdReply, CountDownLatch drained) {
+        if (DRAINED_FRAME.equals(frame)) {
+            drained.countDown();
+            return;
+        }
+        frames.incrementAndGet();
+        boolean error = frame.startsWith(ERROR_FRAME_PREFIX);
+        if (error) {
+            errorFrames.incrementAndGet();
+            lastError.set(frame);
+        }
+        if (createdReply != null && (error || frame.contains("\"entryCode\":\""))) {
+            createdReply.complete(frame);
+        }
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "warmup";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("ready", ready);
+        metrics.put("failed", failed);
+        metrics.put("games", games);
+        metrics.put("completedGames", completedGames.get());
+        metrics.put("commands", commands.get());
+        metrics.put("discardedFrames", frames.get());
+        metrics.put("errorFrames", errorFrames.get());
+        metrics.put("durationMillis", durationMillis.get());
+        return metrics;
+    }
+
+    /**
+     * 예열용 요청 제한 (합성 플레이어는 실제 클라이언트보다 훨씬 빠르게 명령을 보내므로 제한하지 않음)
+     */
+    static class UnlimitedRateLimiter extends RateLimiter {
+
+        @Override
+        public boolean isAllowed(String userId, String action) {
+            return true;
+        }
+    }
+
+    /**
+     * 예열용 시계 (예열 게임은 마감 전에 끝나므로 타이머는 발화하지 않음)
+     */
+    static class WarmupClock implements GameClock {
+
+        @Override
+        public long nanoTime() {
+            return System.nanoTime();
+        }
+
+        @Override
+        public long currentTimeMillis() {
+            return System.currentTimeMillis();
+        }
+
+        @Override
+        public LocalDateTime now() {
+            return LocalDateTime.now();
+        }
+
+        @Override
+        public Timer schedule(Runnable task, long delayNanos) {
+            long deadline = System.nanoTime() + delayNanos;
+            return new Timer() {
+                @Override
+                public boolean cancel() {
+                    return true;
+                }
+
+                @Override
+                public boolean isDone() {
+                    return false;
+                }
+
+                @Override
+                public long getRemainingNanos() {
+                    return deadline - System.nanoTime();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.eos.lss.websocket;
+
+import java.io.IOException;
+
+/**
+ * 명령 처리 결과를 돌려보낼 통로
+ * 이 노드의 WebSocket 연결일 수도 있고, 명령을 전달한 다른 노드의 연결일 수도 있다.
+ */
+public interface CommandChannel {
+
+    /**
+     * 연결 ID (WebSocket 세션 ID)
+     */
+    String getId();
+
+    /**
+     * 요청한 클라이언트에게 메시지 전송
+     */
+    void send(String message) throws IOException;
+
+    /**
+     * 연결과 사용자 ID 매핑 등록
+     */
+    void bindUser(String userId);
+
+    /**
+     * 연결과 게임 세션 매핑 등록 (이후 브로드캐스트 수신 대상이 됨)
+     */
+    void bindGameSession(String gameSessionId);
+}
@@ -0,0 +1,199 @@
+package com.eos.lss.websocket;
+
+import com.eos.lss.metrics.MetricsSource;
+import com.eos.lss.service.GameClock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 클라이언트 명령 중복 제거
+ *
+ * 모바일 클라이언트는 응답이 늦으면 같은 명령(next-turn, coin-action 등)을 다시 보낸다.
+ * 명령에 commandId 또는 seq가 있으면 사용자별로 최근 window-size개 명령의 결과 프레임을 보관하고,
+ * 같은 명령이 다시 오면 SessionService를 다시 호출하지 않고 보관한 프레임을 그대로 돌려준다.
+ * 재접속한 연결에서 같은 commandId로 다시 보내도 걸러지도록 사용자 ID 기준으로 보관하며,
+ * 연결마다 새로 시작하는 seq는 키에 연결을 넣어 연결 단위로 구분한다. (commandKey는 호출자가 만듦)
+ * idle-ttl-ms 동안 명령이 없던 사용자의 기록은 정리 작업에서 지운다.
+ */
+@Component
+@Slf4j
+public class CommandDeduplicator implements MetricsSource {
+
+    private final GameClock clock;
+    private final int windowSize;
+    private final long idleTtlMillis;
+
+    // 사용자 ID -> 최근 명령 결과
+    private final ConcurrentHashMap<String, Window> windows = new ConcurrentHashMap<>();
+
+    // 지표
+    private final AtomicLong commandsTracked = new AtomicLong();
+    private final AtomicLong duplicatesAnswered = new AtomicLong();
+    private final AtomicLong duplicatesInFlight = new AtomicLong();
+    private final AtomicLong windowsExpired = new AtomicLong();
+
+    public CommandDeduplicator(GameClock clock,
+                               @Value("${lss.dedupe.window-size:32}") int windowSize,
+                               @Value("${lss.dedupe.idle-ttl-ms:120000}") long idleTtlMillis) {
+        this.clock = clock;
+        this.windowSize = Math.max(windowSize, 1);
+        this.idleTtlMillis = idleTtlMillis;
+    }
+
+    /**
+     * 명령 실행 권한 획득
+     * @param commandKey 사용자 안에서 명령을 구분하는 값 (commandId, 또는 연결과 seq)
+     * @return 처음 보는 명령이면 null (호출자가 실행 후 complete 또는 release 호출),
+     *         이미 받은 명령이면 기존 기록 (아직 실행 중이면 isDone() == false)
+     */
+    public Entry claim(String userId, String commandKey) {
+        long now = clock.currentTimeMillis();
+        Entry[] existing = new Entry[1];
+        windows.compute(userId, (id, window) -> {
+            Window target = window != null ? window : new Window(windowSize);
+            target.lastUsedAt = now;
+            existing[0] = target.claim(commandKey);
+            return target;
+        });
+
+        if (existing[0] == null) {
+            commandsTracked.incrementAndGet();
+        } else if (existing[0].isDone()) {
+            duplicatesAnswered.incrementAndGet();
+        } else {
+            duplicatesInFlight.incrementAndGet();
+        }
+        return existing[0];
+    }
+
+    /**
+     * 실행이 끝난 명령의 결과 프레임 보관
+     */
+    public void complete(String userId, String commandKey, List<String> frames) {
+        Window window = windows.get(userId);
+        if (window != null) {
+            window.complete(commandKey, frames);
+        }
+    }
+
+    /**
+     * 실행 도중 실패한 명령의 기록 제거 (재시도하면 다시 실행)
+     */
+    public void release(String userId, String commandKey) {
+        Window window = windows.get(userId);
+        if (window != null) {
+            window.release(commandKey);
+        }
+    }
+
+    /**
+     * 이미 결과가 보관된 명령인지 (재시도가 요청 제한에 걸리지 않도록 확인용)
+     */
+    public boolean isCompleted(String userId, String commandKey) {
+        Window window = windows.get(userId);
+        return window != null && window.isCompleted(commandKey);
+    }
+
+    public int getTrackedUserCount() {
+        return windows.size();
+    }
+
+    @Scheduled(fixedDelayString = "${lss.dedupe.sweep-interval-ms:30000}")
+    public void sweep() {
+        long now = clock.currentTimeMillis();
+        for (String userId : windows.keySet()) {
+            windows.computeIfPresent(userId, (id, window) -> {
+                if (now - window.lastUsedAt < idleTtlMillis) {
+                    return window;
+                }
+                windowsExpired.incrementAndGet();
+                return null;
+            });
+        }
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "commandDedupe";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("trackedUsers", windows.size());
+        metrics.put("commandsTracked", commandsTracked.get());
+        metrics.put("duplicatesAnswered", duplicatesAnswered.get());
+        metrics.put("duplicatesInFlight", duplicatesInFlight.get());
+        metrics.put("windowsExpired", windowsExpired.get());
+        return metrics;
+    }
+
+    /**
+     * 명령 하나의 처리 결과 (실행 중에는 frames가 null)
+     */
+    public static final class Entry {
+
+        private volatile List<String> frames;
+
+        public boolean isDone() {
+            return frames != null;
+        }
+
+        public List<String> getFrames() {
+            List<String> result = frames;
+            return result != null ? result : Collections.emptyList();
+        }
+    }
+
+    // 사용자 한 명의 최근 명령 (오래된 것부터 밀려남)
+    private static final class Window {
+
+        private final Map<String, Entry> entries;
+        private volatile long lastUsedAt;
+
+        Window(int windowSize) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, false) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                    return size() > windowSize;
+                }
+            };
+        }
+
+        synchronized Entry claim(String commandKey) {
+            Entry existing = entries.get(commandKey);
+            if (existing == null) {
+                entries.put(commandKey, new Entry());
+            }
+            return existing;
+        }
+
+        synchronized void complete(String commandKey, List<String> frames) {
+            Entry entry = entries.get(commandKey);
+            if (entry != null) {
+                entry.frames = List.copyOf(frames);
+            }
+        }
+
+        synchronized void release(String commandKey) {
+            Entry entry = entries.get(commandKey);
+            if (entry != null && !entry.isDone()) {
+                entries.remove(commandKey);
+            }
+        }
+
+        synchronized boolean isCompleted(String commandKey) {
+            Entry entry = entries.get(commandKey);
+            return entry != null && entry.isDone();
+        }
+    }
+}
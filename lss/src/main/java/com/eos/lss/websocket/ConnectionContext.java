@@ -0,0 +1,206 @@
+package com.eos.lss.websocket;
+
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PingMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * WebSocket 연결 하나의 상태
+ *
+ * WebSocketSession 속성으로 붙어 있고, 게임 세션의 수신자 목록도 이 객체를 직접 들고 있으므로
+ * 메시지 전송 시 연결 ID로 맵을 다시 조회할 필요가 없다.
+ */
+public class ConnectionContext {
+
+    public static final String ATTRIBUTE = ConnectionContext.class.getName();
+
+    private final String id;
+    // 전송 버퍼가 있는 세션 (여러 스레드에서 동시에 보내도 순서대로 전송됨)
+    private final ConcurrentWebSocketSessionDecorator outbound;
+    // FanoutExecutor가 쓰는 연결별 전송 큐
+    private final FanoutExecutor.Outbox outbox = new FanoutExecutor.Outbox();
+    private final int sendTimeLimitMs;
+    private final int sendBufferSizeLimit;
+    private final long connectedAt = System.currentTimeMillis();
+
+    private String userId;
+    private String gameSessionId;
+
+    // 하트비트 상태
+    private volatile long lastSeenAt = connectedAt;
+    private volatile long lastPingAt;
+    private volatile boolean released;
+
+    // 통계
+    private final LongAdder receivedMessages = new LongAdder();
+    private final LongAdder sentMessages = new LongAdder();
+    private final LongAdder sentBytes = new LongAdder();
+    private final LongAdder sendFailures = new LongAdder();
+
+    public ConnectionContext(WebSocketSession session, int sendTimeLimitMs, int sendBufferSizeLimit) {
+        this.id = session.getId();
+        this.outbound = new ConcurrentWebSocketSessionDecorator(session, sendTimeLimitMs, sendBufferSizeLimit);
+        this.sendTimeLimitMs = sendTimeLimitMs;
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+        session.getAttributes().put(ATTRIBUTE, this);
+    }
+
+    public static ConnectionContext of(WebSocketSession session) {
+        return (ConnectionContext) session.getAttributes().get(ATTRIBUTE);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public long getConnectedAt() {
+        return connectedAt;
+    }
+
+    public synchronized String getUserId() {
+        return userId;
+    }
+
+    public synchronized void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    /**
+     * 사용자 매핑 해제 (이미 해제되었으면 null)
+     */
+    public synchronized String detachUser() {
+        String previous = userId;
+        userId = null;
+        return previous;
+    }
+
+    public synchronized String getGameSessionId() {
+        return gameSessionId;
+    }
+
+    public synchronized void setGameSessionId(String gameSessionId) {
+        this.gameSessionId = gameSessionId;
+    }
+
+    /**
+     * 게임 세션 매핑 해제 (현재 게임 세션이 일치할 때만)
+     */
+    public synchronized boolean detachGameSession(String gameSessionId) {
+        if (gameSessionId != null && gameSessionId.equals(this.gameSessionId)) {
+            this.gameSessionId = null;
+            return true;
+        }
+        return false;
+    }
+
+    public boolean isOpen() {
+        return outbound.isOpen();
+    }
+
+    public void send(String message) throws IOException {
+        try {
+            outbound.sendMessage(new TextMessage(message));
+        } catch (IOException e) {
+            sendFailures.increment();
+            throw e;
+        } catch (SessionLimitExceededException e) {
+            // 전송 버퍼 초과 (느린 클라이언트) - 연결은 데코레이터가 닫음
+            sendFailures.increment();
+            throw new IOException(e.getMessage(), e);
+        }
+        sentMessages.increment();
+        sentBytes.add(message.length());
+    }
+
+    public void recordReceived() {
+        receivedMessages.increment();
+        lastSeenAt = System.currentTimeMillis();
+    }
+
+    /**
+     * 메시지가 아닌 수신 (pong 등)
+     */
+    public void recordActivity() {
+        lastSeenAt = System.currentTimeMillis();
+    }
+
+    public long getLastSeenAt() {
+        return lastSeenAt;
+    }
+
+    public long getLastPingAt() {
+        return lastPingAt;
+    }
+
+    // 마지막 ping 이후 응답이 없는지
+    public boolean isAwaitingPong() {
+        return lastPingAt > lastSeenAt;
+    }
+
+    public void sendPing() throws IOException {
+        // SSE 연결은 ping 전송 중에 바로 활동을 기록하므로 전송 전에 기록
+        lastPingAt = System.currentTimeMillis();
+        try {
+            outbound.sendMessage(new PingMessage());
+        } catch (SessionLimitExceededException e) {
+            sendFailures.increment();
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    public void close(CloseStatus status) {
+        try {
+            outbound.close(status);
+        } catch (IOException | RuntimeException e) {
+            // 이미 끊긴 연결은 닫기도 실패할 수 있음 - 매핑 정리는 호출 측에서 계속 진행
+        }
+    }
+
+    // 핸들러에서 연결 정리가 끝났는지 (하트비트 대상에서 제외)
+    public boolean isReleased() {
+        return released;
+    }
+
+    void markReleased() {
+        released = true;
+    }
+
+    public long getReceivedMessages() {
+        return receivedMessages.sum();
+    }
+
+    public long getSentMessages() {
+        return sentMessages.sum();
+    }
+
+    public long getSentBytes() {
+        return sentBytes.sum();
+    }
+
+    public long getSendFailures() {
+        return sendFailures.sum();
+    }
+
+    // 아직 전송되지 않고 전송 큐와 버퍼에 쌓인 바이트 수
+    public int getBufferedBytes() {
+        return (int) Math.min(Integer.MAX_VALUE, outbox.getQueuedBytes() + outbound.getBufferSize());
+    }
+
+    FanoutExecutor.Outbox getOutbox() {
+        return outbox;
+    }
+
+    int getSendTimeLimitMs() {
+        return sendTimeLimitMs;
+    }
+
+    int getSendBufferSizeLimit() {
+        return sendBufferSizeLimit;
+    }
+}
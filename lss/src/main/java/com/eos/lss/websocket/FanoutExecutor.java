@@ -0,0 +1,346 @@
+package com.eos.lss.websocket;
+
+import com.eos.lss.metrics.MetricsSource;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.function.Consumer;
+
+/**
+ * 방 브로드캐스트 전용 전송 스테이지
+ *
+ * 인코딩이 끝난 프레임 하나와 수신자 목록을 받아 연결마다 전송 큐(Outbox)에 넣고 바로 돌아간다.
+ * 연결마다 한 번에 한 스레드만 큐를 비우므로 연결별 전송 순서가 유지되고, 느린 연결의 쓰기가 막혀도
+ * 그 연결을 비우는 스레드 하나만 묶일 뿐 다른 연결의 전송은 계속된다.
+ * 큐에 쌓인 바이트가 연결의 전송 버퍼 한도를 넘거나 쓰기 하나가 전송 시간 한도보다 오래 막혀 있으면
+ * 더 쌓지 않고 연결을 닫는다. (워커 수 0이면 호출 스레드에서 바로 전송)
+ */
+@Component
+@Slf4j
+public class FanoutExecutor implements MetricsSource {
+
+    // 방 크기 구간 상한 (마지막 구간은 그보다 큰 방 전체)
+    private static final int[] ROOM_SIZE_BUCKETS = {1, 2, 4, 8, 16, 32};
+
+    private final int workers;
+    // 기본 workers개 스레드를 유지하고, 쓰기가 막힌 연결이 있으면 그만큼 스레드를 더 만듦
+    private final ThreadPoolExecutor senders;
+    private final RoomSizeStats[] stats = new RoomSizeStats[ROOM_SIZE_BUCKETS.length + 1];
+    // 방 브로드캐스트가 아닌 연결 하나로 보낸 응답
+    private final RoomSizeStats directStats = new RoomSizeStats();
+    private final AtomicInteger pendingTasks = new AtomicInteger();
+    private final AtomicLong writeFailures = new AtomicLong();
+    private final AtomicLong overflowClosed = new AtomicLong();
+
+    public FanoutExecutor(@Value("${lss.fanout.workers:4}") int workers) {
+        this.workers = Math.max(workers, 0);
+        if (this.workers > 0) {
+            AtomicInteger threadIds = new AtomicInteger();
+            this.senders = new ThreadPoolExecutor(this.workers, Integer.MAX_VALUE, 60, TimeUnit.SECONDS,
+                    new SynchronousQueue<>(), r -> {
+                        Thread thread = new Thread(r, "fanout-writer-" + threadIds.getAndIncrement());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+        } else {
+            this.senders = null;
+        }
+        for (int i = 0; i < stats.length; i++) {
+            stats[i] = new RoomSizeStats();
+        }
+    }
+
+    /**
+     * 연결 하나에 전송 (같은 연결로 가는 브로드캐스트와 순서가 섞이지 않도록 같은 큐 사용)
+     * 지연은 방 크기 구간이 아니라 direct 지표로 따로 기록한다.
+     */
+    public void send(ConnectionContext recipient, String frame, Consumer<ConnectionContext> onFailure) {
+        long enqueuedAt = System.nanoTime();
+        if (senders == null) {
+            write(recipient, frame, onFailure);
+            directStats.record(micros(enqueuedAt));
+            return;
+        }
+        submit(recipient, frame.length(), () -> {
+            write(recipient, frame, onFailure);
+            directStats.record(micros(enqueuedAt));
+        }, onFailure);
+    }
+
+    /**
+     * 수신자 전체에 같은 프레임 전송
+     * @param onFailure 닫혔거나 전송에 실패한 연결 처리 (전송 스레드 또는 호출 스레드에서 호출됨)
+     */
+    public void fanout(Collection<ConnectionContext> recipients, String frame, Consumer<ConnectionContext> onFailure) {
+        long enqueuedAt = System.nanoTime();
+        int roomSize = recipients.size();
+        if (roomSize == 0) {
+            return;
+        }
+
+        if (senders == null) {
+            for (ConnectionContext recipient : recipients) {
+                write(recipient, frame, onFailure);
+            }
+            record(roomSize, enqueuedAt);
+            return;
+        }
+
+        AtomicInteger remaining = new AtomicInteger(roomSize);
+        Runnable done = () -> {
+            if (remaining.decrementAndGet() == 0) {
+                record(roomSize, enqueuedAt);
+            }
+        };
+        for (ConnectionContext recipient : recipients) {
+            boolean queued = submit(recipient, frame.length(), () -> {
+                try {
+                    write(recipient, frame, onFailure);
+                } finally {
+                    done.run();
+                }
+            }, onFailure);
+            if (!queued) {
+                done.run();
+            }
+        }
+    }
+
+    /**
+     * 연결의 전송 큐에서 작업 실행 (같은 연결로 가는 다른 전송과 순서가 섞이지 않음)
+     */
+    public void execute(ConnectionContext recipient, Runnable task) {
+        if (senders == null) {
+            task.run();
+            return;
+        }
+        submit(recipient, 0, task, context -> { });
+    }
+
+    /**
+     * @return 큐에 넣었으면 true, 한도를 넘어 연결을 닫았거나 이미 닫은 연결이면 false
+     */
+    private boolean submit(ConnectionContext recipient, int bytes, Runnable task, Consumer<ConnectionContext> onFailure) {
+        Outbox outbox = recipient.getOutbox();
+        if (outbox.overflowed.get()) {
+            return false;
+        }
+        if (outbox.exceeds(bytes, recipient.getSendBufferSizeLimit(), TimeUnit.MILLISECONDS.toNanos(recipient.getSendTimeLimitMs()))) {
+            closeOverflowed(recipient, onFailure);
+            return false;
+        }
+        outbox.queuedBytes.addAndGet(bytes);
+        pendingTasks.incrementAndGet();
+        outbox.tasks.add(new QueuedTask(task, bytes));
+        if (outbox.draining.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(outbox));
+            } catch (RejectedExecutionException e) {
+                // 종료 중에는 남은 작업을 버림
+                outbox.draining.set(false);
+                discard(outbox);
+            }
+        }
+        return true;
+    }
+
+    // 한 번에 한 스레드만 연결의 큐를 비움
+    private void drain(Outbox outbox) {
+        while (true) {
+            QueuedTask queued;
+            while ((queued = outbox.tasks.poll()) != null) {
+                outbox.busySince = System.nanoTime();
+                try {
+                    queued.task.run();
+                } catch (RuntimeException e) {
+                    log.error("전송 작업 중 오류 발생: {}", e.getMessage(), e);
+                } finally {
+                    outbox.busySince = 0;
+                    outbox.queuedBytes.addAndGet(-queued.bytes);
+                    pendingTasks.decrementAndGet();
+                }
+            }
+            outbox.draining.set(false);
+            // 플래그를 내리는 사이 들어온 작업은 이 스레드가 이어서 처리
+            if (outbox.tasks.isEmpty() || !outbox.draining.compareAndSet(false, true)) {
+                return;
+            }
+        }
+    }
+
+    private void discard(Outbox outbox) {
+        QueuedTask queued;
+        while ((queued = outbox.tasks.poll()) != null) {
+            outbox.queuedBytes.addAndGet(-queued.bytes);
+            pendingTasks.decrementAndGet();
+        }
+    }
+
+    // 느린 연결: 더 쌓지 않고 닫음 (막혀 있던 쓰기도 소켓이 닫히면 풀림)
+    private void closeOverflowed(ConnectionContext recipient, Consumer<ConnectionContext> onFailure) {
+        if (!recipient.getOutbox().overflowed.compareAndSet(false, true)) {
+            return;
+        }
+        overflowClosed.incrementAndGet();
+        log.warn("전송이 밀려 연결을 닫습니다 - sessionId: {}, 대기 바이트: {}", recipient.getId(), recipient.getOutbox().queuedBytes.get());
+        recipient.close(CloseStatus.SESSION_NOT_RELIABLE);
+        try {
+            onFailure.accept(recipient);
+        } catch (Exception callbackError) {
+            log.error("전송 실패 연결 정리 중 오류 발생 - sessionId: {}, error: {}", recipient.getId(), callbackError.getMessage(), callbackError);
+        }
+    }
+
+    private void write(ConnectionContext recipient, String frame, Consumer<ConnectionContext> onFailure) {
+        if (recipient.isReleased()) {
+            return;
+        }
+        try {
+            if (!recipient.isOpen()) {
+                throw new IOException("닫힌 연결");
+            }
+            recipient.send(frame);
+        } catch (IOException e) {
+            writeFailures.incrementAndGet();
+            log.warn("메시지 전송 실패 - sessionId: {}, error: {}", recipient.getId(), e.getMessage());
+            try {
+                onFailure.accept(recipient);
+            } catch (Exception callbackError) {
+                log.error("전송 실패 연결 정리 중 오류 발생 - sessionId: {}, error: {}", recipient.getId(), callbackError.getMessage(), callbackError);
+            }
+        }
+    }
+
+    private static long micros(long enqueuedAt) {
+        return (System.nanoTime() - enqueuedAt) / 1000;
+    }
+
+    private void record(int roomSize, long enqueuedAt) {
+        int bucket = 0;
+        while (bucket < ROOM_SIZE_BUCKETS.length && roomSize > ROOM_SIZE_BUCKETS[bucket]) {
+            bucket++;
+        }
+        stats[bucket].record(micros(enqueuedAt));
+    }
+
+    /**
+     * 연결 전송 큐에 쌓인 작업 수 (밀리면 브로드캐스트가 늦어짐)
+     */
+    public int getPendingTasks() {
+        return pendingTasks.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (senders == null) {
+            return;
+        }
+        senders.shutdown();
+        try {
+            if (!senders.awaitTermination(5, TimeUnit.SECONDS)) {
+                senders.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            senders.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "fanout";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("workers", workers);
+        metrics.put("senderThreads", senders != null ? senders.getPoolSize() : 0);
+        metrics.put("pendingTasks", pendingTasks.get());
+        metrics.put("writeFailures", writeFailures.get());
+        metrics.put("overflowClosed", overflowClosed.get());
+
+        Map<String, Object> byRoomSize = new LinkedHashMap<>();
+        for (int i = 0; i < stats.length; i++) {
+            String label;
+            if (i == ROOM_SIZE_BUCKETS.length) {
+                label = (ROOM_SIZE_BUCKETS[i - 1] + 1) + "+";
+            } else {
+                int lower = i == 0 ? 1 : ROOM_SIZE_BUCKETS[i - 1] + 1;
+                label = lower == ROOM_SIZE_BUCKETS[i] ? String.valueOf(lower) : lower + "-" + ROOM_SIZE_BUCKETS[i];
+            }
+            if (stats[i].count.get() > 0) {
+                byRoomSize.put(label, stats[i].toMap());
+            }
+        }
+        metrics.put("latencyByRoomSize", byRoomSize);
+        metrics.put("directLatency", directStats.toMap());
+        return metrics;
+    }
+
+    /**
+     * 연결 하나의 전송 큐 (ConnectionContext마다 하나)
+     */
+    static final class Outbox {
+        private final Queue<QueuedTask> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean overflowed = new AtomicBoolean();
+        private final AtomicLong queuedBytes = new AtomicLong();
+        // 지금 실행 중인 작업을 시작한 시각 (없으면 0)
+        private volatile long busySince;
+
+        long getQueuedBytes() {
+            return queuedBytes.get();
+        }
+
+        boolean exceeds(int bytes, int bufferLimit, long timeLimitNanos) {
+            long since = busySince;
+            if (since != 0 && System.nanoTime() - since > timeLimitNanos) {
+                return true;
+            }
+            return queuedBytes.get() + bytes > bufferLimit;
+        }
+    }
+
+    private record QueuedTask(Runnable task, int bytes) {
+    }
+
+    // 방 크기 구간별 전송 완료 지연 (큐에 넣은 시점부터 마지막 수신자에게 쓸 때까지)
+    private static class RoomSizeStats {
+        final AtomicLong count = new AtomicLong();
+        final AtomicLong totalMicros = new AtomicLong();
+        final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0);
+
+        void record(long micros) {
+            count.incrementAndGet();
+            totalMicros.addAndGet(micros);
+            maxMicros.accumulate(micros);
+        }
+
+        Map<String, Object> toMap() {
+            long n = count.get();
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("count", n);
+            map.put("avgMicros", n > 0 ? totalMicros.get() / n : 0);
+            map.put("maxMicros", maxMicros.get());
+            return map;
+        }
+    }
+}
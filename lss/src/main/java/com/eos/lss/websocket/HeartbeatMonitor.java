@@ -0,0 +1,144 @@
+package com.eos.lss.websocket;
+
+import com.eos.lss.metrics.MetricsSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 서버 주도 하트비트와 끊긴 연결 감지
+ *
+ * 연결마다 다음 확인 시각을 타이밍 휠 하나에 넣어 두고, 틱마다 시각이 된 칸의 연결만 확인한다.
+ * 수신이 있으면 연결 상태의 마지막 수신 시각만 갱신하므로 휠을 건드리지 않는다.
+ * - ping 간격 동안 조용하면 WebSocket ping 전송
+ * - 제한 시간 동안 아무 수신(메시지, pong)이 없으면 연결을 닫고 매핑 정리
+ * ping 전송과 연결 닫기는 연결의 전송 큐(FanoutExecutor)에서 하므로, 쓰기가 막힌 연결이 있어도 틱 스레드는 멈추지 않는다.
+ */
+@Component
+@Slf4j
+public class HeartbeatMonitor implements MetricsSource {
+
+    private final SimpleWebSocketHandler webSocketHandler;
+    private final FanoutExecutor fanoutExecutor;
+    private final long pingIntervalMillis;
+    private final long timeoutMillis;
+    private final TimingWheel<ConnectionContext> wheel;
+
+    // 지표
+    private final AtomicLong pingsSent = new AtomicLong();
+    private final AtomicLong deadConnectionsClosed = new AtomicLong();
+    private final AtomicLong lastTickChecked = new AtomicLong();
+    private final AtomicLong lastTickNanos = new AtomicLong();
+
+    public HeartbeatMonitor(@Lazy SimpleWebSocketHandler webSocketHandler,
+                            FanoutExecutor fanoutExecutor,
+                            @Value("${lss.heartbeat.ping-interval-ms:15000}") long pingIntervalMillis,
+                            @Value("${lss.heartbeat.timeout-ms:45000}") long timeoutMillis,
+                            @Value("${lss.heartbeat.tick-ms:1000}") long tickMillis) {
+        this.webSocketHandler = webSocketHandler;
+        this.fanoutExecutor = fanoutExecutor;
+        this.pingIntervalMillis = pingIntervalMillis;
+        this.timeoutMillis = Math.max(timeoutMillis, pingIntervalMillis);
+        // 가장 먼 확인 시각(제한 시간)까지 한 바퀴 안에 들어가도록 칸 수 결정
+        int slotCount = (int) (this.timeoutMillis / tickMillis) + 2;
+        this.wheel = new TimingWheel<>(tickMillis, slotCount, System.currentTimeMillis());
+    }
+
+    /**
+     * 새 연결 감시 시작
+     */
+    public void track(ConnectionContext context) {
+        wheel.schedule(context, context.getLastSeenAt() + pingIntervalMillis);
+    }
+
+    @Scheduled(fixedRateString = "${lss.heartbeat.tick-ms:1000}")
+    public void tick() {
+        long started = System.nanoTime();
+        long now = System.currentTimeMillis();
+        List<ConnectionContext> due = wheel.advance(now);
+        List<ConnectionContext> dead = new ArrayList<>();
+
+        for (ConnectionContext context : due) {
+            if (context.isReleased()) {
+                continue; // 이미 정리된 연결은 휠에서 빠짐
+            }
+            long silence = now - context.getLastSeenAt();
+            if (silence >= timeoutMillis || !context.isOpen()) {
+                dead.add(context);
+            } else if (silence >= pingIntervalMillis) {
+                fanoutExecutor.execute(context, () -> ping(context));
+                wheel.schedule(context, context.getLastSeenAt() + timeoutMillis);
+            } else {
+                wheel.schedule(context, context.getLastSeenAt() + pingIntervalMillis);
+            }
+        }
+
+        // 끊긴 연결은 한 번에 모아서 정리
+        if (!dead.isEmpty()) {
+            for (ConnectionContext context : dead) {
+                fanoutExecutor.execute(context, () -> {
+                    context.close(CloseStatus.SESSION_NOT_RELIABLE);
+                    webSocketHandler.releaseDeadConnection(context);
+                });
+            }
+            deadConnectionsClosed.addAndGet(dead.size());
+            log.info("응답 없는 연결 정리 - 정리된 연결 수: {}", dead.size());
+        }
+
+        lastTickChecked.set(due.size());
+        lastTickNanos.set(System.nanoTime() - started);
+    }
+
+    private void ping(ConnectionContext context) {
+        try {
+            context.sendPing();
+            pingsSent.incrementAndGet();
+        } catch (IOException e) {
+            // 전송 실패는 다음 확인 때 제한 시간으로 정리됨
+            log.debug("ping 전송 실패 - sessionId: {}, error: {}", context.getId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "heartbeat";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        long now = System.currentTimeMillis();
+        int tracked = 0;
+        int awaitingPong = 0;
+        long maxSilenceMillis = 0;
+        for (ConnectionContext context : wheel.snapshot()) {
+            if (context.isReleased()) {
+                continue;
+            }
+            tracked++;
+            if (context.isAwaitingPong()) {
+                awaitingPong++;
+            }
+            maxSilenceMillis = Math.max(maxSilenceMillis, now - context.getLastSeenAt());
+        }
+
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("trackedConnections", tracked);
+        metrics.put("awaitingPong", awaitingPong);
+        metrics.put("maxSilenceMillis", maxSilenceMillis);
+        metrics.put("pingsSent", pingsSent.get());
+        metrics.put("deadConnectionsClosed", deadConnectionsClosed.get());
+        metrics.put("lastTickChecked", lastTickChecked.get());
+        metrics.put("lastTickMicros", lastTickNanos.get() / 1000);
+        return metrics;
+    }
+}
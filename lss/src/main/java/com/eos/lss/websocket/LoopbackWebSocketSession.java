@@ -0,0 +1,133 @@
+package com.eos.lss.websocket;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PingMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.security.Principal;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 서버 안에서 SimpleWebSocketHandler를 실제 연결처럼 구동하기 위한 세션 (시작 직후 예열용)
+ *
+ * 핸들러가 보낸 텍스트 프레임은 네트워크로 나가지 않고 receiver로 넘어간다.
+ */
+public class LoopbackWebSocketSession implements WebSocketSession {
+
+    public static final String ID_PREFIX = "loopback-";
+
+    private final String id = ID_PREFIX + UUID.randomUUID();
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+    private final Consumer<String> receiver;
+    private volatile boolean open = true;
+
+    public LoopbackWebSocketSession(Consumer<String> receiver) {
+        this.receiver = receiver;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        if (!open) {
+            throw new IOException("루프백 연결이 닫혔습니다.");
+        }
+        if (message instanceof PingMessage) {
+            // 상대가 같은 프로세스이므로 ping은 바로 응답한 것으로 봄
+            ConnectionContext context = ConnectionContext.of(this);
+            if (context != null) {
+                context.recordActivity();
+            }
+        } else if (message instanceof TextMessage text) {
+            receiver.accept(text.getPayload());
+        }
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public void close() {
+        close(CloseStatus.NORMAL);
+    }
+
+    @Override
+    public void close(CloseStatus status) {
+        open = false;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public URI getUri() {
+        return null;
+    }
+
+    @Override
+    public HttpHeaders getHandshakeHeaders() {
+        return new HttpHeaders();
+    }
+
+    @Override
+    public Map<String, Object> getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    public Principal getPrincipal() {
+        return null;
+    }
+
+    @Override
+    public InetSocketAddress getLocalAddress() {
+        return null;
+    }
+
+    @Override
+    public InetSocketAddress getRemoteAddress() {
+        return null;
+    }
+
+    @Override
+    public String getAcceptedProtocol() {
+        return null;
+    }
+
+    @Override
+    public void setTextMessageSizeLimit(int messageSizeLimit) {
+    }
+
+    @Override
+    public int getTextMessageSizeLimit() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public void setBinaryMessageSizeLimit(int messageSizeLimit) {
+    }
+
+    @Override
+    public int getBinaryMessageSizeLimit() {
+        return 0;
+    }
+
+    @Override
+    public List<WebSocketExtension> getExtensions() {
+        return Collections.emptyList();
+    }
+}
@@ -1,39 +1,69 @@
 package com.eos.lss.websocket;
 
+import com.eos.lss.metrics.LatencyWindow;
+import com.eos.lss.metrics.MetricsSource;
+import com.eos.lss.service.MatchmakingService;
+import com.eos.lss.service.ReconnectGraceService;
+import com.eos.lss.service.SessionLifecycleListener;
+import com.eos.lss.service.SessionLifecycleRegistry;
+import com.eos.lss.service.SessionResources;
 import com.eos.lss.service.SessionService;
 import com.eos.lss.config.RateLimiter;
+import com.eos.lss.cluster.SessionEvent;
+import com.eos.lss.dto.GameActionDto;
+import com.eos.lss.dto.GameErrorDto;
+import com.eos.lss.cluster.SessionEventBus;
+import com.eos.lss.cluster.SessionRouter;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PongMessage;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @Slf4j
-public class SimpleWebSocketHandler extends TextWebSocketHandler {
+public class SimpleWebSocketHandler extends TextWebSocketHandler implements SessionLifecycleListener, MetricsSource {
 
-    private final ConcurrentHashMap<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+    // WebSocket 세션 ID와 연결 상태 매핑 (연결 상태는 WebSocketSession 속성에도 붙어 있음)
+    private final ConcurrentHashMap<String, ConnectionContext> connections = new ConcurrentHashMap<>();
     private final ObjectMapper objectMapper = new ObjectMapper();
-    // WebSocket 세션 ID와 사용자 ID 매핑
-    private final ConcurrentHashMap<String, String> sessionToUserMap = new ConcurrentHashMap<>();
-    // 사용자 ID와 WebSocket 세션 ID 매핑
-    private final ConcurrentHashMap<String, String> userToSessionMap = new ConcurrentHashMap<>();
-    // WebSocket 세션 ID와 게임 세션 ID 매핑 (새로 추가)
-    private final ConcurrentHashMap<String, String> sessionToGameSessionMap = new ConcurrentHashMap<>();
-    // 게임 세션 ID와 WebSocket 세션 ID들 매핑 (새로 추가)
-    private final ConcurrentHashMap<String, Set<String>> gameSessionToWebSocketSessionsMap = new ConcurrentHashMap<>();
+    // 사용자 ID와 연결 상태 매핑
+    private final ConcurrentHashMap<String, ConnectionContext> userConnections = new ConcurrentHashMap<>();
+    // 게임 세션 ID와 이 노드에 연결된 수신자 목록 (브로드캐스트 시 배열을 그대로 순회)
+    private final ConcurrentHashMap<String, CopyOnWriteArrayList<ConnectionContext>> gameSessionRecipients = new ConcurrentHashMap<>();
+    // 이 노드 소유 세션 ID와 그 세션 관전자가 있는 다른 노드 ID (관전 프레임은 이 목록이 있을 때만 중계)
+    private final ConcurrentHashMap<String, Set<String>> remoteSpectatorNodes = new ConcurrentHashMap<>();
+    // 이 노드에서 실행한 명령의 처리 시간 (전달 받은 명령 포함)
+    private final LatencyWindow commandLatency = new LatencyWindow(1024);
+    
+    // 연결별 전송 버퍼 설정
+    @Value("${lss.websocket.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+    
+    @Value("${lss.websocket.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
     
     @Autowired
     @Lazy
@@ -41,27 +71,130 @@ public class SimpleWebSocketHandler extends TextWebSocketHandler {
     
     @Autowired
     private RateLimiter rateLimiter;
+    
+    @Autowired
+    private SessionEventBus sessionEventBus;
+    
+    @Autowired
+    private SessionRouter sessionRouter;
+    
+    @Autowired
+    private SessionLifecycleRegistry sessionLifecycleRegistry;
+    
+    @Autowired
+    @Lazy
+    private ReconnectGraceService reconnectGraceService;
+    
+    @Autowired
+    private HeartbeatMonitor heartbeatMonitor;
+    
+    @Autowired
+    private FanoutExecutor fanoutExecutor;
+    
+    @Autowired
+    @Lazy
+    private MatchmakingService matchmakingService;
+    
+    @Autowired
+    private SpectatorHub spectatorHub;
+    
+    @Autowired
+    private CommandDeduplicator commandDeduplicator;
 
     // 메시지 타입 - 단순화
     public static final String MSG_TYPE_OK = "ok";
     public static final String MSG_TYPE_ERROR = "error";
+    public static final String MSG_TYPE_HEARTBEAT = "heartbeat";
+    public static final String MSG_TYPE_MATCH_QUEUED = "match-queued";
+    public static final String MSG_TYPE_MATCH_CANCELLED = "match-cancelled";
+    public static final String MSG_TYPE_MATCH_FOUND = "match-found";
+    public static final String MSG_TYPE_SPECTATING = "spectating";
+    public static final String MSG_TYPE_ACK = "ack";
+    public static final String MSG_TYPE_REDIRECT = "redirect";
+    public static final String ACK_STATUS_OK = "ok";
+    public static final String ACK_STATUS_ERROR = "error";
+    public static final String ACK_STATUS_PENDING = "pending";
+    // 지표의 명령 처리 시간 백분위수 기간
+    private static final long METRICS_WINDOW_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final String ERROR_FRAME_PREFIX = "{\"type\":\"" + MSG_TYPE_ERROR + "\"";
+    
+    // commandId/seq가 있으면 중복 제거 후 ack를 보내는 명령 (게임 상태를 바꾸는 명령)
+    private static final Set<String> IDEMPOTENT_COMMANDS = Set.of(
+        "create-session", "join-session", "coin-action", "next-turn", "register-order",
+        "start-ordering", "start-playing", "continue-lee-soon-sin", "delete-session", "batch"
+    );
 
     public SimpleWebSocketHandler() {
         // LocalDateTime 직렬화를 위한 모듈 등록
         objectMapper.registerModule(new JavaTimeModule());
     }
 
+    @PostConstruct
+    public void subscribeClusterEvents() {
+        // 다른 노드에서 중계된 메시지를 이 노드에 연결된 플레이어에게 전달
+        sessionEventBus.subscribe(this::handleClusterEvent);
+        spectatorHub.setAudienceListener(this::onSpectatorAudienceChanged);
+    }
+
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
         log.info("=== WebSocket 연결 성공 ===");
         log.info("세션 ID: {}", session.getId());
         log.info("원격 주소: {}", session.getRemoteAddress());
         
-        sessions.put(session.getId(), session);
+        openConnection(session);
+    }
+    
+    // 연결 상태 생성과 하트비트 감시 시작 (WebSocket, SSE 공통)
+    private ConnectionContext openConnection(WebSocketSession session) {
+        ConnectionContext context = new ConnectionContext(session, sendTimeLimitMs, sendBufferSizeLimit);
+        connections.put(context.getId(), context);
+        heartbeatMonitor.track(context);
         
         // 연결 성공 메시지 전송 (기본 GameStateDto 포함)
         String response = "{\"type\":\"" + MSG_TYPE_OK + "\",\"status\":\"connected\",\"sessionId\":\"" + session.getId() + "\",\"entryCode\":null,\"presidentId\":null,\"createdAt\":null,\"players\":[],\"currentPlayerIndex\":0,\"isClockWise\":true,\"firstCoinState\":null,\"secondCoinState\":null,\"currentPlayer\":null,\"isMyTurn\":false,\"isPresident\":false,\"gameState\":\"DISCONNECTED\",\"gameEndTime\":null,\"isLeeSoonSinByTimeExpired\":null}";
-        session.sendMessage(new TextMessage(response));
+        sendToConnection(context, response);
+        return context;
+    }
+    
+    /**
+     * SSE 연결 시작 (WebSocket을 쓸 수 없는 클라이언트용, 명령은 handleSseCommand로 받음)
+     * 게임 세션을 지정하면 afterVersion보다 새 상태부터 관전 프레임으로 받는다.
+     */
+    public void openSseConnection(SseSession session, String gameSessionId, long afterVersion) {
+        log.info("SSE 연결 - 연결 ID: {}, 원격 주소: {}, gameSessionId: {}, afterVersion: {}",
+                session.getId(), session.getRemoteAddress(), gameSessionId, afterVersion);
+        
+        ConnectionContext context = openConnection(session);
+        session.onClose(() -> releaseConnection(context));
+        if (gameSessionId != null) {
+            ObjectNode payload = objectMapper.createObjectNode();
+            payload.put("sessionId", gameSessionId);
+            payload.put("afterVersion", afterVersion);
+            handleSpectateSession(context, payload);
+        }
+    }
+    
+    /**
+     * SSE 연결의 HTTP 명령 처리 (응답과 이후 상태 변경은 SSE 스트림으로 전송)
+     * @return 열린 SSE 연결이 없으면 false
+     */
+    public boolean handleSseCommand(String connectionId, String message) {
+        ConnectionContext context = SseSession.isSseConnection(connectionId) ? connections.get(connectionId) : null;
+        if (context == null) {
+            return false;
+        }
+        log.info("SSE 명령 수신 - 연결 ID: {}, 메시지: {}", connectionId, message);
+        handleIncoming(context, message);
+        return true;
+    }
+
+    @Override
+    protected void handlePongMessage(WebSocketSession session, PongMessage message) {
+        ConnectionContext context = ConnectionContext.of(session);
+        if (context != null) {
+            context.recordActivity();
+        }
     }
 
     @Override
@@ -70,38 +203,41 @@ public class SimpleWebSocketHandler extends TextWebSocketHandler {
         log.info("세션 ID: {}", session.getId());
         log.info("메시지: {}", message.getPayload());
         
+        ConnectionContext context = ConnectionContext.of(session);
+        if (context == null) {
+            log.warn("연결 상태가 없는 세션의 메시지 무시: {}", session.getId());
+            return;
+        }
+        handleIncoming(context, message.getPayload());
+    }
+    
+    // 수신한 명령 처리 (WebSocket, SSE 공통)
+    private void handleIncoming(ConnectionContext context, String payload) {
+        context.recordReceived();
+        
         try {
-            String payload = message.getPayload();
             JsonNode jsonNode = objectMapper.readTree(payload);
             
             // 일반 JSON 메시지 처리
             log.info("JSON 메시지 처리");
-            handleJsonMessage(session, jsonNode);
+            handleJsonMessage(context, jsonNode);
             
         } catch (Exception e) {
             log.error("메시지 처리 오류: {}", e.getMessage(), e);
             
-            // 세션이 열려있는 경우에만 에러 응답 전송
-            if (session.isOpen()) {
-                try {
-                    String errorResponse = createErrorResponse("INTERNAL_SERVER_ERROR", e.getMessage());
-                    session.sendMessage(new TextMessage(errorResponse));
-                } catch (IOException ioException) {
-                    log.error("에러 응답 전송 실패: {}", ioException.getMessage());
-                    // 세션에 문제가 있으면 제거
-                    handleUserDisconnection(session.getId());
-                    sessions.remove(session.getId());
-                }
+            // 세션이 열려있는 경우에만 에러 응답 전송 (전송 실패 시 연결 정리)
+            if (context.isOpen()) {
+                String errorResponse = createErrorResponse("INTERNAL_SERVER_ERROR", e.getMessage());
+                sendToConnection(context, errorResponse);
             } else {
-                log.warn("닫힌 세션에서 메시지 처리 오류 발생: {}", session.getId());
+                log.warn("닫힌 세션에서 메시지 처리 오류 발생: {}", context.getId());
                 // 닫힌 세션 제거
-                handleUserDisconnection(session.getId());
-                sessions.remove(session.getId());
+                releaseConnection(context);
             }
         }
     }
     
-    private void handleCreateSession(WebSocketSession session, JsonNode payload) throws Exception {
+    private void handleCreateSession(CommandChannel channel, JsonNode payload) throws Exception {
         String userId = payload.get("userId").asText();
         String name = payload.get("name").asText();
         
@@ -109,27 +245,35 @@ public class SimpleWebSocketHandler extends TextWebSocketHandler {
         
         try {
             // 사용자 매핑 등록
-            registerUserMapping(session.getId(), userId);
+            channel.bindUser(userId);
             
             String sessionId = sessionService.createSession(userId, name);
             
             // 게임 세션 매핑 등록 (새로 추가)
-            registerGameSessionMapping(session.getId(), sessionId);
+            channel.bindGameSession(sessionId);
             
             // 게임 상태 가져오기
             var gameState = sessionService.getGameState(sessionId, userId);
             
-            // 통일된 응답 구조
-            String response = createGameStateResponse(gameState);
-            session.sendMessage(new TextMessage(response));
+            // 통일된 응답 구조 (재접속 토큰 포함)
+            String response = withResumeToken(createGameStateResponse(gameState), reconnectGraceService.issueToken(sessionId, userId));
+            channel.send(response);
+        } catch (com.eos.lss.exception.NodeDrainingException e) {
+            log.warn("드레인 중이라 세션 생성 거절 - userId: {}", userId);
+            String errorResponse = createErrorResponse(GameErrorDto.ERROR_NODE_DRAINING, "서버 점검 중이라 새 방을 만들 수 없습니다.");
+            channel.send(errorResponse);
+        } catch (com.eos.lss.exception.CapacityExceededException e) {
+            log.warn("수용 한도 초과로 세션 생성 거절 - userId: {}", userId);
+            String errorResponse = createErrorResponse(GameErrorDto.ERROR_SERVER_AT_CAPACITY, "서버 수용 인원이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
+            channel.send(errorResponse);
         } catch (Exception e) {
             log.error("세션 생성 중 오류 발생: {}", e.getMessage(), e);
             String errorResponse = createErrorResponse("SESSION_CREATION_FAILED", "세션 생성 중 오류가 발생했습니다.");
-            session.sendMessage(new TextMessage(errorResponse));
+            channel.send(errorResponse);
         }
     }
     
-    private void handleJoinSession(WebSocketSession session, JsonNode payload) throws Exception {
+    private void handleJoinSession(CommandChannel channel, JsonNode payload) throws Exception {
         String entryCode = payload.get("entryCode").asText();
         String userId = payload.get("userId").asText();
         String name = payload.get("name").asText();
@@ -137,40 +281,198 @@ public class SimpleWebSocketHandler extends TextWebSocketHandler {
         log.info("세션 입장 요청 - entryCode: {}, userId: {}, name: {}", entryCode, userId, name);
         
         try {
-            // 사용자 매핑 등록
-            registerUserMapping(session.getId(), userId);
-            
             String sessionId = sessionService.joinSession(entryCode, userId, name);
             
+            // 사용자 매핑은 입장에 성공한 뒤에 등록 (이미 참여한 사용자 ID로 다른 연결이 메시지를 가로채지 않도록)
+            channel.bindUser(userId);
             // 게임 세션 매핑 등록 (새로 추가)
-            registerGameSessionMapping(session.getId(), sessionId);
+            channel.bindGameSession(sessionId);
             
             // 게임 상태 가져오기
             var gameState = sessionService.getGameState(sessionId, userId);
             
-            // 통일된 응답 구조
-            String response = createGameStateResponse(gameState);
-            session.sendMessage(new TextMessage(response));
+            // 통일된 응답 구조 (재접속 토큰 포함)
+            String response = withResumeToken(createGameStateResponse(gameState), reconnectGraceService.issueToken(sessionId, userId));
+            channel.send(response);
         } catch (com.eos.lss.exception.SessionNotFoundException e) {
             log.warn("세션을 찾을 수 없음 - entryCode: {}, error: {}", entryCode, e.getMessage());
             String errorResponse = createErrorResponse("INVALID_ENTRY_CODE", "입장 코드가 올바르지 않습니다.");
-            session.sendMessage(new TextMessage(errorResponse));
+            channel.send(errorResponse);
         } catch (com.eos.lss.exception.InvalidGameStateException e) {
             log.warn("게임 상태 오류 - entryCode: {}, error: {}", entryCode, e.getMessage());
             String errorResponse = createErrorResponse("GAME_IN_PROGRESS", "이미 진행중인 게임입니다.");
-            session.sendMessage(new TextMessage(errorResponse));
+            channel.send(errorResponse);
         } catch (com.eos.lss.exception.PlayerAlreadyJoinedException e) {
+            // 이미 참여한 플레이어의 재입장은 재접속 토큰이 맞을 때만 재접속으로 처리
+            String resumeToken = payload.has("resumeToken") ? payload.get("resumeToken").asText() : null;
+            String joinedSessionId = sessionService.findSessionIdByEntryCode(entryCode);
+            if (resumeToken != null && joinedSessionId != null) {
+                if (reconnectGraceService.resume(joinedSessionId, userId, resumeToken)) {
+                    sendResumeSnapshot(channel, joinedSessionId, userId);
+                    return;
+                }
+                log.warn("유효하지 않은 재접속 토큰으로 재입장 - entryCode: {}, userId: {}", entryCode, userId);
+                String errorResponse = createErrorResponse(GameErrorDto.ERROR_INVALID_RESUME_TOKEN, "재접속 토큰이 올바르지 않습니다.");
+                channel.send(errorResponse);
+                return;
+            }
             log.warn("이미 참여한 플레이어 - entryCode: {}, userId: {}, error: {}", entryCode, userId, e.getMessage());
             String errorResponse = createErrorResponse("PLAYER_ALREADY_JOINED", "이미 참여한 플레이어입니다.");
-            session.sendMessage(new TextMessage(errorResponse));
+            channel.send(errorResponse);
+        } catch (com.eos.lss.exception.CapacityExceededException e) {
+            log.warn("수용 한도 초과로 입장 거절 - entryCode: {}, userId: {}", entryCode, userId);
+            String errorResponse = createErrorResponse(GameErrorDto.ERROR_SERVER_AT_CAPACITY, "서버 수용 인원이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
+            channel.send(errorResponse);
         } catch (Exception e) {
             log.error("세션 입장 중 오류 발생: {}", e.getMessage(), e);
             String errorResponse = createErrorResponse("INTERNAL_SERVER_ERROR", "세션 입장 중 오류가 발생했습니다.");
-            session.sendMessage(new TextMessage(errorResponse));
+            channel.send(errorResponse);
         }
     }
     
-    private void handleCoinAction(WebSocketSession session, JsonNode payload) throws Exception {
+    private void handleResumeSession(CommandChannel channel, JsonNode payload) throws Exception {
+        String sessionId = payload.get("sessionId").asText();
+        String userId = payload.get("userId").asText();
+        String resumeToken = payload.has("resumeToken") ? payload.get("resumeToken").asText() : null;
+        
+        log.info("세션 재접속 요청 - sessionId: {}, userId: {}", sessionId, userId);
+        
+        if (!reconnectGraceService.resume(sessionId, userId, resumeToken)) {
+            log.warn("유효하지 않은 재접속 토큰 - sessionId: {}, userId: {}", sessionId, userId);
+            String errorResponse = createErrorResponse(GameErrorDto.ERROR_INVALID_RESUME_TOKEN, "재접속 토큰이 올바르지 않습니다.");
+            channel.send(errorResponse);
+            return;
+        }
+        
+        sendResumeSnapshot(channel, sessionId, userId);
+    }
+    
+    // 재접속한 플레이어에게만 현재 상태 전송 (방 전체 브로드캐스트 없음)
+    private void sendResumeSnapshot(CommandChannel channel, String sessionId, String userId) throws IOException {
+        try {
+            // 방에 남아 있는 플레이어인지 먼저 확인한 뒤 연결을 묶음 (빠진 플레이어가 방 브로드캐스트를 다시 받지 않도록)
+            if (!sessionService.isPlayer(sessionId, userId)) {
+                log.warn("방에서 빠진 플레이어의 재접속 - sessionId: {}, userId: {}", sessionId, userId);
+                channel.send(createErrorResponse("NOT_REGISTERED_PLAYER", "방에 참여 중인 플레이어가 아닙니다."));
+                return;
+            }
+            var gameState = sessionService.getGameState(sessionId, userId);
+            
+            channel.bindUser(userId);
+            channel.bindGameSession(sessionId);
+            channel.send(createGameStateResponse(gameState));
+        } catch (com.eos.lss.exception.SessionNotFoundException e) {
+            log.warn("세션을 찾을 수 없음 - sessionId: {}, error: {}", sessionId, e.getMessage());
+            String errorResponse = createErrorResponse("SESSION_NOT_FOUND", "세션을 찾을 수 없습니다.");
+            channel.send(errorResponse);
+        } catch (com.eos.lss.exception.InvalidGameStateException e) {
+            log.warn("게임 상태 오류 - sessionId: {}, userId: {}, error: {}", sessionId, userId, e.getMessage());
+            String errorResponse = createErrorResponse("NOT_REGISTERED_PLAYER", e.getMessage());
+            channel.send(errorResponse);
+        }
+    }
+    
+    private void handleQuickMatch(CommandChannel channel, JsonNode payload) throws Exception {
+        String userId = payload.get("userId").asText();
+        String name = payload.get("name").asText();
+        
+        log.info("빠른 매칭 요청 - userId: {}, name: {}", userId, name);
+        
+        if (sessionService.isDraining()) {
+            String errorResponse = createErrorResponse(GameErrorDto.ERROR_NODE_DRAINING, "서버 점검 중이라 새 방을 만들 수 없습니다.");
+            channel.send(errorResponse);
+            return;
+        }
+        
+        // 매칭되면 이 연결로 게임 세션을 묶으므로 사용자 매핑 먼저 등록
+        channel.bindUser(userId);
+        
+        if (!matchmakingService.enqueue(userId, name)) {
+            String errorResponse = createErrorResponse(GameErrorDto.ERROR_ALREADY_IN_MATCH_QUEUE, "이미 빠른 매칭 대기 중입니다.");
+            channel.send(errorResponse);
+            return;
+        }
+        channel.send("{\"type\":\"" + MSG_TYPE_MATCH_QUEUED + "\",\"waitingPlayers\":" + matchmakingService.getWaitingCount() + "}");
+    }
+    
+    private void handleCancelQuickMatch(CommandChannel channel, JsonNode payload) throws Exception {
+        String userId = payload.get("userId").asText();
+        boolean cancelled = matchmakingService.cancel(userId);
+        log.info("빠른 매칭 취소 - userId: {}, 대기 중이었음: {}", userId, cancelled);
+        channel.send("{\"type\":\"" + MSG_TYPE_MATCH_CANCELLED + "\",\"cancelled\":" + cancelled + "}");
+    }
+    
+    private void handleSpectateSession(ConnectionContext context, JsonNode payload) {
+        String sessionId = payload.has("sessionId") ? payload.get("sessionId").asText() : null;
+        if (sessionId == null && payload.has("entryCode")) {
+            // 입장 코드는 이 노드 소유 세션만 조회 가능
+            sessionId = sessionService.findSessionIdByEntryCode(payload.get("entryCode").asText());
+            if (sessionId == null) {
+                sendToConnection(context, createErrorResponse("INVALID_ENTRY_CODE", "입장 코드가 올바르지 않습니다."));
+                return;
+            }
+        }
+        if (sessionId == null) {
+            sendToConnection(context, createErrorResponse("SESSION_NOT_FOUND", "세션을 찾을 수 없습니다."));
+            return;
+        }
+        
+        // 이 노드 소유 세션이면 현재 상태를 바로 보내고, 다른 노드 소유면 다음 상태 변경부터 전달
+        String snapshot = null;
+        if (sessionService.findSession(sessionId) != null) {
+            snapshot = createGameStateResponse(sessionService.getGameState(sessionId, null));
+        } else {
+            String ownerNodeId = sessionRouter.resolveOwner("spectate-session", payload);
+            if (ownerNodeId == null || sessionRouter.isLocalNode(ownerNodeId)) {
+                sendToConnection(context, createErrorResponse("SESSION_NOT_FOUND", "세션을 찾을 수 없습니다."));
+                return;
+            }
+        }
+        
+        // afterVersion: 클라이언트가 이미 받은 상태 버전 (SSE 재연결 시 Last-Event-ID)
+        if (!spectatorHub.subscribe(context, sessionId, snapshot, payload.path("afterVersion").asLong(0))) {
+            sendToConnection(context, createErrorResponse(GameErrorDto.ERROR_SPECTATOR_LIMIT_REACHED, "관전자 수가 한도에 도달했습니다."));
+            return;
+        }
+        sendToConnection(context, "{\"type\":\"" + MSG_TYPE_SPECTATING + "\",\"sessionId\":\"" + sessionId + "\",\"spectators\":" + spectatorHub.getSpectatorCount(sessionId) + "}");
+    }
+    
+    /**
+     * 빠른 매칭으로 만들어진 방에 플레이어 연결을 묶고 각자에게 재접속 토큰 전달
+     * (방 상태는 호출 측에서 한 번만 브로드캐스트)
+     */
+    public void bindMatchedPlayers(String gameSessionId, List<String> userIds) {
+        for (String userId : userIds) {
+            ConnectionContext context = userConnections.get(userId);
+            if (context == null) {
+                continue; // 방금 끊긴 연결은 재접속 유예/만료 처리에 맡김
+            }
+            registerGameSessionMapping(context, gameSessionId);
+            String resumeToken = reconnectGraceService.issueToken(gameSessionId, userId);
+            sendToConnection(context, "{\"type\":\"" + MSG_TYPE_MATCH_FOUND + "\",\"sessionId\":\"" + gameSessionId + "\",\"resumeToken\":\"" + resumeToken + "\"}");
+        }
+    }
+    
+    /**
+     * 빠른 매칭 방을 만들지 못했을 때 대기열에서 빠진 플레이어에게 알림 (다시 등록하도록)
+     */
+    public void notifyMatchFailed(List<String> userIds) {
+        String errorResponse = createErrorResponse(GameErrorDto.ERROR_MATCH_FAILED, "빠른 매칭 방을 만들지 못했습니다.");
+        for (String userId : userIds) {
+            ConnectionContext context = userConnections.get(userId);
+            if (context != null) {
+                sendToConnection(context, errorResponse);
+            }
+        }
+    }
+    
+    // 이 노드에 연결된 사용자인지
+    public boolean isUserConnected(String userId) {
+        ConnectionContext context = userConnections.get(userId);
+        return context != null && context.isOpen();
+    }
+    
+    private void handleCoinAction(CommandChannel channel, JsonNode payload) throws Exception {
         String sessionId = payload.get("sessionId").asText();
         String coinType = payload.get("coinType").asText();
         String state = payload.get("state").asText();
@@ -186,27 +488,27 @@ public class SimpleWebSocketHandler extends TextWebSocketHandler {
             
             // 통일된 응답 구조
             String response = createGameStateResponse(gameState);
-            session.sendMessage(new TextMessage(response));
+            channel.send(response);
         } catch (com.eos.lss.exception.SessionNotFoundException e) {
             log.warn("세션을 찾을 수 없음 - sessionId: {}, error: {}", sessionId, e.getMessage());
             String errorResponse = createErrorResponse("SESSION_NOT_FOUND", "세션을 찾을 수 없습니다.");
-            session.sendMessage(new TextMessage(errorResponse));
+            channel.send(errorResponse);
         } catch (com.eos.lss.exception.InvalidGameStateException e) {
             log.warn("게임 상태 오류 - sessionId: {}, userId: {}, error: {}", sessionId, userId, e.getMessage());
             String errorResponse = createErrorResponse("NOT_REGISTERED_PLAYER", e.getMessage());
-            session.sendMessage(new TextMessage(errorResponse));
+            channel.send(errorResponse);
         } catch (IllegalArgumentException e) {
             log.warn("잘못된 동전 상태 - coinType: {}, state: {}, error: {}", coinType, state, e.getMessage());
             String errorResponse = createErrorResponse("INVALID_COIN_STATE", "잘못된 동전 상태입니다.");
-            session.sendMessage(new TextMessage(errorResponse));
+            channel.send(errorResponse);
         } catch (Exception e) {
             log.error("동전 액션 중 오류 발생: {}", e.getMessage(), e);
             String errorResponse = createErrorResponse("INTERNAL_SERVER_ERROR", "동전 액션 중 오류가 발생했습니다.");
-            session.sendMessage(new TextMessage(errorResponse));
+            channel.send(errorResponse);
         }
     }
     
-    private void handleNextTurn(WebSocketSession session, JsonNode payload) throws Exception {
+    private void handleNextTurn(CommandChannel channel, JsonNode payload) throws Exception {
         String sessionId = payload.get("sessionId").asText();
         String userId = payload.get("userId").asText();
         
@@ -218,23 +520,69 @@ public class SimpleWebSocketHandler extends TextWebSocketHandler {
             
             // 통일된 응답 구조
             String response = createGameStateResponse(gameState);
-            session.sendMessage(new TextMessage(response));
+            channel.send(response);
         } catch (com.eos.lss.exception.SessionNotFoundException e) {
             log.warn("세션을 찾을 수 없음 - sessionId: {}, error: {}", sessionId, e.getMessage());
             String errorResponse = createErrorResponse("SESSION_NOT_FOUND", "세션을 찾을 수 없습니다.");
-            session.sendMessage(new TextMessage(errorResponse));
+            channel.send(errorResponse);
         } catch (com.eos.lss.exception.InvalidGameStateException e) {
             log.warn("게임 상태 오류 - sessionId: {}, userId: {}, error: {}", sessionId, userId, e.getMessage());
             String errorResponse = createErrorResponse("NOT_REGISTERED_PLAYER", e.getMessage());
-            session.sendMessage(new TextMessage(errorResponse));
+            channel.send(errorResponse);
         } catch (Exception e) {
             log.error("다음 턴 처리 중 오류 발생: {}", e.getMessage(), e);
             String errorResponse = createErrorResponse("INTERNAL_SERVER_ERROR", "다음 턴 처리 중 오류가 발생했습니다.");
-            session.sendMessage(new TextMessage(errorResponse));
+            channel.send(errorResponse);
+        }
+    }
+    
+    // 묶음 명령 (동전, 다음 턴 등을 한 번에 적용하고 방에는 결과 상태만 전송)
+    private void handleBatch(CommandChannel channel, JsonNode payload) throws Exception {
+        String sessionId = payload.get("sessionId").asText();
+        String userId = payload.get("userId").asText();
+        
+        try {
+            sessionService.applyBatch(sessionId, parseActions(payload.path("actions")));
+            
+            // 게임 상태 가져오기
+            var gameState = sessionService.getGameState(sessionId, userId);
+            
+            // 통일된 응답 구조
+            String response = createGameStateResponse(gameState);
+            channel.send(response);
+        } catch (com.eos.lss.exception.SessionNotFoundException e) {
+            log.warn("세션을 찾을 수 없음 - sessionId: {}, error: {}", sessionId, e.getMessage());
+            String errorResponse = createErrorResponse("SESSION_NOT_FOUND", "세션을 찾을 수 없습니다.");
+            channel.send(errorResponse);
+        } catch (com.eos.lss.exception.InvalidGameStateException e) {
+            log.warn("게임 상태 오류 - sessionId: {}, userId: {}, error: {}", sessionId, userId, e.getMessage());
+            String errorResponse = createErrorResponse("WRONG_GAME_STATE", e.getMessage());
+            channel.send(errorResponse);
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 묶음 명령 - sessionId: {}, userId: {}, error: {}", sessionId, userId, e.getMessage());
+            String errorResponse = createErrorResponse(GameErrorDto.ERROR_INVALID_BATCH, e.getMessage());
+            channel.send(errorResponse);
+        } catch (Exception e) {
+            log.error("묶음 명령 처리 중 오류 발생: {}", e.getMessage(), e);
+            String errorResponse = createErrorResponse("INTERNAL_SERVER_ERROR", "묶음 명령 처리 중 오류가 발생했습니다.");
+            channel.send(errorResponse);
         }
     }
     
-    private void handleRegisterOrder(WebSocketSession session, JsonNode payload) throws Exception {
+    // 묶음 명령의 동작 목록 (동작 검증은 SessionService에서)
+    private List<GameActionDto> parseActions(JsonNode actions) {
+        if (!actions.isArray()) {
+            throw new IllegalArgumentException("actions 배열이 필요합니다.");
+        }
+        List<GameActionDto> parsed = new ArrayList<>();
+        for (JsonNode action : actions) {
+            parsed.add(new GameActionDto(action.path("type").asText(null), action.path("coinType").asText(null),
+                    action.path("state").asText(null)));
+        }
+        return parsed;
+    }
+    
+    private void handleRegisterOrder(CommandChannel channel, JsonNode payload) throws Exception {
         String sessionId = payload.get("sessionId").asText();
         String userId = payload.get("userId").asText();
         
@@ -246,27 +594,27 @@ public class SimpleWebSocketHandler extends TextWebSocketHandler {
             
             // 통일된 응답 구조
             String response = createGameStateResponse(gameState);
-            session.sendMessage(new TextMessage(response));
+            channel.send(response);
         } catch (com.eos.lss.exception.SessionNotFoundException e) {
             log.warn("세션을 찾을 수 없음 - sessionId: {}, error: {}", sessionId, e.getMessage());
             String errorResponse = createErrorResponse("SESSION_NOT_FOUND", "세션을 찾을 수 없습니다.");
-            session.sendMessage(new TextMessage(errorResponse));
+            channel.send(errorResponse);
         } catch (com.eos.lss.exception.InvalidGameStateException e) {
             log.warn("게임 상태 오류 - sessionId: {}, userId: {}, error: {}", sessionId, userId, e.getMessage());
             String errorResponse = createErrorResponse("WRONG_GAME_STATE", e.getMessage());
-            session.sendMessage(new TextMessage(errorResponse));
+            channel.send(errorResponse);
         } catch (IllegalArgumentException e) {
             log.warn("플레이어를 찾을 수 없음 - sessionId: {}, userId: {}, error: {}", sessionId, userId, e.getMessage());
             String errorResponse = createErrorResponse("PLAYER_NOT_FOUND", "플레이어를 찾을 수 없습니다.");
-            session.sendMessage(new TextMessage(errorResponse));
+            channel.send(errorResponse);
         } catch (Exception e) {
             log.error("순서 등록 중 오류 발생: {}", e.getMessage(), e);
             String errorResponse = createErrorResponse("INTERNAL_SERVER_ERROR", "순서 등록 중 오류가 발생했습니다.");
-            session.sendMessage(new TextMessage(errorResponse));
+            channel.send(errorResponse);
         }
     }
     
-    private void handleStartOrdering(WebSocketSession session, JsonNode payload) throws Exception {
+    private void handleStartOrdering(CommandChannel channel, JsonNode payload) throws Exception {
         String sessionId = payload.get("sessionId").asText();
         String userId = payload.get("userId").asText();
         
@@ -278,19 +626,19 @@ public class SimpleWebSocketHandler extends TextWebSocketHandler {
             
             // 통일된 응답 구조
             String response = createGameStateResponse(gameState);
-            session.sendMessage(new TextMessage(response));
+            channel.send(response);
         } catch (com.eos.lss.exception.SessionNotFoundException e) {
             log.warn("세션을 찾을 수 없음 - sessionId: {}, error: {}", sessionId, e.getMessage());
             String errorResponse = createErrorResponse("SESSION_NOT_FOUND", "세션을 찾을 수 없습니다.");
-            session.sendMessage(new TextMessage(errorResponse));
+            channel.send(errorResponse);
         } catch (Exception e) {
             log.error("순서 등록 시작 중 오류 발생: {}", e.getMessage(), e);
             String errorResponse = createErrorResponse("INTERNAL_SERVER_ERROR", "순서 등록 시작 중 오류가 발생했습니다.");
-            session.sendMessage(new TextMessage(errorResponse));
+            channel.send(errorResponse);
         }
     }
     
-    private void handleStartPlaying(WebSocketSession session, JsonNode payload) throws Exception {
+    private void handleStartPlaying(CommandChannel channel, JsonNode payload) throws Exception {
         String sessionId = payload.get("sessionId").asText();
         String userId = payload.get("userId").asText();
         
@@ -302,23 +650,23 @@ public class SimpleWebSocketHandler extends TextWebSocketHandler {
             
             // 통일된 응답 구조
             String response = createGameStateResponse(gameState);
-            session.sendMessage(new TextMessage(response));
+            channel.send(response);
         } catch (com.eos.lss.exception.SessionNotFoundException e) {
             log.warn("세션을 찾을 수 없음 - sessionId: {}, error: {}", sessionId, e.getMessage());
             String errorResponse = createErrorResponse("SESSION_NOT_FOUND", "세션을 찾을 수 없습니다.");
-            session.sendMessage(new TextMessage(errorResponse));
+            channel.send(errorResponse);
         } catch (com.eos.lss.exception.InvalidGameStateException e) {
             log.warn("게임 상태 오류 - sessionId: {}, error: {}", sessionId, e.getMessage());
             String errorResponse = createErrorResponse("INSUFFICIENT_PLAYERS", e.getMessage());
-            session.sendMessage(new TextMessage(errorResponse));
+            channel.send(errorResponse);
         } catch (Exception e) {
             log.error("start-playing 처리 중 오류 발생: {}", e.getMessage(), e);
             String errorResponse = createErrorResponse("INTERNAL_SERVER_ERROR", "게임 시작 중 오류가 발생했습니다: " + e.getMessage());
-            session.sendMessage(new TextMessage(errorResponse));
+            channel.send(errorResponse);
         }
     }
     
-    private void handleContinueLeeSoonSin(WebSocketSession session, JsonNode payload) throws Exception {
+    private void handleContinueLeeSoonSin(CommandChannel channel, JsonNode payload) throws Exception {
         String sessionId = payload.get("sessionId").asText();
         String userId = payload.get("userId").asText();
         
@@ -334,23 +682,23 @@ public class SimpleWebSocketHandler extends TextWebSocketHandler {
             
             // 통일된 응답 구조
             String response = createGameStateResponse(gameState);
-            session.sendMessage(new TextMessage(response));
+            channel.send(response);
         } catch (com.eos.lss.exception.SessionNotFoundException e) {
             log.warn("세션을 찾을 수 없음 - sessionId: {}, error: {}", sessionId, e.getMessage());
             String errorResponse = createErrorResponse("SESSION_NOT_FOUND", "세션을 찾을 수 없습니다.");
-            session.sendMessage(new TextMessage(errorResponse));
+            channel.send(errorResponse);
         } catch (com.eos.lss.exception.InvalidGameStateException e) {
             log.warn("게임 상태 오류 - sessionId: {}, userId: {}, error: {}", sessionId, userId, e.getMessage());
             String errorResponse = createErrorResponse("NOT_REGISTERED_PLAYER", e.getMessage());
-            session.sendMessage(new TextMessage(errorResponse));
+            channel.send(errorResponse);
         } catch (Exception e) {
             log.error("이순신 계속하기 중 오류 발생: {}", e.getMessage(), e);
             String errorResponse = createErrorResponse("INTERNAL_SERVER_ERROR", "이순신 계속하기 중 오류가 발생했습니다.");
-            session.sendMessage(new TextMessage(errorResponse));
+            channel.send(errorResponse);
         }
     }
     
-    private void handleGetState(WebSocketSession session, JsonNode payload) throws Exception {
+    private void handleGetState(CommandChannel channel, JsonNode payload) throws Exception {
         String sessionId = payload.get("sessionId").asText();
         String userId = payload.get("userId").asText();
         
@@ -359,23 +707,23 @@ public class SimpleWebSocketHandler extends TextWebSocketHandler {
             
             // 통일된 응답 구조
             String response = createGameStateResponse(gameState);
-        session.sendMessage(new TextMessage(response));
+        channel.send(response);
         } catch (com.eos.lss.exception.SessionNotFoundException e) {
             log.warn("세션을 찾을 수 없음 - sessionId: {}, error: {}", sessionId, e.getMessage());
             String errorResponse = createErrorResponse("SESSION_NOT_FOUND", "세션을 찾을 수 없습니다.");
-            session.sendMessage(new TextMessage(errorResponse));
+            channel.send(errorResponse);
         } catch (com.eos.lss.exception.InvalidGameStateException e) {
             log.warn("게임 상태 오류 - sessionId: {}, userId: {}, error: {}", sessionId, userId, e.getMessage());
             String errorResponse = createErrorResponse("NOT_REGISTERED_PLAYER", e.getMessage());
-            session.sendMessage(new TextMessage(errorResponse));
+            channel.send(errorResponse);
         } catch (Exception e) {
             log.error("게임 상태 조회 중 오류 발생: {}", e.getMessage(), e);
             String errorResponse = createErrorResponse("INTERNAL_SERVER_ERROR", "게임 상태 조회 중 오류가 발생했습니다.");
-            session.sendMessage(new TextMessage(errorResponse));
+            channel.send(errorResponse);
         }
     }
     
-    private void handleDeleteSession(WebSocketSession session, JsonNode payload) throws Exception {
+    private void handleDeleteSession(CommandChannel channel, JsonNode payload) throws Exception {
         String sessionId = payload.get("sessionId").asText();
         String userId = payload.get("userId").asText();
         
@@ -387,23 +735,23 @@ public class SimpleWebSocketHandler extends TextWebSocketHandler {
             
             // 통일된 응답 구조
             String response = createGameStateResponse(gameState);
-            session.sendMessage(new TextMessage(response));
+            channel.send(response);
         } catch (com.eos.lss.exception.SessionNotFoundException e) {
             log.warn("세션을 찾을 수 없음 - sessionId: {}, error: {}", sessionId, e.getMessage());
             String errorResponse = createErrorResponse("SESSION_NOT_FOUND", "세션을 찾을 수 없습니다.");
-            session.sendMessage(new TextMessage(errorResponse));
+            channel.send(errorResponse);
         } catch (IllegalArgumentException e) {
             log.warn("권한 없음 - sessionId: {}, userId: {}, error: {}", sessionId, userId, e.getMessage());
             String errorResponse = createErrorResponse("NOT_PRESIDENT", "방장만 세션을 삭제할 수 있습니다.");
-            session.sendMessage(new TextMessage(errorResponse));
+            channel.send(errorResponse);
         } catch (Exception e) {
             log.error("세션 삭제 중 오류 발생: {}", e.getMessage(), e);
             String errorResponse = createErrorResponse("INTERNAL_SERVER_ERROR", "세션 삭제 중 오류가 발생했습니다.");
-            session.sendMessage(new TextMessage(errorResponse));
+            channel.send(errorResponse);
         }
     }
 
-    private void handleJsonMessage(WebSocketSession session, JsonNode jsonNode) throws Exception {
+    private void handleJsonMessage(ConnectionContext context, JsonNode jsonNode) throws Exception {
         // type 또는 action 필드에서 메시지 타입 추출
         String type = "";
         if (jsonNode.has("type")) {
@@ -412,6 +760,11 @@ public class SimpleWebSocketHandler extends TextWebSocketHandler {
             type = jsonNode.get("action").asText();
         }
         
+        // 클라이언트 하트비트는 수신 시각만 갱신 (응답 없음)
+        if (MSG_TYPE_HEARTBEAT.equals(type)) {
+            return;
+        }
+        
         log.info("메시지 타입: '{}', 전체 메시지: {}", type, jsonNode.toString());
         log.info("jsonNode.has('action'): {}, jsonNode.has('data'): {}", jsonNode.has("action"), jsonNode.has("data"));
         
@@ -434,53 +787,170 @@ public class SimpleWebSocketHandler extends TextWebSocketHandler {
             userId = payload.get("userId").asText();
         }
         
-        if (userId != null && !rateLimiter.isAllowed(userId, type)) {
+        // 이미 처리한 명령의 재전송은 보관된 결과만 돌려주므로 요청 제한에서 제외
+        String commandKey = IDEMPOTENT_COMMANDS.contains(type) ? commandKeyOf(payload, context.getId()) : null;
+        boolean retry = userId != null && commandKey != null && commandDeduplicator.isCompleted(userId, commandKey);
+        
+        if (userId != null && !retry && !rateLimiter.isAllowed(userId, type)) {
             log.warn("Rate limit exceeded - userId: {}, action: {}", userId, type);
             String errorResponse = createErrorResponse("RATE_LIMIT_EXCEEDED", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
-            session.sendMessage(new TextMessage(errorResponse));
+            sendToConnection(context, errorResponse);
             return;
         }
         
         // Rate Limiting 기록
-        if (userId != null) {
+        if (userId != null && !retry) {
             rateLimiter.recordRequest(userId, type);
         }
         
+        // 관전은 게임 세션 소유 노드와 관계없이 연결된 노드에서 구독
+        if ("spectate-session".equals(type)) {
+            handleSpectateSession(context, payload);
+            return;
+        }
+        if ("stop-spectating".equals(type)) {
+            spectatorHub.unsubscribe(context.getId());
+            return;
+        }
+        
+        CommandChannel channel = new LocalCommandChannel(context);
+        
+        // 다른 노드가 소유한 게임 세션이면 소유 노드로 전달
+        if (forwardToOwnerIfRemote(channel, type, payload)) {
+            return;
+        }
+        
+        dispatchCommand(channel, type, payload);
+    }
+    
+    // 게임 세션 소유 노드에서 명령 실행 (commandId/seq가 있는 명령은 중복 제거 후 ack 전송)
+    private void dispatchCommand(CommandChannel channel, String type, JsonNode payload) throws Exception {
+        long started = System.nanoTime();
+        try {
+            dispatchCommandOnce(channel, type, payload);
+        } finally {
+            commandLatency.record(System.nanoTime() - started);
+        }
+    }
+    
+    private void dispatchCommandOnce(CommandChannel channel, String type, JsonNode payload) throws Exception {
+        String commandKey = IDEMPOTENT_COMMANDS.contains(type) ? commandKeyOf(payload, connectionKeyOf(channel)) : null;
+        String userId = payload.has("userId") ? payload.get("userId").asText() : null;
+        if (commandKey == null || userId == null) {
+            executeCommand(channel, type, payload);
+            return;
+        }
+        
+        CommandDeduplicator.Entry previous = commandDeduplicator.claim(userId, commandKey);
+        if (previous != null) {
+            // 재전송된 명령은 다시 실행하지 않고 처음 결과를 그대로 돌려줌 (아직 실행 중이면 ack만)
+            log.info("중복 명령 - type: {}, userId: {}, command: {}, 처리 완료: {}", type, userId, commandKey, previous.isDone());
+            for (String frame : previous.getFrames()) {
+                channel.send(frame);
+            }
+            channel.send(createAckResponse(payload, previous.isDone() ? ackStatusOf(previous.getFrames()) : ACK_STATUS_PENDING, true));
+            return;
+        }
+        
+        RecordingCommandChannel recording = new RecordingCommandChannel(channel);
+        boolean completed = false;
+        try {
+            executeCommand(recording, type, payload);
+            commandDeduplicator.complete(userId, commandKey, recording.frames);
+            completed = true;
+        } finally {
+            if (!completed) {
+                commandDeduplicator.release(userId, commandKey);
+            }
+        }
+        channel.send(createAckResponse(payload, ackStatusOf(recording.frames), false));
+    }
+    
+    private void executeCommand(CommandChannel channel, String type, JsonNode payload) throws Exception {
         switch (type) {
             case "create-session":
-                handleCreateSession(session, payload);
+                handleCreateSession(channel, payload);
                 break;
             case "join-session":
-                handleJoinSession(session, payload);
+                handleJoinSession(channel, payload);
+                break;
+            case "resume-session":
+                handleResumeSession(channel, payload);
+                break;
+            case "quick-match":
+                handleQuickMatch(channel, payload);
+                break;
+            case "cancel-quick-match":
+                handleCancelQuickMatch(channel, payload);
                 break;
             case "coin-action":
-                handleCoinAction(session, payload);
+                handleCoinAction(channel, payload);
                 break;
             case "next-turn":
-                handleNextTurn(session, payload);
+                handleNextTurn(channel, payload);
+                break;
+            case "batch":
+                handleBatch(channel, payload);
                 break;
             case "register-order":
-                handleRegisterOrder(session, payload);
+                handleRegisterOrder(channel, payload);
                 break;
             case "start-ordering":
-                handleStartOrdering(session, payload);
+                handleStartOrdering(channel, payload);
                 break;
             case "start-playing":
-                handleStartPlaying(session, payload);
+                handleStartPlaying(channel, payload);
                 break;
             case "continue-lee-soon-sin":
-                handleContinueLeeSoonSin(session, payload);
+                handleContinueLeeSoonSin(channel, payload);
                 break;
             case "get-state":
-                handleGetState(session, payload);
+                handleGetState(channel, payload);
                 break;
             case "delete-session":
-                handleDeleteSession(session, payload);
+                handleDeleteSession(channel, payload);
                 break;
             default:
-                log.warn("알 수 없는 메시지 타입: '{}', 전체 메시지: {}", type, jsonNode.toString());
+                log.warn("알 수 없는 메시지 타입: '{}', 전체 메시지: {}", type, payload.toString());
                 String errorResponse = createErrorResponse("INVALID_MESSAGE_TYPE", "알 수 없는 메시지 타입: " + type);
-                session.sendMessage(new TextMessage(errorResponse));
+                channel.send(errorResponse);
+        }
+    }
+    
+    // 소유 노드가 다른 경우 명령을 전달하고 true 반환 (중앙 조회 없이 입장 코드/세션 ID로 판단)
+    private boolean forwardToOwnerIfRemote(CommandChannel channel, String type, JsonNode payload) {
+        String ownerNodeId = sessionRouter.resolveOwner(type, payload);
+        if (ownerNodeId == null || sessionRouter.isLocalNode(ownerNodeId)) {
+            return false;
+        }
+        
+        // 사용자 매핑은 소유 노드가 명령을 받아들인 뒤 BIND로 알려줄 때 등록 (다른 사용자 ID로 보낸 명령이 매핑을 가로채지 않도록)
+        String userId = payload.has("userId") ? payload.get("userId").asText() : null;
+        
+        String gameSessionId = payload.has("sessionId") ? payload.get("sessionId").asText() : null;
+        sessionEventBus.publish(SessionEvent.command(ownerNodeId, type, channel.getId(), gameSessionId, userId, payload.toString()));
+        log.info("명령을 소유 노드로 전달 - type: {}, owner: {}, userId: {}", type, ownerNodeId, userId);
+        return true;
+    }
+    
+    // 다른 노드에서 전달된 명령 실행 (이 노드가 게임 세션 소유자)
+    private void handleRemoteCommand(SessionEvent event) {
+        if (SessionEvent.COMMAND_PLAYER_DISCONNECTED.equals(event.getCommandType())) {
+            reconnectGraceService.playerDisconnected(event.getGameSessionId(), event.getUserId());
+            return;
+        }
+        
+        CommandChannel channel = new RemoteCommandChannel(event.getOriginNodeId(), event.getConnectionId());
+        try {
+            JsonNode payload = objectMapper.readTree(event.getPayload());
+            dispatchCommand(channel, event.getCommandType(), payload);
+        } catch (Exception e) {
+            log.error("전달된 명령 처리 오류: {}", e.getMessage(), e);
+            try {
+                channel.send(createErrorResponse("INTERNAL_SERVER_ERROR", e.getMessage()));
+            } catch (IOException ioException) {
+                log.error("에러 응답 전송 실패: {}", ioException.getMessage());
+            }
         }
     }
 
@@ -491,9 +961,7 @@ public class SimpleWebSocketHandler extends TextWebSocketHandler {
         log.info("종료 상태: {}", status);
         
         // 사용자 연결 끊김 처리
-        handleUserDisconnection(session.getId());
-        
-        sessions.remove(session.getId());
+        releaseConnection(session);
     }
 
     @Override
@@ -503,179 +971,333 @@ public class SimpleWebSocketHandler extends TextWebSocketHandler {
         log.error("오류: {}", exception.getMessage(), exception);
         
         // 사용자 연결 끊김 처리
-        handleUserDisconnection(session.getId());
-        
-        sessions.remove(session.getId());
+        releaseConnection(session);
     }
 
     // 특정 게임 세션에만 브로드캐스트 (새로 추가)
     public void broadcastToGameSession(String gameSessionId, String message) {
-        Set<String> webSocketSessionIds = gameSessionToWebSocketSessionsMap.get(gameSessionId);
-        if (webSocketSessionIds == null) {
-            log.warn("게임 세션 {}에 연결된 WebSocket 세션이 없습니다.", gameSessionId);
-            return;
-        }
+        deliverToGameSession(gameSessionId, message);
         
-        List<String> closedSessions = new ArrayList<>();
-        
-        webSocketSessionIds.forEach(webSocketSessionId -> {
-            WebSocketSession session = sessions.get(webSocketSessionId);
-            if (session != null) {
-                try {
-                    if (session.isOpen()) {
-                        session.sendMessage(new TextMessage(message));
-                    } else {
-                        // 닫힌 세션은 나중에 제거하기 위해 목록에 추가
-                        closedSessions.add(webSocketSessionId);
+        // 다른 노드에 연결된 플레이어에게도 중계
+        sessionEventBus.publish(SessionEvent.broadcast(gameSessionId, message));
+    }
+    
+    // 다른 노드에서 수신한 이벤트 처리 (다시 발행하지 않고 로컬에만 전달)
+    private void handleClusterEvent(SessionEvent event) {
+        switch (event.getType()) {
+            case SessionEvent.TYPE_BROADCAST:
+                if (gameSessionRecipients.containsKey(event.getGameSessionId())) {
+                    deliverToGameSession(event.getGameSessionId(), event.getPayload());
+                }
+                break;
+            case SessionEvent.TYPE_SPECTATE:
+                spectatorHub.publish(event.getGameSessionId(), event.getPayload());
+                break;
+            case SessionEvent.TYPE_WATCH:
+                if (sessionRouter.isLocalNode(event.getTargetNodeId()) && sessionService.findSession(event.getGameSessionId()) != null) {
+                    remoteSpectatorNodes.compute(event.getGameSessionId(), (id, nodes) -> {
+                        Set<String> updated = nodes != null ? nodes : ConcurrentHashMap.newKeySet();
+                        updated.add(event.getOriginNodeId());
+                        return updated;
+                    });
+                }
+                break;
+            case SessionEvent.TYPE_UNWATCH:
+                if (sessionRouter.isLocalNode(event.getTargetNodeId())) {
+                    remoteSpectatorNodes.computeIfPresent(event.getGameSessionId(), (id, nodes) -> {
+                        nodes.remove(event.getOriginNodeId());
+                        return nodes.isEmpty() ? null : nodes;
+                    });
+                }
+                break;
+            case SessionEvent.TYPE_USER_MESSAGE:
+                ConnectionContext recipient = userConnections.get(event.getUserId());
+                if (recipient != null) {
+                    deliverToUser(recipient, event.getPayload());
+                }
+                break;
+            case SessionEvent.TYPE_COMMAND:
+                if (sessionRouter.isLocalNode(event.getTargetNodeId())) {
+                    handleRemoteCommand(event);
+                }
+                break;
+            case SessionEvent.TYPE_REPLY:
+                if (sessionRouter.isLocalNode(event.getTargetNodeId())) {
+                    sendToSession(event.getConnectionId(), event.getPayload());
+                }
+                break;
+            case SessionEvent.TYPE_BIND:
+                if (sessionRouter.isLocalNode(event.getTargetNodeId())) {
+                    ConnectionContext bound = connections.get(event.getConnectionId());
+                    if (bound != null && event.getUserId() != null) {
+                        registerUserMapping(bound, event.getUserId());
+                    }
+                    if (bound != null && event.getGameSessionId() != null) {
+                        registerGameSessionMapping(bound, event.getGameSessionId());
                     }
-                } catch (IOException e) {
-                    log.error("게임 세션 브로드캐스트 오류: {}", e.getMessage());
-                    // 오류 발생한 세션도 제거 목록에 추가
-                    closedSessions.add(webSocketSessionId);
                 }
-            } else {
-                // 세션이 없으면 제거 목록에 추가
-                closedSessions.add(webSocketSessionId);
-            }
-        });
-        
-        // 닫힌 세션들 제거
-        closedSessions.forEach(sessionId -> {
-            log.info("닫힌 세션 제거: {}", sessionId);
-            handleUserDisconnection(sessionId);
-            sessions.remove(sessionId);
-            webSocketSessionIds.remove(sessionId);
-        });
+                break;
+            default:
+                log.warn("알 수 없는 클러스터 이벤트 타입: {}", event.getType());
+        }
     }
-
-    // 모든 세션에 브로드캐스트 (기존 메서드 유지, 하지만 사용하지 않음)
-    public void broadcastToAll(String message) {
-        List<String> closedSessions = new ArrayList<>();
-        
-        sessions.values().forEach(session -> {
-            try {
-                if (session.isOpen()) {
-                session.sendMessage(new TextMessage(message));
-                } else {
-                    // 닫힌 세션은 나중에 제거하기 위해 목록에 추가
-                    closedSessions.add(session.getId());
-                }
-            } catch (IOException e) {
-                log.error("브로드캐스트 오류: {}", e.getMessage());
-                // 오류 발생한 세션도 제거 목록에 추가
-                closedSessions.add(session.getId());
-            }
-        });
+    
+    // 다른 노드 소유 세션에 이 노드의 관전자가 생기거나 모두 떠나면 소유 노드에 알림
+    private void onSpectatorAudienceChanged(String gameSessionId, boolean watching) {
+        if (sessionService.findSession(gameSessionId) != null) {
+            return;
+        }
+        String ownerNodeId = sessionRouter.ownerOfSessionId(gameSessionId);
+        if (ownerNodeId == null || sessionRouter.isLocalNode(ownerNodeId)) {
+            return;
+        }
+        sessionEventBus.publish(SessionEvent.spectateInterest(ownerNodeId, gameSessionId, watching));
+    }
+    
+    /**
+     * 관전 프레임을 받을 곳이 있는지 (이 노드의 관전자, 또는 관전 구독을 보낸 다른 노드)
+     * 없으면 SessionService가 상태 변경 때 관전 프레임을 만들지 않는다.
+     */
+    public boolean hasSpectatorAudience(String gameSessionId) {
+        return spectatorHub.hasSpectators(gameSessionId) || remoteSpectatorNodes.containsKey(gameSessionId);
+    }
+    
+    /**
+     * 세션 상태 버전 하나의 관전 프레임 전달 (플레이어별 값이 없는 상태, 상태 변경마다 소유 노드에서 한 번)
+     * 플레이어 프레임은 사용자별로 따로 전송되므로 관전자는 이 프레임만 받는다.
+     */
+    public void publishToSpectators(com.eos.lss.dto.GameStateDto gameState) {
+        String frame = createGameStateResponse(gameState);
+        spectatorHub.publish(gameState.getSessionId(), frame);
+        if (remoteSpectatorNodes.containsKey(gameState.getSessionId())) {
+            sessionEventBus.publish(SessionEvent.spectate(gameState.getSessionId(), frame));
+        }
+    }
+    
+    // 이 노드에 연결된 게임 세션 참가자에게 메시지 전달 (전송은 FanoutExecutor 워커가 담당)
+    private void deliverToGameSession(String gameSessionId, String message) {
+        List<ConnectionContext> recipients = gameSessionRecipients.get(gameSessionId);
+        if (recipients == null) {
+            // 참가자가 모두 다른 노드에 연결된 경우 등 흔한 상황이므로 debug
+            log.debug("게임 세션 {}에 연결된 WebSocket 세션이 없습니다.", gameSessionId);
+            return;
+        }
         
-        // 닫힌 세션들 제거
-        closedSessions.forEach(sessionId -> {
-            log.info("닫힌 세션 제거: {}", sessionId);
-            handleUserDisconnection(sessionId);
-            sessions.remove(sessionId);
-        });
+        fanoutExecutor.fanout(recipients, message, this::releaseFailedConnection);
     }
 
     // 특정 세션에 메시지 전송
     public void sendToSession(String sessionId, String message) {
-        WebSocketSession session = sessions.get(sessionId);
-        if (session != null) {
-            try {
-                if (session.isOpen()) {
-                session.sendMessage(new TextMessage(message));
-                } else {
-                    log.warn("닫힌 세션에 메시지 전송 시도: {}", sessionId);
-                    // 닫힌 세션 제거
-                    handleUserDisconnection(sessionId);
-                    sessions.remove(sessionId);
-                }
-            } catch (IOException e) {
-                log.error("세션 메시지 전송 오류: {}", e.getMessage());
-                // 오류 발생한 세션 제거
-                handleUserDisconnection(sessionId);
-                sessions.remove(sessionId);
-            }
+        ConnectionContext context = connections.get(sessionId);
+        if (context != null) {
+            sendToConnection(context, message);
         }
     }
     
     // 특정 게임 세션의 특정 사용자에게 메시지 전송
     public void sendToUserInGameSession(String gameSessionId, String userId, String message) {
-        String webSocketSessionId = userToSessionMap.get(userId);
-        if (webSocketSessionId == null) {
-            log.warn("사용자 {}의 WebSocket 세션을 찾을 수 없습니다.", userId);
+        ConnectionContext context = userConnections.get(userId);
+        if (context == null) {
+            // 이 노드에 없는 사용자는 다른 노드로 중계
+            log.debug("사용자 {}의 WebSocket 세션이 이 노드에 없어 클러스터로 중계합니다.", userId);
+            sessionEventBus.publish(SessionEvent.userMessage(gameSessionId, userId, message));
             return;
         }
         
-        WebSocketSession session = sessions.get(webSocketSessionId);
-        if (session != null) {
-            try {
-                if (session.isOpen()) {
-                    session.sendMessage(new TextMessage(message));
-                } else {
-                    log.warn("닫힌 세션에 메시지 전송 시도: {}", webSocketSessionId);
-                    // 닫힌 세션 제거
-                    handleUserDisconnection(webSocketSessionId);
-                    sessions.remove(webSocketSessionId);
-                }
-            } catch (IOException e) {
-                log.error("사용자 메시지 전송 오류: {}", e.getMessage());
-                // 오류 발생한 세션 제거
-                handleUserDisconnection(webSocketSessionId);
-                sessions.remove(webSocketSessionId);
-            }
-        }
+        deliverToUser(context, message);
+    }
+    
+    // 이 노드에 연결된 사용자에게 메시지 전달
+    private void deliverToUser(ConnectionContext context, String message) {
+        sendToConnection(context, message);
+    }
+    
+    // 연결 하나에 메시지 전송 (브로드캐스트와 같은 워커를 거쳐 연결별 순서 유지)
+    private void sendToConnection(ConnectionContext context, String message) {
+        fanoutExecutor.send(context, message, this::releaseFailedConnection);
+    }
+    
+    // 닫혔거나 전송에 실패한 연결 정리
+    private void releaseFailedConnection(ConnectionContext context) {
+        log.info("닫힌 세션 제거: {}", context.getId());
+        releaseConnection(context);
     }
     
     // 통일된 게임 상태 응답 생성
     private String createGameStateResponse(com.eos.lss.dto.GameStateDto gameState) {
         try {
-            return "{\"type\":\"" + MSG_TYPE_OK + "\",\"sessionId\":\"" + gameState.getSessionId() + "\",\"entryCode\":\"" + gameState.getEntryCode() + "\",\"presidentId\":\"" + gameState.getPresidentId() + "\",\"createdAt\":\"" + gameState.getCreatedAt() + "\",\"players\":" + objectMapper.writeValueAsString(gameState.getPlayers()) + ",\"currentPlayerIndex\":" + gameState.getCurrentPlayerIndex() + ",\"isClockWise\":" + gameState.isClockWise() + ",\"firstCoinState\":\"" + gameState.getFirstCoinState() + "\",\"secondCoinState\":\"" + gameState.getSecondCoinState() + "\",\"currentPlayer\":" + objectMapper.writeValueAsString(gameState.getCurrentPlayer()) + ",\"isMyTurn\":" + gameState.isMyTurn() + ",\"isPresident\":" + gameState.isPresident() + ",\"gameState\":\"" + gameState.getGameState() + "\",\"gameEndTime\":\"" + gameState.getGameEndTime() + "\",\"isLeeSoonSinByTimeExpired\":" + gameState.getLeeSoonSinByTimeExpired() + "}";
+            return "{\"type\":\"" + MSG_TYPE_OK + "\",\"sessionId\":\"" + gameState.getSessionId() + "\",\"entryCode\":\"" + gameState.getEntryCode() + "\",\"presidentId\":\"" + gameState.getPresidentId() + "\",\"createdAt\":\"" + gameState.getCreatedAt() + "\",\"players\":" + objectMapper.writeValueAsString(gameState.getPlayers()) + ",\"currentPlayerIndex\":" + gameState.getCurrentPlayerIndex() + ",\"isClockWise\":" + gameState.isClockWise() + ",\"firstCoinState\":\"" + gameState.getFirstCoinState() + "\",\"secondCoinState\":\"" + gameState.getSecondCoinState() + "\",\"currentPlayer\":" + objectMapper.writeValueAsString(gameState.getCurrentPlayer()) + ",\"isMyTurn\":" + gameState.isMyTurn() + ",\"isPresident\":" + gameState.isPresident() + ",\"gameState\":\"" + gameState.getGameState() + "\",\"gameEndTime\":\"" + gameState.getGameEndTime() + "\",\"isLeeSoonSinByTimeExpired\":" + gameState.getLeeSoonSinByTimeExpired() + ",\"version\":" + gameState.getVersion() + "}";
         } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
             log.error("JSON 변환 오류: {}", e.getMessage());
             return createErrorResponse("INTERNAL_SERVER_ERROR", "JSON 변환 오류: " + e.getMessage());
         }
     }
     
+    // 응답 JSON 끝에 재접속 토큰 추가
+    private String withResumeToken(String response, String resumeToken) {
+        return response.substring(0, response.length() - 1) + ",\"resumeToken\":\"" + resumeToken + "\"}";
+    }
+    
+    // 명령 구분 값 (commandId 우선, 없으면 seq, 둘 다 없으면 null)
+    // commandId는 클라이언트가 전역으로 고유하게 만들므로 사용자 단위로 보고,
+    // seq는 연결마다 다시 시작하는 번호이므로 연결 단위로 구분 (재접속한 연결의 seq 1은 새 명령)
+    static String commandKeyOf(JsonNode payload, String connectionKey) {
+        JsonNode commandId = payload.get("commandId");
+        if (commandId != null && !commandId.isNull() && !commandId.asText().isEmpty()) {
+            return "id:" + commandId.asText();
+        }
+        JsonNode seq = payload.get("seq");
+        if (seq != null && seq.canConvertToLong()) {
+            return "seq:" + connectionKey + ":" + seq.asLong();
+        }
+        return null;
+    }
+    
+    // 명령을 보낸 연결 (다른 노드에서 전달된 명령은 노드마다 연결 ID가 겹칠 수 있어 노드 ID를 붙임)
+    private static String connectionKeyOf(CommandChannel channel) {
+        if (channel instanceof RemoteCommandChannel remote) {
+            return remote.originNodeId + "/" + remote.connectionId;
+        }
+        return channel.getId();
+    }
+    
+    // 결과 프레임 중 에러가 있으면 error
+    private static String ackStatusOf(List<String> frames) {
+        for (String frame : frames) {
+            if (frame.startsWith(ERROR_FRAME_PREFIX)) {
+                return ACK_STATUS_ERROR;
+            }
+        }
+        return ACK_STATUS_OK;
+    }
+    
+    // 명령 처리 확인 응답 (클라이언트가 보낸 commandId 또는 seq를 그대로 돌려줌)
+    private String createAckResponse(JsonNode payload, String status, boolean duplicate) {
+        JsonNode commandId = payload.get("commandId");
+        String key = commandId != null && !commandId.isNull() && !commandId.asText().isEmpty()
+                ? "\"commandId\":" + TextNode.valueOf(commandId.asText())
+                : "\"seq\":" + payload.get("seq").asLong();
+        return "{\"type\":\"" + MSG_TYPE_ACK + "\"," + key + ",\"status\":\"" + status + "\",\"duplicate\":" + duplicate + "}";
+    }
+    
     // 에러 응답 생성 (에러 코드 기반 구조)
     private String createErrorResponse(String errorCode, String message) {
         return "{\"type\":\"" + MSG_TYPE_ERROR + "\",\"errorCode\":\"" + errorCode + "\"}";
     }
     
     // 사용자 매핑 등록
-    private void registerUserMapping(String sessionId, String userId) {
-        sessionToUserMap.put(sessionId, userId);
-        userToSessionMap.put(userId, sessionId);
-        log.info("사용자 매핑 등록 - sessionId: {}, userId: {}", sessionId, userId);
+    private void registerUserMapping(ConnectionContext context, String userId) {
+        context.setUserId(userId);
+        userConnections.put(userId, context);
+        log.info("사용자 매핑 등록 - sessionId: {}, userId: {}", context.getId(), userId);
+    }
+    
+    // 게임 세션 매핑 등록
+    private void registerGameSessionMapping(ConnectionContext context, String gameSessionId) {
+        context.setGameSessionId(gameSessionId);
+        gameSessionRecipients.compute(gameSessionId, (id, recipients) -> {
+            CopyOnWriteArrayList<ConnectionContext> updated = recipients != null ? recipients : new CopyOnWriteArrayList<>();
+            updated.addIfAbsent(context);
+            return updated;
+        });
+        sessionLifecycleRegistry.connectionBound(gameSessionId, context.getId(), context.getUserId());
+        // 관전하던 연결이 플레이어가 되면 관전 중단 (같은 상태를 관전 프레임으로 한 번 더 받지 않도록)
+        spectatorHub.unsubscribe(context.getId());
+        log.info("게임 세션 매핑 등록 - webSocketSessionId: {}, gameSessionId: {}", context.getId(), gameSessionId);
+    }
+    
+    // 게임 세션 수신자 목록에서 연결 제거 (비면 목록도 제거)
+    private void removeRecipient(String gameSessionId, ConnectionContext context) {
+        gameSessionRecipients.computeIfPresent(gameSessionId, (id, recipients) -> {
+            recipients.remove(context);
+            return recipients.isEmpty() ? null : recipients;
+        });
+    }
+    
+    // 게임 세션에 연결된 이 노드의 수신자 목록 (조회용)
+    public List<ConnectionContext> getRecipients(String gameSessionId) {
+        List<ConnectionContext> recipients = gameSessionRecipients.get(gameSessionId);
+        return recipients != null ? Collections.unmodifiableList(recipients) : Collections.emptyList();
     }
     
-    // 게임 세션 매핑 등록 (새로 추가)
-    private void registerGameSessionMapping(String webSocketSessionId, String gameSessionId) {
-        sessionToGameSessionMap.put(webSocketSessionId, gameSessionId);
-        gameSessionToWebSocketSessionsMap.computeIfAbsent(gameSessionId, k -> ConcurrentHashMap.newKeySet()).add(webSocketSessionId);
-        log.info("게임 세션 매핑 등록 - webSocketSessionId: {}, gameSessionId: {}", webSocketSessionId, gameSessionId);
+    // 종료된 게임 세션의 연결 매핑 해제 (연결 자체와 사용자 매핑은 유지)
+    public void unbindGameSession(String gameSessionId) {
+        List<ConnectionContext> recipients = gameSessionRecipients.remove(gameSessionId);
+        if (recipients == null) {
+            return;
+        }
+        recipients.forEach(recipient -> recipient.detachGameSession(gameSessionId));
+        log.info("게임 세션 매핑 해제 - gameSessionId: {}, 연결 수: {}", gameSessionId, recipients.size());
+    }
+    
+    @Override
+    public void onSessionEnded(SessionResources resources, String reason) {
+        unbindGameSession(resources.getGameSessionId());
+        remoteSpectatorNodes.remove(resources.getGameSessionId());
+    }
+    
+    // 연결 정리 (연결 끊김 처리 후 연결 단위 자원 해제, 여러 번 호출되어도 한 번만 해제)
+    private void releaseConnection(WebSocketSession session) {
+        ConnectionContext context = ConnectionContext.of(session);
+        if (context == null) {
+            context = connections.get(session.getId());
+        }
+        if (context != null) {
+            releaseConnection(context);
+        }
+    }
+    
+    private void releaseConnection(ConnectionContext context) {
+        String userId = context.getUserId();
+        handleUserDisconnection(context);
+        if (connections.remove(context.getId(), context)) {
+            context.markReleased();
+            sessionLifecycleRegistry.connectionClosed(context.getId(), userId);
+        }
+    }
+    
+    // 하트비트 제한 시간 동안 응답이 없는 연결 정리 (HeartbeatMonitor에서 호출)
+    public void releaseDeadConnection(ConnectionContext context) {
+        log.info("응답 없는 연결 종료 - sessionId: {}, 마지막 수신: {}ms 전", context.getId(),
+                System.currentTimeMillis() - context.getLastSeenAt());
+        releaseConnection(context);
     }
     
     // 사용자 연결 끊김 처리
-    private void handleUserDisconnection(String sessionId) {
-        String userId = sessionToUserMap.get(sessionId);
-        String gameSessionId = sessionToGameSessionMap.get(sessionId);
+    private void handleUserDisconnection(ConnectionContext context) {
+        String sessionId = context.getId();
+        String gameSessionId = context.getGameSessionId();
+        String userId = context.detachUser();
         
         if (userId != null) {
             log.info("사용자 연결 끊김 감지 - sessionId: {}, userId: {}", sessionId, userId);
             
-            // 매핑 제거
-            sessionToUserMap.remove(sessionId);
-            userToSessionMap.remove(userId);
+            // 매핑 제거 (같은 사용자가 다른 연결로 다시 들어온 경우 새 연결은 유지)
+            boolean currentConnection = userConnections.remove(userId, context);
+            
+            // 게임 세션 매핑 제거
+            if (gameSessionId != null && context.detachGameSession(gameSessionId)) {
+                removeRecipient(gameSessionId, context);
+                sessionLifecycleRegistry.connectionReleased(gameSessionId, sessionId);
+            }
+            
+            // 이미 새 연결로 재접속한 사용자는 끊김 처리하지 않음
+            if (!currentConnection) {
+                log.info("새 연결로 재접속한 사용자의 이전 연결 종료 - sessionId: {}, userId: {}", sessionId, userId);
+                return;
+            }
             
-            // 게임 세션 매핑 제거 (새로 추가)
+            // 다른 노드가 소유한 게임 세션이면 소유 노드에서 처리
+            if (gameSessionId != null && !sessionRouter.isLocalSessionId(gameSessionId)) {
+                sessionEventBus.publish(SessionEvent.command(sessionRouter.ownerOfSessionId(gameSessionId),
+                        SessionEvent.COMMAND_PLAYER_DISCONNECTED, sessionId, gameSessionId, userId, null));
+                return;
+            }
+            
+            // 게임 세션에 묶인 플레이어는 유예 시간 동안 자리 비움으로 두고 재접속을 기다림
             if (gameSessionId != null) {
-                sessionToGameSessionMap.remove(sessionId);
-                Set<String> webSocketSessions = gameSessionToWebSocketSessionsMap.get(gameSessionId);
-                if (webSocketSessions != null) {
-                    webSocketSessions.remove(sessionId);
-                    if (webSocketSessions.isEmpty()) {
-                        gameSessionToWebSocketSessionsMap.remove(gameSessionId);
-                    }
-                }
+                reconnectGraceService.playerDisconnected(gameSessionId, userId);
+                return;
             }
             
             // SessionService에서 플레이어 연결 끊김 처리
@@ -683,4 +1305,148 @@ public class SimpleWebSocketHandler extends TextWebSocketHandler {
             sessionService.handlePlayerDisconnectionByUserId(userId);
         }
     }
-} 
\ No newline at end of file
+    
+    /**
+     * 최근 windowNanos 동안 실행한 명령 처리 시간의 백분위수 (명령이 없었으면 0)
+     */
+    public long getCommandLatencyNanos(double percentile, long windowNanos) {
+        return commandLatency.percentile(percentile, windowNanos);
+    }
+    
+    // 모든 연결의 전송 버퍼에 쌓인 바이트 수
+    public long getBufferedBytes() {
+        long bufferedBytes = 0;
+        for (ConnectionContext context : connections.values()) {
+            bufferedBytes += context.getBufferedBytes();
+        }
+        return bufferedBytes;
+    }
+    
+    @Override
+    public String getMetricsName() {
+        return "connections";
+    }
+    
+    @Override
+    public Map<String, Object> getMetrics() {
+        long receivedMessages = 0;
+        long sentMessages = 0;
+        long sentBytes = 0;
+        long sendFailures = 0;
+        long bufferedBytes = 0;
+        for (ConnectionContext context : connections.values()) {
+            receivedMessages += context.getReceivedMessages();
+            sentMessages += context.getSentMessages();
+            sentBytes += context.getSentBytes();
+            sendFailures += context.getSendFailures();
+            bufferedBytes += context.getBufferedBytes();
+        }
+        
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("openConnections", connections.size());
+        metrics.put("boundUsers", userConnections.size());
+        metrics.put("gameSessions", gameSessionRecipients.size());
+        metrics.put("remotelySpectatedSessions", remoteSpectatorNodes.size());
+        metrics.put("receivedMessages", receivedMessages);
+        metrics.put("sentMessages", sentMessages);
+        metrics.put("sentBytes", sentBytes);
+        metrics.put("sendFailures", sendFailures);
+        metrics.put("bufferedBytes", bufferedBytes);
+        metrics.put("commands", commandLatency.getCount());
+        metrics.put("commandP50Micros", TimeUnit.NANOSECONDS.toMicros(commandLatency.percentile(0.5, METRICS_WINDOW_NANOS)));
+        metrics.put("commandP99Micros", TimeUnit.NANOSECONDS.toMicros(commandLatency.percentile(0.99, METRICS_WINDOW_NANOS)));
+        return metrics;
+    }
+    
+    // 이 노드의 WebSocket 연결로 응답하는 채널
+    private class LocalCommandChannel implements CommandChannel {
+        private final ConnectionContext context;
+        
+        LocalCommandChannel(ConnectionContext context) {
+            this.context = context;
+        }
+        
+        @Override
+        public String getId() {
+            return context.getId();
+        }
+        
+        @Override
+        public void send(String message) {
+            sendToConnection(context, message);
+        }
+        
+        @Override
+        public void bindUser(String userId) {
+            registerUserMapping(context, userId);
+        }
+        
+        @Override
+        public void bindGameSession(String gameSessionId) {
+            registerGameSessionMapping(context, gameSessionId);
+        }
+    }
+    
+    // 보낸 프레임을 기록해 두는 채널 (중복 명령에 같은 결과를 돌려주기 위함)
+    private static class RecordingCommandChannel implements CommandChannel {
+        private final CommandChannel delegate;
+        private final List<String> frames = new ArrayList<>(2);
+        
+        RecordingCommandChannel(CommandChannel delegate) {
+            this.delegate = delegate;
+        }
+        
+        @Override
+        public String getId() {
+            return delegate.getId();
+        }
+        
+        @Override
+        public void send(String message) throws IOException {
+            frames.add(message);
+            delegate.send(message);
+        }
+        
+        @Override
+        public void bindUser(String userId) {
+            delegate.bindUser(userId);
+        }
+        
+        @Override
+        public void bindGameSession(String gameSessionId) {
+            delegate.bindGameSession(gameSessionId);
+        }
+    }
+    
+    // 명령을 전달한 노드의 연결로 응답을 되돌려 보내는 채널
+    private class RemoteCommandChannel implements CommandChannel {
+        private final String originNodeId;
+        private final String connectionId;
+        
+        RemoteCommandChannel(String originNodeId, String connectionId) {
+            this.originNodeId = originNodeId;
+            this.connectionId = connectionId;
+        }
+        
+        @Override
+        public String getId() {
+            return connectionId;
+        }
+        
+        @Override
+        public void send(String message) {
+            sessionEventBus.publish(SessionEvent.reply(originNodeId, connectionId, message));
+        }
+        
+        @Override
+        public void bindUser(String userId) {
+            // 명령을 받아들인 경우에만 호출되므로, 전달한 노드는 이 이벤트를 받고서야 사용자 매핑을 등록
+            sessionEventBus.publish(SessionEvent.bindUser(originNodeId, connectionId, userId));
+        }
+        
+        @Override
+        public void bindGameSession(String gameSessionId) {
+            sessionEventBus.publish(SessionEvent.bind(originNodeId, connectionId, gameSessionId));
+        }
+    }
+}
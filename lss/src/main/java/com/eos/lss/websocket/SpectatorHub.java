@@ -0,0 +1,298 @@
+package com.eos.lss.websocket;
+
+import com.eos.lss.metrics.MetricsSource;
+import com.eos.lss.service.SessionLifecycleListener;
+import com.eos.lss.service.SessionResources;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+/**
+ * 관전자용 읽기 전용 게임 상태 스트림
+ *
+ * 방마다 최신 상태 프레임 하나만 들고 있고, 상태가 바뀌면 관전자 프레임을 한 번만 만들어 모든 관전자가 공유한다.
+ * 관전자별로는 전송 예약 여부와 마지막으로 보낸 버전만 관리하며, 전송 시점에 최신 프레임을 읽으므로
+ * 그 사이 여러 번 바뀐 상태는 마지막 것 하나로 합쳐진다. (latest-wins)
+ * 전송 버퍼가 밀린 관전자에게는 프레임을 건너뛰고 다음 상태 변경 때 최신 프레임을 보낸다.
+ */
+@Component
+@Slf4j
+public class SpectatorHub implements SessionLifecycleListener, MetricsSource {
+
+    public static final String MSG_TYPE_SPECTATE_ENDED = "spectate-ended";
+    private static final String STATE_FRAME_PREFIX = "{\"type\":\"" + SimpleWebSocketHandler.MSG_TYPE_OK + "\"";
+    private static final String VERSION_FIELD = ",\"version\":";
+
+    private final FanoutExecutor fanoutExecutor;
+    private final int maxBufferedBytes;
+    private final int maxPerRoom;
+
+    // 게임 세션 ID -> 관전 중인 방
+    private final ConcurrentHashMap<String, Room> rooms = new ConcurrentHashMap<>();
+    // 연결 ID -> 관전자
+    private final ConcurrentHashMap<String, Spectator> spectators = new ConcurrentHashMap<>();
+
+    // 방에 첫 관전자가 들어오거나 마지막 관전자가 나갈 때 호출 (gameSessionId, 관전자 있음 여부)
+    private volatile BiConsumer<String, Boolean> audienceListener = (gameSessionId, watching) -> { };
+
+    // 지표
+    private final AtomicLong framesPublished = new AtomicLong();
+    private final AtomicLong framesDelivered = new AtomicLong();
+    private final AtomicLong framesCoalesced = new AtomicLong();
+    private final AtomicLong framesSkippedSlowConsumer = new AtomicLong();
+
+    public SpectatorHub(FanoutExecutor fanoutExecutor,
+                        @Value("${lss.spectator.max-buffered-bytes:65536}") int maxBufferedBytes,
+                        @Value("${lss.spectator.max-per-room:10000}") int maxPerRoom) {
+        this.fanoutExecutor = fanoutExecutor;
+        this.maxBufferedBytes = maxBufferedBytes;
+        this.maxPerRoom = maxPerRoom;
+    }
+
+    /**
+     * 방 관전자 유무가 바뀔 때 알림 받을 리스너 (다른 노드 소유 세션의 관전 구독 전달용)
+     * 같은 방에 대한 알림은 방 목록을 바꾸는 중에 호출되므로 순서대로 전달된다.
+     */
+    public void setAudienceListener(BiConsumer<String, Boolean> audienceListener) {
+        this.audienceListener = audienceListener;
+    }
+
+    /**
+     * 관전 시작 (다른 방을 관전 중이었으면 옮김)
+     * @param snapshot 현재 상태 프레임 (이 노드 소유 세션일 때만, 없으면 다음 상태 변경부터 받음)
+     * @return 방 관전자 수가 한도를 넘으면 false
+     */
+    public boolean subscribe(ConnectionContext context, String gameSessionId, String snapshot) {
+        return subscribe(context, gameSessionId, snapshot, 0);
+    }
+
+    /**
+     * 관전 시작 (afterVersion 이하 상태는 이미 받았으므로 보내지 않음, SSE 재연결용)
+     */
+    public boolean subscribe(ConnectionContext context, String gameSessionId, String snapshot, long afterVersion) {
+        unsubscribe(context.getId());
+
+        Spectator[] added = new Spectator[1];
+        rooms.compute(gameSessionId, (id, room) -> {
+            Room target = room != null ? room : new Room(id);
+            if (target.members.size() >= maxPerRoom) {
+                return room;
+            }
+            added[0] = new Spectator(context, target, afterVersion);
+            target.members.add(added[0]);
+            if (room == null) {
+                audienceListener.accept(id, true);
+            }
+            return target;
+        });
+        if (added[0] == null) {
+            return false;
+        }
+        spectators.put(context.getId(), added[0]);
+
+        Room room = added[0].room;
+        if (snapshot != null && room.latest.get() == null) {
+            publishFrame(room, snapshot);
+        }
+        schedule(added[0]);
+        log.info("관전 시작 - connectionId: {}, gameSessionId: {}, 관전자 수: {}", context.getId(), gameSessionId, room.members.size());
+        return true;
+    }
+
+    /**
+     * 관전 중단
+     */
+    public void unsubscribe(String connectionId) {
+        Spectator spectator = spectators.remove(connectionId);
+        if (spectator == null) {
+            return;
+        }
+        rooms.computeIfPresent(spectator.room.gameSessionId, (id, room) -> {
+            room.members.remove(spectator);
+            if (!room.members.isEmpty()) {
+                return room;
+            }
+            audienceListener.accept(id, false);
+            return null;
+        });
+    }
+
+    public boolean hasSpectators(String gameSessionId) {
+        return rooms.containsKey(gameSessionId);
+    }
+
+    public int getSpectatorCount(String gameSessionId) {
+        Room room = rooms.get(gameSessionId);
+        return room != null ? room.members.size() : 0;
+    }
+
+    /**
+     * 세션 상태 프레임을 관전자에게 전달 (게임 상태 프레임만, 이미 받은 버전 이하는 버림)
+     */
+    public void publish(String gameSessionId, String message) {
+        Room room = rooms.get(gameSessionId);
+        if (room == null || !message.startsWith(STATE_FRAME_PREFIX)) {
+            return;
+        }
+        publishFrame(room, message);
+        for (Spectator spectator : room.members) {
+            schedule(spectator);
+        }
+    }
+
+    // 관전자 프레임은 버전마다 한 번만 만듦 (플레이어 프레임 끝에 관전 표시 추가)
+    // 세션 상태 버전이 실린 프레임은 그 버전을 그대로 쓰므로 같은 상태를 다시 받아도 관전자에게는 한 번만 전송되고,
+    // 버전이 없는 프레임은 방 단위로 버전을 매김
+    private void publishFrame(Room room, String message) {
+        String body = message.substring(0, message.length() - 1);
+        long version = versionOf(body);
+        Frame frame;
+        if (version > 0) {
+            room.version.accumulateAndGet(version, Math::max);
+            frame = new Frame(version, body + ",\"spectator\":true}");
+        } else {
+            version = room.version.incrementAndGet();
+            frame = new Frame(version, body + ",\"spectator\":true" + VERSION_FIELD + version + "}");
+        }
+        room.latest.accumulateAndGet(frame, (current, next) -> current == null || next.version > current.version ? next : current);
+        framesPublished.incrementAndGet();
+    }
+
+    // 프레임에 실린 세션 상태 버전 (없으면 0, SSE 이벤트 ID로도 쓰임)
+    static long versionOf(String frame) {
+        int index = frame.lastIndexOf(VERSION_FIELD);
+        if (index < 0) {
+            return 0;
+        }
+        long version = 0;
+        for (int i = index + VERSION_FIELD.length(); i < frame.length(); i++) {
+            char c = frame.charAt(i);
+            if (c < '0' || c > '9') {
+                break;
+            }
+            version = version * 10 + (c - '0');
+        }
+        return version;
+    }
+
+    // 이미 전송이 예약된 관전자는 건너뜀 (예약된 전송이 실행될 때 최신 프레임을 읽음)
+    private void schedule(Spectator spectator) {
+        if (spectator.scheduled.compareAndSet(false, true)) {
+            fanoutExecutor.execute(spectator.context, () -> deliver(spectator));
+        }
+    }
+
+    private void deliver(Spectator spectator) {
+        spectator.scheduled.set(false);
+        ConnectionContext context = spectator.context;
+        if (context.isReleased() || !context.isOpen()) {
+            unsubscribe(context.getId());
+            return;
+        }
+        Frame frame = spectator.room.latest.get();
+        if (frame == null || frame.version <= spectator.sentVersion) {
+            return;
+        }
+        if (context.getBufferedBytes() > maxBufferedBytes) {
+            framesSkippedSlowConsumer.incrementAndGet();
+            return;
+        }
+        try {
+            context.send(frame.text);
+            if (spectator.sentVersion > 0) {
+                framesCoalesced.addAndGet(frame.version - spectator.sentVersion - 1);
+            }
+            spectator.sentVersion = frame.version;
+            framesDelivered.incrementAndGet();
+        } catch (IOException e) {
+            log.warn("관전자 전송 실패 - connectionId: {}, error: {}", context.getId(), e.getMessage());
+            unsubscribe(context.getId());
+        }
+    }
+
+    @Override
+    public void onSessionEnded(SessionResources resources, String reason) {
+        Room room = rooms.remove(resources.getGameSessionId());
+        if (room == null) {
+            return;
+        }
+        String ended = "{\"type\":\"" + MSG_TYPE_SPECTATE_ENDED + "\",\"sessionId\":\"" + room.gameSessionId + "\",\"reason\":\"" + reason + "\"}";
+        for (Spectator spectator : room.members) {
+            spectators.remove(spectator.context.getId(), spectator);
+            fanoutExecutor.send(spectator.context, ended, context -> { });
+        }
+        log.info("관전 종료 - gameSessionId: {}, 관전자 수: {}", room.gameSessionId, room.members.size());
+    }
+
+    @Override
+    public void onConnectionClosed(String connectionId, String userId) {
+        unsubscribe(connectionId);
+    }
+
+    @Override
+    public String getMetricsName() {
+        return "spectators";
+    }
+
+    @Override
+    public Map<String, Object> getMetrics() {
+        int maxRoomSpectators = 0;
+        for (Room room : rooms.values()) {
+            maxRoomSpectators = Math.max(maxRoomSpectators, room.members.size());
+        }
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("spectators", spectators.size());
+        metrics.put("spectatedRooms", rooms.size());
+        metrics.put("maxRoomSpectators", maxRoomSpectators);
+        metrics.put("framesPublished", framesPublished.get());
+        metrics.put("framesDelivered", framesDelivered.get());
+        metrics.put("framesCoalesced", framesCoalesced.get());
+        metrics.put("framesSkippedSlowConsumer", framesSkippedSlowConsumer.get());
+        return metrics;
+    }
+
+    private static final class Room {
+        final String gameSessionId;
+        final Set<Spectator> members = ConcurrentHashMap.newKeySet();
+        final AtomicReference<Frame> latest = new AtomicReference<>();
+        final AtomicLong version = new AtomicLong();
+
+        Room(String gameSessionId) {
+            this.gameSessionId = gameSessionId;
+        }
+    }
+
+    private static final class Spectator {
+        final ConnectionContext context;
+        final Room room;
+        final AtomicBoolean scheduled = new AtomicBoolean();
+        // 전송 워커 스레드에서만 갱신
+        volatile long sentVersion;
+
+        Spectator(ConnectionContext context, Room room, long sentVersion) {
+            this.context = context;
+            this.room = room;
+            this.sentVersion = sentVersion;
+        }
+    }
+
+    private static final class Frame {
+        final long version;
+        final String text;
+
+        Frame(long version, String text) {
+            this.version = version;
+            this.text = text;
+        }
+    }
+}
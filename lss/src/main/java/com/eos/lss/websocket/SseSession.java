@@ -0,0 +1,187 @@
+package com.eos.lss.websocket;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PingMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.security.Principal;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * SSE 스트림을 WebSocketSession처럼 쓰기 위한 어댑터 (WebSocket을 쓸 수 없는 클라이언트용)
+ *
+ * ConnectionContext로 감싸면 전송 버퍼, 전송 워커, 하트비트, 관전 스트림을 WebSocket 연결과 그대로 공유한다.
+ * 세션 상태 버전이 실린 프레임은 그 버전을 이벤트 ID로 보내므로, 재연결한 클라이언트의 Last-Event-ID가
+ * 마지막으로 받은 상태 버전이 된다. 명령은 HTTP로 받는다. (SimpleWebSocketHandler.handleSseCommand)
+ */
+public class SseSession implements WebSocketSession {
+
+    public static final String ID_PREFIX = "sse-";
+    private static final String PING_COMMENT = "ping";
+
+    private final String id = ID_PREFIX + UUID.randomUUID();
+    private final SseEmitter emitter;
+    private final InetSocketAddress remoteAddress;
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+    private final AtomicBoolean open = new AtomicBoolean(true);
+    private volatile Runnable closeHandler;
+
+    public SseSession(SseEmitter emitter, InetSocketAddress remoteAddress) {
+        this.emitter = emitter;
+        this.remoteAddress = remoteAddress;
+        emitter.onCompletion(this::closed);
+        emitter.onTimeout(this::closed);
+        emitter.onError(e -> closed());
+    }
+
+    public static boolean isSseConnection(String connectionId) {
+        return connectionId != null && connectionId.startsWith(ID_PREFIX);
+    }
+
+    /**
+     * 스트림이 끝나면 한 번 호출 (이미 끝났으면 바로 호출)
+     */
+    public void onClose(Runnable handler) {
+        closeHandler = handler;
+        if (!open.get()) {
+            handler.run();
+        }
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        if (!open.get()) {
+            throw new IOException("SSE 스트림이 닫혔습니다.");
+        }
+        try {
+            if (message instanceof PingMessage) {
+                emitter.send(SseEmitter.event().comment(PING_COMMENT));
+                // SSE에는 pong이 없으므로 ping 전송 성공을 클라이언트 응답으로 봄 (끊긴 스트림은 전송이 실패함)
+                ConnectionContext context = ConnectionContext.of(this);
+                if (context != null) {
+                    context.recordActivity();
+                }
+            } else if (message instanceof TextMessage text) {
+                String payload = text.getPayload();
+                SseEmitter.SseEventBuilder event = SseEmitter.event();
+                long version = SpectatorHub.versionOf(payload);
+                if (version > 0) {
+                    event.id(Long.toString(version));
+                }
+                emitter.send(event.data(payload));
+            }
+            // pong, 바이너리 프레임은 SSE로 보내지 않음
+        } catch (IllegalStateException e) {
+            // 이미 완료된 스트림
+            closed();
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        close(CloseStatus.NORMAL);
+    }
+
+    @Override
+    public void close(CloseStatus status) {
+        if (open.get()) {
+            try {
+                emitter.complete();
+            } catch (IllegalStateException e) {
+                // 이미 완료된 스트림
+            }
+            closed();
+        }
+    }
+
+    private void closed() {
+        if (open.compareAndSet(true, false)) {
+            Runnable handler = closeHandler;
+            if (handler != null) {
+                handler.run();
+            }
+        }
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open.get();
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public URI getUri() {
+        return null;
+    }
+
+    @Override
+    public HttpHeaders getHandshakeHeaders() {
+        return new HttpHeaders();
+    }
+
+    @Override
+    public Map<String, Object> getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    public Principal getPrincipal() {
+        return null;
+    }
+
+    @Override
+    public InetSocketAddress getLocalAddress() {
+        return null;
+    }
+
+    @Override
+    public InetSocketAddress getRemoteAddress() {
+        return remoteAddress;
+    }
+
+    @Override
+    public String getAcceptedProtocol() {
+        return null;
+    }
+
+    @Override
+    public void setTextMessageSizeLimit(int messageSizeLimit) {
+    }
+
+    @Override
+    public int getTextMessageSizeLimit() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public void setBinaryMessageSizeLimit(int messageSizeLimit) {
+    }
+
+    @Override
+    public int getBinaryMessageSizeLimit() {
+        return 0;
+    }
+
+    @Override
+    public List<WebSocketExtension> getExtensions() {
+        return Collections.emptyList();
+    }
+}
@@ -0,0 +1,80 @@
+package com.eos.lss.websocket;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 해시 타이밍 휠
+ *
+ * 항목을 만료 시각에 해당하는 칸에 넣어 두고, 한 칸씩 시간이 지날 때 해당 칸의 항목만 꺼낸다.
+ * 등록/해제가 O(1)이고 전체 항목을 훑지 않는다. 한 바퀴보다 먼 만료 시각은 마지막 칸으로 당겨지므로
+ * 꺼낸 쪽에서 실제 시각을 다시 확인하고 필요하면 다시 넣어야 한다.
+ */
+public class TimingWheel<T> {
+
+    private final long tickMillis;
+    private final List<Set<T>> slots;
+    // 마지막으로 처리한 칸 번호 (시각 / tickMillis)
+    private volatile long processedTick;
+
+    public TimingWheel(long tickMillis, int slotCount, long nowMillis) {
+        if (tickMillis <= 0 || slotCount < 2) {
+            throw new IllegalArgumentException("tickMillis는 0보다 크고 slotCount는 2 이상이어야 합니다.");
+        }
+        this.tickMillis = tickMillis;
+        this.slots = new ArrayList<>(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            slots.add(ConcurrentHashMap.newKeySet());
+        }
+        this.processedTick = nowMillis / tickMillis;
+    }
+
+    /**
+     * 항목 등록 (이미 지난 시각이면 다음 칸에 들어감)
+     */
+    public void schedule(T item, long deadlineMillis) {
+        long current = processedTick;
+        long tick = Math.max(deadlineMillis / tickMillis, current + 1);
+        tick = Math.min(tick, current + slots.size() - 1);
+        slots.get((int) (tick % slots.size())).add(item);
+    }
+
+    /**
+     * 현재 시각까지 지난 칸의 항목을 모두 꺼냄 (밀린 칸도 함께 처리)
+     */
+    public List<T> advance(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        List<T> expired = new ArrayList<>();
+        long tick = processedTick;
+        long last = Math.min(targetTick, tick + slots.size());
+        while (tick < last) {
+            tick++;
+            Iterator<T> iterator = slots.get((int) (tick % slots.size())).iterator();
+            while (iterator.hasNext()) {
+                expired.add(iterator.next());
+                iterator.remove();
+            }
+        }
+        processedTick = Math.max(tick, targetTick);
+        return expired;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Set<T> slot : slots) {
+            size += slot.size();
+        }
+        return size;
+    }
+
+    public List<T> snapshot() {
+        List<T> items = new ArrayList<>();
+        for (Set<T> slot : slots) {
+            items.addAll(slot);
+        }
+        return items;
+    }
+}
@@ -0,0 +1,219 @@
+package com.eos.lss;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * 서버 시작 시간 측정 (./gradlew startupBenchmark, 빠른 시작 빌드와 비교하려면 -PfastStart)
+ *
+ * 빌드한 서버를 별도 프로세스로 띄우고 프로세스 시작부터 두 시점을 잰다.
+ * - 첫 /ws 연결: connected 프레임을 받은 시점
+ * - 첫 게임 완료: 두 플레이어가 방 생성, 입장, 순서 등록, 한 턴 진행, 방 삭제까지 마친 시점
+ * 실행 방식마다 -Dlss.bench.startup.runs 번 반복해 중앙값을 출력한다.
+ */
+public class StartupBenchmark {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final Duration STEP_TIMEOUT = Duration.ofSeconds(60);
+
+    public static void main(String[] args) throws Exception {
+        String java = System.getProperty("lss.bench.startup.java", "java");
+        int runs = Integer.getInteger("lss.bench.startup.runs", 5);
+
+        Map<String, List<String>> variants = new LinkedHashMap<>();
+        variants.put("default", List.of(java, "-jar", System.getProperty("lss.bench.startup.jar")));
+        String fastStartJar = System.getProperty("lss.bench.startup.fast-start-jar", "");
+        if (!fastStartJar.isEmpty() && new File(fastStartJar).isFile()) {
+            File archive = new File(new File(fastStartJar).getParentFile(), "lss.jsa");
+            variants.put("aot+cds", List.of(java, "-XX:SharedArchiveFile=" + archive.getPath(), "-Dspring.aot.enabled=true",
+                    "-jar", fastStartJar));
+        }
+        String nativeImage = System.getProperty("lss.bench.startup.native", "");
+        if (!nativeImage.isEmpty() && new File(nativeImage).canExecute()) {
+            variants.put("native", List.of(nativeImage));
+        }
+
+        System.out.printf("%-10s %6s %18s %18s%n", "variant", "runs", "first /ws (ms)", "first game (ms)");
+        for (Map.Entry<String, List<String>> variant : variants.entrySet()) {
+            long[] connected = new long[runs];
+            long[] played = new long[runs];
+            for (int i = 0; i < runs; i++) {
+                long[] result = measure(variant.getValue());
+                connected[i] = result[0];
+                played[i] = result[1];
+            }
+            System.out.printf("%-10s %6d %18d %18d%n", variant.getKey(), runs, median(connected), median(played));
+        }
+    }
+
+    // 서버 프로세스 하나를 띄워 {첫 연결, 첫 게임 완료} 시간(ms) 측정
+    private static long[] measure(List<String> command) throws Exception {
+        int port = freePort();
+        List<String> args = new ArrayList<>(command);
+        args.add("--server.port=" + port);
+        args.add("--logging.level.root=WARN");
+        args.add("--logging.level.com.eos.lss=WARN");
+        Path log = Files.createTempFile("lss-startup", ".log");
+
+        long started = System.nanoTime();
+        Process server = new ProcessBuilder(args).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+        try {
+            URI uri = URI.create("ws://localhost:" + port + "/ws");
+            Client president = Client.connectWhenReady(uri, server, started + TimeUnit.SECONDS.toNanos(120));
+            president.await(frame -> "connected".equals(frame.path("status").asText()));
+            long connectedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+            playOneGame(uri, president);
+            long playedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+            president.close();
+            return new long[] {connectedMillis, playedMillis};
+        } catch (Exception e) {
+            throw new IllegalStateException("측정 실패 (서버 로그: " + log + ")", e);
+        } finally {
+            server.destroy();
+            if (!server.waitFor(30, TimeUnit.SECONDS)) {
+                server.destroyForcibly();
+            }
+        }
+    }
+
+    private static void playOneGame(URI uri, Client president) throws Exception {
+        president.send("{\"type\":\"create-session\",\"userId\":\"bench-1\",\"name\":\"one\"}");
+        JsonNode created = president.await(frame -> "WAITING_ROOM".equals(frame.path("gameState").asText()));
+        String sessionId = created.get("sessionId").asText();
+        String entryCode = created.get("entryCode").asText();
+
+        Client player = Client.connect(uri);
+        player.await(frame -> "connected".equals(frame.path("status").asText()));
+        player.send("{\"type\":\"join-session\",\"entryCode\":\"" + entryCode + "\",\"userId\":\"bench-2\",\"name\":\"two\"}");
+        player.await(frame -> "WAITING_ROOM".equals(frame.path("gameState").asText()));
+
+        president.send(command("start-ordering", sessionId, "bench-1", ""));
+        president.await(frame -> "ORDER_REGISTER".equals(frame.path("gameState").asText()));
+        president.send(command("register-order", sessionId, "bench-1", ""));
+        player.send(command("register-order", sessionId, "bench-2", ""));
+        president.await(frame -> frame.path("players").size() == 2 && "ORDER_REGISTER".equals(frame.path("gameState").asText()));
+        president.send(command("start-playing", sessionId, "bench-1", ""));
+        player.await(frame -> "GAME_PLAYING".equals(frame.path("gameState").asText()));
+
+        president.send(command("coin-action", sessionId, "bench-1", ",\"coinType\":\"first\",\"state\":\"tail\""));
+        president.send(command("coin-action", sessionId, "bench-1", ",\"coinType\":\"second\",\"state\":\"tail\""));
+        president.await(frame -> "tail".equals(frame.path("secondCoinState").asText()));
+        president.send(command("next-turn", sessionId, "bench-1", ""));
+        player.await(frame -> frame.path("isMyTurn").asBoolean());
+        president.await(frame -> "GAME_PLAYING".equals(frame.path("gameState").asText()) && !frame.path("isMyTurn").asBoolean());
+
+        president.send(command("delete-session", sessionId, "bench-1", ""));
+        president.await(frame -> frame.has("type"));
+        player.close();
+    }
+
+    private static String command(String type, String sessionId, String userId, String extra) {
+        return "{\"type\":\"" + type + "\",\"sessionId\":\"" + sessionId + "\",\"userId\":\"" + userId + "\"" + extra + "}";
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    /**
+     * 받은 텍스트 프레임을 순서대로 쌓아 두는 WebSocket 클라이언트
+     */
+    private static final class Client implements WebSocket.Listener {
+
+        private static final HttpClient httpClient = HttpClient.newHttpClient();
+
+        private final BlockingQueue<String> frames = new LinkedBlockingQueue<>();
+        private final StringBuilder partial = new StringBuilder();
+        private WebSocket socket;
+
+        static Client connect(URI uri) throws Exception {
+            Client client = new Client();
+            client.socket = httpClient.newWebSocketBuilder().buildAsync(uri, client).get(10, TimeUnit.SECONDS);
+            return client;
+        }
+
+        // 서버가 연결을 받을 때까지 재시도
+        static Client connectWhenReady(URI uri, Process server, long deadlineNanos) throws Exception {
+            while (true) {
+                try {
+                    return connect(uri);
+                } catch (Exception e) {
+                    if (!server.isAlive()) {
+                        throw new IllegalStateException("서버 프로세스가 종료되었습니다. (exit " + server.exitValue() + ")");
+                    }
+                    if (System.nanoTime() > deadlineNanos) {
+                        throw e;
+                    }
+                    Thread.sleep(5);
+                }
+            }
+        }
+
+        void send(String message) {
+            socket.sendText(message, true).join();
+        }
+
+        // 조건에 맞는 프레임이 올 때까지 앞선 프레임은 버림
+        JsonNode await(Predicate<JsonNode> condition) throws Exception {
+            long deadline = System.nanoTime() + STEP_TIMEOUT.toNanos();
+            while (true) {
+                String frame = frames.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (frame == null) {
+                    throw new IllegalStateException("응답 대기 시간 초과");
+                }
+                JsonNode node = objectMapper.readTree(frame);
+                if ("error".equals(node.path("type").asText()) && !"SESSION_NOT_FOUND".equals(node.path("errorCode").asText())) {
+                    throw new IllegalStateException("오류 응답: " + frame);
+                }
+                if (condition.test(node)) {
+                    return node;
+                }
+            }
+        }
+
+        void close() {
+            socket.sendClose(WebSocket.NORMAL_CLOSURE, "").join();
+        }
+
+        @Override
+        public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+            partial.append(data);
+            if (last) {
+                frames.add(partial.toString());
+                partial.setLength(0);
+            }
+            webSocket.request(1);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.eos.lss.cluster;
+
+import com.eos.lss.dto.GameStateDto;
+import com.eos.lss.service.SessionService;
+import com.eos.lss.websocket.RecordingWebSocketSession;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * localhost에서 3개 노드를 띄워, 방 소유 노드가 아닌 노드에 연결된 플레이어가 방 프레임을 받는지 확인
+ * (방장은 node-1, 플레이어는 node-2와 node-3에 연결)
+ */
+class ClusterEndToEndTests {
+
+    private final String prefix = "e2e-" + UUID.randomUUID();
+    private ClusterTestNodes cluster;
+
+    @BeforeEach
+    void startCluster() throws Exception {
+        cluster = ClusterTestNodes.start(3);
+    }
+
+    @AfterEach
+    void stopCluster() {
+        cluster.close();
+    }
+
+    @Test
+    void roomFramesReachPlayersOnOtherNodes() throws Exception {
+        String presidentId = prefix + "-p";
+        String secondId = prefix + "-q";
+        String thirdId = prefix + "-r";
+        RecordingWebSocketSession president = cluster.connect(1, prefix + "-president");
+        RecordingWebSocketSession second = cluster.connect(2, prefix + "-second");
+        RecordingWebSocketSession third = cluster.connect(3, prefix + "-third");
+
+        cluster.send(1, president, Map.of("type", "create-session", "userId", presidentId, "name", "방장"));
+        JsonNode created = cluster.awaitMessage(president, frame -> frame.has("entryCode"));
+        String sessionId = created.get("sessionId").asText();
+        String entryCode = created.get("entryCode").asText();
+
+        cluster.send(2, second, Map.of("type", "join-session", "entryCode", entryCode, "userId", secondId, "name", "둘째"));
+        cluster.awaitMessage(second, frame -> frame.has("resumeToken"));
+        cluster.send(3, third, Map.of("type", "join-session", "entryCode", entryCode, "userId", thirdId, "name", "셋째"));
+        cluster.awaitMessage(third, frame -> frame.has("resumeToken"));
+
+        // 셋째 입장으로 바뀐 방 상태가 node-2의 플레이어에게도 전달됨
+        JsonNode joined = cluster.awaitMessage(second, frame -> sessionId.equals(frame.path("sessionId").asText())
+                && frame.path("players").size() == 3);
+        long version = joined.get("version").asLong();
+
+        // 다른 노드에서 보낸 명령도 소유 노드에서 실행되고, 결과 프레임은 모든 노드로
+        // 순서 등록 순서가 곧 턴 순서이므로 앞 명령이 반영된 버전을 확인한 뒤 다음 명령을 보냄
+        cluster.send(1, president, Map.of("type", "start-ordering", "sessionId", sessionId, "userId", presidentId));
+        version = awaitVersion(third, sessionId, version + 1);
+        cluster.send(1, president, Map.of("type", "register-order", "sessionId", sessionId, "userId", presidentId));
+        version = awaitVersion(third, sessionId, version + 1);
+        cluster.send(2, second, Map.of("type", "register-order", "sessionId", sessionId, "userId", secondId));
+        version = awaitVersion(third, sessionId, version + 1);
+        cluster.send(3, third, Map.of("type", "register-order", "sessionId", sessionId, "userId", thirdId));
+        awaitVersion(second, sessionId, version + 1);
+        cluster.send(1, president, Map.of("type", "start-playing", "sessionId", sessionId, "userId", presidentId));
+
+        cluster.send(1, president, Map.of("type", "coin-action", "sessionId", sessionId, "userId", presidentId, "coinType", "first", "state", "head"));
+        for (RecordingWebSocketSession remote : new RecordingWebSocketSession[] {second, third}) {
+            JsonNode coin = cluster.awaitMessage(remote, frame -> GameStateDto.STATE_GAME_PLAYING.equals(frame.path("gameState").asText())
+                    && "head".equals(frame.path("firstCoinState").asText()));
+            assertThat(coin.get("sessionId").asText()).isEqualTo(sessionId);
+            assertThat(coin.get("currentPlayer").get("userId").asText()).isEqualTo(presidentId);
+            // 플레이어별 프레임 (자기 차례 여부는 받는 사람 기준)
+            assertThat(coin.get("isMyTurn").asBoolean()).isFalse();
+        }
+
+        // 다음 차례인 플레이어에게는 자기 차례로 표시된 프레임이 감
+        cluster.send(1, president, Map.of("type", "next-turn", "sessionId", sessionId, "userId", presidentId));
+        JsonNode nextTurn = cluster.awaitMessage(second, frame -> GameStateDto.STATE_GAME_PLAYING.equals(frame.path("gameState").asText())
+                && frame.path("currentPlayerIndex").asInt() == 1);
+        assertThat(nextTurn.get("currentPlayer").get("userId").asText()).isEqualTo(secondId);
+        assertThat(nextTurn.get("isMyTurn").asBoolean()).isTrue();
+
+        // 방은 소유 노드에만 있음
+        assertThat(cluster.bean(1, SessionService.class).findSession(sessionId)).isNotNull();
+        assertThat(cluster.bean(2, SessionService.class).findSession(sessionId)).isNull();
+        assertThat(cluster.bean(3, SessionService.class).findSession(sessionId)).isNull();
+
+        cluster.send(1, president, Map.of("type", "delete-session", "sessionId", sessionId, "userId", presidentId));
+    }
+
+    @Test
+    void spectatorFramesCrossOnlyWhileAnotherNodeIsWatching() throws Exception {
+        String presidentId = prefix + "-p";
+        String playerId = prefix + "-q";
+        RecordingWebSocketSession president = cluster.connect(1, prefix + "-president");
+        RecordingWebSocketSession spectator = cluster.connect(2, prefix + "-spectator");
+
+        cluster.send(1, president, Map.of("type", "create-session", "userId", presidentId, "name", "방장"));
+        JsonNode created = cluster.awaitMessage(president, frame -> frame.has("entryCode"));
+        String sessionId = created.get("sessionId").asText();
+        String entryCode = created.get("entryCode").asText();
+        // 관전자가 없는 동안에는 다른 노드가 있어도 관전 프레임을 만들지 않음
+        assertThat(cluster.handler(1).hasSpectatorAudience(sessionId)).isFalse();
+
+        cluster.send(2, spectator, Map.of("type", "spectate-session", "sessionId", sessionId));
+        cluster.awaitMessage(spectator, frame -> "spectating".equals(frame.path("type").asText()));
+        awaitAudience(sessionId, true);
+
+        RecordingWebSocketSession player = cluster.connect(1, prefix + "-player");
+        cluster.send(1, player, Map.of("type", "join-session", "entryCode", entryCode, "userId", playerId, "name", "플레이어"));
+        JsonNode watched = cluster.awaitMessage(spectator, frame -> frame.path("spectator").asBoolean()
+                && frame.path("players").size() == 2);
+        assertThat(watched.get("sessionId").asText()).isEqualTo(sessionId);
+
+        // 마지막 관전자가 떠나면 소유 노드도 중계를 멈춤
+        cluster.send(2, spectator, Map.of("type", "stop-spectating"));
+        awaitAudience(sessionId, false);
+
+        cluster.send(1, president, Map.of("type", "delete-session", "sessionId", sessionId, "userId", presidentId));
+    }
+
+    private void awaitAudience(String sessionId, boolean expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (cluster.handler(1).hasSpectatorAudience(sessionId) != expected && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(cluster.handler(1).hasSpectatorAudience(sessionId)).isEqualTo(expected);
+    }
+
+    private long awaitVersion(RecordingWebSocketSession session, String sessionId, long version) throws Exception {
+        return cluster.awaitMessage(session, frame -> sessionId.equals(frame.path("sessionId").asText())
+                && frame.path("version").asLong() >= version).get("version").asLong();
+    }
+}
@@ -0,0 +1,100 @@
+package com.eos.lss.cluster;
+
+import com.eos.lss.dto.GameStateDto;
+import com.eos.lss.dto.PlayerDto;
+import com.eos.lss.entity.SessionSnapshot;
+import com.eos.lss.service.SessionService;
+import com.eos.lss.websocket.ConnectionContext;
+import com.eos.lss.websocket.RecordingWebSocketSession;
+import com.eos.lss.websocket.SimpleWebSocketHandler;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 2개 노드에서 다른 노드 소유 방의 입장 코드로 입장하면 소유 노드로 전달되어 처리되는지 확인
+ */
+class ClusterJoinForwardingTests {
+
+    private final String prefix = "forward-" + UUID.randomUUID();
+    private ClusterTestNodes cluster;
+
+    @BeforeEach
+    void startCluster() throws Exception {
+        cluster = ClusterTestNodes.start(2);
+    }
+
+    @AfterEach
+    void stopCluster() {
+        cluster.close();
+    }
+
+    @Test
+    void joinByEntryCodeIsForwardedToTheOwningNode() throws Exception {
+        String presidentId = prefix + "-p";
+        String playerId = prefix + "-q";
+        RecordingWebSocketSession president = cluster.connect(1, prefix + "-president");
+        RecordingWebSocketSession player = cluster.connect(2, prefix + "-player");
+
+        cluster.send(1, president, Map.of("type", "create-session", "userId", presidentId, "name", "방장"));
+        JsonNode created = cluster.awaitMessage(president, frame -> frame.has("entryCode"));
+        String sessionId = created.get("sessionId").asText();
+        String entryCode = created.get("entryCode").asText();
+        assertThat(cluster.bean(2, SessionRouter.class).ownerOfEntryCode(entryCode)).isEqualTo("node-1");
+
+        cluster.send(2, player, Map.of("type", "join-session", "entryCode", entryCode, "userId", playerId, "name", "플레이어"));
+
+        // 응답은 node-1에서 만들어져 node-2의 연결로 되돌아옴
+        JsonNode joined = cluster.awaitMessage(player, frame -> frame.has("resumeToken"));
+        assertThat(joined.get("type").asText()).isEqualTo(SimpleWebSocketHandler.MSG_TYPE_OK);
+        assertThat(joined.get("sessionId").asText()).isEqualTo(sessionId);
+        assertThat(joined.get("players")).hasSize(2);
+
+        SessionSnapshot owned = cluster.bean(1, SessionService.class).findSession(sessionId);
+        assertThat(owned.getPlayers()).extracting(PlayerDto::getUserId).containsExactly(presidentId, playerId);
+        assertThat(cluster.bean(2, SessionService.class).findSession(sessionId)).isNull();
+
+        // node-2의 연결이 방 수신자로 묶여 이후 브로드캐스트를 받음
+        assertThat(cluster.handler(2).getRecipients(sessionId))
+                .extracting(ConnectionContext::getId)
+                .containsExactly(player.getId());
+        cluster.send(1, president, Map.of("type", "start-ordering", "sessionId", sessionId, "userId", presidentId));
+        cluster.awaitMessage(player, frame -> GameStateDto.STATE_ORDER_REGISTER.equals(frame.path("gameState").asText()));
+
+        cluster.send(1, president, Map.of("type", "delete-session", "sessionId", sessionId, "userId", presidentId));
+    }
+
+    @Test
+    void forwardedCommandDoesNotBindTheUserBeforeTheOwnerAcceptsIt() throws Exception {
+        String presidentId = prefix + "-p";
+        String playerId = prefix + "-q";
+        RecordingWebSocketSession president = cluster.connect(1, prefix + "-president");
+        RecordingWebSocketSession player = cluster.connect(2, prefix + "-player");
+        RecordingWebSocketSession intruder = cluster.connect(2, prefix + "-intruder");
+
+        cluster.send(1, president, Map.of("type", "create-session", "userId", presidentId, "name", "방장"));
+        JsonNode created = cluster.awaitMessage(president, frame -> frame.has("entryCode"));
+        String sessionId = created.get("sessionId").asText();
+        cluster.send(2, player, Map.of("type", "join-session", "entryCode", created.get("entryCode").asText(), "userId", playerId, "name", "플레이어"));
+        cluster.awaitMessage(player, frame -> frame.has("resumeToken"));
+        // 입장이 받아들여진 뒤 소유 노드가 보낸 BIND로 사용자 매핑 등록
+        assertThat(ConnectionContext.of(player).getUserId()).isEqualTo(playerId);
+
+        // 다른 사람의 사용자 ID로 보낸 명령은 소유 노드로 전달만 되고 매핑을 바꾸지 않음
+        cluster.send(2, intruder, Map.of("type", "get-state", "sessionId", sessionId, "userId", playerId));
+        cluster.awaitMessage(intruder, frame -> sessionId.equals(frame.path("sessionId").asText()));
+        assertThat(ConnectionContext.of(intruder).getUserId()).isNull();
+        assertThat(ConnectionContext.of(player).getUserId()).isEqualTo(playerId);
+        assertThat(cluster.handler(2).getRecipients(sessionId))
+                .extracting(ConnectionContext::getId)
+                .containsExactly(player.getId());
+
+        cluster.send(1, president, Map.of("type", "delete-session", "sessionId", sessionId, "userId", presidentId));
+    }
+}
@@ -0,0 +1,121 @@
+package com.eos.lss.cluster;
+
+import com.eos.lss.LssApplication;
+import com.eos.lss.websocket.RecordingWebSocketSession;
+import com.eos.lss.websocket.SimpleWebSocketHandler;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.socket.TextMessage;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * 같은 JVM에서 노드 수만큼 애플리케이션을 띄우고 localhost TCP 이벤트 버스로 묶은 테스트용 클러스터
+ * 노드 ID는 node-1부터 차례로 붙고, 모든 노드가 같은 lss.cluster.nodes 값을 쓴다.
+ */
+final class ClusterTestNodes implements AutoCloseable {
+
+    private static final long AWAIT_SECONDS = 10;
+    private static final String SECRET = "cluster-test-secret";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<ConfigurableApplicationContext> contexts = new ArrayList<>();
+
+    private ClusterTestNodes() {
+    }
+
+    static ClusterTestNodes start(int nodeCount) throws IOException {
+        List<Integer> ports = new ArrayList<>();
+        StringJoiner nodes = new StringJoiner(",");
+        for (int i = 1; i <= nodeCount; i++) {
+            int port = freePort();
+            ports.add(port);
+            nodes.add("node-" + i + "=127.0.0.1:" + port);
+        }
+
+        ClusterTestNodes cluster = new ClusterTestNodes();
+        try {
+            for (int i = 1; i <= nodeCount; i++) {
+                cluster.contexts.add(new SpringApplicationBuilder(LssApplication.class)
+                        .properties(
+                                "server.port=0",
+                                "logging.level.com.eos.lss=ERROR",
+                                "lss.warmup.games=0",
+                                // 응답을 바로 확인할 수 있도록 로컬 전송은 호출 스레드에서
+                                "lss.fanout.workers=0",
+                                "lss.cluster.enabled=true",
+                                "lss.cluster.node-id=node-" + i,
+                                "lss.cluster.port=" + ports.get(i - 1),
+                                "lss.cluster.bind-address=127.0.0.1",
+                                "lss.cluster.secret=" + SECRET,
+                                "lss.cluster.nodes=" + nodes)
+                        .run());
+            }
+        } catch (RuntimeException e) {
+            cluster.close();
+            throw e;
+        }
+        return cluster;
+    }
+
+    /**
+     * @param node 1부터 시작하는 노드 번호
+     */
+    <T> T bean(int node, Class<T> type) {
+        return contexts.get(node - 1).getBean(type);
+    }
+
+    SimpleWebSocketHandler handler(int node) {
+        return bean(node, SimpleWebSocketHandler.class);
+    }
+
+    RecordingWebSocketSession connect(int node, String connectionId) throws Exception {
+        RecordingWebSocketSession session = new RecordingWebSocketSession(connectionId);
+        handler(node).afterConnectionEstablished(session);
+        return session;
+    }
+
+    void send(int node, RecordingWebSocketSession session, Map<String, String> message) throws Exception {
+        handler(node).handleMessage(session, new TextMessage(objectMapper.writeValueAsString(message)));
+    }
+
+    /**
+     * 조건에 맞는 프레임이 올 때까지 대기 (다른 노드를 거친 응답은 비동기로 도착)
+     */
+    JsonNode awaitMessage(RecordingWebSocketSession session, Predicate<JsonNode> condition) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(AWAIT_SECONDS);
+        while (System.nanoTime() < deadline) {
+            for (String message : session.getMessages()) {
+                JsonNode frame = objectMapper.readTree(message);
+                if (condition.test(frame)) {
+                    return frame;
+                }
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("기다리던 프레임이 오지 않음 - connection: " + session.getId() + ", 받은 프레임: " + session.getMessages());
+    }
+
+    @Override
+    public void close() {
+        for (int i = contexts.size() - 1; i >= 0; i--) {
+            contexts.get(i).close();
+        }
+        contexts.clear();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.eos.lss.cluster;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+class SessionRouterTests {
+
+    private static final String NODES = "node-1=localhost:9091,node-2=localhost:9092,node-3=localhost:9093";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void nodesPropertyListsIdsWithOptionalAddresses() {
+        Map<String, String> nodes = SessionRouter.parseNodes(" node-1=localhost:9091 , node-2,,node-3= ");
+
+        assertThat(nodes).containsExactly(
+                entry("node-1", "localhost:9091"),
+                entry("node-2", null),
+                entry("node-3", null));
+        assertThat(SessionRouter.parseNodes("")).isEmpty();
+        assertThatThrownBy(() -> SessionRouter.parseNodes("=localhost:9091")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void everyNodeBuildsTheSameRingFromTheSharedProperty() {
+        SessionRouter first = new SessionRouter("node-1", NODES);
+        SessionRouter second = new SessionRouter("node-2", NODES);
+        SessionRouter third = new SessionRouter("node-3", NODES);
+
+        for (int shard = 0; shard < SessionRouter.SHARD_COUNT; shard++) {
+            String entryCode = String.format("123%03d", shard);
+            assertThat(second.ownerOfEntryCode(entryCode)).isEqualTo(first.ownerOfEntryCode(entryCode));
+            assertThat(third.ownerOfEntryCode(entryCode)).isEqualTo(first.ownerOfEntryCode(entryCode));
+        }
+        assertThat(first.hasRemoteNodes()).isTrue();
+        assertThat(new SessionRouter("node-1", "").hasRemoteNodes()).isFalse();
+        assertThat(new SessionRouter("node-1", "node-1=localhost:9091").hasRemoteNodes()).isFalse();
+    }
+
+    @Test
+    void localCodesAndSessionIdsEncodeALocalShard() {
+        for (String nodeId : List.of("node-1", "node-2", "node-3")) {
+            SessionRouter router = new SessionRouter(nodeId, NODES);
+            for (int i = 0; i < 200; i++) {
+                String entryCode = router.nextLocalEntryCode();
+                String sessionId = router.newSessionId(entryCode);
+
+                assertThat(entryCode).matches("\\d{6}");
+                assertThat(router.ownerOfEntryCode(entryCode)).isEqualTo(nodeId);
+                assertThat(router.shardOfSessionId(sessionId)).isEqualTo(router.shardOfEntryCode(entryCode));
+                assertThat(router.ownerOfSessionId(sessionId)).isEqualTo(nodeId);
+                assertThat(router.isLocalSessionId(sessionId)).isTrue();
+            }
+        }
+    }
+
+    @Test
+    void shardIsReadFromTheLastThreeDigitsAndTheSessionIdPrefix() {
+        SessionRouter router = new SessionRouter("node-1", NODES);
+
+        assertThat(router.shardOfEntryCode("987042")).isEqualTo(42);
+        assertThat(router.shardOfEntryCode("000999")).isEqualTo(999);
+        assertThat(router.shardOfSessionId("042-" + UUID.randomUUID())).isEqualTo(42);
+
+        assertThat(router.shardOfEntryCode(null)).isEqualTo(-1);
+        assertThat(router.shardOfEntryCode("12345")).isEqualTo(-1);
+        assertThat(router.shardOfEntryCode("12a456")).isEqualTo(-1);
+        assertThat(router.shardOfSessionId(null)).isEqualTo(-1);
+        assertThat(router.shardOfSessionId("abc-" + UUID.randomUUID())).isEqualTo(-1);
+        // 샤드 정보가 없는 예전 형식의 세션 ID는 이 노드 소유로 간주
+        String legacy = UUID.randomUUID().toString();
+        assertThat(router.ownerOfSessionId(legacy)).isNull();
+        assertThat(router.isLocalSessionId(legacy)).isTrue();
+    }
+
+    @Test
+    void resolveOwnerRoutesByEntryCodeOrSessionId() {
+        SessionRouter router = new SessionRouter("node-1", NODES);
+        SessionRouter remote = new SessionRouter("node-2", NODES);
+        String entryCode = remote.nextLocalEntryCode();
+        String sessionId = remote.newSessionId(entryCode);
+
+        assertThat(router.resolveOwner("create-session", json(Map.of("userId", "u"))))
+                .isNull();
+        assertThat(router.resolveOwner("join-session", json(Map.of("entryCode", entryCode, "userId", "u"))))
+                .isEqualTo("node-2");
+        assertThat(router.resolveOwner("join-session", json(Map.of("userId", "u"))))
+                .isNull();
+        assertThat(router.resolveOwner("coin-action", json(Map.of("sessionId", sessionId, "userId", "u"))))
+                .isEqualTo("node-2");
+        assertThat(router.resolveOwner("spectate-session", json(Map.of("sessionId", sessionId))))
+                .isEqualTo("node-2");
+        assertThat(router.resolveOwner("heartbeat", json(Map.of("userId", "u"))))
+                .isNull();
+    }
+
+    @Test
+    void membershipChangeMovesLocalCodeRange() {
+        SessionRouter router = new SessionRouter("node-1", "");
+        assertThat(router.ownerOfEntryCode("123456")).isEqualTo("node-1");
+
+        router.updateMembership(List.of("node-1", "node-2", "node-3"));
+
+        assertThat(router.hasRemoteNodes()).isTrue();
+        for (int i = 0; i < 200; i++) {
+            assertThat(router.ownerOfEntryCode(router.nextLocalEntryCode())).isEqualTo("node-1");
+        }
+    }
+
+    private JsonNode json(Map<String, String> payload) {
+        return objectMapper.valueToTree(payload);
+    }
+}
@@ -0,0 +1,91 @@
+package com.eos.lss.cluster;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShardRingTests {
+
+    private static final int SHARDS = SessionRouter.SHARD_COUNT;
+    private static final List<String> THREE_NODES = List.of("node-1", "node-2", "node-3");
+    private static final List<String> FOUR_NODES = List.of("node-1", "node-2", "node-3", "node-4");
+
+    @Test
+    void everyShardIsOwnedByExactlyOneNode() {
+        ShardRing ring = new ShardRing(THREE_NODES, SHARDS);
+
+        int owned = 0;
+        for (String nodeId : THREE_NODES) {
+            for (int shard : ring.shardsOwnedBy(nodeId)) {
+                assertThat(ring.ownerOf(shard)).isEqualTo(nodeId);
+                owned++;
+            }
+        }
+        assertThat(owned).isEqualTo(SHARDS);
+        assertThat(ring.shardsOwnedBy("node-9")).isEmpty();
+    }
+
+    @Test
+    void shardsAreSpreadEvenlyAcrossNodes() {
+        assertBalanced(new ShardRing(List.of("node-1", "node-2"), SHARDS), 2);
+        assertBalanced(new ShardRing(THREE_NODES, SHARDS), 3);
+        assertBalanced(new ShardRing(FOUR_NODES, SHARDS), 4);
+    }
+
+    @Test
+    void ownershipDoesNotDependOnListOrder() {
+        ShardRing ring = new ShardRing(THREE_NODES, SHARDS);
+        ShardRing reordered = new ShardRing(List.of("node-3", "node-1", "node-2"), SHARDS);
+
+        for (int shard = 0; shard < SHARDS; shard++) {
+            assertThat(reordered.ownerOf(shard)).isEqualTo(ring.ownerOf(shard));
+        }
+    }
+
+    @Test
+    void addingANodeOnlyMovesShardsToTheNewNode() {
+        ShardRing before = new ShardRing(THREE_NODES, SHARDS);
+        ShardRing after = new ShardRing(FOUR_NODES, SHARDS);
+
+        int moved = 0;
+        for (int shard = 0; shard < SHARDS; shard++) {
+            if (!before.ownerOf(shard).equals(after.ownerOf(shard))) {
+                assertThat(after.ownerOf(shard)).isEqualTo("node-4");
+                moved++;
+            }
+        }
+        // 약 1/4만 이동
+        assertThat(moved).isEqualTo(after.shardsOwnedBy("node-4").length);
+        assertThat(moved).isBetween(SHARDS / 8, SHARDS * 3 / 8);
+    }
+
+    @Test
+    void removingANodeOnlyMovesItsOwnShards() {
+        ShardRing before = new ShardRing(THREE_NODES, SHARDS);
+        ShardRing after = new ShardRing(List.of("node-1", "node-3"), SHARDS);
+
+        for (int shard = 0; shard < SHARDS; shard++) {
+            if (!before.ownerOf(shard).equals("node-2")) {
+                assertThat(after.ownerOf(shard)).isEqualTo(before.ownerOf(shard));
+            }
+        }
+    }
+
+    @Test
+    void emptyMembershipIsRejected() {
+        assertThatThrownBy(() -> new ShardRing(List.of(), SHARDS)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // 노드마다 공평한 몫의 ±25% 안
+    private static void assertBalanced(ShardRing ring, int nodeCount) {
+        int fairShare = SHARDS / nodeCount;
+        for (int i = 1; i <= nodeCount; i++) {
+            assertThat(ring.shardsOwnedBy("node-" + i).length)
+                    .as("node-%d 샤드 수", i)
+                    .isBetween(fairShare * 3 / 4, fairShare * 5 / 4);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.eos.lss.cluster;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * localhost에서 3개 노드를 띄워 이벤트 중계를 확인하는 통합 테스트
+ */
+class TcpSessionEventBusTests {
+
+    private static final String SECRET = "bus-test-secret";
+
+    private TcpSessionEventBus nodeA;
+    private TcpSessionEventBus nodeB;
+    private TcpSessionEventBus nodeC;
+
+    private final BlockingQueue<SessionEvent> receivedByA = new LinkedBlockingQueue<>();
+    private final BlockingQueue<SessionEvent> receivedByB = new LinkedBlockingQueue<>();
+    private final BlockingQueue<SessionEvent> receivedByC = new LinkedBlockingQueue<>();
+
+    @BeforeEach
+    void startNodes() throws Exception {
+        nodeA = newNode("node-a", 0, SECRET);
+        nodeB = newNode("node-b", 0, SECRET);
+        nodeC = newNode("node-c", 0, SECRET);
+        for (TcpSessionEventBus node : List.of(nodeA, nodeB, nodeC)) {
+            for (TcpSessionEventBus peer : List.of(nodeA, nodeB, nodeC)) {
+                if (node != peer) {
+                    node.addPeer("127.0.0.1:" + peer.getLocalPort());
+                }
+            }
+        }
+        nodeA.subscribe(receivedByA::add);
+        nodeB.subscribe(receivedByB::add);
+        nodeC.subscribe(receivedByC::add);
+    }
+
+    @AfterEach
+    void stopNodes() {
+        for (TcpSessionEventBus node : List.of(nodeA, nodeB, nodeC)) {
+            node.close();
+        }
+    }
+
+    @Test
+    void broadcastIsRelayedToEveryOtherNode() throws Exception {
+        nodeA.publish(SessionEvent.broadcast("game-1", "{\"type\":\"ok\"}"));
+
+        SessionEvent onB = receivedByB.poll(5, TimeUnit.SECONDS);
+        SessionEvent onC = receivedByC.poll(5, TimeUnit.SECONDS);
+
+        assertThat(onB).isNotNull();
+        assertThat(onB.getOriginNodeId()).isEqualTo("node-a");
+        assertThat(onB.getGameSessionId()).isEqualTo("game-1");
+        assertThat(onB.getPayload()).isEqualTo("{\"type\":\"ok\"}");
+        assertThat(onC).isNotNull();
+        assertThat(onC.getType()).isEqualTo(SessionEvent.TYPE_BROADCAST);
+        // 발행한 노드에는 되돌아오지 않음
+        assertThat(receivedByA.poll(200, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void eventsFromOneNodeArriveInOrder() throws Exception {
+        for (int i = 0; i < 100; i++) {
+            nodeB.publish(SessionEvent.userMessage("game-2", "user-1", String.valueOf(i)));
+        }
+
+        for (int i = 0; i < 100; i++) {
+            SessionEvent event = receivedByC.poll(5, TimeUnit.SECONDS);
+            assertThat(event).isNotNull();
+            assertThat(event.getUserId()).isEqualTo("user-1");
+            assertThat(event.getPayload()).isEqualTo(String.valueOf(i));
+        }
+    }
+
+    @Test
+    void peerWithAnotherSecretIsRejected() throws Exception {
+        TcpSessionEventBus intruder = newNode("node-x", 0, "wrong-secret");
+        try {
+            intruder.addPeer("127.0.0.1:" + nodeA.getLocalPort());
+            intruder.publish(SessionEvent.broadcast("game-3", "{\"type\":\"forged\"}"));
+
+            assertThat(receivedByA.poll(1, TimeUnit.SECONDS)).isNull();
+        } finally {
+            intruder.close();
+        }
+    }
+
+    @Test
+    void framesPublishedWhilePeerIsDownArriveAfterItComesBack() throws Exception {
+        TcpSessionEventBus restarting = newNode("node-d", 0, SECRET);
+        int port = restarting.getLocalPort();
+        restarting.close();
+        nodeA.addPeer("127.0.0.1:" + port);
+
+        for (int i = 0; i < 3; i++) {
+            nodeA.publish(SessionEvent.userMessage("game-4", "user-2", String.valueOf(i)));
+        }
+        BlockingQueue<SessionEvent> receivedByD = new LinkedBlockingQueue<>();
+        TcpSessionEventBus restarted = newNode("node-d", port, SECRET);
+        try {
+            restarted.subscribe(receivedByD::add);
+
+            for (int i = 0; i < 3; i++) {
+                SessionEvent event = receivedByD.poll(5, TimeUnit.SECONDS);
+                assertThat(event).isNotNull();
+                assertThat(event.getPayload()).isEqualTo(String.valueOf(i));
+            }
+            assertThat(receivedByD.poll(200, TimeUnit.MILLISECONDS)).isNull();
+        } finally {
+            restarted.close();
+        }
+    }
+
+    private TcpSessionEventBus newNode(String nodeId, int port, String secret) throws Exception {
+        TcpSessionEventBus node = new TcpSessionEventBus(nodeId, "127.0.0.1", port, secret);
+        node.start();
+        return node;
+    }
+}
@@ -0,0 +1,41 @@
+package com.eos.lss.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTests {
+
+    private final RateLimiter rateLimiter = new RateLimiter();
+
+    @Test
+    void reconnectingDoesNotResetAnOpenWindow() {
+        exhaust("u1", "start-playing");
+
+        rateLimiter.onConnectionClosed("c1", "u1");
+
+        assertThat(rateLimiter.isAllowed("u1", "start-playing")).isFalse();
+        assertThat(rateLimiter.getTrackedUserCount()).isEqualTo(1);
+    }
+
+    @Test
+    void cleanupDropsRecordsOnceEveryWindowHasEnded() {
+        exhaust("u1", "coin-action");
+        exhaust("u2", "delete-session");
+
+        // 동전 액션 윈도우(5초)만 끝난 시점
+        rateLimiter.cleanup(LocalDateTime.now().plusSeconds(10));
+        assertThat(rateLimiter.getTrackedUserCount()).isEqualTo(1);
+
+        rateLimiter.cleanup(LocalDateTime.now().plusMinutes(1));
+        assertThat(rateLimiter.getTrackedUserCount()).isZero();
+    }
+
+    private void exhaust(String userId, String action) {
+        while (rateLimiter.isAllowed(userId, action)) {
+            rateLimiter.recordRequest(userId, action);
+        }
+    }
+}
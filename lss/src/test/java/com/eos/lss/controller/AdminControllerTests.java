@@ -0,0 +1,67 @@
+package com.eos.lss.controller;
+
+import com.eos.lss.exception.GameException;
+import com.eos.lss.service.SessionAdminService;
+import com.eos.lss.service.SessionMigrationService;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class AdminControllerTests {
+
+    private final SessionAdminService sessionAdminService = mock(SessionAdminService.class);
+    private final SessionMigrationService sessionMigrationService = mock(SessionMigrationService.class);
+
+    @Test
+    void everyEndpointIsClosedWhenNoTokenIsConfigured() {
+        AdminController controller = new AdminController(sessionAdminService, sessionMigrationService, "");
+
+        assertStatus(() -> controller.listSessions(null, null, null, null, null, "oldest", null, null), 404);
+        assertStatus(() -> controller.listSessions("", null, null, null, null, "oldest", null, null), 404);
+        assertStatus(() -> controller.inspectSession("anything", "s-1"), 404);
+        assertStatus(() -> controller.forceClose(null, "s-1"), 404);
+        assertStatus(() -> controller.drain(null, null), 404);
+        assertStatus(() -> controller.importSessions(null, new byte[0]), 404);
+
+        verifyNoInteractions(sessionAdminService, sessionMigrationService);
+    }
+
+    @Test
+    void missingOrWrongTokenIsRejected() {
+        AdminController controller = new AdminController(sessionAdminService, sessionMigrationService, "secret");
+
+        assertStatus(() -> controller.forceClose(null, "s-1"), 401);
+        assertStatus(() -> controller.forceClose("", "s-1"), 401);
+        assertStatus(() -> controller.forceClose("secret2", "s-1"), 401);
+        assertStatus(() -> controller.drain("SECRET", null), 401);
+        assertStatus(() -> controller.importSessions("wrong", new byte[0]), 401);
+
+        verifyNoInteractions(sessionAdminService, sessionMigrationService);
+    }
+
+    @Test
+    void matchingTokenReachesTheService() {
+        AdminController controller = new AdminController(sessionAdminService, sessionMigrationService, "secret");
+        Map<String, Object> page = Map.of("sessions", List.of());
+        when(sessionAdminService.listSessions(any(), any(), any(), any(), anyBoolean(), any(), any())).thenReturn(page);
+
+        assertThat(controller.listSessions("secret", null, null, null, null, "newest", 10, null).getBody()).isSameAs(page);
+        verify(sessionAdminService).listSessions(null, null, null, null, true, 10, null);
+    }
+
+    private static void assertStatus(Runnable call, int statusCode) {
+        assertThatThrownBy(call::run)
+                .isInstanceOf(GameException.class)
+                .satisfies(e -> assertThat(((GameException) e).getStatusCode()).isEqualTo(statusCode));
+    }
+}
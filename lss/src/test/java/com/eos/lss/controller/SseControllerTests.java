@@ -0,0 +1,171 @@
+package com.eos.lss.controller;
+
+import com.eos.lss.websocket.RecordingWebSocketSession;
+import com.eos.lss.websocket.SimpleWebSocketHandler;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.web.socket.TextMessage;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 HTTP로 /sessions/{id}/events 스트림을 구독한 뒤 게임을 진행해 상태 이벤트가 오는지 확인
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"logging.level.com.eos.lss=ERROR", "lss.fanout.workers=0"})
+class SseControllerTests {
+
+    private static final long EVENT_TIMEOUT_SECONDS = 5;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final String prefix = "sse-test-" + UUID.randomUUID();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private SimpleWebSocketHandler handler;
+
+    @Test
+    void sessionStreamDeliversGameStateAfterEachTurn() throws Exception {
+        RecordingWebSocketSession president = connect("president");
+        RecordingWebSocketSession player = connect("player");
+        String presidentId = prefix + "-p";
+        String playerId = prefix + "-q";
+
+        send(president, Map.of("type", "create-session", "userId", presidentId, "name", "방장"));
+        JsonNode created = objectMapper.readTree(president.getLastMessage());
+        String sessionId = created.get("sessionId").asText();
+        send(player, Map.of("type", "join-session", "entryCode", created.get("entryCode").asText(), "userId", playerId, "name", "플레이어"));
+        send(president, Map.of("type", "start-ordering", "sessionId", sessionId, "userId", presidentId));
+        send(president, Map.of("type", "register-order", "sessionId", sessionId, "userId", presidentId));
+        send(player, Map.of("type", "register-order", "sessionId", sessionId, "userId", playerId));
+        send(president, Map.of("type", "start-playing", "sessionId", sessionId, "userId", presidentId));
+
+        long coinVersion;
+        try (EventStream stream = subscribe(sessionId, null)) {
+            SseEvent snapshot = stream.nextState();
+            assertThat(snapshot.data.get("gameState").asText()).isEqualTo("GAME_PLAYING");
+            assertThat(snapshot.id).isEqualTo(snapshot.data.get("version").asLong());
+
+            send(president, Map.of("type", "coin-action", "sessionId", sessionId, "userId", presidentId, "coinType", "first", "state", "head"));
+            SseEvent coin = stream.nextState();
+            assertThat(coin.id).isEqualTo(snapshot.id + 1);
+            assertThat(coin.data.get("firstCoinState").asText()).isEqualTo("head");
+            assertThat(coin.data.get("isMyTurn").asBoolean()).isFalse();
+            coinVersion = coin.id;
+
+            send(president, Map.of("type", "next-turn", "sessionId", sessionId, "userId", presidentId));
+            SseEvent nextTurn = stream.nextState();
+            assertThat(nextTurn.id).isEqualTo(coinVersion + 1);
+            assertThat(nextTurn.data.get("currentPlayer").get("userId").asText()).isEqualTo(playerId);
+        }
+
+        // 재연결하면 Last-Event-ID보다 새 상태부터
+        try (EventStream resumed = subscribe(sessionId, Long.toString(coinVersion))) {
+            assertThat(resumed.nextState().id).isEqualTo(coinVersion + 1);
+        }
+
+        send(president, Map.of("type", "delete-session", "sessionId", sessionId, "userId", presidentId));
+    }
+
+    private RecordingWebSocketSession connect(String name) throws Exception {
+        RecordingWebSocketSession session = new RecordingWebSocketSession(prefix + "-" + name);
+        handler.afterConnectionEstablished(session);
+        return session;
+    }
+
+    private void send(RecordingWebSocketSession session, Map<String, String> message) throws Exception {
+        handler.handleMessage(session, new TextMessage(objectMapper.writeValueAsString(message)));
+    }
+
+    private EventStream subscribe(String sessionId, String lastEventId) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/sessions/" + sessionId + "/events"))
+                .header("Accept", "text/event-stream");
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        HttpResponse<Stream<String>> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofLines());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return new EventStream(response.body());
+    }
+
+    // SSE 텍스트를 이벤트 단위로 읽어 큐에 넣음 (빈 줄이 이벤트 끝)
+    private final class EventStream implements AutoCloseable {
+
+        private final Stream<String> lines;
+        private final BlockingQueue<SseEvent> events = new LinkedBlockingQueue<>();
+
+        EventStream(Stream<String> lines) {
+            this.lines = lines;
+            Thread reader = new Thread(this::read, "sse-test-reader");
+            reader.setDaemon(true);
+            reader.start();
+        }
+
+        private void read() {
+            long id = -1;
+            StringBuilder data = new StringBuilder();
+            try {
+                Iterator<String> iterator = lines.iterator();
+                while (iterator.hasNext()) {
+                    String line = iterator.next();
+                    if (line.startsWith("id:")) {
+                        id = Long.parseLong(line.substring(3).trim());
+                    } else if (line.startsWith("data:")) {
+                        data.append(line.substring(5));
+                    } else if (line.isEmpty() && data.length() > 0) {
+                        events.add(new SseEvent(id, objectMapper.readTree(data.toString())));
+                        id = -1;
+                        data.setLength(0);
+                    }
+                }
+            } catch (Exception e) {
+                // 스트림을 닫으면 읽기가 끝남
+            }
+        }
+
+        // 다음 게임 상태 이벤트 (연결 응답과 관전 시작 응답은 건너뜀)
+        SseEvent nextState() throws InterruptedException {
+            while (true) {
+                SseEvent event = events.poll(EVENT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                assertThat(event).as("상태 이벤트 수신").isNotNull();
+                if (event.data.path("spectator").asBoolean(false)) {
+                    return event;
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            lines.close();
+        }
+    }
+
+    private static final class SseEvent {
+        private final long id;
+        private final JsonNode data;
+
+        private SseEvent(long id, JsonNode data) {
+            this.id = id;
+            this.data = data;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.eos.lss.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyWindowTests {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void percentileUsesOnlySamplesInsideWindow() {
+        LatencyWindow window = new LatencyWindow(16);
+        for (int i = 1; i <= 10; i++) {
+            window.record(i * 1_000L, 0);
+        }
+        window.record(500_000L, 5 * SECOND);
+
+        // 전체 11개: p50은 6번째, p99는 가장 큰 값
+        assertThat(window.percentile(0.5, 10 * SECOND, 5 * SECOND)).isEqualTo(6_000L);
+        assertThat(window.percentile(0.99, 10 * SECOND, 5 * SECOND)).isEqualTo(500_000L);
+
+        // 오래된 표본이 기간을 벗어나면 최근 표본만 남고, 그마저 벗어나면 0
+        assertThat(window.percentile(0.5, 2 * SECOND, 6 * SECOND)).isEqualTo(500_000L);
+        assertThat(window.percentile(0.99, 2 * SECOND, 20 * SECOND)).isZero();
+        assertThat(window.getCount()).isEqualTo(11);
+    }
+
+    @Test
+    void keepsOnlyLastCapacitySamples() {
+        LatencyWindow window = new LatencyWindow(4);
+        for (int i = 1; i <= 100; i++) {
+            window.record(i, 0);
+        }
+
+        assertThat(window.percentile(0.0, SECOND, 0)).isEqualTo(97L);
+        assertThat(window.percentile(1.0, SECOND, 0)).isEqualTo(100L);
+    }
+}
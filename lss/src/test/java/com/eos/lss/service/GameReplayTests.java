@@ -0,0 +1,92 @@
+package com.eos.lss.service;
+
+import ch.qos.logback.classic.Level;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기록된 게임 명령 스트림 재생 (src/test/resources/replay)
+ * 운영에서 받은 기록은 -Dlss.replay.file=경로 로 재생하고, -Dlss.replay.repeat=N 으로 반복 횟수를 늘려
+ * 게임 규칙 처리량(명령/초)을 측정한다.
+ */
+class GameReplayTests {
+
+    private static final Logger log = LoggerFactory.getLogger(GameReplayTests.class);
+
+    private static final String REPLAY_FILE = System.getProperty("lss.replay.file");
+    private static final int REPEAT = Integer.getInteger("lss.replay.repeat", 200);
+
+    private final GameReplayer replayer = new GameReplayer();
+
+    // 명령마다 남는 게임 로그가 재생 시간을 대부분 차지하지 않도록 경고 이상만 출력
+    @BeforeAll
+    static void quietGameLogs() {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(SessionService.class)).setLevel(Level.WARN);
+    }
+
+    @Test
+    void fullGameMatchesRecordedStates() throws Exception {
+        GameReplayer.Result result = replayer.replay(load("replay/full-game.ndjson"));
+
+        assertThat(result.getMismatches()).isEmpty();
+        assertThat(result.getExpectations()).isEqualTo(8);
+        assertThat(result.getRejected()).isEqualTo(1);
+        // 10분 게임 마감 타이머가 기다리지 않고 가상 시계로 발화
+        assertThat(result.getTimersFired()).isEqualTo(1);
+        assertThat(result.getVirtualMillis()).isGreaterThanOrEqualTo(600_000);
+    }
+
+    @Test
+    void disconnectDoesNotShiftTurnOrder() throws Exception {
+        GameReplayer.Result result = replayer.replay(load("replay/disconnect-turn-drift.ndjson"));
+
+        assertThat(result.getMismatches()).isEmpty();
+        assertThat(result.getFinalStates()).isEmpty();
+    }
+
+    @Test
+    void replayIsDeterministic() throws Exception {
+        List<JsonNode> commands = load("replay/full-game.ndjson");
+
+        GameReplayer.Result first = replayer.replay(commands);
+        GameReplayer.Result second = replayer.replay(commands);
+
+        assertThat(first.getFinalStates()).isNotEmpty();
+        assertThat(second.getFinalStates()).isEqualTo(first.getFinalStates());
+    }
+
+    @Test
+    void replayThroughput() throws Exception {
+        List<JsonNode> commands = REPLAY_FILE != null
+                ? replayer.load(Files.newBufferedReader(Paths.get(REPLAY_FILE), StandardCharsets.UTF_8))
+                : load("replay/full-game.ndjson");
+
+        GameReplayer.Result result = replayer.replay(commands, REPEAT);
+
+        log.info("게임 리플레이 벤치마크 - 기록: {}, 반복: {}, 명령: {}, 가상 시간: {}ms, 처리량: {}/s",
+                REPLAY_FILE != null ? REPLAY_FILE : "full-game", REPEAT, result.getCommands(),
+                result.getVirtualMillis(), (long) result.getCommandsPerSecond());
+        assertThat(result.getMismatches()).isEmpty();
+    }
+
+    private List<JsonNode> load(String resource) throws Exception {
+        try (InputStream input = getClass().getClassLoader().getResourceAsStream(resource)) {
+            assertThat(input).as(resource).isNotNull();
+            Reader reader = new InputStreamReader(input, StandardCharsets.UTF_8);
+            return replayer.load(reader);
+        }
+    }
+}
@@ -0,0 +1,342 @@
+package com.eos.lss.service;
+
+import com.eos.lss.cluster.SessionRouter;
+import com.eos.lss.dto.PlayerDto;
+import com.eos.lss.entity.SessionSnapshot;
+import com.eos.lss.exception.GameException;
+import com.eos.lss.websocket.SimpleWebSocketHandler;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 기록된 게임 명령 스트림 재생기
+ *
+ * 소켓 없이 SessionService를 직접 호출하고, 게임 시간은 가상 시계로 기록된 시각(at)에 맞춰 옮긴다.
+ * 게임 마감 타이머도 가상 시계 기준으로 발화하므로 10분짜리 게임도 기다리지 않고 끝난다.
+ *
+ * 입력은 한 줄에 명령 하나인 NDJSON이며, 클라이언트가 보내는 메시지(type, sessionId, userId, ...)에
+ * 기록 시작 후 경과 시간 at(ms)을 더한 형태다. 세션 ID와 입장 코드는 기록 당시 값을 별칭으로 쓰고
+ * 재생할 때 새로 만들어진 값으로 바꿔 호출한다. 명령 외 줄은 다음과 같다.
+ *   disconnect   플레이어 연결 끊김 (handlePlayerDisconnection)
+ *   leave        대기실/게임에서 나가기 (leaveSession)
+ *   skip-turn    턴 스킵 (skipTurn)
+ *   tick         명령 없이 시간만 진행
+ *   expect       세션 상태 확인 (있는 필드만 비교, ended=true면 세션이 없어야 함)
+ */
+class GameReplayer {
+
+    private static final LocalDateTime ORIGIN = LocalDateTime.of(2024, 1, 1, 12, 0);
+    private static final String ENTRY_ALIAS_PREFIX = "entry:";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * NDJSON 기록 읽기 (빈 줄과 #으로 시작하는 줄은 무시)
+     */
+    List<JsonNode> load(Reader reader) throws IOException {
+        List<JsonNode> commands = new ArrayList<>();
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        while ((line = lines.readLine()) != null) {
+            String trimmed = line.trim();
+            if (!trimmed.isEmpty() && !trimmed.startsWith("#")) {
+                commands.add(objectMapper.readTree(trimmed));
+            }
+        }
+        return commands;
+    }
+
+    /**
+     * 새 SessionService 위에서 기록을 처음부터 끝까지 재생
+     */
+    Result replay(List<JsonNode> commands) {
+        return replay(commands, 1);
+    }
+
+    /**
+     * 같은 SessionService 위에서 기록을 repeat번 이어서 재생 (처리량 측정용)
+     * 반복마다 시각은 이전 반복 뒤로 옮기고, 세션 별칭 앞에 "반복 번호/"를 붙여 서로 다른 게임으로 만든다.
+     */
+    Result replay(List<JsonNode> commands, int repeat) {
+        return new Run().execute(commands, repeat);
+    }
+
+    // 재생 한 번 분량의 서비스와 상태 (재생마다 새로 만듦)
+    private static final class Run {
+
+        private final VirtualGameClock clock = new VirtualGameClock(ORIGIN);
+        // 기록된 세션 ID/입장 코드 -> 재생 중 만들어진 세션 ID
+        private final Map<String, String> sessionAliases = new HashMap<>();
+        private final SessionService sessionService;
+        private final Result result = new Result();
+        // 반복 재생 시 별칭 앞에 붙는 값과 시각 보정
+        private String aliasPrefix = "";
+        private long timeOffset;
+
+        Run() {
+            // GameTimerService와 SessionService가 서로를 참조하므로 (운영에서는 @Lazy) 호출만 넘겨주는 대리 객체를 둠
+            GameTimerService[] timers = new GameTimerService[1];
+            GameTimerService gameTimerService = mock(GameTimerService.class);
+            doAnswer(invocation -> {
+                timers[0].scheduleGameEnd(invocation.getArgument(0), invocation.<Long>getArgument(1));
+                return null;
+            }).when(gameTimerService).scheduleGameEnd(anyString(), anyLong());
+            doAnswer(invocation -> {
+                timers[0].cancelGameTimer(invocation.getArgument(0));
+                return null;
+            }).when(gameTimerService).cancelGameTimer(anyString());
+
+            // 레지스트리가 없으면 SessionService가 세션을 직접 제거함
+            this.sessionService = new SessionService(mock(SimpleWebSocketHandler.class), gameTimerService,
+                    new SessionRouter("node-1", ""), mock(SessionExpiryService.class),
+                    mock(SessionLifecycleRegistry.class), new SessionIndex(), new TurnHistoryService(clock, 256, 0),
+                    mock(SessionStateCache.class), new SessionMemoryBudget(0, 0), clock);
+            timers[0] = new GameTimerService(sessionService, clock);
+        }
+
+        Result execute(List<JsonNode> commands, int repeat) {
+            long started = System.nanoTime();
+            for (int iteration = 0; iteration < repeat; iteration++) {
+                aliasPrefix = iteration == 0 ? "" : iteration + "/";
+                timeOffset = iteration == 0 ? 0 : clock.getElapsedMillis() + 1;
+                for (JsonNode command : commands) {
+                    advanceTo(timeOffset + command.path("at").asLong(clock.getElapsedMillis() - timeOffset));
+                    apply(command);
+                }
+            }
+            result.elapsedNanos = System.nanoTime() - started;
+            for (Map.Entry<String, String> alias : new TreeMap<>(sessionAliases).entrySet()) {
+                SessionSnapshot session = sessionService.findSession(alias.getValue());
+                if (session != null && !alias.getKey().startsWith(ENTRY_ALIAS_PREFIX)) {
+                    result.finalStates.put(alias.getKey(), describe(session));
+                }
+            }
+            result.virtualMillis = clock.getElapsedMillis();
+            result.timersFired = clock.getFiredCount();
+            return result;
+        }
+
+        // 시간을 옮기면 그 사이 마감된 게임 타이머는 가상 시계가 마감 시각 순서대로 실행
+        private void advanceTo(long elapsedMillis) {
+            clock.advanceTo(elapsedMillis);
+        }
+
+        private void apply(JsonNode command) {
+            String type = command.path("type").asText();
+            if ("tick".equals(type)) {
+                return;
+            }
+            if ("expect".equals(type)) {
+                verify(command);
+                return;
+            }
+            result.commands++;
+            String userId = command.path("userId").asText(null);
+            try {
+                switch (type) {
+                    case "create-session": {
+                        String sessionId = sessionService.createSession(userId, command.path("name").asText());
+                        bindAliases(command, sessionId);
+                        break;
+                    }
+                    case "join-session": {
+                        String sessionId = sessionService.joinSession(entryCodeOf(command), userId, command.path("name").asText());
+                        bindAliases(command, sessionId);
+                        break;
+                    }
+                    case "start-ordering":
+                        sessionService.startGame(sessionIdOf(command));
+                        break;
+                    case "register-order":
+                        sessionService.registerOrder(sessionIdOf(command), userId);
+                        break;
+                    case "start-playing":
+                        sessionService.startPlaying(sessionIdOf(command));
+                        break;
+                    case "coin-action":
+                        sessionService.setCoinState(sessionIdOf(command), command.path("coinType").asText(), command.path("state").asText());
+                        break;
+                    case "next-turn":
+                        sessionService.nextTurn(sessionIdOf(command));
+                        break;
+                    case "continue-lee-soon-sin":
+                        sessionService.continueFromLeeSoonSin(sessionIdOf(command));
+                        break;
+                    case "skip-turn":
+                        sessionService.skipTurn(sessionIdOf(command), userId);
+                        break;
+                    case "leave":
+                        sessionService.leaveSession(sessionIdOf(command), userId);
+                        break;
+                    case "disconnect":
+                        sessionService.handlePlayerDisconnection(sessionIdOf(command), userId);
+                        break;
+                    case "delete-session":
+                        sessionService.deleteSession(sessionIdOf(command), userId);
+                        break;
+                    case "get-state":
+                        sessionService.getGameState(sessionIdOf(command), userId);
+                        break;
+                    default:
+                        throw new IllegalStateException("알 수 없는 기록 타입: " + type);
+                }
+            } catch (GameException | IllegalArgumentException e) {
+                // 서버에서도 에러 응답으로 끝나는 명령 (기록에는 실패한 요청도 그대로 들어 있음)
+                result.rejected++;
+            }
+        }
+
+        private void bindAliases(JsonNode command, String sessionId) {
+            if (command.hasNonNull("sessionId")) {
+                sessionAliases.put(aliasPrefix + command.get("sessionId").asText(), sessionId);
+            }
+            SessionSnapshot session = sessionService.findSession(sessionId);
+            if (command.hasNonNull("entryCode") && session != null) {
+                sessionAliases.put(ENTRY_ALIAS_PREFIX + aliasPrefix + command.get("entryCode").asText(), sessionId);
+            }
+        }
+
+        private String sessionIdOf(JsonNode command) {
+            String recorded = command.path("sessionId").asText();
+            return sessionAliases.getOrDefault(aliasPrefix + recorded, recorded);
+        }
+
+        private String entryCodeOf(JsonNode command) {
+            String sessionId = sessionAliases.get(ENTRY_ALIAS_PREFIX + aliasPrefix + command.path("entryCode").asText());
+            if (sessionId == null) {
+                sessionId = sessionAliases.get(aliasPrefix + command.path("sessionId").asText());
+            }
+            SessionSnapshot session = sessionId != null ? sessionService.findSession(sessionId) : null;
+            return session != null ? session.getEntryCode() : command.path("entryCode").asText();
+        }
+
+        private void verify(JsonNode expect) {
+            result.expectations++;
+            String alias = expect.path("sessionId").asText();
+            SessionSnapshot session = sessionService.findSession(sessionIdOf(expect));
+            String where = "line at=" + expect.path("at").asText() + " session=" + aliasPrefix + alias;
+            if (expect.path("ended").asBoolean(false)) {
+                if (session != null) {
+                    result.mismatches.add(where + ": 종료되어야 하지만 세션이 남아 있음");
+                }
+                return;
+            }
+            if (session == null) {
+                result.mismatches.add(where + ": 세션이 없음");
+                return;
+            }
+            Map<String, Object> actual = describe(session);
+            Iterator<Map.Entry<String, JsonNode>> fields = expect.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if (!actual.containsKey(field.getKey())) {
+                    continue;
+                }
+                Object expected = toValue(field.getValue());
+                Object value = actual.get(field.getKey());
+                if (!String.valueOf(expected).equals(String.valueOf(value))) {
+                    result.mismatches.add(where + ": " + field.getKey() + " 기대값 " + expected + ", 실제값 " + value);
+                }
+            }
+        }
+
+        private Map<String, Object> describe(SessionSnapshot session) {
+            Map<String, Object> state = new LinkedHashMap<>();
+            state.put("gameState", sessionService.determineGameState(session));
+            state.put("presidentId", session.getPresidentId());
+            state.put("players", userIds(session.getPlayers()));
+            state.put("orderedPlayers", userIds(session.getOrderedPlayers()));
+            state.put("currentPlayerIndex", session.getCurrentPlayerIndex());
+            List<PlayerDto> ordered = session.getOrderedPlayers();
+            state.put("currentPlayerId", session.getCurrentPlayerIndex() < ordered.size()
+                    ? ordered.get(session.getCurrentPlayerIndex()).getUserId() : null);
+            state.put("isClockWise", session.isClockWise());
+            state.put("firstCoinState", session.getFirstCoinState());
+            state.put("secondCoinState", session.getSecondCoinState());
+            state.put("isLeeSoonSinByTimeExpired", session.getIsLeeSoonSinByTimeExpired());
+            return state;
+        }
+
+        private static List<String> userIds(List<PlayerDto> players) {
+            return players.stream().map(PlayerDto::getUserId).collect(Collectors.toList());
+        }
+
+        private static Object toValue(JsonNode node) {
+            if (node.isNull()) {
+                return null;
+            }
+            if (node.isArray()) {
+                List<String> values = new ArrayList<>();
+                node.forEach(item -> values.add(item.asText()));
+                return values;
+            }
+            return node.isTextual() ? node.asText() : node.toString();
+        }
+    }
+
+    static final class Result {
+        private long commands;
+        private long rejected;
+        private long expectations;
+        private long timersFired;
+        private long elapsedNanos;
+        private long virtualMillis;
+        private final List<String> mismatches = new ArrayList<>();
+        // 기록된 세션 ID -> 재생이 끝난 뒤 남아 있는 세션 상태
+        private final Map<String, Object> finalStates = new LinkedHashMap<>();
+
+        long getCommands() {
+            return commands;
+        }
+
+        long getRejected() {
+            return rejected;
+        }
+
+        long getExpectations() {
+            return expectations;
+        }
+
+        long getTimersFired() {
+            return timersFired;
+        }
+
+        long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        long getVirtualMillis() {
+            return virtualMillis;
+        }
+
+        List<String> getMismatches() {
+            return mismatches;
+        }
+
+        Map<String, Object> getFinalStates() {
+            return finalStates;
+        }
+
+        double getCommandsPerSecond() {
+            return elapsedNanos > 0 ? commands / (elapsedNanos / 1e9) : 0;
+        }
+    }
+}
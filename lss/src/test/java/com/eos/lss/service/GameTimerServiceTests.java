@@ -0,0 +1,93 @@
+package com.eos.lss.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GameTimerServiceTests {
+
+    private final VirtualGameClock clock = new VirtualGameClock(LocalDateTime.of(2024, 1, 1, 12, 0));
+    private SessionService sessionService;
+    private GameTimerService timerService;
+
+    @BeforeEach
+    void setUp() {
+        sessionService = mock(SessionService.class);
+        timerService = new GameTimerService(sessionService, clock);
+    }
+
+    @Test
+    void gameEndFiresAtMonotonicDeadline() {
+        timerService.scheduleGameEnd("s1", clock.nanoTime() + SessionService.GAME_DURATION.toNanos());
+
+        clock.advance(Duration.ofMinutes(9).plusSeconds(59));
+        verify(sessionService, never()).checkGameEndTime("s1");
+        assertThat(timerService.getRemainingMillis("s1")).isEqualTo(1000);
+
+        clock.advance(Duration.ofSeconds(1));
+        verify(sessionService, times(1)).checkGameEndTime("s1");
+        assertThat(timerService.getActiveTimerCount()).isZero();
+        assertThat(timerService.getRemainingMillis("s1")).isNull();
+    }
+
+    @Test
+    void rescheduleAndCancelReplacePendingTimer() {
+        timerService.scheduleGameEnd("s1", clock.nanoTime() + Duration.ofMinutes(10).toNanos());
+        clock.advance(Duration.ofMinutes(5));
+        timerService.scheduleGameEnd("s1", clock.nanoTime() + Duration.ofMinutes(10).toNanos());
+
+        clock.advance(Duration.ofMinutes(6));
+        verify(sessionService, never()).checkGameEndTime("s1");
+        assertThat(clock.getPendingCount()).isEqualTo(1);
+
+        timerService.cancelGameTimer("s1");
+        clock.advance(Duration.ofHours(1));
+        verify(sessionService, never()).checkGameEndTime("s1");
+        assertThat(clock.getPendingCount()).isZero();
+    }
+
+    @Test
+    void pastDeadlineIsCheckedImmediately() {
+        clock.advance(Duration.ofMinutes(1));
+
+        timerService.scheduleGameEnd("s1", clock.nanoTime() - 1);
+
+        verify(sessionService).checkGameEndTime("s1");
+        assertThat(timerService.getActiveTimerCount()).isZero();
+    }
+
+    @Test
+    void stalledProbeCountsAsTimerLagUntilItRuns() {
+        GameClock stalledClock = mock(GameClock.class);
+        when(stalledClock.nanoTime()).thenReturn(1_000L);
+        GameTimerService service = new GameTimerService(sessionService, stalledClock);
+        long window = Duration.ofMinutes(1).toNanos();
+
+        service.probeFiringLag();
+        service.probeFiringLag();
+        ArgumentCaptor<Runnable> probe = ArgumentCaptor.forClass(Runnable.class);
+        verify(stalledClock, times(1)).schedule(probe.capture(), eq(0L));
+
+        // 타이머 스레드가 밀려 점검 타이머가 아직 실행되지 않음
+        when(stalledClock.nanoTime()).thenReturn(1_000L + Duration.ofSeconds(2).toNanos());
+        assertThat(service.getFiringLagNanos(0.99, window)).isEqualTo(Duration.ofSeconds(2).toNanos());
+
+        probe.getValue().run();
+        when(stalledClock.nanoTime()).thenReturn(1_000L + Duration.ofSeconds(10).toNanos());
+        assertThat(service.getFiringLagNanos(0.99, window)).isEqualTo(Duration.ofSeconds(2).toNanos());
+
+        service.probeFiringLag();
+        verify(stalledClock, times(2)).schedule(probe.capture(), eq(0L));
+    }
+}
@@ -0,0 +1,87 @@
+package com.eos.lss.service;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 빠른 매칭 대기열 처리량 측정
+ * 여러 스레드가 동시에 대기 등록하는 동안 매칭 스레드 하나가 계속 방을 만든다.
+ * 기본 등록 수는 빠르게 끝나도록 잡혀 있으며, -Dlss.bench.matchmaking.enqueues=5000000 으로 늘릴 수 있다.
+ */
+class MatchQueueBenchmarkTests {
+
+    private static final Logger log = LoggerFactory.getLogger(MatchQueueBenchmarkTests.class);
+
+    private static final int ENQUEUES = Integer.getInteger("lss.bench.matchmaking.enqueues", 200_000);
+    private static final int PRODUCERS = Integer.getInteger("lss.bench.matchmaking.producers", 4);
+    private static final int ROOM_SIZE = 4;
+
+    @Test
+    void matchesEveryPlayerUnderConcurrentEnqueue() throws Exception {
+        MatchQueue queue = new MatchQueue(ROOM_SIZE, 2, Long.MAX_VALUE);
+        int perProducer = ENQUEUES / PRODUCERS / ROOM_SIZE * ROOM_SIZE;
+        int total = perProducer * PRODUCERS;
+
+        ExecutorService producers = Executors.newFixedThreadPool(PRODUCERS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(PRODUCERS);
+        for (int p = 0; p < PRODUCERS; p++) {
+            String prefix = "p" + p + "-";
+            producers.execute(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < perProducer; i++) {
+                        queue.enqueue(prefix + i, "player", 0);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long started = System.nanoTime();
+        start.countDown();
+        int matched = 0;
+        int rooms = 0;
+        long enqueueNanos = -1;
+        // 등록이 끝날 때까지 매칭 스레드(현재 스레드)가 계속 방을 만든다
+        while (matched < total) {
+            List<List<MatchQueue.Ticket>> formed = queue.drain(0, Integer.MAX_VALUE);
+            for (List<MatchQueue.Ticket> room : formed) {
+                matched += room.size();
+            }
+            rooms += formed.size();
+            if (enqueueNanos < 0 && done.getCount() == 0) {
+                enqueueNanos = System.nanoTime() - started;
+            }
+            if (formed.isEmpty()) {
+                Thread.onSpinWait();
+            }
+        }
+        long elapsedNanos = System.nanoTime() - started;
+        if (enqueueNanos < 0) {
+            enqueueNanos = elapsedNanos;
+        }
+        producers.shutdown();
+        assertThat(producers.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        double enqueuesPerSecond = total / (enqueueNanos / 1e9);
+        double matchesPerSecond = total / (elapsedNanos / 1e9);
+        log.info("빠른 매칭 벤치마크 - 등록: {}, 생산 스레드: {}, 방: {}, 등록 처리량: {}/s, 매칭 처리량: {}/s",
+                total, PRODUCERS, rooms, (long) enqueuesPerSecond, (long) matchesPerSecond);
+
+        assertThat(rooms).isEqualTo(total / ROOM_SIZE);
+        assertThat(queue.getWaitingCount()).isZero();
+    }
+}
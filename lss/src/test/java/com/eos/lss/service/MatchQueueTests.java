@@ -0,0 +1,67 @@
+package com.eos.lss.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchQueueTests {
+
+    @Test
+    void fullRoomsAreFormedInEnqueueOrder() {
+        MatchQueue queue = new MatchQueue(3, 2, 10_000);
+        for (int i = 0; i < 7; i++) {
+            queue.enqueue("u" + i, "player" + i, 0);
+        }
+
+        List<List<MatchQueue.Ticket>> rooms = queue.drain(100, 10);
+
+        assertThat(rooms).hasSize(2);
+        assertThat(rooms.get(0)).extracting(MatchQueue.Ticket::getUserId).containsExactly("u0", "u1", "u2");
+        assertThat(rooms.get(1)).extracting(MatchQueue.Ticket::getUserId).containsExactly("u3", "u4", "u5");
+        assertThat(queue.getWaitingCount()).isEqualTo(1);
+    }
+
+    @Test
+    void duplicateAndCancelledTicketsAreSkipped() {
+        MatchQueue queue = new MatchQueue(2, 2, 10_000);
+        assertThat(queue.enqueue("a", "A", 0)).isTrue();
+        assertThat(queue.enqueue("a", "A", 0)).isFalse();
+        queue.enqueue("b", "B", 0);
+        queue.enqueue("c", "C", 0);
+        assertThat(queue.cancel("b")).isTrue();
+
+        List<List<MatchQueue.Ticket>> rooms = queue.drain(100, 10);
+
+        assertThat(rooms).hasSize(1);
+        assertThat(rooms.get(0)).extracting(MatchQueue.Ticket::getUserId).containsExactly("a", "c");
+        assertThat(queue.getWaitingCount()).isZero();
+    }
+
+    @Test
+    void partialRoomIsFormedOnlyAfterMaxWait() {
+        MatchQueue queue = new MatchQueue(4, 2, 1_000);
+        queue.enqueue("a", "A", 0);
+        queue.enqueue("b", "B", 500);
+
+        assertThat(queue.drain(999, 10)).isEmpty();
+
+        List<List<MatchQueue.Ticket>> rooms = queue.drain(1_000, 10);
+        assertThat(rooms).hasSize(1);
+        assertThat(rooms.get(0)).extracting(MatchQueue.Ticket::getUserId).containsExactly("a", "b");
+    }
+
+    @Test
+    void requeuedPlayersKeepTheirPlace() {
+        MatchQueue queue = new MatchQueue(2, 2, 10_000);
+        queue.enqueue("a", "A", 0);
+        queue.enqueue("b", "B", 0);
+        List<MatchQueue.Ticket> room = queue.drain(0, 10).get(0);
+
+        queue.requeue(room.subList(1, 2));
+        queue.enqueue("c", "C", 0);
+
+        assertThat(queue.drain(0, 10).get(0)).extracting(MatchQueue.Ticket::getUserId).containsExactly("b", "c");
+    }
+}
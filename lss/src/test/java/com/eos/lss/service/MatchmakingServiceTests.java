@@ -0,0 +1,70 @@
+package com.eos.lss.service;
+
+import com.eos.lss.exception.CapacityExceededException;
+import com.eos.lss.websocket.SimpleWebSocketHandler;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MatchmakingServiceTests {
+
+    private final SessionService sessionService = mock(SessionService.class);
+    private final SimpleWebSocketHandler webSocketHandler = mock(SimpleWebSocketHandler.class);
+    private final MatchmakingService matchmakingService = new MatchmakingService(sessionService, webSocketHandler, 2, 2, 10_000, 10);
+
+    @Test
+    void playersAreToldWhenTheRoomCannotBeCreated() {
+        when(webSocketHandler.isUserConnected(anyString())).thenReturn(true);
+        when(sessionService.createMatchedSession(anyList())).thenThrow(new CapacityExceededException("메모리 한도 초과"));
+        matchmakingService.enqueue("a", "A");
+        matchmakingService.enqueue("b", "B");
+
+        matchmakingService.matchPlayers();
+
+        verify(webSocketHandler).notifyMatchFailed(List.of("a", "b"));
+        verify(webSocketHandler, never()).bindMatchedPlayers(anyString(), anyList());
+        verify(sessionService, never()).deleteSession(anyString(), anyString());
+        assertThat(matchmakingService.getMetrics().get("roomFailures")).isEqualTo(1L);
+        // 알림을 받은 플레이어는 다시 등록할 수 있음
+        assertThat(matchmakingService.getWaitingCount()).isZero();
+        assertThat(matchmakingService.enqueue("a", "A")).isTrue();
+    }
+
+    @Test
+    void halfCreatedRoomIsDeletedBeforeNotifying() {
+        when(webSocketHandler.isUserConnected(anyString())).thenReturn(true);
+        when(sessionService.createMatchedSession(anyList())).thenReturn("s-1");
+        doThrow(new IllegalStateException("전송 실패")).when(sessionService).broadcastGameState("s-1");
+        matchmakingService.enqueue("a", "A");
+        matchmakingService.enqueue("b", "B");
+
+        matchmakingService.matchPlayers();
+
+        verify(sessionService).deleteSession("s-1", "a");
+        verify(webSocketHandler).notifyMatchFailed(List.of("a", "b"));
+        assertThat(matchmakingService.getMetrics().get("roomsCreated")).isEqualTo(0L);
+    }
+
+    @Test
+    void createdRoomIsNotReportedAsFailed() {
+        when(webSocketHandler.isUserConnected(anyString())).thenReturn(true);
+        when(sessionService.createMatchedSession(anyList())).thenReturn("s-1");
+        matchmakingService.enqueue("a", "A");
+        matchmakingService.enqueue("b", "B");
+
+        matchmakingService.matchPlayers();
+
+        verify(webSocketHandler).bindMatchedPlayers("s-1", List.of("a", "b"));
+        verify(webSocketHandler, never()).notifyMatchFailed(anyList());
+        assertThat(matchmakingService.getMetrics().get("roomsCreated")).isEqualTo(1L);
+    }
+}
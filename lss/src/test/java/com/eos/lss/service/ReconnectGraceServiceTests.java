@@ -0,0 +1,72 @@
+package com.eos.lss.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class ReconnectGraceServiceTests {
+
+    private SessionService sessionService;
+    private ReconnectGraceService graceService;
+
+    @BeforeEach
+    void setUp() {
+        sessionService = mock(SessionService.class);
+        graceService = new ReconnectGraceService(sessionService, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        graceService.shutdown();
+    }
+
+    @Test
+    void disconnectedPlayerIsOnlyMarkedAwayAndResumesWithToken() throws Exception {
+        String token = graceService.issueToken("s1", "u1");
+
+        graceService.playerDisconnected("s1", "u1");
+        assertThat(graceService.resume("s1", "u1", "wrong-token")).isFalse();
+        assertThat(graceService.resume("s1", "u1", token)).isTrue();
+
+        Thread.sleep(1500);
+        verify(sessionService, never()).handlePlayerDisconnection("s1", "u1");
+    }
+
+    @Test
+    void playerIsRemovedWhenGraceExpires() {
+        String token = graceService.issueToken("s1", "u1");
+
+        graceService.playerDisconnected("s1", "u1");
+
+        verify(sessionService, timeout(3000)).handlePlayerDisconnection("s1", "u1");
+        assertThat(graceService.resume("s1", "u1", token)).isFalse();
+    }
+
+    @Test
+    void removedPlayerCanNoLongerResume() throws Exception {
+        String token = graceService.issueToken("s1", "u1");
+        graceService.playerDisconnected("s1", "u1");
+
+        graceService.onPlayerRemoved("s1", "u1");
+
+        assertThat(graceService.isAway("s1", "u1")).isFalse();
+        assertThat(graceService.resume("s1", "u1", token)).isFalse();
+        assertThat(graceService.tokensOf("s1")).isEmpty();
+        // 유예 만료 처리도 취소됨
+        Thread.sleep(1500);
+        verify(sessionService, never()).handlePlayerDisconnection("s1", "u1");
+    }
+
+    @Test
+    void playerWithoutTokenIsRemovedImmediately() {
+        graceService.playerDisconnected("s1", "u2");
+
+        verify(sessionService).handlePlayerDisconnection("s1", "u2");
+    }
+}
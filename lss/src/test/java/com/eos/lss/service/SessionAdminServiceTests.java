@@ -0,0 +1,145 @@
+package com.eos.lss.service;
+
+import com.eos.lss.dto.GameStateDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SessionAdminServiceTests {
+
+    @Test
+    void cursorRoundTripsThroughItsEncoding() {
+        SessionIndex.Key key = new SessionIndex.Key(1_700_000_000_000L, "042-6f1c2a7e-0d5b-4c1e-9a53-2b7d1f8e4c10");
+
+        String cursor = SessionAdminService.encodeCursor(key);
+
+        assertThat(cursor).doesNotContain("=", "/", "+");
+        assertThat(SessionAdminService.decodeCursor(cursor)).isEqualTo(key);
+        assertThat(SessionAdminService.decodeCursor(null)).isNull();
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThatThrownBy(() -> SessionAdminService.decodeCursor("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void filtersByStatePlayerCountAndAge() {
+        SessionIndex index = new SessionIndex();
+        LocalDateTime now = LocalDateTime.now();
+        index.update("waiting-new", GameStateDto.STATE_WAITING_ROOM, now.minusMinutes(1), null, 2);
+        index.update("waiting-old", GameStateDto.STATE_WAITING_ROOM, now.minusHours(2), null, 4);
+        index.update("playing-old", GameStateDto.STATE_GAME_PLAYING, now.minusHours(3), now.plusMinutes(10), 4);
+        SessionAdminService service = adminService(index, 100);
+
+        assertThat(sessionIds(service.listSessions(GameStateDto.STATE_WAITING_ROOM, null, null, null, false, null, null)))
+                .containsExactly("waiting-old", "waiting-new");
+        assertThat(sessionIds(service.listSessions(null, null, null, 4, false, null, null)))
+                .containsExactly("playing-old", "waiting-old");
+        // 생성 후 1시간 이상 지난 세션만, 최근 생성 순
+        assertThat(sessionIds(service.listSessions(null, 3600L, null, null, true, null, null)))
+                .containsExactly("waiting-old", "playing-old");
+        // 생성 후 10분 이내
+        assertThat(sessionIds(service.listSessions(null, null, 600L, null, false, null, null)))
+                .containsExactly("waiting-new");
+        assertThat(sessionIds(service.listSessions(GameStateDto.STATE_GAME_PLAYING, null, 600L, null, false, null, null)))
+                .isEmpty();
+        // 최소 경과 시간이 최대보다 크면 빈 결과
+        assertThat(sessionIds(service.listSessions(null, 7200L, 60L, null, false, null, null))).isEmpty();
+    }
+
+    @Test
+    void pagesCoverEverySessionExactlyOnce() {
+        SessionIndex index = new SessionIndex();
+        LocalDateTime base = LocalDateTime.now().minusHours(1);
+        for (int i = 0; i < 7; i++) {
+            index.update("s-" + i, GameStateDto.STATE_WAITING_ROOM, base.plusSeconds(i), null, 1);
+        }
+        SessionAdminService service = adminService(index, 100);
+
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            Map<String, Object> page = service.listSessions(null, null, null, null, false, 3, cursor);
+            List<String> ids = sessionIds(page);
+            assertThat(ids.size()).isLessThanOrEqualTo(3);
+            seen.addAll(ids);
+            cursor = (String) page.get("nextCursor");
+            pages++;
+        } while (cursor != null);
+
+        assertThat(seen).containsExactly("s-0", "s-1", "s-2", "s-3", "s-4", "s-5", "s-6");
+        assertThat(pages).isEqualTo(3);
+
+        // 딱 나누어떨어지는 마지막 페이지 다음은 빈 페이지
+        Map<String, Object> firstSix = service.listSessions(null, null, null, null, true, 6, null);
+        assertThat(sessionIds(firstSix)).hasSize(6);
+        Map<String, Object> rest = service.listSessions(null, null, null, null, true, 6, (String) firstSix.get("nextCursor"));
+        assertThat(sessionIds(rest)).containsExactly("s-0");
+        assertThat(rest.get("nextCursor")).isNull();
+    }
+
+    @Test
+    void pageSizeIsClamped() {
+        SessionIndex index = new SessionIndex();
+        LocalDateTime base = LocalDateTime.now().minusHours(1);
+        for (int i = 0; i < SessionAdminService.MAX_PAGE_SIZE + 10; i++) {
+            index.update(String.format("s-%04d", i), GameStateDto.STATE_WAITING_ROOM, base, null, 1);
+        }
+        SessionAdminService service = adminService(index, 10_000);
+
+        assertThat(sessionIds(service.listSessions(null, null, null, null, false, null, null)))
+                .hasSize(SessionAdminService.DEFAULT_PAGE_SIZE);
+        assertThat(sessionIds(service.listSessions(null, null, null, null, false, 0, null))).hasSize(1);
+        assertThat(sessionIds(service.listSessions(null, null, null, null, false, -5, null))).hasSize(1);
+        Map<String, Object> largest = service.listSessions(null, null, null, null, false, 100_000, null);
+        assertThat(sessionIds(largest)).hasSize(SessionAdminService.MAX_PAGE_SIZE);
+        assertThat(largest.get("nextCursor")).isNotNull();
+        assertThat(largest.get("totalSessions")).isEqualTo(SessionAdminService.MAX_PAGE_SIZE + 10);
+    }
+
+    @Test
+    void scanLimitEndsThePageEarlyWithACursor() {
+        SessionIndex index = new SessionIndex();
+        LocalDateTime base = LocalDateTime.now().minusHours(1);
+        for (int i = 0; i < 5; i++) {
+            index.update("waiting-" + i, GameStateDto.STATE_WAITING_ROOM, base.plusSeconds(i), null, 1);
+        }
+        index.update("playing", GameStateDto.STATE_GAME_PLAYING, base.plusSeconds(10), base.plusHours(1), 2);
+        SessionAdminService service = adminService(index, 2);
+
+        // 조건에 맞는 세션이 뒤쪽에 있으면 한 페이지에 2개만 확인하고 커서로 이어서 찾음
+        Map<String, Object> page = service.listSessions(GameStateDto.STATE_GAME_PLAYING, null, null, null, false, 10, null);
+        assertThat(sessionIds(page)).isEmpty();
+        String cursor = (String) page.get("nextCursor");
+        List<String> found = new ArrayList<>();
+        while (cursor != null) {
+            page = service.listSessions(GameStateDto.STATE_GAME_PLAYING, null, null, null, false, 10, cursor);
+            found.addAll(sessionIds(page));
+            cursor = (String) page.get("nextCursor");
+        }
+        assertThat(found).containsExactly("playing");
+    }
+
+    // 목록 조회는 인덱스만 사용
+    private static SessionAdminService adminService(SessionIndex index, int maxScan) {
+        return new SessionAdminService(null, index, null, null, null, null, null, maxScan);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> sessionIds(Map<String, Object> page) {
+        List<String> ids = new ArrayList<>();
+        for (Map<String, Object> item : (List<Map<String, Object>>) page.get("sessions")) {
+            ids.add((String) item.get("sessionId"));
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,67 @@
+package com.eos.lss.service;
+
+import com.eos.lss.dto.PlayerDto;
+import com.eos.lss.entity.CoinState;
+import com.eos.lss.entity.Session;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SessionArchiveTests {
+
+    @Test
+    void roundTripKeepsTurnStateAndTokens() {
+        Session session = new Session();
+        session.setId("007-session");
+        session.setEntryCode("123007");
+        session.setPresidentId("president");
+        session.setCreatedAt(LocalDateTime.of(2024, 1, 1, 12, 0));
+        session.setGameState("ON_GOING");
+        List<PlayerDto> players = Arrays.asList(new PlayerDto("president", "방장", null), new PlayerDto("player", "플레이어", "https://img/p.png"));
+        session.setPlayers(players);
+        session.setOrderedPlayers(Arrays.asList(players.get(1), players.get(0)));
+        session.setCurrentPlayerIndex(1);
+        session.setClockWise(false);
+        session.setFirstCoinState(CoinState.head);
+        session.setGameEndTime(LocalDateTime.of(2024, 1, 1, 12, 10));
+        session.setIsLeeSoonSinByTimeExpired(false);
+
+        byte[] data = SessionArchive.encode(List.of(new SessionArchive.Entry(session, 42, 90_000_000_000L, Map.of("player", "token"))));
+        List<SessionArchive.Entry> entries = SessionArchive.decode(data);
+
+        assertThat(entries).hasSize(1);
+        SessionArchive.Entry entry = entries.get(0);
+        Session restored = entry.getSession();
+        assertThat(entry.getVersion()).isEqualTo(42);
+        assertThat(entry.getRemainingNanos()).isEqualTo(90_000_000_000L);
+        assertThat(entry.getResumeTokens()).containsExactly(Map.entry("player", "token"));
+        assertThat(restored.getId()).isEqualTo("007-session");
+        assertThat(restored.getEntryCode()).isEqualTo("123007");
+        assertThat(restored.getCreatedAt()).isEqualTo(session.getCreatedAt());
+        assertThat(restored.getPlayers()).isEqualTo(players);
+        assertThat(restored.getOrderedPlayers()).extracting(PlayerDto::getUserId).containsExactly("player", "president");
+        assertThat(restored.getCurrentPlayerIndex()).isEqualTo(1);
+        assertThat(restored.isClockWise()).isFalse();
+        assertThat(restored.getFirstCoinState()).isEqualTo(CoinState.head);
+        assertThat(restored.getSecondCoinState()).isNull();
+        assertThat(restored.getGameEndTime()).isEqualTo(session.getGameEndTime());
+        assertThat(restored.getIsLeeSoonSinByTimeExpired()).isFalse();
+    }
+
+    @Test
+    void rejectsForeignOrTruncatedData() {
+        byte[] data = SessionArchive.encode(List.of(new SessionArchive.Entry(new Session(), 1, 0, Map.of())));
+
+        assertThat(SessionArchive.decode(data)).hasSize(1);
+        assertThatThrownBy(() -> SessionArchive.decode("not an archive".getBytes()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SessionArchive.decode(Arrays.copyOf(data, data.length - 3)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,126 @@
+package com.eos.lss.service;
+
+import com.eos.lss.dto.GameStateDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class SessionExpiryServiceTests {
+
+    // 대기실 60초, 순서 등록 30초, 게임 진행 120초, 이순신 30초, 버킷 10초
+    private static final long WAITING_TTL_MILLIS = 60_000;
+    private static final long PLAYING_TTL_MILLIS = 120_000;
+
+    private final VirtualGameClock clock = new VirtualGameClock(LocalDateTime.of(2024, 1, 1, 12, 0));
+    private SessionService sessionService;
+    private SessionExpiryService expiryService;
+
+    @BeforeEach
+    void setUp() {
+        sessionService = mock(SessionService.class);
+        expiryService = new SessionExpiryService(sessionService, clock, 60, 30, 120, 30, 10);
+    }
+
+    @Test
+    void idleSessionIsEvictedAtItsDeadlineAndNotBefore() {
+        // 버킷 경계와 어긋난 만료 시각 (3초 + 60초)
+        clock.advance(Duration.ofSeconds(3));
+        expiryService.touch("s1", GameStateDto.STATE_WAITING_ROOM);
+        long deadline = clock.currentTimeMillis() + WAITING_TTL_MILLIS;
+        assertThat(expiryService.getDeadline("s1")).isEqualTo(deadline);
+
+        clock.advance(Duration.ofSeconds(57));
+        expiryService.sweep();
+        clock.advance(Duration.ofMillis(2_999));
+        expiryService.sweep();
+        verify(sessionService, never()).expireSession(anyString());
+        assertThat(expiryService.getDeadline("s1")).isEqualTo(deadline);
+
+        clock.advance(Duration.ofMillis(1));
+        expiryService.sweep();
+        verify(sessionService, times(1)).expireSession("s1");
+        assertThat(expiryService.getDeadline("s1")).isNull();
+        assertThat(expiryService.getMetrics().get("trackedSessions")).isEqualTo(0);
+        assertThat(expiryService.getMetrics().get("pendingBuckets")).isEqualTo(0);
+
+        // 한 번 정리된 세션은 다시 정리하지 않음
+        clock.advance(Duration.ofMinutes(5));
+        expiryService.sweep();
+        verify(sessionService, times(1)).expireSession("s1");
+    }
+
+    @Test
+    void touchMovesTheSessionToALaterBucket() {
+        expiryService.touch("s1", GameStateDto.STATE_WAITING_ROOM);
+        clock.advance(Duration.ofSeconds(50));
+        expiryService.touch("s1", GameStateDto.STATE_WAITING_ROOM);
+        long renewed = clock.currentTimeMillis() + WAITING_TTL_MILLIS;
+        assertThat(expiryService.getDeadline("s1")).isEqualTo(renewed);
+        // 예전 버킷과 새 버킷 모두 남아 있음 (예전 버킷은 정리 때 건너뜀)
+        assertThat(expiryService.getMetrics().get("pendingBuckets")).isEqualTo(2);
+
+        // 처음 만료 시각이 지나도 남아 있음
+        clock.advance(Duration.ofSeconds(20));
+        expiryService.sweep();
+        verify(sessionService, never()).expireSession(anyString());
+        assertThat(expiryService.getMetrics().get("pendingBuckets")).isEqualTo(1);
+
+        clock.advance(Duration.ofSeconds(40));
+        expiryService.sweep();
+        verify(sessionService, times(1)).expireSession("s1");
+    }
+
+    @Test
+    void touchWithinTheSameBucketDoesNotAddABucket() {
+        expiryService.touch("s1", GameStateDto.STATE_WAITING_ROOM);
+        clock.advance(Duration.ofSeconds(1));
+        expiryService.touch("s1", GameStateDto.STATE_WAITING_ROOM);
+
+        assertThat(expiryService.getMetrics().get("pendingBuckets")).isEqualTo(1);
+        assertThat(expiryService.getDeadline("s1")).isEqualTo(clock.currentTimeMillis() + WAITING_TTL_MILLIS);
+    }
+
+    @Test
+    void touchedSessionSurvivesTheSweepThatEvictsItsIdleNeighbour() {
+        expiryService.touch("idle", GameStateDto.STATE_WAITING_ROOM);
+        expiryService.touch("active", GameStateDto.STATE_WAITING_ROOM);
+
+        // 게임이 시작되면 게임 진행 TTL로 다시 계산
+        clock.advance(Duration.ofSeconds(30));
+        expiryService.touch("active", GameStateDto.STATE_GAME_PLAYING);
+        long activeDeadline = clock.currentTimeMillis() + PLAYING_TTL_MILLIS;
+
+        clock.advance(Duration.ofSeconds(30));
+        expiryService.sweep();
+
+        verify(sessionService).expireSession("idle");
+        verify(sessionService, never()).expireSession("active");
+        assertThat(expiryService.getDeadline("active")).isEqualTo(activeDeadline);
+        assertThat(expiryService.getMetrics().get("trackedSessions")).isEqualTo(1);
+
+        clock.advance(Duration.ofSeconds(120));
+        expiryService.sweep();
+        verify(sessionService).expireSession("active");
+    }
+
+    @Test
+    void endedSessionIsNotEvicted() {
+        expiryService.touch("s1", GameStateDto.STATE_WAITING_ROOM);
+        expiryService.untrack("s1");
+
+        clock.advance(Duration.ofMinutes(2));
+        expiryService.sweep();
+
+        verify(sessionService, never()).expireSession(anyString());
+        assertThat(expiryService.getMetrics().get("pendingBuckets")).isEqualTo(0);
+    }
+}
@@ -0,0 +1,96 @@
+package com.eos.lss.service;
+
+import com.eos.lss.dto.GameStateDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SessionIndexTests {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Test
+    void stateCountsFollowUpdatesAndRemovals() {
+        SessionIndex index = new SessionIndex();
+        index.update("a", GameStateDto.STATE_WAITING_ROOM, BASE, null, 1);
+        index.update("b", GameStateDto.STATE_WAITING_ROOM, BASE, null, 2);
+        index.update("a", GameStateDto.STATE_GAME_PLAYING, BASE, BASE.plusMinutes(10), 1);
+
+        assertThat(index.countByState(GameStateDto.STATE_WAITING_ROOM)).isEqualTo(1);
+        assertThat(index.countByState(GameStateDto.STATE_GAME_PLAYING)).isEqualTo(1);
+
+        index.remove("a");
+        index.remove("a");
+
+        assertThat(index.countByState(GameStateDto.STATE_GAME_PLAYING)).isZero();
+        assertThat(index.findGameEndingBefore(BASE.plusHours(1), 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void orderedQueriesReturnOldestFirst() {
+        SessionIndex index = new SessionIndex();
+        index.update("new", GameStateDto.STATE_WAITING_ROOM, BASE.plusMinutes(30), null, 1);
+        index.update("old", GameStateDto.STATE_WAITING_ROOM, BASE, null, 1);
+        index.update("mid", GameStateDto.STATE_GAME_PLAYING, BASE.plusMinutes(10), BASE.plusMinutes(20), 3);
+
+        assertThat(index.findCreatedBefore(BASE.plusMinutes(30), 10))
+                .extracting(SessionIndex.Entry::getSessionId)
+                .containsExactly("old", "mid");
+        assertThat(index.findCreatedBefore(BASE.plusMinutes(30), 1))
+                .extracting(SessionIndex.Entry::getSessionId)
+                .containsExactly("old");
+        assertThat(index.findGameEndingBefore(BASE.plusMinutes(21), 10))
+                .extracting(SessionIndex.Entry::getSessionId)
+                .containsExactly("mid");
+    }
+
+    @Test
+    void playerCountSetsMoveWithTheRoster() {
+        SessionIndex index = new SessionIndex();
+        index.update("a", GameStateDto.STATE_WAITING_ROOM, BASE, null, 1);
+        index.update("a", GameStateDto.STATE_WAITING_ROOM, BASE, null, 2);
+
+        assertThat(index.findByPlayerCount(1)).isEmpty();
+        assertThat(index.findByPlayerCount(2)).containsExactly("a");
+    }
+
+    @Test
+    void pagesContinueAfterTheCursor() {
+        SessionIndex index = new SessionIndex();
+        for (int i = 0; i < 5; i++) {
+            index.update("s" + i, GameStateDto.STATE_WAITING_ROOM, BASE.plusMinutes(i), null, i % 2 + 1);
+        }
+
+        SessionIndex.Page first = index.pageByCreatedAt(null, Long.MIN_VALUE, Long.MAX_VALUE, false, 2, 100, entry -> true);
+        assertThat(first.getEntries()).extracting(SessionIndex.Entry::getSessionId).containsExactly("s0", "s1");
+        assertThat(first.getNext()).isEqualTo(first.getEntries().get(1).createdAtKey());
+
+        SessionIndex.Page second = index.pageByCreatedAt(first.getNext(), Long.MIN_VALUE, Long.MAX_VALUE, false, 2, 100, entry -> entry.getPlayerCount() == 1);
+        assertThat(second.getEntries()).extracting(SessionIndex.Entry::getSessionId).containsExactly("s2", "s4");
+        assertThat(second.getNext()).isNull();
+
+        SessionIndex.Page newest = index.pageByCreatedAt(null, Long.MIN_VALUE, Long.MAX_VALUE, true, 1, 100, entry -> true);
+        assertThat(newest.getEntries()).extracting(SessionIndex.Entry::getSessionId).containsExactly("s4");
+    }
+
+    @Test
+    void scanBudgetAndCreatedRangeBoundEachPage() {
+        SessionIndex index = new SessionIndex();
+        for (int i = 0; i < 10; i++) {
+            index.update("s" + i, GameStateDto.STATE_WAITING_ROOM, BASE.plusMinutes(i), null, 1);
+        }
+        long from = index.get("s3").getCreatedAtMillis();
+        long to = index.get("s6").getCreatedAtMillis();
+
+        SessionIndex.Page ranged = index.pageByCreatedAt(null, from, to, false, 10, 100, entry -> true);
+        assertThat(ranged.getEntries()).extracting(SessionIndex.Entry::getSessionId).containsExactly("s3", "s4", "s5", "s6");
+
+        // 조건에 맞는 세션이 없어도 maxScan개만 확인하고 커서를 돌려줌
+        SessionIndex.Page limited = index.pageByCreatedAt(null, Long.MIN_VALUE, Long.MAX_VALUE, false, 10, 3, entry -> false);
+        assertThat(limited.getEntries()).isEmpty();
+        assertThat(limited.getNext().getSessionId()).isEqualTo("s2");
+    }
+}
@@ -0,0 +1,274 @@
+package com.eos.lss.service;
+
+import com.eos.lss.config.RateLimiter;
+import com.eos.lss.websocket.CommandDeduplicator;
+import com.eos.lss.websocket.FanoutExecutor;
+import com.eos.lss.websocket.HeartbeatMonitor;
+import com.eos.lss.websocket.SimpleWebSocketHandler;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게임을 대량으로 생성/종료한 뒤 세션 단위 자원이 모두 해제되었는지 확인하는 소크 테스트
+ * 기본 게임 수는 빠르게 끝나도록 작게 잡혀 있으며, -Dlss.soak.games=1000000 으로 전체 소크를 실행한다.
+ */
+// 방장 연결 끊김으로 끝나는 게임도 바로 정리되도록 재접속 유예는 끄고, 응답을 바로 읽을 수 있도록 전송은 호출 스레드에서
+@SpringBootTest(properties = {"logging.level.com.eos.lss=ERROR", "lss.resume.grace-seconds=0", "lss.fanout.workers=0"})
+class SessionLifecycleSoakTests {
+
+    private static final int GAMES = Integer.getInteger("lss.soak.games", 20000);
+    private static final int WARM_UP_GAMES = 1000;
+    // GC 이후 힙 사용량 허용 증가폭
+    private static final long HEAP_GROWTH_LIMIT_BYTES = 64L * 1024 * 1024;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong connectionIds = new AtomicLong();
+
+    @Autowired
+    private SimpleWebSocketHandler handler;
+
+    @Autowired
+    private SessionService sessionService;
+
+    @Autowired
+    private GameTimerService gameTimerService;
+
+    @Autowired
+    private SessionExpiryService sessionExpiryService;
+
+    @Autowired
+    private SessionLifecycleRegistry sessionLifecycleRegistry;
+
+    @Autowired
+    private SessionIndex sessionIndex;
+
+    @Autowired
+    private TurnHistoryService turnHistoryService;
+
+    @Autowired
+    private SessionMemoryBudget sessionMemoryBudget;
+
+    @Autowired
+    private RateLimiter rateLimiter;
+
+    @Autowired
+    private HeartbeatMonitor heartbeatMonitor;
+
+    @Autowired
+    private ReconnectGraceService reconnectGraceService;
+
+    @Autowired
+    private FanoutExecutor fanoutExecutor;
+
+    @Autowired
+    private CommandDeduplicator commandDeduplicator;
+
+    @Test
+    void everyGameReleasesAllResources() throws Exception {
+        for (int i = 0; i < WARM_UP_GAMES; i++) {
+            playGame("warm-" + i, i % 2 == 0);
+        }
+        long baseline = usedHeapAfterGc();
+
+        for (int i = 0; i < GAMES; i++) {
+            playGame("game-" + i, i % 2 == 0);
+        }
+
+        assertThat(mapSize(handler, "connections")).isZero();
+        assertThat(mapSize(handler, "userConnections")).isZero();
+        assertThat(mapSize(handler, "gameSessionRecipients")).isZero();
+        assertThat(mapSize(sessionService, "sessions")).isZero();
+        assertThat(mapSize(sessionService, "entryCodeToSessionId")).isZero();
+        assertThat(gameTimerService.getActiveTimerCount()).isZero();
+        assertThat(sessionExpiryService.getMetrics().get("trackedSessions")).isEqualTo(0);
+        assertThat(sessionLifecycleRegistry.getLiveSessionCount()).isZero();
+        assertThat(sessionIndex.size()).isZero();
+        assertThat(sessionIndex.getStateCounts().values()).allMatch(count -> count == 0);
+        assertThat(turnHistoryService.getActiveCount()).isZero();
+        assertThat(sessionMemoryBudget.getUsedBytes()).isZero();
+        // Rate Limit 기록은 윈도우가 끝난 뒤 정기 정리에서 사라져야 함
+        rateLimiter.cleanup(LocalDateTime.now().plusMinutes(1));
+        assertThat(rateLimiter.getTrackedUserCount()).isZero();
+        // 연결 단위 기록은 연결 종료와 함께 사라져야 함
+        assertThat(heartbeatMonitor.getMetrics().get("trackedConnections")).isEqualTo(0);
+        assertThat(heartbeatMonitor.getMetrics().get("awaitingPong")).isEqualTo(0);
+        assertThat(reconnectGraceService.getMetrics().get("activeTokens")).isEqualTo(0);
+        assertThat(reconnectGraceService.getMetrics().get("awayPlayers")).isEqualTo(0);
+        assertThat(mapSize(reconnectGraceService, "usersBySession")).isZero();
+        assertThat(fanoutExecutor.getMetrics().get("pendingTasks")).isEqualTo(0);
+        assertThat(commandDeduplicator.getMetrics().get("trackedUsers")).isEqualTo(0);
+
+        long growth = usedHeapAfterGc() - baseline;
+        assertThat(growth).isLessThan(HEAP_GROWTH_LIMIT_BYTES);
+    }
+
+    // 방 생성 -> 입장 -> 순서 등록 -> 게임 시작(타이머 등록) -> 삭제 또는 방장 연결 끊김 -> 모든 연결 종료
+    private void playGame(String prefix, boolean deleteByPresident) throws Exception {
+        String presidentId = prefix + "-p";
+        String playerId = prefix + "-q";
+        FakeWebSocketSession president = connect();
+        FakeWebSocketSession player = connect();
+
+        send(president, Map.of("type", "create-session", "userId", presidentId, "name", "방장"));
+        JsonNode created = objectMapper.readTree(president.lastMessage);
+        String sessionId = created.get("sessionId").asText();
+        String entryCode = created.get("entryCode").asText();
+
+        send(player, Map.of("type", "join-session", "entryCode", entryCode, "userId", playerId, "name", "플레이어"));
+        send(president, Map.of("type", "start-ordering", "sessionId", sessionId, "userId", presidentId));
+        send(president, Map.of("type", "register-order", "sessionId", sessionId, "userId", presidentId));
+        send(player, Map.of("type", "register-order", "sessionId", sessionId, "userId", playerId));
+        send(president, Map.of("type", "start-playing", "sessionId", sessionId, "userId", presidentId));
+
+        if (deleteByPresident) {
+            send(president, Map.of("type", "delete-session", "sessionId", sessionId, "userId", presidentId));
+        }
+        close(president);
+        close(player);
+    }
+
+    private FakeWebSocketSession connect() throws Exception {
+        FakeWebSocketSession session = new FakeWebSocketSession("soak-" + connectionIds.incrementAndGet());
+        handler.afterConnectionEstablished(session);
+        return session;
+    }
+
+    private void send(FakeWebSocketSession session, Map<String, String> message) throws Exception {
+        handler.handleMessage(session, new TextMessage(objectMapper.writeValueAsString(message)));
+    }
+
+    private void close(FakeWebSocketSession session) throws Exception {
+        session.open = false;
+        handler.afterConnectionClosed(session, CloseStatus.NORMAL);
+    }
+
+    private int mapSize(Object target, String field) {
+        return ((Map<?, ?>) ReflectionTestUtils.getField(target, field)).size();
+    }
+
+    private long usedHeapAfterGc() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    // 마지막으로 받은 메시지만 보관하는 가벼운 WebSocket 세션
+    private static class FakeWebSocketSession implements WebSocketSession {
+        private final String id;
+        private final Map<String, Object> attributes = new HashMap<>();
+        private volatile boolean open = true;
+        private volatile String lastMessage;
+
+        FakeWebSocketSession(String id) {
+            this.id = id;
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public URI getUri() {
+            return null;
+        }
+
+        @Override
+        public HttpHeaders getHandshakeHeaders() {
+            return HttpHeaders.EMPTY;
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public Principal getPrincipal() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getLocalAddress() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getRemoteAddress() {
+            return null;
+        }
+
+        @Override
+        public String getAcceptedProtocol() {
+            return null;
+        }
+
+        @Override
+        public void setTextMessageSizeLimit(int messageSizeLimit) {
+        }
+
+        @Override
+        public int getTextMessageSizeLimit() {
+            return 0;
+        }
+
+        @Override
+        public void setBinaryMessageSizeLimit(int messageSizeLimit) {
+        }
+
+        @Override
+        public int getBinaryMessageSizeLimit() {
+            return 0;
+        }
+
+        @Override
+        public List<WebSocketExtension> getExtensions() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) {
+            lastMessage = (String) message.getPayload();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+
+        @Override
+        public void close(CloseStatus status) {
+            open = false;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.eos.lss.service;
+
+import com.eos.lss.cluster.SessionRouter;
+import com.eos.lss.dto.PlayerDto;
+import com.eos.lss.exception.CapacityExceededException;
+import com.eos.lss.websocket.SimpleWebSocketHandler;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class SessionMemoryBudgetTests {
+
+    private final VirtualGameClock clock = new VirtualGameClock(LocalDateTime.of(2024, 1, 1, 12, 0));
+
+    private SessionService sessionServiceWith(SessionMemoryBudget budget) {
+        return new SessionService(mock(SimpleWebSocketHandler.class), mock(GameTimerService.class),
+                new SessionRouter("node-1", ""), mock(SessionExpiryService.class), mock(SessionLifecycleRegistry.class),
+                new SessionIndex(), new TurnHistoryService(clock, 16, 0), mock(SessionStateCache.class), budget, clock);
+    }
+
+    @Test
+    void createAndJoinAreRefusedOnceBudgetIsReachedAndAllowedAgainAfterRelease() {
+        // 방 하나에 세 명까지 들어갈 예산
+        long budgetBytes = SessionFootprint.ofNewSession(List.of(new PlayerDto("p0", "p0", null)))
+                + 2 * SessionFootprint.ofJoin("p1", "p1") + 1024;
+        SessionMemoryBudget budget = new SessionMemoryBudget(budgetBytes, 0);
+        SessionService sessionService = sessionServiceWith(budget);
+
+        String sessionId = sessionService.createSession("p0", "p0");
+        String entryCode = sessionService.findSession(sessionId).getEntryCode();
+        sessionService.joinSession(entryCode, "p1", "p1");
+        sessionService.joinSession(entryCode, "p2", "p2");
+
+        assertThatThrownBy(() -> sessionService.joinSession(entryCode, "p3", "p3"))
+                .isInstanceOf(CapacityExceededException.class);
+        assertThatThrownBy(() -> sessionService.createSession("other", "other"))
+                .isInstanceOf(CapacityExceededException.class);
+        assertThat(sessionService.findSession(sessionId).getPlayers()).hasSize(3);
+        assertThat(budget.getUsedBytes()).isLessThanOrEqualTo(budgetBytes)
+                .isEqualTo(SessionFootprint.of(sessionService.findSession(sessionId)).getTotalBytes());
+
+        sessionService.deleteSession(sessionId, "p0");
+        assertThat(budget.getUsedBytes()).isZero();
+        assertThat(sessionService.createSession("other", "other")).isNotNull();
+
+        Map<String, Object> metrics = budget.getMetrics();
+        assertThat(metrics.get("rejectedJoins")).isEqualTo(1L);
+        assertThat(metrics.get("rejectedSessions")).isEqualTo(1L);
+    }
+
+    @Test
+    void footprintGrowsWithRosterAndExposesDistribution() {
+        SessionMemoryBudget budget = new SessionMemoryBudget(0, 0);
+        SessionService sessionService = sessionServiceWith(budget);
+
+        String small = sessionService.createSession("a0", "a0");
+        String large = sessionService.createSession("b0", "b0");
+        String entryCode = sessionService.findSession(large).getEntryCode();
+        for (int i = 1; i < 8; i++) {
+            sessionService.joinSession(entryCode, "b" + i, "플레이어" + i);
+        }
+
+        SessionFootprint smallFootprint = SessionFootprint.of(sessionService.findSession(small));
+        SessionFootprint largeFootprint = SessionFootprint.of(sessionService.findSession(large));
+        assertThat(largeFootprint.getConnectionBytes()).isEqualTo(8L * SessionFootprint.CONNECTION_BYTES);
+        assertThat(largeFootprint.getRosterBytes()).isGreaterThan(smallFootprint.getRosterBytes());
+        assertThat(smallFootprint.getTimerBytes()).isZero();
+
+        Map<String, Object> metrics = budget.getMetrics();
+        assertThat(metrics.get("budgetBytes")).isEqualTo(0L);
+        assertThat(metrics.get("sessions")).isEqualTo(2);
+        assertThat(metrics.get("usedBytes")).isEqualTo(smallFootprint.getTotalBytes() + largeFootprint.getTotalBytes());
+        assertThat(metrics.get("footprintMaxBytes")).isEqualTo(largeFootprint.getTotalBytes());
+        @SuppressWarnings("unchecked")
+        Map<String, Integer> buckets = (Map<String, Integer>) metrics.get("footprintBuckets");
+        assertThat(buckets.values().stream().mapToInt(Integer::intValue).sum()).isEqualTo(2);
+        assertThat(buckets.get("16384")).isEqualTo(1);
+    }
+}
@@ -0,0 +1,267 @@
+package com.eos.lss.service;
+
+import com.eos.lss.cluster.SessionRouter;
+import com.eos.lss.dto.GameActionDto;
+import com.eos.lss.dto.GameStateDto;
+import com.eos.lss.dto.PlayerDto;
+import com.eos.lss.entity.SessionSnapshot;
+import com.eos.lss.exception.InvalidGameStateException;
+import com.eos.lss.exception.NodeDrainingException;
+import com.eos.lss.websocket.SimpleWebSocketHandler;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class SessionServiceTests {
+
+    private final VirtualGameClock clock = new VirtualGameClock(LocalDateTime.of(2024, 1, 1, 12, 0));
+    private final SimpleWebSocketHandler webSocketHandler = mock(SimpleWebSocketHandler.class);
+    private final TurnHistoryService turnHistoryService = new TurnHistoryService(clock, 16, 0);
+    private final SessionService sessionService = new SessionService(webSocketHandler,
+            mock(GameTimerService.class), new SessionRouter("node-1", ""), mock(SessionExpiryService.class),
+            mock(SessionLifecycleRegistry.class), new SessionIndex(), turnHistoryService,
+            mock(SessionStateCache.class), new SessionMemoryBudget(0, 0), clock);
+
+    @Test
+    void concurrentJoinsAreNotLost() throws Exception {
+        String sessionId = sessionService.createSession("president", "방장");
+        String entryCode = sessionService.findSession(sessionId).getEntryCode();
+
+        int joiners = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < joiners; i++) {
+            String userId = "user-" + i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                return sessionService.joinSession(entryCode, userId, userId);
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        SessionSnapshot session = sessionService.findSession(sessionId);
+        assertThat(session.getPlayers()).hasSize(joiners + 1);
+        assertThat(session.getVersion()).isEqualTo(1 + joiners);
+    }
+
+    @Test
+    void indexAndStateCacheEndOnTheNewestVersionUnderContention() throws Exception {
+        // 보조 인덱스 반영을 늦춰 교체(CAS)와 반영 사이에 다른 스레드가 끼어들게 함
+        SessionIndex slowIndex = new SessionIndex() {
+            @Override
+            public void update(String sessionId, String gameState, LocalDateTime createdAt, LocalDateTime gameEndTime, int playerCount) {
+                try {
+                    Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.update(sessionId, gameState, createdAt, gameEndTime, playerCount);
+            }
+        };
+        AtomicLong lastPublishedVersion = new AtomicLong();
+        SessionStateCache stateCache = mock(SessionStateCache.class);
+        doAnswer(invocation -> {
+            lastPublishedVersion.set(invocation.getArgument(1));
+            return null;
+        }).when(stateCache).onPublished(anyString(), anyLong());
+        SessionService contended = new SessionService(webSocketHandler,
+                mock(GameTimerService.class), new SessionRouter("node-1", ""), mock(SessionExpiryService.class),
+                mock(SessionLifecycleRegistry.class), slowIndex, turnHistoryService,
+                stateCache, new SessionMemoryBudget(0, 0), clock);
+
+        for (int round = 0; round < 20; round++) {
+            String sessionId = contended.createSession("president-" + round, "방장");
+            String entryCode = contended.findSession(sessionId).getEntryCode();
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                String userId = "user-" + round + "-" + i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return contended.joinSession(entryCode, userId, userId);
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+            executor.shutdown();
+
+            SessionSnapshot session = contended.findSession(sessionId);
+            assertThat(slowIndex.get(sessionId).getPlayerCount()).isEqualTo(session.getPlayers().size()).isEqualTo(9);
+            assertThat(lastPublishedVersion.get()).isEqualTo(session.getVersion());
+        }
+    }
+
+    @Test
+    void snapshotsStayUnchangedAfterLaterUpdates() {
+        String sessionId = sessionService.createSession("president", "방장");
+        sessionService.joinSession(sessionService.findSession(sessionId).getEntryCode(), "player", "플레이어");
+        sessionService.startGame(sessionId);
+        sessionService.registerOrder(sessionId, "president");
+        sessionService.registerOrder(sessionId, "player");
+        sessionService.startPlaying(sessionId);
+
+        SessionSnapshot before = sessionService.findSession(sessionId);
+        sessionService.setCoinState(sessionId, "first", "tail");
+        sessionService.setCoinState(sessionId, "second", "tail");
+        sessionService.nextTurn(sessionId);
+
+        SessionSnapshot after = sessionService.findSession(sessionId);
+        assertThat(before.getFirstCoinState()).isNull();
+        assertThat(before.getCurrentPlayerIndex()).isZero();
+        assertThat(before.isClockWise()).isTrue();
+        assertThat(after.getVersion()).isEqualTo(before.getVersion() + 3);
+        assertThat(after.isClockWise()).isFalse();
+        assertThat(after.getFirstCoinState()).isNull();
+        assertThat(sessionService.getGameState(sessionId, "player").getVersion()).isEqualTo(after.getVersion());
+        assertThatThrownBy(() -> after.getPlayers().clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void unchangedRequestsKeepTheVersion() {
+        String sessionId = sessionService.createSession("president", "방장");
+        sessionService.joinSession(sessionService.findSession(sessionId).getEntryCode(), "player", "플레이어");
+        sessionService.startGame(sessionId);
+        sessionService.registerOrder(sessionId, "president");
+        long version = sessionService.findSession(sessionId).getVersion();
+
+        // 이미 등록한 플레이어의 재등록, 마감 전 시간 확인은 새 버전을 만들지 않음
+        sessionService.registerOrder(sessionId, "president");
+        sessionService.checkGameEndTime(sessionId);
+
+        SessionSnapshot session = sessionService.findSession(sessionId);
+        assertThat(session.getVersion()).isEqualTo(version);
+        assertThat(sessionService.determineGameState(session)).isEqualTo(GameStateDto.STATE_ORDER_REGISTER);
+    }
+
+    @Test
+    void batchIsOneVersionAndOneFramePerPlayer() {
+        String sessionId = playingSession();
+        long version = sessionService.findSession(sessionId).getVersion();
+        long recorded = recordedTurns(sessionId);
+        clearInvocations(webSocketHandler);
+
+        sessionService.applyBatch(sessionId, List.of(
+                new GameActionDto(GameActionDto.TYPE_COIN_ACTION, "first", "tail"),
+                new GameActionDto(GameActionDto.TYPE_COIN_ACTION, "second", "tail"),
+                new GameActionDto(GameActionDto.TYPE_NEXT_TURN, null, null)));
+
+        SessionSnapshot session = sessionService.findSession(sessionId);
+        assertThat(session.getVersion()).isEqualTo(version + 1);
+        assertThat(session.isClockWise()).isFalse();
+        assertThat(session.getCurrentPlayerIndex()).isEqualTo(1);
+        assertThat(session.getFirstCoinState()).isNull();
+        assertThat(recordedTurns(sessionId)).isEqualTo(recorded + 1);
+        verify(webSocketHandler, times(2)).sendToUserInGameSession(eq(sessionId), anyString(), anyString());
+    }
+
+    @Test
+    void rejectedBatchesChangeNothing() {
+        String sessionId = playingSession();
+        long version = sessionService.findSession(sessionId).getVersion();
+
+        assertThatThrownBy(() -> sessionService.applyBatch(sessionId, List.of(
+                new GameActionDto(GameActionDto.TYPE_COIN_ACTION, "first", "head"),
+                new GameActionDto("delete-session", null, null))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> sessionService.applyBatch(sessionId, List.of(
+                new GameActionDto(GameActionDto.TYPE_COIN_ACTION, "second", "edge"))))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // 게임 진행 중이 아닌 방에는 적용하지 않음
+        String waitingId = sessionService.createSession("other", "다른 방장");
+        assertThatThrownBy(() -> sessionService.applyBatch(waitingId, List.of(
+                new GameActionDto(GameActionDto.TYPE_NEXT_TURN, null, null))))
+                .isInstanceOf(InvalidGameStateException.class);
+
+        SessionSnapshot session = sessionService.findSession(sessionId);
+        assertThat(session.getVersion()).isEqualTo(version);
+        assertThat(session.getFirstCoinState()).isNull();
+        assertThat(sessionService.findSession(waitingId).getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    void drainedSessionsResumeOnAnotherNodeWithTheSameVersionAndRemainingTime() {
+        String sessionId = playingSession();
+        clock.advance(Duration.ofSeconds(30));
+        sessionService.startDraining();
+        assertThatThrownBy(() -> sessionService.createSession("late", "늦은 방장")).isInstanceOf(NodeDrainingException.class);
+
+        SessionSnapshot last = sessionService.detachSession(sessionId);
+        long remainingNanos = last.getGameEndDeadlineNanos() - clock.nanoTime();
+        byte[] archive = SessionArchive.encode(List.of(
+                new SessionArchive.Entry(last.toDraft(), last.getVersion(), remainingNanos, Map.of("player", "token"))));
+        assertThat(sessionService.findSession(sessionId)).isNull();
+        assertThat(sessionService.findSessionIdByEntryCode(last.getEntryCode())).isNull();
+
+        // 시계 기준이 다른 노드로 이전
+        VirtualGameClock peerClock = new VirtualGameClock(LocalDateTime.of(2024, 1, 2, 9, 0));
+        peerClock.advance(Duration.ofMinutes(5));
+        GameTimerService peerTimer = mock(GameTimerService.class);
+        SessionService peer = new SessionService(mock(SimpleWebSocketHandler.class), peerTimer,
+                new SessionRouter("node-2", ""), mock(SessionExpiryService.class), mock(SessionLifecycleRegistry.class),
+                new SessionIndex(), new TurnHistoryService(peerClock, 16, 0), mock(SessionStateCache.class),
+                new SessionMemoryBudget(0, 0), peerClock);
+        SessionArchive.Entry entry = SessionArchive.decode(archive).get(0);
+        assertThat(entry.getResumeTokens()).containsEntry("player", "token");
+        assertThat(peer.importSession(entry.getSession(), entry.getVersion(), entry.getRemainingNanos())).isTrue();
+
+        SessionSnapshot imported = peer.findSession(sessionId);
+        assertThat(imported.getVersion()).isEqualTo(last.getVersion());
+        assertThat(imported.getGameState()).isEqualTo(GameStateDto.STATE_ON_GOING);
+        assertThat(imported.getOrderedPlayers()).extracting(PlayerDto::getUserId).containsExactly("president", "player");
+        assertThat(imported.getGameEndDeadlineNanos() - peerClock.nanoTime()).isEqualTo(remainingNanos);
+        assertThat(imported.getGameEndTime()).isEqualTo(peerClock.now().plusNanos(remainingNanos));
+        assertThat(peer.findSessionIdByEntryCode(last.getEntryCode())).isEqualTo(sessionId);
+        verify(peerTimer).scheduleGameEnd(sessionId, imported.getGameEndDeadlineNanos());
+
+        // 같은 데이터를 다시 받으면 건너뜀
+        SessionArchive.Entry again = SessionArchive.decode(archive).get(0);
+        assertThat(peer.importSession(again.getSession(), again.getVersion(), again.getRemainingNanos())).isFalse();
+        assertThat(peer.findSession(sessionId).getVersion()).isEqualTo(last.getVersion());
+    }
+
+    private String playingSession() {
+        String sessionId = sessionService.createSession("president", "방장");
+        sessionService.joinSession(sessionService.findSession(sessionId).getEntryCode(), "player", "플레이어");
+        sessionService.startGame(sessionId);
+        sessionService.registerOrder(sessionId, "president");
+        sessionService.registerOrder(sessionId, "player");
+        sessionService.startPlaying(sessionId);
+        return sessionId;
+    }
+
+    private long recordedTurns(String sessionId) {
+        TurnHistory history = turnHistoryService.find(sessionId);
+        return history != null ? history.getRecordedCount() : 0;
+    }
+}
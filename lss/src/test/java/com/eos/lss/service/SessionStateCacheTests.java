@@ -0,0 +1,85 @@
+package com.eos.lss.service;
+
+import com.eos.lss.dto.GameStateDto;
+import com.eos.lss.entity.Session;
+import com.eos.lss.entity.SessionSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SessionStateCacheTests {
+
+    private final SessionService sessionService = mock(SessionService.class);
+    private final SessionStateCache cache = new SessionStateCache(sessionService);
+
+    @Test
+    void bodyIsEncodedOncePerVersion() {
+        publish("s1", 3);
+
+        SessionStateCache.Encoded first = cache.get("s1");
+        SessionStateCache.Encoded second = cache.get("s1");
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.getETag()).isEqualTo("\"3\"");
+        assertThat(new String(first.getBody(), StandardCharsets.UTF_8)).endsWith(",\"version\":3}");
+        verify(sessionService, times(1)).getGameState(eq("s1"), any());
+
+        publish("s1", 4);
+        assertThat(cache.get("s1").getVersion()).isEqualTo(4);
+    }
+
+    @Test
+    void waitersWakeOnNextVersionOnly() {
+        publish("s1", 3);
+        List<Long> woken = new ArrayList<>();
+        cache.await("s1", 3, encoded -> woken.add(encoded.getVersion()));
+
+        cache.onPublished("s1", 3);
+        assertThat(woken).isEmpty();
+
+        publish("s1", 4);
+        cache.onPublished("s1", 4);
+        cache.onPublished("s1", 5);
+
+        assertThat(woken).containsExactly(4L);
+        assertThat(cache.getWaiterCount()).isZero();
+    }
+
+    @Test
+    void staleWaitersAreAnsweredImmediatelyAndEndedSessionsWakeWithNull() {
+        publish("s1", 7);
+        List<Object> results = new ArrayList<>();
+        cache.await("s1", 5, encoded -> results.add(encoded.getVersion()));
+
+        Runnable cancelled = cache.await("s1", 7, results::add);
+        cancelled.run();
+        cache.await("s1", 7, results::add);
+        cache.onSessionEnded(new SessionResources("s1"), SessionLifecycleRegistry.REASON_DELETED);
+
+        assertThat(results).containsExactly(7L, null);
+        assertThat(cache.getWaiterCount()).isZero();
+    }
+
+    private void publish(String sessionId, long version) {
+        Session draft = new Session();
+        draft.setId(sessionId);
+        draft.setGameState(GameStateDto.STATE_WAITING_ROOM);
+        when(sessionService.findSession(sessionId)).thenReturn(new SessionSnapshot(draft, version));
+
+        GameStateDto state = new GameStateDto();
+        state.setSessionId(sessionId);
+        state.setGameState(GameStateDto.STATE_WAITING_ROOM);
+        state.setVersion(version);
+        when(sessionService.getGameState(eq(sessionId), any())).thenReturn(state);
+    }
+}
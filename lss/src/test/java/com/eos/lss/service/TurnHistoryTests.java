@@ -0,0 +1,106 @@
+package com.eos.lss.service;
+
+import com.eos.lss.entity.CoinState;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TurnHistoryTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void ringBufferKeepsLatestTurnsInOrder() throws Exception {
+        TurnHistory history = new TurnHistory("s1", 3);
+        for (int i = 0; i < 5; i++) {
+            history.record(1000 + i, TurnHistory.KIND_TURN, i, CoinState.head, CoinState.tail, false, true);
+        }
+
+        List<JsonNode> lines = export(history);
+
+        assertThat(lines).hasSize(4);
+        assertThat(lines.get(0).get("recorded").asLong()).isEqualTo(5);
+        assertThat(lines.get(0).get("dropped").asLong()).isEqualTo(2);
+        assertThat(lines.subList(1, 4)).extracting(line -> line.get("seq").asLong()).containsExactly(2L, 3L, 4L);
+        assertThat(lines.subList(1, 4)).extracting(line -> line.get("playerIndex").asInt()).containsExactly(2, 3, 4);
+        assertThat(lines.get(3).get("at").asLong()).isEqualTo(1004);
+    }
+
+    @Test
+    void flagsRoundTripThroughExport() throws Exception {
+        TurnHistory history = new TurnHistory("s1", 8);
+        history.record(1, TurnHistory.KIND_TURN, 0, CoinState.tail, CoinState.tail, true, false);
+        history.record(2, TurnHistory.KIND_LEE_SOON_SIN, 1, CoinState.head, CoinState.head, false, false);
+        history.record(3, TurnHistory.KIND_SKIP, 2, null, null, false, false);
+
+        List<JsonNode> lines = export(history);
+
+        JsonNode flip = lines.get(1);
+        assertThat(flip.get("kind").asText()).isEqualTo("TURN");
+        assertThat(flip.get("firstCoinState").asText()).isEqualTo("tail");
+        assertThat(flip.get("directionFlipped").asBoolean()).isTrue();
+        assertThat(flip.get("isClockWise").asBoolean()).isFalse();
+        assertThat(flip.get("leeSoonSin").asBoolean()).isFalse();
+
+        JsonNode leeSoonSin = lines.get(2);
+        assertThat(leeSoonSin.get("kind").asText()).isEqualTo("LEE_SOON_SIN");
+        assertThat(leeSoonSin.get("leeSoonSin").asBoolean()).isTrue();
+
+        JsonNode skip = lines.get(3);
+        assertThat(skip.get("kind").asText()).isEqualTo("SKIP");
+        assertThat(skip.get("firstCoinState").isNull()).isTrue();
+    }
+
+    @Test
+    void finishedGamesAreKeptUpToLimit() throws Exception {
+        TurnHistoryService service = new TurnHistoryService(new VirtualGameClock(LocalDateTime.of(2024, 1, 1, 12, 0)), 16, 2);
+        for (String sessionId : new String[]{"a", "b", "c"}) {
+            service.sessionOpened(sessionId);
+            service.record(sessionId, TurnHistory.KIND_TURN, 0, CoinState.head, CoinState.tail, false, true);
+            service.onSessionEnded(new SessionResources(sessionId), SessionLifecycleRegistry.REASON_EXPIRED);
+        }
+
+        assertThat(service.getActiveCount()).isZero();
+        assertThat(service.getFinishedCount()).isEqualTo(2);
+        assertThat(service.find("a")).isNull();
+        assertThat(service.findFinished(0, 10)).extracting(TurnHistory::getSessionId).containsExactly("b", "c");
+
+        JsonNode header = export(service.find("c")).get(0);
+        assertThat(header.get("finished").asBoolean()).isTrue();
+        assertThat(header.get("endReason").asText()).isEqualTo(SessionLifecycleRegistry.REASON_EXPIRED);
+    }
+
+    @Test
+    void recordAfterSessionEndDoesNotRecreateHistory() {
+        TurnHistoryService service = new TurnHistoryService(new VirtualGameClock(LocalDateTime.of(2024, 1, 1, 12, 0)), 16, 2);
+        service.sessionOpened("a");
+        service.record("a", TurnHistory.KIND_TURN, 0, CoinState.head, CoinState.tail, false, true);
+        service.onSessionEnded(new SessionResources("a"), SessionLifecycleRegistry.REASON_EXPIRED);
+
+        // 상태 변경 뒤 늦게 도착한 기록
+        service.record("a", TurnHistory.KIND_TURN, 1, CoinState.tail, CoinState.head, false, true);
+        service.record("unknown", TurnHistory.KIND_TURN, 0, CoinState.head, CoinState.head, false, true);
+
+        assertThat(service.getActiveCount()).isZero();
+        assertThat(service.find("a").getRecordedCount()).isEqualTo(1);
+        assertThat(service.find("unknown")).isNull();
+        assertThat(service.getMetrics().get("turnsDropped")).isEqualTo(2L);
+    }
+
+    private List<JsonNode> export(TurnHistory history) throws Exception {
+        StringWriter writer = new StringWriter();
+        history.writeNdjson(writer);
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : writer.toString().split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,122 @@
+package com.eos.lss.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.PriorityQueue;
+
+/**
+ * 테스트/리플레이용 가상 시계 (직접 움직이기 전에는 시간이 흐르지 않음)
+ *
+ * 예약된 작업은 시간을 옮길 때 옮기는 스레드에서 마감 시각 순서대로 실행된다.
+ * 실행 중에는 시계가 그 작업의 마감 시각을 가리키므로, 작업 안에서 읽는 시각은 실제 타이머와 같다.
+ * 한 스레드에서만 사용한다.
+ */
+class VirtualGameClock implements GameClock {
+
+    private final LocalDateTime origin;
+    private final long originEpochMillis;
+    private final PriorityQueue<ScheduledTask> tasks = new PriorityQueue<>();
+    private long elapsedNanos;
+    private long sequence;
+    private int firedCount;
+
+    VirtualGameClock(LocalDateTime origin) {
+        this.origin = origin;
+        this.originEpochMillis = origin.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    @Override
+    public long nanoTime() {
+        return elapsedNanos;
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return originEpochMillis + elapsedNanos / 1_000_000;
+    }
+
+    @Override
+    public LocalDateTime now() {
+        return origin.plusNanos(elapsedNanos);
+    }
+
+    @Override
+    public Timer schedule(Runnable task, long delayNanos) {
+        ScheduledTask scheduled = new ScheduledTask(task, elapsedNanos + Math.max(delayNanos, 0), sequence++);
+        tasks.add(scheduled);
+        return scheduled;
+    }
+
+    long getElapsedMillis() {
+        return elapsedNanos / 1_000_000;
+    }
+
+    // 실행된 예약 작업 수
+    int getFiredCount() {
+        return firedCount;
+    }
+
+    // 실행 대기 중인 예약 작업 수
+    int getPendingCount() {
+        return tasks.size();
+    }
+
+    // 되돌아가지 않음 (기록 순서가 조금 어긋나도 시간은 앞으로만 감)
+    void advanceTo(long elapsedMillis) {
+        long target = elapsedMillis * 1_000_000;
+        ScheduledTask due;
+        while ((due = tasks.peek()) != null && due.deadlineNanos <= target) {
+            tasks.poll();
+            elapsedNanos = Math.max(elapsedNanos, due.deadlineNanos);
+            due.done = true;
+            firedCount++;
+            due.task.run();
+        }
+        elapsedNanos = Math.max(elapsedNanos, target);
+    }
+
+    void advance(Duration duration) {
+        advanceTo(getElapsedMillis() + duration.toMillis());
+    }
+
+    private final class ScheduledTask implements Timer, Comparable<ScheduledTask> {
+
+        private final Runnable task;
+        private final long deadlineNanos;
+        private final long order;
+        private boolean done;
+
+        ScheduledTask(Runnable task, long deadlineNanos, long order) {
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+            this.order = order;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (done) {
+                return false;
+            }
+            done = true;
+            return tasks.remove(this);
+        }
+
+        @Override
+        public boolean isDone() {
+            return done;
+        }
+
+        @Override
+        public long getRemainingNanos() {
+            return deadlineNanos - elapsedNanos;
+        }
+
+        // 마감 시각이 같으면 먼저 예약한 작업부터
+        @Override
+        public int compareTo(ScheduledTask other) {
+            int byDeadline = Long.compare(deadlineNanos, other.deadlineNanos);
+            return byDeadline != 0 ? byDeadline : Long.compare(order, other.order);
+        }
+    }
+}
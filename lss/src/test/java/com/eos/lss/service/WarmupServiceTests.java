@@ -0,0 +1,38 @@
+package com.eos.lss.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WarmupServiceTests {
+
+    @Test
+    void playsEveryGameThroughItsOwnHandlerBeforeReportingReady() {
+        WarmupService warmup = new WarmupService(new StandardEnvironment(), 3, 3, 12);
+        assertThat(warmup.isReady()).isFalse();
+
+        warmup.warmUp();
+
+        Map<String, Object> metrics = warmup.getMetrics();
+        assertThat(warmup.isReady()).isTrue();
+        assertThat(metrics.get("failed")).isEqualTo(false);
+        assertThat(metrics.get("completedGames")).isEqualTo(3L);
+        // 생성 1 + 입장 2 + 순서 시작 1 + 순서 등록 3 + 게임 시작 1 + 턴 12개(묶음 3번은 명령 1개) + 삭제 1
+        assertThat(metrics.get("commands")).isEqualTo(3L * (8 + 9 * 3 + 3 + 1));
+        assertThat((Long) metrics.get("discardedFrames")).isPositive();
+        assertThat(metrics.get("errorFrames")).isEqualTo(0L);
+    }
+
+    @Test
+    void disabledWarmupIsReadyImmediately() {
+        WarmupService warmup = new WarmupService(new StandardEnvironment(), 0, 4, 30);
+
+        warmup.startWarmup();
+
+        assertThat(warmup.isReady()).isTrue();
+        assertThat(warmup.getMetrics().get("completedGames")).isEqualTo(0L);
+    }
+}
@@ -0,0 +1,89 @@
+package com.eos.lss.websocket;
+
+import com.eos.lss.service.GameClock;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CommandDeduplicatorTests {
+
+    private static final String FRAME = "{\"type\":\"ok\",\"sessionId\":\"s1\",\"currentPlayerIndex\":1}";
+
+    private GameClock clock;
+    private CommandDeduplicator deduplicator;
+
+    @BeforeEach
+    void setUp() {
+        clock = mock(GameClock.class);
+        when(clock.currentTimeMillis()).thenReturn(1_000L);
+        deduplicator = new CommandDeduplicator(clock, 2, 60_000);
+    }
+
+    @Test
+    void duplicateReturnsRecordedFrames() {
+        assertThat(deduplicator.claim("u1", "id:c1")).isNull();
+
+        CommandDeduplicator.Entry inFlight = deduplicator.claim("u1", "id:c1");
+        assertThat(inFlight).isNotNull();
+        assertThat(inFlight.isDone()).isFalse();
+
+        deduplicator.complete("u1", "id:c1", List.of(FRAME));
+
+        CommandDeduplicator.Entry duplicate = deduplicator.claim("u1", "id:c1");
+        assertThat(duplicate.isDone()).isTrue();
+        assertThat(duplicate.getFrames()).containsExactly(FRAME);
+        assertThat(deduplicator.isCompleted("u1", "id:c1")).isTrue();
+        // 다른 사용자의 같은 commandId는 별개
+        assertThat(deduplicator.claim("u2", "id:c1")).isNull();
+    }
+
+    @Test
+    void windowKeepsOnlyLatestCommands() {
+        for (String key : new String[]{"seq:1", "seq:2", "seq:3"}) {
+            assertThat(deduplicator.claim("u1", key)).isNull();
+            deduplicator.complete("u1", key, List.of(FRAME));
+        }
+
+        assertThat(deduplicator.isCompleted("u1", "seq:1")).isFalse();
+        assertThat(deduplicator.isCompleted("u1", "seq:2")).isTrue();
+        assertThat(deduplicator.isCompleted("u1", "seq:3")).isTrue();
+    }
+
+    @Test
+    void seqKeysAreScopedToTheConnectionButCommandIdsAreNot() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonNode bySeq = objectMapper.readTree("{\"type\":\"next-turn\",\"seq\":1}");
+        JsonNode byId = objectMapper.readTree("{\"type\":\"next-turn\",\"commandId\":\"c1\",\"seq\":1}");
+
+        assertThat(deduplicator.claim("u1", SimpleWebSocketHandler.commandKeyOf(bySeq, "conn-a"))).isNull();
+        deduplicator.complete("u1", SimpleWebSocketHandler.commandKeyOf(bySeq, "conn-a"), List.of(FRAME));
+
+        // 재접속한 연결이 seq 1부터 다시 보내면 새 명령
+        assertThat(deduplicator.claim("u1", SimpleWebSocketHandler.commandKeyOf(bySeq, "conn-b"))).isNull();
+        // commandId가 있으면 연결과 관계없이 같은 명령
+        assertThat(SimpleWebSocketHandler.commandKeyOf(byId, "conn-a"))
+                .isEqualTo(SimpleWebSocketHandler.commandKeyOf(byId, "conn-b"));
+    }
+
+    @Test
+    void releasedCommandRunsAgainAndIdleUsersAreSwept() {
+        assertThat(deduplicator.claim("u1", "id:c1")).isNull();
+        deduplicator.release("u1", "id:c1");
+        assertThat(deduplicator.claim("u1", "id:c1")).isNull();
+
+        when(clock.currentTimeMillis()).thenReturn(30_000L);
+        deduplicator.sweep();
+        assertThat(deduplicator.getTrackedUserCount()).isEqualTo(1);
+
+        when(clock.currentTimeMillis()).thenReturn(61_000L);
+        deduplicator.sweep();
+        assertThat(deduplicator.getTrackedUserCount()).isZero();
+    }
+}
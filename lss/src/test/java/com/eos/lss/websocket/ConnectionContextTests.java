@@ -0,0 +1,159 @@
+package com.eos.lss.websocket;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ConnectionContextTests {
+
+    @Test
+    void contextIsAttachedToItsSession() {
+        RecordingWebSocketSession session = new RecordingWebSocketSession("c-1");
+
+        ConnectionContext context = new ConnectionContext(session, 1000, 1024);
+
+        assertThat(ConnectionContext.of(session)).isSameAs(context);
+        assertThat(context.getId()).isEqualTo("c-1");
+        assertThat(context.isOpen()).isTrue();
+        session.close();
+        assertThat(context.isOpen()).isFalse();
+    }
+
+    @Test
+    void sendDeliversAndCountsFrames() throws Exception {
+        RecordingWebSocketSession session = new RecordingWebSocketSession("c-1");
+        ConnectionContext context = new ConnectionContext(session, 1000, 1024);
+
+        context.send("{\"type\":\"ok\"}");
+        context.send("{}");
+
+        assertThat(session.getMessages()).containsExactly("{\"type\":\"ok\"}", "{}");
+        assertThat(context.getSentMessages()).isEqualTo(2);
+        assertThat(context.getSentBytes()).isEqualTo(15);
+        assertThat(context.getSendFailures()).isZero();
+        assertThat(context.getBufferedBytes()).isZero();
+    }
+
+    @Test
+    void failedSendIsCountedAndRethrown() throws Exception {
+        WebSocketSession session = mockSession("c-1");
+        doThrow(new IOException("broken pipe")).when(session).sendMessage(any());
+        ConnectionContext context = new ConnectionContext(session, 1000, 1024);
+
+        assertThatThrownBy(() -> context.send("{}")).isInstanceOf(IOException.class);
+
+        assertThat(context.getSendFailures()).isEqualTo(1);
+        assertThat(context.getSentMessages()).isZero();
+    }
+
+    @Test
+    void sendBufferOverflowSurfacesAsIOException() throws Exception {
+        WebSocketSession session = mockSession("c-1");
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch unblock = new CountDownLatch(1);
+        // 첫 프레임 전송이 끝나지 않는 느린 클라이언트
+        doAnswer(invocation -> {
+            sending.countDown();
+            unblock.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(session).sendMessage(any(WebSocketMessage.class));
+        ConnectionContext context = new ConnectionContext(session, 60_000, 16);
+
+        Thread slow = new Thread(() -> {
+            try {
+                context.send("first");
+            } catch (IOException e) {
+                // 첫 프레임은 전송 중에 막혀 있을 뿐 실패하지 않음
+            }
+        });
+        slow.start();
+        assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> context.send("x".repeat(64))).isInstanceOf(IOException.class);
+        assertThat(context.getSendFailures()).isEqualTo(1);
+
+        unblock.countDown();
+        slow.join(5000);
+        assertThat(context.getSentMessages()).isEqualTo(1);
+    }
+
+    @Test
+    void pingWithoutActivityMeansAwaitingPong() throws Exception {
+        RecordingWebSocketSession session = new RecordingWebSocketSession("c-1");
+        ConnectionContext context = new ConnectionContext(session, 1000, 1024);
+        assertThat(context.isAwaitingPong()).isFalse();
+
+        Thread.sleep(5);
+        context.sendPing();
+        assertThat(context.getLastPingAt()).isGreaterThan(context.getConnectedAt());
+        assertThat(context.isAwaitingPong()).isTrue();
+
+        Thread.sleep(5);
+        context.recordActivity();
+        assertThat(context.isAwaitingPong()).isFalse();
+        assertThat(context.getReceivedMessages()).isZero();
+
+        Thread.sleep(5);
+        context.sendPing();
+        Thread.sleep(5);
+        context.recordReceived();
+        assertThat(context.isAwaitingPong()).isFalse();
+        assertThat(context.getReceivedMessages()).isEqualTo(1);
+    }
+
+    @Test
+    void userAndGameSessionMappingsDetachOnce() {
+        ConnectionContext context = new ConnectionContext(new RecordingWebSocketSession("c-1"), 1000, 1024);
+        context.setUserId("u-1");
+        context.setGameSessionId("g-1");
+
+        // 다른 게임 세션으로 옮긴 뒤 도착한 이전 세션의 정리는 무시
+        assertThat(context.detachGameSession("g-0")).isFalse();
+        assertThat(context.detachGameSession(null)).isFalse();
+        assertThat(context.getGameSessionId()).isEqualTo("g-1");
+        assertThat(context.detachGameSession("g-1")).isTrue();
+        assertThat(context.detachGameSession("g-1")).isFalse();
+        assertThat(context.getGameSessionId()).isNull();
+
+        assertThat(context.detachUser()).isEqualTo("u-1");
+        assertThat(context.detachUser()).isNull();
+        assertThat(context.getUserId()).isNull();
+    }
+
+    @Test
+    void closeIgnoresFailuresFromABrokenConnection() throws Exception {
+        WebSocketSession session = mockSession("c-1");
+        doThrow(new IOException("already closed")).when(session).close(any(CloseStatus.class));
+        ConnectionContext context = new ConnectionContext(session, 1000, 1024);
+
+        assertThatCode(() -> context.close(CloseStatus.GOING_AWAY)).doesNotThrowAnyException();
+        assertThat(context.isReleased()).isFalse();
+        context.markReleased();
+        assertThat(context.isReleased()).isTrue();
+    }
+
+    private static WebSocketSession mockSession(String id) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        Map<String, Object> attributes = new HashMap<>();
+        when(session.getId()).thenReturn(id);
+        when(session.getAttributes()).thenReturn(attributes);
+        when(session.isOpen()).thenReturn(true);
+        return session;
+    }
+}
@@ -0,0 +1,159 @@
+package com.eos.lss.websocket;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FanoutExecutorTests {
+
+    private final FanoutExecutor executor = new FanoutExecutor(4);
+    private final Map<String, List<String>> received = new ConcurrentHashMap<>();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void preservesWriteOrderPerConnection() throws Exception {
+        List<ConnectionContext> room = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            room.add(connection("c" + i));
+        }
+        ConnectionContext single = room.get(3);
+
+        for (int seq = 0; seq < 200; seq++) {
+            if (seq % 3 == 0) {
+                executor.send(single, "direct-" + seq, failed -> { });
+            } else {
+                executor.fanout(room, "room-" + seq, failed -> { });
+            }
+        }
+        executor.shutdown();
+
+        for (ConnectionContext connection : room) {
+            List<String> frames = received.get(connection.getId());
+            List<Integer> sequence = frames.stream().map(frame -> Integer.parseInt(frame.substring(frame.indexOf('-') + 1))).toList();
+            assertThat(sequence).isSorted();
+        }
+        assertThat(received.get(single.getId())).hasSize(200);
+        assertThat(received.get(room.get(0).getId())).hasSize(133);
+    }
+
+    @Test
+    void reportsClosedConnections() throws Exception {
+        ConnectionContext open = connection("open");
+        ConnectionContext closed = connection("closed", false);
+        List<ConnectionContext> failed = Collections.synchronizedList(new ArrayList<>());
+
+        executor.fanout(List.of(open, closed), "frame", failed::add);
+        executor.shutdown();
+
+        assertThat(failed).containsExactly(closed);
+        assertThat(received.get("open")).containsExactly("frame");
+    }
+
+    @Test
+    void recordsLatencyByRoomSize() throws Exception {
+        FanoutExecutor inline = new FanoutExecutor(0);
+        inline.fanout(List.of(connection("a"), connection("b"), connection("c")), "frame", failed -> { });
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> byRoomSize = (Map<String, Object>) inline.getMetrics().get("latencyByRoomSize");
+        assertThat(byRoomSize).containsOnlyKeys("3-4");
+    }
+
+    @Test
+    void recordsDirectRepliesApartFromRooms() throws Exception {
+        FanoutExecutor inline = new FanoutExecutor(0);
+        inline.send(connection("a"), "reply", failed -> { });
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> byRoomSize = (Map<String, Object>) inline.getMetrics().get("latencyByRoomSize");
+        @SuppressWarnings("unchecked")
+        Map<String, Object> direct = (Map<String, Object>) inline.getMetrics().get("directLatency");
+        assertThat(byRoomSize).isEmpty();
+        assertThat(direct.get("count")).isEqualTo(1L);
+    }
+
+    @Test
+    void stalledConnectionIsClosedWithoutHoldingUpOthers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        WebSocketSession stalledSession = mock(WebSocketSession.class);
+        when(stalledSession.getId()).thenReturn("stalled");
+        when(stalledSession.getAttributes()).thenReturn(new HashMap<>());
+        when(stalledSession.isOpen()).thenReturn(true);
+        doAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(stalledSession).sendMessage(any());
+        ConnectionContext stalled = new ConnectionContext(stalledSession, 100, 1024 * 1024);
+        ConnectionContext healthy = connection("healthy");
+        List<ConnectionContext> failed = Collections.synchronizedList(new ArrayList<>());
+
+        // 워커 1개여도 막힌 연결 때문에 다른 연결 전송이 멈추지 않음
+        FanoutExecutor single = new FanoutExecutor(1);
+        try {
+            single.fanout(List.of(stalled, healthy), "first", failed::add);
+            single.fanout(List.of(stalled, healthy), "second", failed::add);
+            awaitFrames("healthy", 2);
+
+            // 전송 시간 한도를 넘겨 막혀 있으면 다음 전송 때 연결을 닫음
+            Thread.sleep(200);
+            single.fanout(List.of(stalled, healthy), "third", failed::add);
+            awaitFrames("healthy", 3);
+
+            assertThat(failed).containsExactly(stalled);
+            verify(stalledSession).close(CloseStatus.SESSION_NOT_RELIABLE);
+            assertThat(single.getMetrics().get("overflowClosed")).isEqualTo(1L);
+        } finally {
+            release.countDown();
+            single.shutdown();
+        }
+    }
+
+    private void awaitFrames(String id, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (received.get(id).size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(received.get(id)).hasSize(count);
+    }
+
+    private ConnectionContext connection(String id) throws Exception {
+        return connection(id, true);
+    }
+
+    private ConnectionContext connection(String id, boolean open) throws Exception {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(id);
+        when(session.getAttributes()).thenReturn(new HashMap<>());
+        when(session.isOpen()).thenReturn(open);
+        received.put(id, Collections.synchronizedList(new ArrayList<>()));
+        doAnswer(invocation -> {
+            WebSocketMessage<?> message = invocation.getArgument(0);
+            received.get(id).add(((TextMessage) message).getPayload());
+            return null;
+        }).when(session).sendMessage(any());
+        return new ConnectionContext(session, (int) TimeUnit.SECONDS.toMillis(10), 1024 * 1024);
+    }
+}
@@ -0,0 +1,81 @@
+package com.eos.lss.websocket;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.PingMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.HashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HeartbeatMonitorTests {
+
+    private final FanoutExecutor fanoutExecutor = new FanoutExecutor(1);
+    private final SimpleWebSocketHandler handler = mock(SimpleWebSocketHandler.class);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        fanoutExecutor.shutdown();
+    }
+
+    @Test
+    void blockedPingDoesNotHoldUpTheTick() throws Exception {
+        HeartbeatMonitor monitor = new HeartbeatMonitor(handler, fanoutExecutor, 10, 60000, 10);
+        WebSocketSession session = session("stalled");
+        ConnectionContext context = new ConnectionContext(session, 60000, 1024 * 1024);
+        monitor.track(context);
+
+        Thread.sleep(50);
+        long started = System.nanoTime();
+        monitor.tick();
+
+        // ping은 전송 큐에서 막혀 있어도 틱은 바로 끝남
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(1000);
+        verify(session, timeout(1000)).sendMessage(any(PingMessage.class));
+        assertThat(monitor.getMetrics().get("pingsSent")).isEqualTo(0L);
+
+        release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((Long) monitor.getMetrics().get("pingsSent") == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(monitor.getMetrics().get("pingsSent")).isEqualTo(1L);
+    }
+
+    @Test
+    void silentConnectionIsClosedAndReleasedOffTheTickThread() throws Exception {
+        HeartbeatMonitor monitor = new HeartbeatMonitor(handler, fanoutExecutor, 10, 10, 10);
+        WebSocketSession session = session("silent");
+        ConnectionContext context = new ConnectionContext(session, 60000, 1024 * 1024);
+        monitor.track(context);
+
+        Thread.sleep(50);
+        monitor.tick();
+
+        verify(handler, timeout(1000)).releaseDeadConnection(context);
+        assertThat(monitor.getMetrics().get("deadConnectionsClosed")).isEqualTo(1L);
+    }
+
+    private WebSocketSession session(String id) throws Exception {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(id);
+        when(session.getAttributes()).thenReturn(new HashMap<>());
+        when(session.isOpen()).thenReturn(true);
+        doAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(session).sendMessage(any());
+        return session;
+    }
+}
@@ -0,0 +1,119 @@
+package com.eos.lss.websocket;
+
+import com.eos.lss.dto.GameErrorDto;
+import com.eos.lss.service.ReconnectGraceService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이미 참여한 사용자 ID로 다시 입장할 때 재접속 토큰이 있어야 자리를 되찾는지 확인
+ */
+@SpringBootTest(properties = {"logging.level.com.eos.lss=ERROR", "lss.fanout.workers=0", "lss.resume.grace-seconds=60"})
+class JoinSessionResumeTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String prefix = "rejoin-" + UUID.randomUUID();
+
+    @Autowired
+    private SimpleWebSocketHandler handler;
+
+    @Autowired
+    private ReconnectGraceService reconnectGraceService;
+
+    @Test
+    void awayPlayerCanOnlyBeResumedWithTheirToken() throws Exception {
+        String presidentId = prefix + "-p";
+        String playerId = prefix + "-q";
+        RecordingWebSocketSession president = connect("president");
+        RecordingWebSocketSession player = connect("player");
+
+        send(president, Map.of("type", "create-session", "userId", presidentId, "name", "방장"));
+        JsonNode created = objectMapper.readTree(president.getLastMessage());
+        String sessionId = created.get("sessionId").asText();
+        String entryCode = created.get("entryCode").asText();
+        send(player, Map.of("type", "join-session", "entryCode", entryCode, "userId", playerId, "name", "플레이어"));
+        String resumeToken = objectMapper.readTree(player.getLastMessage()).get("resumeToken").asText();
+
+        handler.afterConnectionClosed(player, CloseStatus.GOING_AWAY);
+        assertThat(reconnectGraceService.isAway(sessionId, playerId)).isTrue();
+
+        // 토큰 없이 같은 사용자 ID로 입장하면 거절되고, 자리 비움도 그대로
+        RecordingWebSocketSession intruder = connect("intruder");
+        send(intruder, Map.of("type", "join-session", "entryCode", entryCode, "userId", playerId, "name", "다른 사람"));
+        assertThat(errorCode(intruder)).isEqualTo("PLAYER_ALREADY_JOINED");
+        send(intruder, Map.of("type", "join-session", "entryCode", entryCode, "userId", playerId, "name", "다른 사람", "resumeToken", "wrong"));
+        assertThat(errorCode(intruder)).isEqualTo(GameErrorDto.ERROR_INVALID_RESUME_TOKEN);
+        assertThat(reconnectGraceService.isAway(sessionId, playerId)).isTrue();
+
+        // 거절된 연결이 끊겨도 원래 플레이어에게 영향 없음
+        handler.afterConnectionClosed(intruder, CloseStatus.NORMAL);
+        assertThat(reconnectGraceService.isAway(sessionId, playerId)).isTrue();
+
+        RecordingWebSocketSession returning = connect("returning");
+        send(returning, Map.of("type", "join-session", "entryCode", entryCode, "userId", playerId, "name", "플레이어", "resumeToken", resumeToken));
+        JsonNode resumed = objectMapper.readTree(returning.getLastMessage());
+        assertThat(resumed.get("type").asText()).isEqualTo(SimpleWebSocketHandler.MSG_TYPE_OK);
+        assertThat(resumed.get("sessionId").asText()).isEqualTo(sessionId);
+        assertThat(reconnectGraceService.isAway(sessionId, playerId)).isFalse();
+
+        send(president, Map.of("type", "delete-session", "sessionId", sessionId, "userId", presidentId));
+    }
+
+    @Test
+    void playerRemovedAtGameStartCannotResumeIntoTheRoom() throws Exception {
+        String presidentId = prefix + "-p";
+        String playerId = prefix + "-q";
+        String idleId = prefix + "-r";
+        RecordingWebSocketSession president = connect("president");
+        RecordingWebSocketSession player = connect("player");
+        RecordingWebSocketSession idle = connect("idle");
+
+        send(president, Map.of("type", "create-session", "userId", presidentId, "name", "방장"));
+        JsonNode created = objectMapper.readTree(president.getLastMessage());
+        String sessionId = created.get("sessionId").asText();
+        String entryCode = created.get("entryCode").asText();
+        send(player, Map.of("type", "join-session", "entryCode", entryCode, "userId", playerId, "name", "플레이어"));
+        send(idle, Map.of("type", "join-session", "entryCode", entryCode, "userId", idleId, "name", "미등록"));
+        String resumeToken = objectMapper.readTree(idle.getLastMessage()).get("resumeToken").asText();
+
+        // 순서 등록을 안 한 플레이어는 게임 시작 때 방에서 빠짐
+        send(president, Map.of("type", "start-ordering", "sessionId", sessionId, "userId", presidentId));
+        send(president, Map.of("type", "register-order", "sessionId", sessionId, "userId", presidentId));
+        send(player, Map.of("type", "register-order", "sessionId", sessionId, "userId", playerId));
+        send(president, Map.of("type", "start-playing", "sessionId", sessionId, "userId", presidentId));
+        handler.afterConnectionClosed(idle, CloseStatus.GOING_AWAY);
+
+        RecordingWebSocketSession returning = connect("idle-returning");
+        send(returning, Map.of("type", "resume-session", "sessionId", sessionId, "userId", idleId, "resumeToken", resumeToken));
+        assertThat(errorCode(returning)).isEqualTo(GameErrorDto.ERROR_INVALID_RESUME_TOKEN);
+        assertThat(handler.getRecipients(sessionId))
+                .extracting(ConnectionContext::getId)
+                .containsExactlyInAnyOrder(president.getId(), player.getId());
+
+        send(president, Map.of("type", "delete-session", "sessionId", sessionId, "userId", presidentId));
+    }
+
+    private RecordingWebSocketSession connect(String name) throws Exception {
+        RecordingWebSocketSession session = new RecordingWebSocketSession(prefix + "-" + name);
+        handler.afterConnectionEstablished(session);
+        return session;
+    }
+
+    private void send(RecordingWebSocketSession session, Map<String, String> message) throws Exception {
+        handler.handleMessage(session, new TextMessage(objectMapper.writeValueAsString(message)));
+    }
+
+    private String errorCode(RecordingWebSocketSession session) throws Exception {
+        return objectMapper.readTree(session.getLastMessage()).path("errorCode").asText();
+    }
+}
@@ -0,0 +1,143 @@
+package com.eos.lss.websocket;
+
+import com.eos.lss.service.SessionResources;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SpectatorHubTests {
+
+    private static final String STATE = "{\"type\":\"ok\",\"sessionId\":\"s1\",\"gameState\":\"WAITING_ROOM\"}";
+
+    private final Map<String, List<String>> received = new ConcurrentHashMap<>();
+
+    @Test
+    void pendingFramesCollapseToTheLatest() throws Exception {
+        FanoutExecutor executor = new FanoutExecutor(1);
+        SpectatorHub hub = new SpectatorHub(executor, 65536, 100);
+        ConnectionContext spectator = connection("a");
+        hub.subscribe(spectator, "s1", null);
+
+        // 전송 워커를 잠시 막아 두고 그 사이 상태를 여러 번 변경
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch blocked = new CountDownLatch(1);
+        executor.execute(spectator, () -> {
+            started.countDown();
+            try {
+                blocked.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 5; i++) {
+            hub.publish("s1", STATE);
+        }
+        blocked.countDown();
+        executor.shutdown();
+
+        assertThat(received.get("a")).hasSize(1);
+        assertThat(received.get("a").get(0)).endsWith("\"version\":5}");
+    }
+
+    @Test
+    void sessionVersionIsReusedAndRepeatsAreDropped() throws Exception {
+        SpectatorHub hub = new SpectatorHub(new FanoutExecutor(0), 65536, 100);
+        String v3 = "{\"type\":\"ok\",\"sessionId\":\"s1\",\"gameState\":\"GAME_PLAYING\",\"version\":3}";
+        String v4 = "{\"type\":\"ok\",\"sessionId\":\"s1\",\"gameState\":\"LEE_SOON_SIN\",\"version\":4}";
+        hub.subscribe(connection("a"), "s1", v3);
+
+        // 관전 시작 스냅샷과 같은 버전의 브로드캐스트는 다시 보내지 않음
+        hub.publish("s1", v3);
+        hub.publish("s1", v4);
+
+        assertThat(received.get("a")).containsExactly(
+                "{\"type\":\"ok\",\"sessionId\":\"s1\",\"gameState\":\"GAME_PLAYING\",\"version\":3,\"spectator\":true}",
+                "{\"type\":\"ok\",\"sessionId\":\"s1\",\"gameState\":\"LEE_SOON_SIN\",\"version\":4,\"spectator\":true}");
+    }
+
+    @Test
+    void resumedSpectatorsOnlyReceiveNewerVersions() throws Exception {
+        SpectatorHub hub = new SpectatorHub(new FanoutExecutor(0), 65536, 100);
+        String v5 = "{\"type\":\"ok\",\"sessionId\":\"s1\",\"gameState\":\"GAME_PLAYING\",\"version\":5}";
+        String v6 = "{\"type\":\"ok\",\"sessionId\":\"s1\",\"gameState\":\"GAME_PLAYING\",\"version\":6}";
+
+        // Last-Event-ID가 현재 버전이면 스냅샷을 다시 보내지 않음
+        hub.subscribe(connection("a"), "s1", v5, 5);
+        hub.publish("s1", v6);
+
+        assertThat(received.get("a")).containsExactly(
+                "{\"type\":\"ok\",\"sessionId\":\"s1\",\"gameState\":\"GAME_PLAYING\",\"version\":6,\"spectator\":true}");
+        assertThat(SpectatorHub.versionOf(received.get("a").get(0))).isEqualTo(6);
+    }
+
+    @Test
+    void roomLimitAndSessionEndAreEnforced() throws Exception {
+        SpectatorHub hub = new SpectatorHub(new FanoutExecutor(0), 65536, 1);
+        assertThat(hub.subscribe(connection("a"), "s1", STATE)).isTrue();
+        assertThat(hub.subscribe(connection("b"), "s1", STATE)).isFalse();
+
+        hub.onSessionEnded(new SessionResources("s1"), "DELETED");
+
+        assertThat(hub.hasSpectators("s1")).isFalse();
+        assertThat(received.get("a").get(received.get("a").size() - 1))
+                .isEqualTo("{\"type\":\"spectate-ended\",\"sessionId\":\"s1\",\"reason\":\"DELETED\"}");
+    }
+
+    @Test
+    void closedConnectionsLeaveTheRoom() throws Exception {
+        SpectatorHub hub = new SpectatorHub(new FanoutExecutor(0), 65536, 100);
+        hub.subscribe(connection("a"), "s1", STATE);
+
+        hub.onConnectionClosed("a", null);
+
+        assertThat(hub.getSpectatorCount("s1")).isZero();
+        assertThat(hub.hasSpectators("s1")).isFalse();
+    }
+
+    @Test
+    void audienceListenerHearsFirstArrivalAndLastDeparture() throws Exception {
+        SpectatorHub hub = new SpectatorHub(new FanoutExecutor(0), 65536, 100);
+        List<String> changes = new ArrayList<>();
+        hub.setAudienceListener((gameSessionId, watching) -> changes.add(gameSessionId + ":" + watching));
+
+        ConnectionContext second = connection("b");
+        hub.subscribe(connection("a"), "s1", null);
+        hub.subscribe(second, "s1", null);
+        hub.unsubscribe("a");
+        // 마지막 관전자가 다른 방으로 옮기면 이전 방은 비게 됨
+        hub.subscribe(second, "s2", null);
+
+        assertThat(changes).containsExactly("s1:true", "s1:false", "s2:true");
+    }
+
+    private ConnectionContext connection(String id) throws Exception {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(id);
+        when(session.getAttributes()).thenReturn(new HashMap<>());
+        when(session.isOpen()).thenReturn(true);
+        received.put(id, Collections.synchronizedList(new ArrayList<>()));
+        doAnswer(invocation -> {
+            WebSocketMessage<?> message = invocation.getArgument(0);
+            received.get(id).add(((TextMessage) message).getPayload());
+            return null;
+        }).when(session).sendMessage(any());
+        return new ConnectionContext(session, (int) TimeUnit.SECONDS.toMillis(10), 1024 * 1024);
+    }
+}
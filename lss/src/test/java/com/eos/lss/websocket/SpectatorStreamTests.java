@@ -0,0 +1,101 @@
+package com.eos.lss.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.web.socket.TextMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 명령 처리 경로로 게임을 진행하면서 관전자가 상태 변경마다 관전 프레임을 받는지 확인
+ */
+// 응답을 바로 읽을 수 있도록 전송은 호출 스레드에서
+@SpringBootTest(properties = {"logging.level.com.eos.lss=ERROR", "lss.fanout.workers=0"})
+class SpectatorStreamTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String prefix = "spectate-" + UUID.randomUUID();
+
+    @Autowired
+    private SimpleWebSocketHandler handler;
+
+    @Test
+    void spectatorReceivesEveryInGameStateOncePerVersion() throws Exception {
+        RecordingWebSocketSession president = connect("president");
+        RecordingWebSocketSession player = connect("player");
+        RecordingWebSocketSession spectator = connect("spectator");
+        String presidentId = prefix + "-p";
+        String playerId = prefix + "-q";
+
+        send(president, Map.of("type", "create-session", "userId", presidentId, "name", "방장"));
+        JsonNode created = objectMapper.readTree(president.getLastMessage());
+        String sessionId = created.get("sessionId").asText();
+        send(player, Map.of("type", "join-session", "entryCode", created.get("entryCode").asText(), "userId", playerId, "name", "플레이어"));
+
+        send(spectator, Map.of("type", "spectate-session", "sessionId", sessionId));
+        assertThat(stateFrames(spectator)).hasSize(1);
+
+        send(president, Map.of("type", "start-ordering", "sessionId", sessionId, "userId", presidentId));
+        send(president, Map.of("type", "register-order", "sessionId", sessionId, "userId", presidentId));
+        send(player, Map.of("type", "register-order", "sessionId", sessionId, "userId", playerId));
+        send(president, Map.of("type", "start-playing", "sessionId", sessionId, "userId", presidentId));
+        // 게임 진행 중 상태는 플레이어마다 따로 전송되는 경로 (setCoinState, nextTurn)
+        send(president, Map.of("type", "coin-action", "sessionId", sessionId, "userId", presidentId, "coinType", "first", "state", "head"));
+        send(president, Map.of("type", "next-turn", "sessionId", sessionId, "userId", presidentId));
+
+        List<JsonNode> frames = stateFrames(spectator);
+        // 입장 후 스냅샷 + 순서 등록 시작 + 순서 등록 2번 + 게임 시작 + 동전 + 다음 턴
+        assertThat(frames).hasSize(7);
+        for (int i = 1; i < frames.size(); i++) {
+            assertThat(frames.get(i).get("version").asLong()).isEqualTo(frames.get(i - 1).get("version").asLong() + 1);
+        }
+        assertThat(frames).allSatisfy(frame -> {
+            assertThat(frame.get("spectator").asBoolean()).isTrue();
+            assertThat(frame.get("isMyTurn").asBoolean()).isFalse();
+            assertThat(frame.get("isPresident").asBoolean()).isFalse();
+        });
+
+        JsonNode coin = frames.get(5);
+        assertThat(coin.get("gameState").asText()).isEqualTo("GAME_PLAYING");
+        assertThat(coin.get("firstCoinState").asText()).isEqualTo("head");
+        assertThat(coin.get("currentPlayerIndex").asInt()).isZero();
+        JsonNode nextTurn = frames.get(6);
+        assertThat(nextTurn.get("firstCoinState").asText()).isEqualTo("null");
+        assertThat(nextTurn.get("currentPlayerIndex").asInt()).isEqualTo(1);
+        assertThat(nextTurn.get("currentPlayer").get("userId").asText()).isEqualTo(playerId);
+
+        send(president, Map.of("type", "delete-session", "sessionId", sessionId, "userId", presidentId));
+        assertThat(objectMapper.readTree(spectator.getLastMessage()).get("type").asText())
+                .isEqualTo(SpectatorHub.MSG_TYPE_SPECTATE_ENDED);
+    }
+
+    private RecordingWebSocketSession connect(String name) throws Exception {
+        RecordingWebSocketSession session = new RecordingWebSocketSession(prefix + "-" + name);
+        handler.afterConnectionEstablished(session);
+        return session;
+    }
+
+    private void send(RecordingWebSocketSession session, Map<String, String> message) throws Exception {
+        handler.handleMessage(session, new TextMessage(objectMapper.writeValueAsString(message)));
+    }
+
+    // 관전 프레임만 (연결 응답과 관전 시작 응답 제외)
+    private List<JsonNode> stateFrames(RecordingWebSocketSession session) throws Exception {
+        List<JsonNode> frames = new ArrayList<>();
+        for (String message : session.getMessages()) {
+            JsonNode frame = objectMapper.readTree(message);
+            if (frame.path("spectator").asBoolean(false)) {
+                frames.add(frame);
+            }
+        }
+        return frames;
+    }
+}
@@ -0,0 +1,81 @@
+package com.eos.lss.websocket;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class SseSessionTests {
+
+    private final SseEmitter emitter = mock(SseEmitter.class);
+    private final SseSession session = new SseSession(emitter, null);
+
+    @Test
+    void stateVersionBecomesTheEventId() throws Exception {
+        String state = "{\"type\":\"ok\",\"sessionId\":\"s1\",\"gameState\":\"GAME_PLAYING\",\"version\":12}";
+        String spectator = "{\"type\":\"ok\",\"sessionId\":\"s1\",\"version\":13,\"spectator\":true}";
+        String error = "{\"type\":\"error\",\"errorCode\":\"NOT_YOUR_TURN\"}";
+
+        session.sendMessage(new TextMessage(state));
+        session.sendMessage(new TextMessage(spectator));
+        session.sendMessage(new TextMessage(error));
+
+        List<String> events = sentEvents(3);
+        assertThat(events.get(0)).isEqualTo("id:12\ndata:" + state + "\n\n");
+        assertThat(events.get(1)).isEqualTo("id:13\ndata:" + spectator + "\n\n");
+        assertThat(events.get(2)).isEqualTo("data:" + error + "\n\n");
+    }
+
+    @Test
+    void successfulPingCountsAsActivity() throws Exception {
+        ConnectionContext context = new ConnectionContext(session, (int) TimeUnit.SECONDS.toMillis(10), 1024 * 1024);
+        long before = context.getLastSeenAt();
+        Thread.sleep(5);
+
+        context.sendPing();
+
+        assertThat(sentEvents(1).get(0)).isEqualTo(":ping\n\n");
+        assertThat(context.getLastSeenAt()).isGreaterThan(before);
+        assertThat(context.isAwaitingPong()).isFalse();
+    }
+
+    @Test
+    void closeRunsTheHandlerOnceAndRejectsFurtherSends() {
+        AtomicInteger closed = new AtomicInteger();
+        session.onClose(closed::incrementAndGet);
+
+        session.close(CloseStatus.NORMAL);
+        session.close(CloseStatus.NORMAL);
+
+        assertThat(closed.get()).isEqualTo(1);
+        assertThat(session.isOpen()).isFalse();
+        assertThat(SseSession.isSseConnection(session.getId())).isTrue();
+        assertThatThrownBy(() -> session.sendMessage(new TextMessage("{}"))).isInstanceOf(IOException.class);
+    }
+
+    // 전송된 이벤트를 SSE 텍스트로 복원
+    private List<String> sentEvents(int count) throws Exception {
+        ArgumentCaptor<SseEmitter.SseEventBuilder> captor = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+        verify(emitter, times(count)).send(captor.capture());
+        return captor.getAllValues().stream()
+                .map(builder -> builder.build().stream()
+                        .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                        .map(String::valueOf)
+                        .collect(Collectors.joining()))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,48 @@
+package com.eos.lss.websocket;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTests {
+
+    @Test
+    void itemsAreReturnedOnlyAfterTheirTick() {
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 10, 0);
+        wheel.schedule("a", 2000);
+        wheel.schedule("b", 5500);
+
+        assertThat(wheel.advance(1999)).isEmpty();
+        assertThat(wheel.advance(2000)).containsExactly("a");
+        assertThat(wheel.advance(4999)).isEmpty();
+        assertThat(wheel.advance(5000)).containsExactly("b");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void pastDeadlinesGoToTheNextTick() {
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 10, 3000);
+        wheel.schedule("late", 1000);
+
+        assertThat(wheel.advance(4000)).containsExactly("late");
+    }
+
+    @Test
+    void farDeadlinesAreClampedWithinOneRevolution() {
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 4, 0);
+        wheel.schedule("far", 60_000);
+
+        assertThat(wheel.advance(3000)).containsExactly("far");
+    }
+
+    @Test
+    void missedTicksAreDrainedTogether() {
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 10, 0);
+        wheel.schedule("a", 1000);
+        wheel.schedule("b", 3000);
+        wheel.schedule("c", 8000);
+
+        assertThat(wheel.advance(5000)).containsExactlyInAnyOrder("a", "b");
+        assertThat(wheel.advance(60_000)).containsExactly("c");
+    }
+}